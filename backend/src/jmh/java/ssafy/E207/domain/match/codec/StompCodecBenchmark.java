@@ -0,0 +1,89 @@
+package ssafy.E207.domain.match.codec;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+
+import ssafy.E207.domain.match.dto.response.StompResponse;
+import ssafy.E207.global.common.enums.StompMessageType;
+
+/**
+ * 게임 이벤트 직렬화 비교 (기존 MappingJackson2MessageConverter vs 압축 코덱)
+ *
+ * - jackson: SimpMessagingTemplate이 쓰는 기본 변환기 경로 그대로 (payload → JSON byte[])
+ * - compact: {@link CompactStompCodec#encode}
+ * 프레임 크기 비교는 CompactStompCodecTest에서 검증
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StompCodecBenchmark {
+	@Param({"RESPONSE_TURN_SWAP", "RESPONSE_BATTLE_END", "CHAT"})
+	private String type;
+
+	private MappingJackson2MessageConverter jackson;
+	private StompResponse response;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		jackson = new MappingJackson2MessageConverter();
+		response = sample(StompMessageType.valueOf(type));
+	}
+
+	@Benchmark
+	public Object jackson() {
+		return jackson.toMessage(response, null).getPayload();
+	}
+
+	@Benchmark
+	public byte[] compact() {
+		return CompactStompCodec.encode(response);
+	}
+
+	private static StompResponse sample(StompMessageType type) {
+		UUID attacker = UUID.randomUUID();
+		UUID defender = UUID.randomUUID();
+		Map<UUID, Integer> scores = Map.of(attacker, 1, defender, 2);
+		return switch (type) {
+			case RESPONSE_TURN_SWAP -> StompResponse.builder()
+				.type(type)
+				.senderNickname("시스템")
+				.message("공수가 교대되었습니다.")
+				.data(Map.of(
+					"reason", StompMessageType.REQUEST_TURN_SWAP,
+					"attackerId", attacker,
+					"currentTurn", 3,
+					"currentRound", 2,
+					"currentScores", scores))
+				.build();
+			case RESPONSE_BATTLE_END -> StompResponse.builder()
+				.type(type)
+				.senderNickname("시스템")
+				.message("게임이 종료되었습니다.")
+				.data(Map.of(
+					"reason", StompMessageType.REQUEST_LAUGHED,
+					"finalTurn", 6,
+					"finalRound", 3,
+					"winnerId", attacker,
+					"finalScores", scores))
+				.build();
+			default -> StompResponse.builder()
+				.type(type)
+				.senderId(attacker)
+				.senderNickname("닉네임")
+				.message("안녕하세요 한 판 해요")
+				.build();
+		};
+	}
+}
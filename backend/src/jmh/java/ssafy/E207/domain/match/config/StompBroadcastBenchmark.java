@@ -0,0 +1,235 @@
+package ssafy.E207.domain.match.config;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+/**
+ * 세션 5000개 브로드캐스트 지연 (SampleTime → p99 확인)
+ *
+ * simple broker → clientOutboundChannel(설정한 실행기) → 세션 송신 데코레이터까지 실제 경로 그대로,
+ * 네트워크 쓰기만 가짜 세션(보통 20µs, 느린 세션 50ms)으로 대체
+ * - lobby: /topic/lobby 하나를 5000명 전원에게
+ * - rooms: 2인 방 2500개에 이벤트 하나씩 (턴 스왑이 한꺼번에 몰린 경우)
+ * 메시지 하나가 모든 구독 세션에 전달(또는 느린 세션 종료)될 때까지를 한 번으로 측정
+ *
+ * 파라미터
+ * - virtualThreads: outbound 실행기 (false: 스프링 기본 CPU * 2, true: 가상 스레드 256)
+ * - slowSessions: 송신이 막히는 세션 수 → 송신 제한(5초/128KB)에 걸려 끊김
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StompBroadcastBenchmark {
+	private static final int SESSIONS = 5000;
+	private static final long SEND_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+	private static final long SLOW_SEND_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+	private static final byte[] PAYLOAD = ("{\"type\":\"RESPONSE_TURN_SWAP\",\"senderId\":null,\"senderNickname\":\"시스템\","
+		+ "\"message\":\"공수가 교대되었습니다. 이번 공격은 닉네임님입니다!\",\"data\":{\"reason\":\"REQUEST_TURN_SWAP\","
+		+ "\"attackerId\":\"0b5d3c4e-9a51-4c35-8a43-0c1f1c0e1b3a\",\"currentTurn\":2,\"currentRound\":1,"
+		+ "\"currentScores\":{\"0b5d3c4e-9a51-4c35-8a43-0c1f1c0e1b3a\":0,\"7f0c2a9e-4c1d-4e3b-9f6a-2d8e5b1c7a40\":1}}}")
+		.getBytes(StandardCharsets.UTF_8);
+
+	@Param({"false", "true"})
+	private boolean virtualThreads;
+
+	@Param({"0", "50"})
+	private int slowSessions;
+
+	private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+	private final AtomicReference<CountDownLatch> delivered = new AtomicReference<>();
+	private ThreadPoolTaskExecutor executor;
+	private SimpleBrokerMessageHandler broker;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		StompTransportProperties properties = new StompTransportProperties();
+		StompTransportProperties.Channel outbound = properties.getOutbound();
+		outbound.setVirtualThreads(virtualThreads);
+		if (virtualThreads) {
+			outbound.setCorePoolSize(256);
+		}
+		executor = outbound.createExecutor("stomp-outbound-");
+		executor.initialize();
+
+		ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel(executor);
+		clientOutbound.subscribe(message -> {
+			try {
+				WebSocketSession session = sessions.get(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+				session.sendMessage(new TextMessage((byte[])message.getPayload()));
+			} catch (Exception e) {
+				// 송신 제한 초과 (실서버에서는 여기서 세션을 끊음)
+			} finally {
+				delivered.get().countDown();
+			}
+		});
+		broker = new SimpleBrokerMessageHandler(new ExecutorSubscribableChannel(), clientOutbound,
+			new ExecutorSubscribableChannel(), List.of("/topic", "/queue"));
+		broker.start();
+
+		for (int i = 0; i < SESSIONS; i++) {
+			String sessionId = "session-" + i;
+			long sendNanos = i < slowSessions ? SLOW_SEND_NANOS : SEND_NANOS;
+			sessions.put(sessionId, new ConcurrentWebSocketSessionDecorator(new FakeSession(sessionId, sendNanos),
+				properties.getSendTimeLimitMillis(), properties.getSendBufferSizeLimit()));
+			subscribe(sessionId, "/topic/lobby");
+			subscribe(sessionId, "/topic/" + (i / 2));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		broker.stop();
+		executor.shutdown();
+	}
+
+	@Benchmark
+	public void lobby() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(SESSIONS);
+		delivered.set(latch);
+		broker.handleMessage(message("/topic/lobby"));
+		latch.await();
+	}
+
+	@Benchmark
+	public void rooms() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(SESSIONS);
+		delivered.set(latch);
+		for (int room = 0; room < SESSIONS / 2; room++) {
+			broker.handleMessage(message("/topic/" + room));
+		}
+		latch.await();
+	}
+
+	private void subscribe(String sessionId, String destination) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+		accessor.setSessionId(sessionId);
+		accessor.setSubscriptionId(destination);
+		accessor.setDestination(destination);
+		broker.handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+	}
+
+	private static Message<byte[]> message(String destination) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setDestination(destination);
+		return MessageBuilder.createMessage(PAYLOAD, accessor.getMessageHeaders());
+	}
+
+	// 네트워크 쓰기 시간만 흉내 내는 세션
+	private record FakeSession(String id, long sendNanos) implements WebSocketSession {
+		@Override
+		public String getId() {
+			return id;
+		}
+
+		@Override
+		public void sendMessage(WebSocketMessage<?> message) {
+			LockSupport.parkNanos(sendNanos);
+		}
+
+		@Override
+		public URI getUri() {
+			return null;
+		}
+
+		@Override
+		public HttpHeaders getHandshakeHeaders() {
+			return HttpHeaders.EMPTY;
+		}
+
+		@Override
+		public Map<String, Object> getAttributes() {
+			return Collections.emptyMap();
+		}
+
+		@Override
+		public Principal getPrincipal() {
+			return null;
+		}
+
+		@Override
+		public InetSocketAddress getLocalAddress() {
+			return null;
+		}
+
+		@Override
+		public InetSocketAddress getRemoteAddress() {
+			return null;
+		}
+
+		@Override
+		public String getAcceptedProtocol() {
+			return null;
+		}
+
+		@Override
+		public void setTextMessageSizeLimit(int messageSizeLimit) {
+		}
+
+		@Override
+		public int getTextMessageSizeLimit() {
+			return Integer.MAX_VALUE;
+		}
+
+		@Override
+		public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+		}
+
+		@Override
+		public int getBinaryMessageSizeLimit() {
+			return Integer.MAX_VALUE;
+		}
+
+		@Override
+		public List<WebSocketExtension> getExtensions() {
+			return List.of();
+		}
+
+		@Override
+		public boolean isOpen() {
+			return true;
+		}
+
+		@Override
+		public void close() {
+		}
+
+		@Override
+		public void close(CloseStatus status) {
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package ssafy.E207.domain.match.service;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ssafy.E207.domain.match.dto.PendingUser;
+
+/**
+ * 레이팅 매칭 풀 처리량 측정
+ *
+ * - enqueue: 상대가 없어 풀에 쌓이는 경우 (탐색 + 삽입)
+ * - enqueueAndMatch: 레이팅 1000~3000 사이 유저가 계속 들어오며 절반 정도가 바로 매칭되는 경우
+ * - sweep: 대기 인원 전체를 한 번 훑어 짝 맞추기
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RatingMatchPoolBenchmark {
+	private static final Predicate<PendingUser> ALWAYS_LIVE = p -> true;
+
+	@Param({"1000", "10000"})
+	private int waitingUsers;
+
+	private RatingMatchPool pool;
+	private SplittableRandom random;
+	private long now;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		pool = new RatingMatchPool();
+		random = new SplittableRandom(42);
+		now = System.nanoTime();
+		// 서로 범위 밖이 되도록 1000 간격으로 채움
+		for (int i = 0; i < waitingUsers; i++) {
+			pool.add(user(i * 1000));
+		}
+	}
+
+	@Benchmark
+	public int enqueue() {
+		// 기존 유저 사이 한가운데(±500) → 기본 범위(±100) 밖이라 매칭 안 됨
+		PendingUser arrival = user(random.nextInt(waitingUsers) * 1000 + 500);
+		if (pool.pollPartner(arrival, now, ALWAYS_LIVE) == null) {
+			pool.add(arrival);
+		}
+		return pool.size();
+	}
+
+	@Benchmark
+	public int enqueueAndMatch() {
+		PendingUser arrival = user(1000 + random.nextInt(2000));
+		if (pool.pollPartner(arrival, now, ALWAYS_LIVE) == null) {
+			pool.add(arrival);
+		}
+		return pool.size();
+	}
+
+	@Benchmark
+	public int sweep() {
+		return pool.sweep(now, ALWAYS_LIVE).size();
+	}
+
+	private PendingUser user(int rating) {
+		return new PendingUser(UUID.randomUUID(), false, rating, now, "bench");
+	}
+}
@@ -0,0 +1,101 @@
+package ssafy.E207.domain.match.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 방 코드 발급 처리량 (초당 발급 수)
+ *
+ * 블록 예약은 DB 왕복 대신 1ms 대기로 대체 → 블록 크기만큼 나눠서 부담하는지 확인
+ * - allocate: 스레드 1개
+ * - allocateContended: 스레드 8개가 한 allocator 공유 (카운터 잠금 경합)
+ * - allocateRecycled: 반납 → 재사용 반복
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RoomCodeAllocatorBenchmark {
+	private static final long BLOCK_ROUND_TRIP_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	@Param({"100", "1000"})
+	private int blockSize;
+
+	private RoomCodeAllocator allocator;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		allocator = new RoomCodeAllocator(new FakeBlockJdbcTemplate(), new NoOpTransactionManager(),
+			new SimpleMeterRegistry(), "bench", blockSize, 0, 10_000);
+	}
+
+	@Benchmark
+	public String allocate() {
+		return allocator.allocate();
+	}
+
+	@Benchmark
+	@Threads(8)
+	public String allocateContended() {
+		return allocator.allocate();
+	}
+
+	@Benchmark
+	public String allocateRecycled() {
+		String code = allocator.allocate();
+		allocator.release(code);
+		return code;
+	}
+
+	/**
+	 * room_code_block 갱신/조회만 흉내 (next_block 증가)
+	 */
+	private static class FakeBlockJdbcTemplate extends JdbcTemplate {
+		private final AtomicLong nextBlock = new AtomicLong();
+
+		@Override
+		public int update(String sql) {
+			LockSupport.parkNanos(BLOCK_ROUND_TRIP_NANOS);
+			nextBlock.incrementAndGet();
+			return 1;
+		}
+
+		@Override
+		public <T> T queryForObject(String sql, Class<T> requiredType) {
+			return requiredType.cast(nextBlock.get());
+		}
+	}
+
+	private static class NoOpTransactionManager implements PlatformTransactionManager {
+		@Override
+		public TransactionStatus getTransaction(TransactionDefinition definition) {
+			return new SimpleTransactionStatus();
+		}
+
+		@Override
+		public void commit(TransactionStatus status) {
+		}
+
+		@Override
+		public void rollback(TransactionStatus status) {
+		}
+	}
+}
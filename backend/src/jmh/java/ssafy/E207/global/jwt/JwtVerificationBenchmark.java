@@ -0,0 +1,93 @@
+package ssafy.E207.global.jwt;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 요청당 토큰 검증 비용 (JwtAuthenticationFilter / StompJwtInterceptor)
+ *
+ * - before: 매번 시크릿 디코딩 + 키 생성 + 파서 생성 후 검증 (기존 방식)
+ * - sharedParser: 키/파서 재사용, 캐시 없음 (max-size 0)
+ * - cached: 키/파서 재사용 + 검증 결과 캐시 (로그인 유저 1000명이 반복 요청)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerificationBenchmark {
+	private static final int USERS = 1000;
+
+	private String secret;
+	private String[] tokens;
+	private JwtTokenProvider uncached;
+	private JwtTokenProvider cached;
+	private SplittableRandom random;
+
+	@Setup
+	public void setUp() {
+		byte[] keyBytes = new byte[64];
+		new SplittableRandom(42).nextBytes(keyBytes);
+		secret = Base64.getEncoder().encodeToString(keyBytes);
+		SecretKey key = Keys.hmacShaKeyFor(keyBytes);
+
+		Instant now = Instant.now();
+		tokens = new String[USERS];
+		for (int i = 0; i < USERS; i++) {
+			tokens[i] = Jwts.builder()
+				.setIssuer("e207")
+				.setSubject(UUID.randomUUID().toString())
+				.claim("provider", "KAKAO")
+				.setIssuedAt(Date.from(now))
+				.setExpiration(Date.from(now.plusSeconds(3600)))
+				.signWith(key)
+				.compact();
+		}
+
+		JwtProperties properties = new JwtProperties(secret, "e207", 3600, 1209600, "refreshToken", true, "Lax");
+		uncached = new JwtTokenProvider(properties, new SimpleMeterRegistry(), 0, 300);
+		cached = new JwtTokenProvider(properties, new SimpleMeterRegistry(), 10_000, 300);
+		random = new SplittableRandom(7);
+	}
+
+	@Benchmark
+	public Claims before() {
+		return Jwts.parserBuilder()
+			.setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+			.build()
+			.parseClaimsJws(nextToken())
+			.getBody();
+	}
+
+	@Benchmark
+	public Claims sharedParser() {
+		return uncached.parseClaims(nextToken());
+	}
+
+	@Benchmark
+	public Claims cached() {
+		return cached.parseClaims(nextToken());
+	}
+
+	private String nextToken() {
+		return tokens[random.nextInt(USERS)];
+	}
+}
@@ -16,6 +16,7 @@ import ssafy.E207.domain.auth.exception.TokenNotFoundException;
 import ssafy.E207.global.common.template.ResTemplate;
 import ssafy.E207.global.jwt.UserPrincipal;
 import ssafy.E207.domain.auth.service.AuthService;
+import ssafy.E207.domain.auth.service.RefreshCoalescer;
 import ssafy.E207.global.jwt.JwtCookieProvider;
 
 @RestController
@@ -23,6 +24,7 @@ import ssafy.E207.global.jwt.JwtCookieProvider;
 @RequestMapping("/auth")
 public class AuthController {
     private final AuthService authService;
+    private final RefreshCoalescer refreshCoalescer;
     private final JwtCookieProvider jwtCookieProvider;
 
     @PostMapping("/login")
@@ -102,7 +104,7 @@ public class AuthController {
             throw TokenNotFoundException.tokenNotFound();
         }
 
-        AuthTokenResponse tokens = authService.refresh(refreshToken);
+        AuthTokenResponse tokens = refreshCoalescer.refresh(refreshToken);
         ResponseCookie refreshCookie = jwtCookieProvider.createRefreshTokenCookie(tokens.refreshToken());
 
         HttpStatus status = HttpStatus.OK;
@@ -2,7 +2,9 @@ package ssafy.E207.domain.auth.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.UuidGenerator;
+import ssafy.E207.domain.user.service.UserSummaryInvalidator;
 import ssafy.E207.global.common.entity.BaseEntity;
 import ssafy.E207.global.common.enums.OAuthProvider;
 
@@ -10,12 +12,21 @@ import java.util.UUID;
 
 @Getter
 @Entity
-@Table(name = "users")
+@Table(
+	name = "users",
+	indexes = {
+		// MinIO 정리 시 objectKey IN 조회
+		@Index(name = "idx_users_profile_image", columnList = "profile_image")
+	}
+)
+@EntityListeners(UserSummaryInvalidator.class) // 수정/삭제 시 유저 요약 캐시 무효화
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 public class User extends BaseEntity {
 
+	public static final int INITIAL_RATING = 1000;
+
 	/**
 	 * [Identity] UUID
 	 * <p>
@@ -73,6 +84,12 @@ public class User extends BaseEntity {
 	@Builder.Default
 	private int maxWinStreak = 0;
 
+	// Elo 레이팅 (매칭 기준)
+	@Column(nullable = false)
+	@ColumnDefault("1000")
+	@Builder.Default
+	private int rating = INITIAL_RATING;
+
 	// ==================== Methods ====================
 	public void applyWinResult() {
 		this.totalGames++;
@@ -95,6 +112,10 @@ public class User extends BaseEntity {
 		this.currentWinStreak = 0;
 	}
 
+	public void updateRating(int rating) {
+		this.rating = rating;
+	}
+
 	public void updateMarketing(boolean isMarketing) {
 		this.isMarketing = isMarketing;
 	}
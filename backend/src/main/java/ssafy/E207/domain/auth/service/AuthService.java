@@ -13,7 +13,12 @@ import ssafy.E207.domain.auth.dto.response.SocialUserInfo;
 import ssafy.E207.domain.auth.entity.User;
 import ssafy.E207.domain.auth.exception.*;
 import ssafy.E207.domain.auth.repository.RefreshTokenRepository;
+import ssafy.E207.domain.leaderboard.service.Leaderboard;
+import ssafy.E207.domain.user.dto.UserSummary;
 import ssafy.E207.domain.user.repository.UserRepository;
+import ssafy.E207.domain.user.service.PendingUploadLedger;
+import ssafy.E207.domain.user.service.ProfileImageProcessor;
+import ssafy.E207.domain.user.service.UserSummaryCache;
 import ssafy.E207.domain.user.service.UserService;
 import ssafy.E207.global.common.RefreshToken;
 import ssafy.E207.global.common.data.UserInfo;
@@ -56,9 +61,14 @@ public class AuthService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final CompositeSocialAuthService compositeSocialAuthService;
     private final UserService userService;
+    private final UserSummaryCache userSummaryCache;
+    private final Leaderboard leaderboard;
+    private final PendingUploadLedger pendingUploadLedger;
+    private final ProfileImageProcessor profileImageProcessor;
     private final ssafy.E207.domain.match.repository.RoomRepository roomRepository;
     private final ssafy.E207.domain.match.repository.RoomParticipantRepository roomParticipantRepository;
     private final ssafy.E207.domain.match.service.RoomService roomService;
+    private final ssafy.E207.domain.match.game.RoomMailboxDispatcher roomMailboxDispatcher;
 
     /**
      * [Login] OAuth 로그인 성공 시 토큰 발급.
@@ -111,13 +121,13 @@ public class AuthService {
         }
 
         // 2. DB 저장된 토큰과 비교 (Rotation)
-        User user = findUserByToken(refreshToken);
+        UserSummary user = findUserByToken(refreshToken);
 
         // 3. 토큰 재발급 및 갱신
-        return issueTokens(user);
+        return issueTokens(user.id(), user.oauthProvider());
     }
 
-    private User findUserByToken(String refreshToken) {
+    private UserSummary findUserByToken(String refreshToken) {
         UUID userId;
         try {
             // UUID 형식 검증
@@ -138,7 +148,7 @@ public class AuthService {
             throw new InvalidTokenException("유효하지 않은 토큰입니다. 다시 로그인해주세요.");
         }
 
-        return userRepository.findById(userId)
+        return userSummaryCache.get(userId)
                 .orElseThrow(AuthNotFoundException::userNotFound);
     }
 
@@ -168,6 +178,9 @@ public class AuthService {
 
         User user = buildUser(request, oauthId, provider);
         User savedUser = userRepository.save(user);
+        // 회원가입 중 올린 이미지 확정 (MinIO 정리 대상에서 제외)
+        pendingUploadLedger.confirm(savedUser.getProfileImage(), null);
+        profileImageProcessor.submit(savedUser.getId(), savedUser.getProfileImage());
         return issueTokens(savedUser);
     }
 
@@ -197,11 +210,15 @@ public class AuthService {
 				.orElseThrow(AuthNotFoundException::userNotFound);
 
 		// 1. 참여 중인 모든 방에서 "정상 퇴장" 처리 (방장 권한 위임, 방 폭파 등 로직 수행)
-		// RoomService.handleUserExit을 호출하여 RoomService의 로직을 재사용
+		// RoomService.handleUserExit을 호출하여 RoomService의 로직을 재사용 (방 메일박스에서 실행)
 		List<ssafy.E207.domain.match.entity.RoomParticipant> participants = roomParticipantRepository.findAllByUserId(userId);
 		for (ssafy.E207.domain.match.entity.RoomParticipant participant : participants) {
+			Long roomId = participant.getRoom().getId();
 			try {
-				roomService.handleUserExit(participant.getRoom().getId(), userId);
+				roomMailboxDispatcher.call(roomId, () -> {
+					roomService.handleUserExit(roomId, userId);
+					return null;
+				}).join();
 			} catch (Exception e) {
 				log.error("[WITHDRAW] Error while exiting room: {}", e.getMessage());
 				// 방 퇴장 실패해도 계정 탈퇴는 계속 진행 (Safe Fail)
@@ -216,10 +233,14 @@ public class AuthService {
 		// 3. 리프레시 토큰 삭제
 		refreshTokenRepository.deleteById(userId.toString());
 
-		// 4. 유저 익명화 (Soft Withdrawal)
+		// 4. 유저 익명화 (Soft Withdrawal), 쓰던 프로필 이미지는 MinIO 정리 대상으로
+		pendingUploadLedger.discard(user.getProfileImage());
 		user.withdraw();
 		// user is managed by JPA context, so changes will be flushed automatically at transaction commit.
 
+		// 5. 리더보드에서 제거 (커밋 실패로 남아 있어도 다음 재구성 때 다시 들어감)
+		leaderboard.remove(userId);
+
 		log.info("[WITHDRAW] userId={} anonymized", userId);
 	}
 
@@ -228,19 +249,23 @@ public class AuthService {
      */
     @Transactional
     public AuthTokenResponse issueTokens(User user) {
-        String accessToken = jwtTokenProvider.createAccessToken(user);
-        String refreshToken = jwtTokenProvider.createRefreshToken(user);
+        return issueTokens(user.getId(), user.getOauthProvider());
+    }
+
+    private AuthTokenResponse issueTokens(UUID userId, OAuthProvider provider) {
+        String accessToken = jwtTokenProvider.createAccessToken(userId, provider);
+        String refreshToken = jwtTokenProvider.createRefreshToken(userId);
         Instant refreshExpiry = Instant.now().plusSeconds(jwtProperties.getRefreshTokenValidityInSeconds());
         long refreshTtl = jwtProperties.getRefreshTokenValidityInSeconds();
 
-        refreshTokenRepository.findById(user.getId().toString())
+        refreshTokenRepository.findById(userId.toString())
                 .ifPresentOrElse(
                         existing -> {
                             existing.rotate(refreshToken, refreshExpiry, refreshTtl);
                             refreshTokenRepository.save(existing);
                         },
                         () -> refreshTokenRepository.save(RefreshToken.builder()
-                                .id(user.getId().toString())
+                                .id(userId.toString())
                                 .tokenValue(refreshToken)
                                 .expiryAt(refreshExpiry)
                                 .ttlSeconds(refreshTtl)
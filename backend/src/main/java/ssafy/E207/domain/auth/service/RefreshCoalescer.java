@@ -0,0 +1,156 @@
+package ssafy.E207.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ssafy.E207.domain.auth.dto.response.AuthTokenResponse;
+import ssafy.E207.global.jwt.JwtTokenProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * [Auth][Service] RefreshCoalescer
+ *
+ * 같은 유저의 토큰 재발급(Rotation)을 한 번으로 합치는 single-flight.
+ *
+ * <pre>
+ * 요청 A ─┐
+ * 요청 B ─┼─► [userId별 진행 중 재발급 1개] ─► AuthService.refresh ─► 새 토큰 쌍
+ * 요청 C ─┘        (같은 리프레시 토큰이면 합류)
+ *
+ * 완료 후 유예 시간(auth.refresh.grace-seconds) 동안은
+ * 이전 리프레시 토큰으로 늦게 온 요청에도 같은 새 토큰 쌍을 돌려줌
+ * </pre>
+ *
+ * - 한 탭에서 동시에 나간 요청들이 서로의 토큰을 무효화(탈취 감지 → 재로그인)하던 문제 방지
+ * - 실패한 재발급은 바로 지워서 다음 요청이 다시 시도
+ * - 다른 리프레시 토큰을 들고 온 요청은 합류하지 않고 기존 검증(탈취 감지 포함)을 그대로 탐
+ * - 서버 로컬 기준 (같은 유저 요청이 여러 서버로 흩어지면 서버마다 한 번씩 재발급)
+ */
+@Slf4j
+@Component
+public class RefreshCoalescer {
+    private final AuthService authService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final long graceMillis;
+    private final Map<UUID, Flight> flights = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    public RefreshCoalescer(AuthService authService, JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry,
+            @Value("${auth.refresh.grace-seconds:10}") long graceSeconds) {
+        this.authService = authService;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.graceMillis = TimeUnit.SECONDS.toMillis(graceSeconds);
+        this.coalesced = Counter.builder("auth.refresh.coalesced")
+                .description("진행 중이거나 방금 끝난 재발급 결과를 같이 받은 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * [Refresh] 리프레시 토큰으로 재발급. 같은 유저의 동시 요청은 결과를 공유.
+     *
+     * @param refreshToken 클라이언트 쿠키에서 추출한 리프레시 토큰
+     * @return 재발급된 Access/Refresh 토큰 묶음
+     */
+    public AuthTokenResponse refresh(String refreshToken) {
+        UUID userId = userIdOf(refreshToken);
+        if (userId == null) {
+            // 만료/위조 토큰 → 기존 경로에서 알맞은 예외 발생
+            return authService.refresh(refreshToken);
+        }
+
+        byte[] tokenHash = hash(refreshToken);
+        while (true) {
+            Flight existing = flights.get(userId);
+            if (existing != null && existing.matches(tokenHash, System.currentTimeMillis(), graceMillis)) {
+                coalesced.increment();
+                return join(existing);
+            }
+
+            Flight mine = new Flight(tokenHash);
+            boolean claimed = existing == null
+                    ? flights.putIfAbsent(userId, mine) == null
+                    : flights.replace(userId, existing, mine);
+            if (claimed) {
+                return run(userId, mine, refreshToken);
+            }
+        }
+    }
+
+    private AuthTokenResponse run(UUID userId, Flight flight, String refreshToken) {
+        try {
+            AuthTokenResponse tokens = authService.refresh(refreshToken);
+            flight.complete(tokens);
+            CompletableFuture.delayedExecutor(graceMillis, TimeUnit.MILLISECONDS)
+                    .execute(() -> flights.remove(userId, flight));
+            return tokens;
+        } catch (RuntimeException e) {
+            flights.remove(userId, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static AuthTokenResponse join(Flight flight) {
+        try {
+            return flight.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private UUID userIdOf(String refreshToken) {
+        try {
+            return UUID.fromString(jwtTokenProvider.parseClaims(refreshToken).getSubject());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * [Flight] 한 리프레시 토큰에 대한 재발급 1회.
+     */
+    private static final class Flight {
+        private final byte[] tokenHash;
+        private final CompletableFuture<AuthTokenResponse> result = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        private Flight(byte[] tokenHash) {
+            this.tokenHash = tokenHash;
+        }
+
+        private void complete(AuthTokenResponse tokens) {
+            completedAt = System.currentTimeMillis();
+            result.complete(tokens);
+        }
+
+        // 같은 토큰이고, 진행 중이거나 유예 시간 안에 끝난 경우
+        private boolean matches(byte[] hash, long now, long graceMillis) {
+            if (!MessageDigest.isEqual(tokenHash, hash) || result.isCompletedExceptionally()) {
+                return false;
+            }
+            return !result.isDone() || now - completedAt < graceMillis;
+        }
+    }
+}
@@ -11,7 +11,9 @@ import ssafy.E207.domain.game.entity.Report;
 import ssafy.E207.domain.game.exception.InvalidReportReasonException;
 import ssafy.E207.domain.game.exception.ReportTargetNotFoundException;
 import ssafy.E207.domain.game.repository.ReportRepository;
+import ssafy.E207.domain.user.dto.UserSummary;
 import ssafy.E207.domain.user.repository.UserRepository;
+import ssafy.E207.domain.user.service.UserSummaryCache;
 import ssafy.E207.global.common.enums.ReportReason;
 
 import java.util.UUID;
@@ -26,6 +28,7 @@ public class ReportService {
 
     private final ReportRepository reportRepository;
     private final UserRepository userRepository;
+    private final UserSummaryCache userSummaryCache;
     private final GoogleSheetsService googleSheetsService;
 
     /**
@@ -62,8 +65,8 @@ public class ReportService {
 
         // Google Sheets 기록 — 실패해도 신고 접수는 정상 처리
         try {
-            String reporterNickname = userRepository.findById(reporterId)
-                .map(User::getNickname)
+            String reporterNickname = userSummaryCache.get(reporterId)
+                .map(UserSummary::nickname)
                 .orElse(reporterId.toString());
             googleSheetsService.appendReport(savedReport, reporterNickname);
         } catch (Exception e) {
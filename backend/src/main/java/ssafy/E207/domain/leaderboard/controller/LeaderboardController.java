@@ -0,0 +1,56 @@
+package ssafy.E207.domain.leaderboard.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+import ssafy.E207.domain.leaderboard.dto.response.LeaderboardEntryResponse;
+import ssafy.E207.domain.leaderboard.dto.response.LeaderboardPageResponse;
+import ssafy.E207.domain.leaderboard.service.LeaderboardService;
+import ssafy.E207.global.common.enums.LeaderboardType;
+import ssafy.E207.global.common.template.ResTemplate;
+import ssafy.E207.global.jwt.UserPrincipal;
+
+/**
+ * 리더보드 API
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/leaderboard")
+public class LeaderboardController {
+
+	private final LeaderboardService leaderboardService;
+
+	/**
+	 * [API] 상위 랭킹 조회
+	 *
+	 * GET /leaderboard?type=WINS|WIN_RATE|MAX_STREAK&page=0&size=20
+	 */
+	@GetMapping
+	public ResTemplate<LeaderboardPageResponse> getTop(
+		@RequestParam(name = "type", defaultValue = "WINS") LeaderboardType type,
+		@RequestParam(name = "page", defaultValue = "0") int page,
+		@RequestParam(name = "size", defaultValue = "20") int size) {
+		LeaderboardPageResponse data = leaderboardService.getTop(type, page, size);
+		return ResTemplate.success(HttpStatus.OK, "리더보드 조회 성공", data);
+	}
+
+	/**
+	 * [API] 내 순위 조회
+	 *
+	 * GET /leaderboard/me?type=WINS
+	 * - 아직 순위가 없으면 data 없이 200
+	 */
+	@GetMapping("/me")
+	public ResTemplate<LeaderboardEntryResponse> getMyRank(
+		@AuthenticationPrincipal UserPrincipal principal,
+		@RequestParam(name = "type", defaultValue = "WINS") LeaderboardType type) {
+		return leaderboardService.getMyRank(type, principal.getUserId())
+			.map(data -> ResTemplate.success(HttpStatus.OK, "내 순위 조회 성공", data))
+			.orElseGet(() -> ResTemplate.success(HttpStatus.OK, "아직 순위가 없습니다.", null));
+	}
+}
@@ -0,0 +1,26 @@
+package ssafy.E207.domain.leaderboard.dto;
+
+import java.util.UUID;
+
+import ssafy.E207.global.common.enums.LeaderboardType;
+
+/**
+ * 리더보드 점수 계산에 필요한 유저 누적 전적
+ */
+public record LeaderboardStanding(UUID userId, int totalGames, int totalWins, int maxWinStreak) {
+
+	/**
+	 * @param minWinRateGames 승률 순위에 오르기 위한 최소 판수
+	 * @return 순위에 오르지 않으면 null (한 판도 안 했거나, 승률인데 판수가 부족)
+	 */
+	public Double score(LeaderboardType type, int minWinRateGames) {
+		if (totalGames <= 0) {
+			return null;
+		}
+		return switch (type) {
+			case WINS -> (double)totalWins;
+			case WIN_RATE -> totalGames < minWinRateGames ? null : (double)totalWins / totalGames;
+			case MAX_STREAK -> (double)maxWinStreak;
+		};
+	}
+}
@@ -0,0 +1,17 @@
+package ssafy.E207.domain.leaderboard.dto.response;
+
+import java.util.UUID;
+
+import lombok.Builder;
+
+/**
+ * 리더보드 한 줄
+ */
+@Builder
+public record LeaderboardEntryResponse(
+	long rank, // 1부터
+	UUID userId,
+	String nickname, // 탈퇴 등으로 유저를 찾을 수 없으면 null
+	double score // 승수 / 승률(0~1) / 최대 연승
+) {
+}
@@ -0,0 +1,19 @@
+package ssafy.E207.domain.leaderboard.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+import ssafy.E207.global.common.enums.LeaderboardType;
+
+/**
+ * 리더보드 상위 N명 (페이지 단위)
+ */
+@Builder
+public record LeaderboardPageResponse(
+	LeaderboardType type,
+	int page,
+	int size,
+	long totalCount, // 순위에 오른 전체 인원
+	List<LeaderboardEntryResponse> entries
+) {
+}
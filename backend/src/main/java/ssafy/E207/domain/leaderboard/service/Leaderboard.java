@@ -0,0 +1,66 @@
+package ssafy.E207.domain.leaderboard.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import ssafy.E207.domain.leaderboard.dto.LeaderboardStanding;
+import ssafy.E207.global.common.enums.LeaderboardType;
+
+/**
+ * 리더보드 저장소
+ *
+ * - local: JVM 메모리 ({@link LocalLeaderboard}, 기본값, 단일 서버/테스트용)
+ * - redis: 종류별 ZSET ({@link RedisLeaderboard}, 서버 여러 대가 공유)
+ *
+ * 점수가 같으면 userId 문자열 역순 (Redis ZREVRANGE 와 같은 순서)
+ *
+ * 설정: leaderboard.store=local|redis
+ */
+public interface Leaderboard {
+
+	/**
+	 * 전적이 바뀐 유저들의 점수 갱신 (모든 종류)
+	 */
+	void update(Collection<LeaderboardStanding> standings);
+
+	/**
+	 * 모든 종류에서 제거 (탈퇴 등)
+	 */
+	void remove(UUID userId);
+
+	/**
+	 * @return 순위에 없으면 empty
+	 */
+	Optional<Entry> find(LeaderboardType type, UUID userId);
+
+	/**
+	 * @param offset 0부터
+	 */
+	List<Entry> top(LeaderboardType type, long offset, int limit);
+
+	long size(LeaderboardType type);
+
+	/**
+	 * 전체 재구성 시작 (DB 전체 스캔 결과로 교체)
+	 * add 로 다 넣은 뒤 commit 하면 한 번에 바뀜 (그 전까지는 기존 순위 유지)
+	 * 재구성 중에 update/remove 된 유저는 commit 때 그 시점 점수로 반영됨 (DB 를 읽은 뒤의 갱신도 유지)
+	 */
+	Rebuild rebuild();
+
+	interface Rebuild {
+		void add(LeaderboardStanding standing);
+
+		void commit();
+
+		// 실패 시 중간 결과 정리 (기존 순위 유지)
+		void cancel();
+	}
+
+	/**
+	 * @param rank 1부터
+	 */
+	record Entry(UUID userId, long rank, double score) {
+	}
+}
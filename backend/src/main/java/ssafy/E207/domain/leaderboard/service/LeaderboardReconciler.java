@@ -0,0 +1,112 @@
+package ssafy.E207.domain.leaderboard.service;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import ssafy.E207.domain.leaderboard.dto.LeaderboardStanding;
+import ssafy.E207.global.common.util.RedisLease;
+import ssafy.E207.global.common.util.UuidBytes;
+
+/**
+ * 리더보드 주기적 재구성
+ *
+ * - 평소에는 전적 반영(BattleResultWriter) 때 바뀐 유저만 갱신
+ * - 놓친 갱신(서버 재시작, Redis 장애, 관리자 수정 등)을 메우기 위해 users 전체를 스트리밍으로 읽어 교체
+ *   (fetchSize = Integer.MIN_VALUE → MySQL 드라이버가 한 행씩 전달, 전체를 메모리에 올리지 않음)
+ * - 서버 시작 직후 한 번 실행 (local 저장소는 비어서 시작하므로)
+ * - redis 저장소는 서버 여러 대가 같은 키를 쓰므로 임대(leaderboard:reconciler)를 가진 서버 한 대만 실행
+ *
+ * 설정
+ * - leaderboard.reconcile.enabled: 실행 여부 (기본 true)
+ * - leaderboard.reconcile.interval-millis: 주기 (기본 600000)
+ */
+@Slf4j
+@Component
+public class LeaderboardReconciler {
+	private static final String SCAN_USERS = """
+		SELECT id, total_games, total_wins, max_win_streak FROM users
+		WHERE total_games > 0 AND oauth_id NOT LIKE 'WITHDRAWN\\_%'""";
+	static final String RECONCILER_KEY = "leaderboard:reconciler";
+
+	private final Leaderboard leaderboard;
+	private final JdbcTemplate streamingJdbcTemplate;
+	private final boolean enabled;
+	// local 저장소면 null (서버마다 자기 메모리를 채움)
+	private final RedisLease reconcilerLease;
+	private final Timer reconcileTimer;
+
+	public LeaderboardReconciler(Leaderboard leaderboard, DataSource dataSource, StringRedisTemplate redisTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${leaderboard.reconcile.enabled:true}") boolean enabled,
+		@Value("${leaderboard.store:local}") String store,
+		@Value("${leaderboard.reconcile.interval-millis:600000}") long intervalMillis) {
+		this.leaderboard = leaderboard;
+		this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+		this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+		this.enabled = enabled;
+		// 다음 주기에 다시 연장하므로 주기의 두 배 (가진 서버가 죽으면 그 뒤에 다른 서버가 이어받음)
+		this.reconcilerLease = "redis".equals(store)
+			? new RedisLease(redisTemplate, RECONCILER_KEY, intervalMillis * 2)
+			: null;
+		this.reconcileTimer = Timer.builder("leaderboard.reconcile")
+			.description("리더보드 전체 재구성 시간")
+			.register(meterRegistry);
+	}
+
+	@Scheduled(initialDelayString = "${leaderboard.reconcile.initial-delay-millis:5000}",
+		fixedDelayString = "${leaderboard.reconcile.interval-millis:600000}")
+	public void reconcile() {
+		if (!enabled || (reconcilerLease != null && !reconcilerLease.acquire())) {
+			return;
+		}
+		long startedAt = System.nanoTime();
+		Leaderboard.Rebuild rebuild = null;
+		try {
+			rebuild = leaderboard.rebuild();
+			Leaderboard.Rebuild target = rebuild;
+			int[] count = {0};
+			streamingJdbcTemplate.query(SCAN_USERS, (RowCallbackHandler)rs -> {
+				target.add(new LeaderboardStanding(UuidBytes.fromBytes(rs.getBytes("id")),
+					rs.getInt("total_games"), rs.getInt("total_wins"), rs.getInt("max_win_streak")));
+				count[0]++;
+			});
+			rebuild.commit();
+			log.info("[Leaderboard] 재구성 완료: {}명", count[0]);
+		} catch (Exception e) {
+			log.warn("[Leaderboard] 재구성 실패: {}", e.getMessage());
+			cancelQuietly(rebuild);
+		} finally {
+			reconcileTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (reconcilerLease != null) {
+			reconcilerLease.release();
+		}
+	}
+
+	private void cancelQuietly(Leaderboard.Rebuild rebuild) {
+		if (rebuild == null) {
+			return;
+		}
+		try {
+			rebuild.cancel();
+		} catch (Exception e) {
+			log.debug("[Leaderboard] 재구성 정리 실패: {}", e.getMessage());
+		}
+	}
+}
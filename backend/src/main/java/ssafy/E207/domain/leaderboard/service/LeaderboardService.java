@@ -0,0 +1,57 @@
+package ssafy.E207.domain.leaderboard.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import ssafy.E207.domain.leaderboard.dto.response.LeaderboardEntryResponse;
+import ssafy.E207.domain.leaderboard.dto.response.LeaderboardPageResponse;
+import ssafy.E207.domain.user.dto.UserSummary;
+import ssafy.E207.domain.user.service.UserSummaryCache;
+import ssafy.E207.global.common.enums.LeaderboardType;
+
+/**
+ * 리더보드 조회 (순위는 {@link Leaderboard}, 닉네임은 유저 요약 캐시에서)
+ */
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+	static final int MAX_PAGE_SIZE = 100;
+
+	private final Leaderboard leaderboard;
+	private final UserSummaryCache userSummaryCache;
+
+	public LeaderboardPageResponse getTop(LeaderboardType type, int page, int size) {
+		int safePage = Math.max(page, 0);
+		int safeSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+		List<LeaderboardEntryResponse> entries = leaderboard.top(type, (long)safePage * safeSize, safeSize).stream()
+			.map(this::toResponse)
+			.toList();
+		return LeaderboardPageResponse.builder()
+			.type(type)
+			.page(safePage)
+			.size(safeSize)
+			.totalCount(leaderboard.size(type))
+			.entries(entries)
+			.build();
+	}
+
+	/**
+	 * @return 아직 순위에 없으면 empty
+	 */
+	public Optional<LeaderboardEntryResponse> getMyRank(LeaderboardType type, UUID userId) {
+		return leaderboard.find(type, userId).map(this::toResponse);
+	}
+
+	private LeaderboardEntryResponse toResponse(Leaderboard.Entry entry) {
+		return LeaderboardEntryResponse.builder()
+			.rank(entry.rank())
+			.userId(entry.userId())
+			.nickname(userSummaryCache.get(entry.userId()).map(UserSummary::nickname).orElse(null))
+			.score(entry.score())
+			.build();
+	}
+}
@@ -0,0 +1,178 @@
+package ssafy.E207.domain.leaderboard.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import ssafy.E207.domain.leaderboard.dto.LeaderboardStanding;
+import ssafy.E207.global.common.enums.LeaderboardType;
+
+/**
+ * JVM 메모리 리더보드 (단일 서버/테스트용)
+ *
+ * - 종류별로 점수 정렬 트리 + userId → 점수 맵
+ * - 내 순위는 앞에 있는 유저 수를 세므로 O(n) (단일 서버 규모에서는 충분, 대규모는 redis 사용)
+ * - 재시작하면 비어 있음 → {@link LeaderboardReconciler}가 DB에서 다시 채움
+ * - 재구성 중에 갱신된 유저는 따로 모아 두고, 교체할 때 현재 점수를 새 목록에 덮어씀
+ */
+@Component
+@ConditionalOnProperty(name = "leaderboard.store", havingValue = "local", matchIfMissing = true)
+public class LocalLeaderboard implements Leaderboard {
+	// 점수 내림차순, 같으면 userId 문자열 내림차순 (Redis ZREVRANGE 와 동일)
+	private static final Comparator<Ranked> ORDER = Comparator.comparingDouble(Ranked::score).reversed()
+		.thenComparing(Ranked::member, Comparator.reverseOrder());
+
+	private final int minWinRateGames;
+	private volatile Map<LeaderboardType, Board> boards = newBoards();
+	// 재구성 중에 갱신된 유저 (재구성 중이 아니면 null), 갱신/교체는 synchronized
+	private Set<UUID> touched;
+
+	public LocalLeaderboard(@Value("${leaderboard.win-rate.min-games:10}") int minWinRateGames) {
+		this.minWinRateGames = minWinRateGames;
+	}
+
+	@Override
+	public synchronized void update(Collection<LeaderboardStanding> standings) {
+		Map<LeaderboardType, Board> current = boards;
+		for (LeaderboardStanding standing : standings) {
+			if (touched != null) {
+				touched.add(standing.userId());
+			}
+			for (LeaderboardType type : LeaderboardType.values()) {
+				current.get(type).put(standing.userId(), standing.score(type, minWinRateGames));
+			}
+		}
+	}
+
+	@Override
+	public synchronized void remove(UUID userId) {
+		if (touched != null) {
+			touched.add(userId);
+		}
+		boards.values().forEach(board -> board.put(userId, null));
+	}
+
+	@Override
+	public Optional<Entry> find(LeaderboardType type, UUID userId) {
+		return boards.get(type).find(userId);
+	}
+
+	@Override
+	public List<Entry> top(LeaderboardType type, long offset, int limit) {
+		return boards.get(type).top(offset, limit);
+	}
+
+	@Override
+	public long size(LeaderboardType type) {
+		return boards.get(type).size();
+	}
+
+	@Override
+	public synchronized Rebuild rebuild() {
+		Map<LeaderboardType, Board> next = newBoards();
+		touched = new HashSet<>();
+		return new Rebuild() {
+			@Override
+			public void add(LeaderboardStanding standing) {
+				for (LeaderboardType type : LeaderboardType.values()) {
+					next.get(type).put(standing.userId(), standing.score(type, minWinRateGames));
+				}
+			}
+
+			@Override
+			public void commit() {
+				synchronized (LocalLeaderboard.this) {
+					for (UUID userId : touched) {
+						for (LeaderboardType type : LeaderboardType.values()) {
+							next.get(type).put(userId, boards.get(type).score(userId));
+						}
+					}
+					boards = next;
+					touched = null;
+				}
+			}
+
+			@Override
+			public void cancel() {
+				synchronized (LocalLeaderboard.this) {
+					touched = null;
+				}
+			}
+		};
+	}
+
+	private static Map<LeaderboardType, Board> newBoards() {
+		Map<LeaderboardType, Board> boards = new EnumMap<>(LeaderboardType.class);
+		for (LeaderboardType type : LeaderboardType.values()) {
+			boards.put(type, new Board());
+		}
+		return boards;
+	}
+
+	private record Ranked(String member, UUID userId, double score) {
+		Ranked(UUID userId, double score) {
+			this(userId.toString(), userId, score);
+		}
+	}
+
+	private static final class Board {
+		private final Map<UUID, Double> scores = new HashMap<>();
+		private final NavigableSet<Ranked> ordered = new TreeSet<>(ORDER);
+
+		// score 가 null 이면 제거
+		synchronized void put(UUID userId, Double score) {
+			Double previous = score == null ? scores.remove(userId) : scores.put(userId, score);
+			if (previous != null) {
+				ordered.remove(new Ranked(userId, previous));
+			}
+			if (score != null) {
+				ordered.add(new Ranked(userId, score));
+			}
+		}
+
+		synchronized Double score(UUID userId) {
+			return scores.get(userId);
+		}
+
+		synchronized Optional<Entry> find(UUID userId) {
+			Double score = scores.get(userId);
+			if (score == null) {
+				return Optional.empty();
+			}
+			long rank = ordered.headSet(new Ranked(userId, score), false).size() + 1L;
+			return Optional.of(new Entry(userId, rank, score));
+		}
+
+		synchronized List<Entry> top(long offset, int limit) {
+			List<Entry> entries = new ArrayList<>(Math.min(limit, ordered.size()));
+			Iterator<Ranked> iterator = ordered.iterator();
+			long rank = 0;
+			while (iterator.hasNext() && entries.size() < limit) {
+				Ranked ranked = iterator.next();
+				if (rank++ >= offset) {
+					entries.add(new Entry(ranked.userId(), rank, ranked.score()));
+				}
+			}
+			return entries;
+		}
+
+		synchronized long size() {
+			return scores.size();
+		}
+	}
+}
@@ -0,0 +1,244 @@
+package ssafy.E207.domain.leaderboard.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import ssafy.E207.domain.leaderboard.dto.LeaderboardStanding;
+import ssafy.E207.global.common.enums.LeaderboardType;
+
+/**
+ * Redis ZSET 리더보드 (서버 여러 대 공유)
+ *
+ * - 키: leaderboard:{wins|win_rate|max_streak}, member = userId, score = 점수
+ * - 갱신: 종류별 ZADD(순위 밖이면 ZREM)를 한 번의 파이프라인으로
+ * - 내 순위: ZREVRANK + ZSCORE (O(log n), 파이프라인 1회)
+ * - 재구성: 임시 키에 채운 뒤 RENAME 으로 교체 (교체 전까지 기존 순위 유지)
+ *   재구성 중(leaderboard:rebuilding)에 갱신된 유저는 leaderboard:touched 에 모아 두고,
+ *   교체할 때 그 유저들의 현재 점수를 임시 키에 덮어씀 (DB 를 읽은 뒤의 갱신이 사라지지 않도록)
+ */
+@Component
+@ConditionalOnProperty(name = "leaderboard.store", havingValue = "redis")
+public class RedisLeaderboard implements Leaderboard {
+	static final String KEY_PREFIX = "leaderboard:";
+	static final String REBUILDING_KEY = KEY_PREFIX + "rebuilding";
+	static final String TOUCHED_KEY = KEY_PREFIX + "touched";
+	private static final int REBUILD_CHUNK = 1000;
+	// 재구성 중 서버가 죽으면 임시 키가 남으므로 만료 시간 지정
+	private static final long REBUILD_TTL_SECONDS = TimeUnit.HOURS.toSeconds(1);
+	private static final Map<LeaderboardType, String> LIVE_KEYS = new EnumMap<>(LeaderboardType.class);
+
+	// 재구성 중이면 갱신할 유저를 기록 (갱신보다 먼저 실행해야 교체 직전의 갱신도 빠지지 않음)
+	private static final String TOUCH_SCRIPT = """
+		if redis.call('EXISTS', KEYS[1]) == 1 then
+			redis.call('SADD', KEYS[2], unpack(ARGV))
+		end
+		return 0
+		""";
+
+	// KEYS: touched, rebuilding, (임시 키, 현재 키) * 종류 수
+	private static final RedisScript<Long> COMMIT_SCRIPT = new DefaultRedisScript<>("""
+		local touched = redis.call('SMEMBERS', KEYS[1])
+		for i = 3, #KEYS, 2 do
+			local temp, live = KEYS[i], KEYS[i + 1]
+			for _, member in ipairs(touched) do
+				local score = redis.call('ZSCORE', live, member)
+				if score then
+					redis.call('ZADD', temp, score, member)
+				else
+					redis.call('ZREM', temp, member)
+				end
+			end
+			if redis.call('EXISTS', temp) == 1 then
+				redis.call('RENAME', temp, live)
+				redis.call('PERSIST', live)
+			else
+				redis.call('DEL', live)
+			end
+		end
+		redis.call('DEL', KEYS[1], KEYS[2])
+		return #touched
+		""", Long.class);
+
+	static {
+		for (LeaderboardType type : LeaderboardType.values()) {
+			LIVE_KEYS.put(type, key(type));
+		}
+	}
+
+	private final StringRedisTemplate redisTemplate;
+	private final int minWinRateGames;
+
+	public RedisLeaderboard(StringRedisTemplate redisTemplate,
+		@Value("${leaderboard.win-rate.min-games:10}") int minWinRateGames) {
+		this.redisTemplate = redisTemplate;
+		this.minWinRateGames = minWinRateGames;
+	}
+
+	static String key(LeaderboardType type) {
+		return KEY_PREFIX + type.name().toLowerCase(Locale.ROOT);
+	}
+
+	@Override
+	public void update(Collection<LeaderboardStanding> standings) {
+		if (standings.isEmpty()) {
+			return;
+		}
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			touch(stringConnection, standings.stream().map(standing -> standing.userId().toString())
+				.toArray(String[]::new));
+			write(stringConnection, LIVE_KEYS, standings);
+			return null;
+		});
+	}
+
+	@Override
+	public void remove(UUID userId) {
+		redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			touch(stringConnection, userId.toString());
+			for (LeaderboardType type : LeaderboardType.values()) {
+				stringConnection.zRem(LIVE_KEYS.get(type), userId.toString());
+			}
+			return null;
+		});
+	}
+
+	@Override
+	public Optional<Entry> find(LeaderboardType type, UUID userId) {
+		String key = LIVE_KEYS.get(type);
+		String member = userId.toString();
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			stringConnection.zRevRank(key, member);
+			stringConnection.zScore(key, member);
+			return null;
+		});
+		if (!(results.get(0) instanceof Long rank) || !(results.get(1) instanceof Double score)) {
+			return Optional.empty();
+		}
+		return Optional.of(new Entry(userId, rank + 1, score));
+	}
+
+	@Override
+	public List<Entry> top(LeaderboardType type, long offset, int limit) {
+		Set<ZSetOperations.TypedTuple<String>> tuples =
+			redisTemplate.opsForZSet().reverseRangeWithScores(LIVE_KEYS.get(type), offset, offset + limit - 1);
+		if (tuples == null) {
+			return List.of();
+		}
+		List<Entry> entries = new ArrayList<>(tuples.size());
+		long rank = offset;
+		for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+			entries.add(new Entry(UUID.fromString(tuple.getValue()), ++rank,
+				tuple.getScore() == null ? 0 : tuple.getScore()));
+		}
+		return entries;
+	}
+
+	@Override
+	public long size(LeaderboardType type) {
+		Long size = redisTemplate.opsForZSet().zCard(LIVE_KEYS.get(type));
+		return size == null ? 0 : size;
+	}
+
+	@Override
+	public Rebuild rebuild() {
+		String suffix = ":rebuild:" + UUID.randomUUID();
+		Map<LeaderboardType, String> tempKeys = new EnumMap<>(LeaderboardType.class);
+		for (LeaderboardType type : LeaderboardType.values()) {
+			tempKeys.put(type, LIVE_KEYS.get(type) + suffix);
+		}
+		// 이 시점 이후의 갱신은 기록됨 → DB 스캔은 이 다음에 시작
+		redisTemplate.delete(TOUCHED_KEY);
+		redisTemplate.opsForValue().set(REBUILDING_KEY, suffix, REBUILD_TTL_SECONDS, TimeUnit.SECONDS);
+		return new Rebuild() {
+			private final List<LeaderboardStanding> buffer = new ArrayList<>(REBUILD_CHUNK);
+
+			@Override
+			public void add(LeaderboardStanding standing) {
+				buffer.add(standing);
+				if (buffer.size() >= REBUILD_CHUNK) {
+					flush();
+				}
+			}
+
+			@Override
+			public void commit() {
+				flush();
+				// 기록된 유저 반영과 교체를 한 번에 (그 사이에 갱신이 끼어들지 않도록)
+				List<String> keys = new ArrayList<>(List.of(TOUCHED_KEY, REBUILDING_KEY));
+				for (LeaderboardType type : LeaderboardType.values()) {
+					keys.add(tempKeys.get(type));
+					keys.add(LIVE_KEYS.get(type));
+				}
+				redisTemplate.execute(COMMIT_SCRIPT, keys);
+			}
+
+			@Override
+			public void cancel() {
+				buffer.clear();
+				List<String> keys = new ArrayList<>(tempKeys.values());
+				keys.add(TOUCHED_KEY);
+				keys.add(REBUILDING_KEY);
+				redisTemplate.delete(keys);
+			}
+
+			private void flush() {
+				if (buffer.isEmpty()) {
+					return;
+				}
+				redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+					StringRedisConnection stringConnection = (StringRedisConnection)connection;
+					write(stringConnection, tempKeys, buffer);
+					tempKeys.values().forEach(tempKey -> stringConnection.expire(tempKey, REBUILD_TTL_SECONDS));
+					stringConnection.expire(TOUCHED_KEY, REBUILD_TTL_SECONDS);
+					return null;
+				});
+				buffer.clear();
+			}
+		};
+	}
+
+	private static void touch(StringRedisConnection connection, String... members) {
+		String[] keysAndArgs = new String[members.length + 2];
+		keysAndArgs[0] = REBUILDING_KEY;
+		keysAndArgs[1] = TOUCHED_KEY;
+		System.arraycopy(members, 0, keysAndArgs, 2, members.length);
+		connection.eval(TOUCH_SCRIPT, ReturnType.INTEGER, 2, keysAndArgs);
+	}
+
+	private void write(StringRedisConnection connection, Map<LeaderboardType, String> keys,
+		Collection<LeaderboardStanding> standings) {
+		for (LeaderboardStanding standing : standings) {
+			String member = standing.userId().toString();
+			for (LeaderboardType type : LeaderboardType.values()) {
+				Double score = standing.score(type, minWinRateGames);
+				if (score == null) {
+					connection.zRem(keys.get(type), member);
+				} else {
+					connection.zAdd(keys.get(type), score, member);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package ssafy.E207.domain.match.codec;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 압축 코덱 협상
+ *
+ * - 클라이언트가 CONNECT 프레임에 "x-payload-codec: compact" 헤더를 보내면 그 세션은 압축 프레임을 받음
+ * - 세션으로 나가는 MESSAGE 중 {@link CompactStompMessageConverter}가 만들어 둔 압축본이 있으면 payload를 교체
+ *   압축본이 없는 메시지(DTO가 든 메시지, 다른 서버에서 릴레이된 메시지 등)는 그대로 JSON
+ *   → 클라이언트는 content-type(application/octet-stream / application/json)으로 구분
+ * - SockJS는 텍스트 프레임만 쓰므로 협상하지 않음 (SockJS 엔드포인트에 이 인터셉터를 핸드셰이크로 등록)
+ */
+@Slf4j
+@Component
+public class CompactPayloadNegotiator implements ChannelInterceptor, HandshakeInterceptor {
+	public static final String CODEC_HEADER = "x-payload-codec";
+	public static final String COMPACT = "compact";
+	// 변환 시 붙여 두는 압축본 (네이티브 헤더가 아니므로 클라이언트에는 나가지 않음)
+	static final String COMPACT_PAYLOAD_HEADER = "compactPayload";
+	private static final String TEXT_ONLY_ATTRIBUTE = "TEXT_ONLY_TRANSPORT";
+
+	private final Set<String> compactSessions = ConcurrentHashMap.newKeySet();
+
+	// 압축 세션이 하나도 없으면 변환 시 압축본을 만들지 않음
+	public boolean hasCompactSessions() {
+		return !compactSessions.isEmpty();
+	}
+
+	public boolean isCompact(String sessionId) {
+		return sessionId != null && compactSessions.contains(sessionId);
+	}
+
+	// clientInboundChannel(CONNECT/DISCONNECT), clientOutboundChannel(MESSAGE) 양쪽에 등록
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		MessageHeaders headers = message.getHeaders();
+		SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(headers);
+		String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+		if (type == SimpMessageType.CONNECT) {
+			negotiate(headers, sessionId);
+		} else if (type == SimpMessageType.DISCONNECT) {
+			compactSessions.remove(sessionId);
+		} else if (type == SimpMessageType.MESSAGE && headers.get(COMPACT_PAYLOAD_HEADER) instanceof byte[] compact
+			&& isCompact(sessionId)) {
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+			accessor.setContentType(CompactStompCodec.CONTENT_TYPE);
+			accessor.removeHeader(COMPACT_PAYLOAD_HEADER);
+			return MessageBuilder.createMessage(compact, accessor.getMessageHeaders());
+		}
+		return message;
+	}
+
+	@Override
+	public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+		WebSocketHandler wsHandler, Map<String, Object> attributes) {
+		attributes.put(TEXT_ONLY_ATTRIBUTE, Boolean.TRUE);
+		return true;
+	}
+
+	@Override
+	public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+		WebSocketHandler wsHandler, Exception exception) {
+	}
+
+	private void negotiate(MessageHeaders headers, String sessionId) {
+		if (!COMPACT.equals(NativeMessageHeaderAccessor.getFirstNativeHeader(CODEC_HEADER, headers))) {
+			return;
+		}
+		Map<String, Object> attributes = SimpMessageHeaderAccessor.getSessionAttributes(headers);
+		if (attributes != null && attributes.containsKey(TEXT_ONLY_ATTRIBUTE)) {
+			log.debug("[STOMP] SockJS 세션 {} 압축 코덱 요청 무시", sessionId);
+			return;
+		}
+		compactSessions.add(sessionId);
+	}
+}
@@ -0,0 +1,384 @@
+package ssafy.E207.domain.match.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import ssafy.E207.domain.match.dto.response.StompResponse;
+import ssafy.E207.global.common.enums.StompMessageType;
+
+/**
+ * 게임 이벤트 압축 바이너리 코덱 (리플렉션 없이 직접 씀)
+ *
+ * 프레임
+ *   [버전 1B][타입 ID 1B][flags 1B][senderId 16B?][message?][data?]
+ *   flags: 0x01 senderId, 0x02 message, 0x04 data
+ * - 타입 ID는 {@link #TYPES} 순서 (뒤에만 추가, 순서 변경 금지)
+ * - 게임 진행 이벤트(턴 스왑, 라운드 종료 등)는 message를 보내지 않음 → 클라이언트가 타입별 템플릿으로 그림
+ * - senderNickname은 보내지 않음 (시스템 메시지는 senderId 없음, 채팅은 클라이언트가 참가자 목록으로 찾음)
+ *
+ * 값 (태그 1B + 내용)
+ *   NULL / TRUE / FALSE
+ *   INT: zigzag varint, LONG: zigzag varint
+ *   UUID: 16B, STRING: 길이 varint + UTF-8
+ *   TYPE: 타입 ID 1B, ENUM: 이름 문자열
+ *   MAP: 개수 varint + (키 값)*, LIST: 개수 varint + 값*
+ *   DATETIME: ISO 문자열
+ * data의 키는 {@link #KEYS}에 있으면 인덱스 1B, 없으면 0xFF + 문자열
+ * 그 밖의 값(DTO 등)이 들어 있으면 {@link UnsupportedValueException} → 해당 메시지는 JSON으로 전송
+ */
+public final class CompactStompCodec {
+	// STOMP는 octet-stream일 때만 바이너리 프레임으로 보냄
+	public static final MimeType CONTENT_TYPE = MimeTypeUtils.APPLICATION_OCTET_STREAM;
+	public static final byte VERSION = 1;
+
+	// 순서 = 타입 ID
+	static final StompMessageType[] TYPES = {
+		StompMessageType.REQUEST_READY_CHANGE,
+		StompMessageType.REQUEST_BATTLE_START,
+		StompMessageType.REQUEST_TURN_SWAP,
+		StompMessageType.REQUEST_LAUGHED,
+		StompMessageType.REQUEST_SURRENDER,
+		StompMessageType.REQUEST_REPORT,
+		StompMessageType.TURN_TIMEOUT,
+		StompMessageType.RESPONSE_MATCHMAKING_SUCCESS,
+		StompMessageType.RESPONSE_READY_CHANGE,
+		StompMessageType.RESPONSE_BATTLE_START,
+		StompMessageType.RESPONSE_TURN_SWAP,
+		StompMessageType.RESPONSE_ROUND_END,
+		StompMessageType.RESPONSE_BATTLE_END,
+		StompMessageType.RESPONSE_ERROR,
+		StompMessageType.RESPONSE_PARTICIPANT_JOINED,
+		StompMessageType.RESPONSE_HOST_CHANGED,
+		StompMessageType.CHAT,
+		StompMessageType.RESPONSE_ROOM_DESTROYED,
+		StompMessageType.RESPONSE_PARTICIPANT_LEFT,
+		StompMessageType.RESPONSE_REPORTED,
+		StompMessageType.RESPONSE_PARTICIPANT_DISCONNECTED,
+		StompMessageType.RESPONSE_PARTICIPANT_RECONNECTED
+	};
+
+	// 순서 = 키 ID
+	static final String[] KEYS = {
+		"reason", "attackerId", "currentTurn", "currentRound", "currentScores",
+		"finalTurn", "finalRound", "winnerId", "finalScores", "limitTime",
+		"userId", "isReady", "reportedUserId", "graceSeconds", "status",
+		"turnStartedAt", "disconnectedUserIds", "prevHostId", "nextHostId", "leftUserId",
+		"isHost", "isElectron", "nickname", "profileImageUrl"
+	};
+
+	// message를 생략하는 타입 (클라이언트 템플릿 사용)
+	private static final Set<StompMessageType> TEMPLATED = EnumSet.of(
+		StompMessageType.RESPONSE_READY_CHANGE,
+		StompMessageType.RESPONSE_BATTLE_START,
+		StompMessageType.RESPONSE_TURN_SWAP,
+		StompMessageType.RESPONSE_ROUND_END,
+		StompMessageType.RESPONSE_BATTLE_END,
+		StompMessageType.RESPONSE_REPORTED,
+		StompMessageType.RESPONSE_PARTICIPANT_DISCONNECTED,
+		StompMessageType.RESPONSE_PARTICIPANT_RECONNECTED
+	);
+
+	private static final int UNKNOWN = 0xFF;
+	private static final int FLAG_SENDER = 0x01;
+	private static final int FLAG_MESSAGE = 0x02;
+	private static final int FLAG_DATA = 0x04;
+
+	private static final int TAG_NULL = 0;
+	private static final int TAG_TRUE = 1;
+	private static final int TAG_FALSE = 2;
+	private static final int TAG_INT = 3;
+	private static final int TAG_LONG = 4;
+	private static final int TAG_UUID = 5;
+	private static final int TAG_STRING = 6;
+	private static final int TAG_TYPE = 7;
+	private static final int TAG_ENUM = 8;
+	private static final int TAG_MAP = 9;
+	private static final int TAG_LIST = 10;
+	private static final int TAG_DATETIME = 11;
+
+	private static final Map<StompMessageType, Integer> TYPE_IDS = new EnumMap<>(StompMessageType.class);
+	private static final Map<String, Integer> KEY_IDS = new HashMap<>();
+
+	static {
+		for (int i = 0; i < TYPES.length; i++) {
+			TYPE_IDS.put(TYPES[i], i);
+		}
+		for (int i = 0; i < KEYS.length; i++) {
+			KEY_IDS.put(KEYS[i], i);
+		}
+	}
+
+	private CompactStompCodec() {
+	}
+
+	public static byte[] encode(StompResponse response) {
+		Writer out = new Writer(64);
+		out.writeByte(VERSION);
+		out.writeType(response.getType());
+
+		boolean withMessage = response.getMessage() != null && !TEMPLATED.contains(response.getType());
+		Map<String, Object> data = response.getData();
+		int flags = (response.getSenderId() != null ? FLAG_SENDER : 0)
+			| (withMessage ? FLAG_MESSAGE : 0)
+			| (data != null ? FLAG_DATA : 0);
+		out.writeByte(flags);
+		if (response.getSenderId() != null) {
+			out.writeUuid(response.getSenderId());
+		}
+		if (withMessage) {
+			out.writeString(response.getMessage());
+		}
+		if (data != null) {
+			out.writeVarint(data.size());
+			for (Map.Entry<String, Object> entry : data.entrySet()) {
+				Integer keyId = KEY_IDS.get(entry.getKey());
+				if (keyId != null) {
+					out.writeByte(keyId);
+				} else {
+					out.writeByte(UNKNOWN);
+					out.writeString(entry.getKey());
+				}
+				out.writeValue(entry.getValue());
+			}
+		}
+		return out.toByteArray();
+	}
+
+	// 테스트/디버깅용 (enum 값은 이름 문자열, 생략된 message는 null)
+	public static StompResponse decode(byte[] frame) {
+		ByteBuffer in = ByteBuffer.wrap(frame);
+		int version = in.get();
+		if (version != VERSION) {
+			throw new IllegalArgumentException("지원하지 않는 코덱 버전: " + version);
+		}
+		StompMessageType type = readType(in);
+		int flags = in.get() & 0xFF;
+		UUID senderId = (flags & FLAG_SENDER) != 0 ? readUuid(in) : null;
+		String message = (flags & FLAG_MESSAGE) != 0 ? readString(in) : null;
+		Map<String, Object> data = null;
+		if ((flags & FLAG_DATA) != 0) {
+			int size = readVarint(in);
+			data = new LinkedHashMap<>();
+			for (int i = 0; i < size; i++) {
+				int keyId = in.get() & 0xFF;
+				String key = keyId == UNKNOWN ? readString(in) : KEYS[keyId];
+				data.put(key, readValue(in));
+			}
+		}
+		return new StompResponse(type, senderId, null, message, data);
+	}
+
+	private static Object readValue(ByteBuffer in) {
+		int tag = in.get();
+		return switch (tag) {
+			case TAG_NULL -> null;
+			case TAG_TRUE -> true;
+			case TAG_FALSE -> false;
+			case TAG_INT -> (int)unzigzag(readVarlong(in));
+			case TAG_LONG -> unzigzag(readVarlong(in));
+			case TAG_UUID -> readUuid(in);
+			case TAG_STRING, TAG_ENUM -> readString(in);
+			case TAG_TYPE -> readType(in);
+			case TAG_DATETIME -> LocalDateTime.parse(readString(in));
+			case TAG_MAP -> {
+				int size = readVarint(in);
+				Map<Object, Object> map = new LinkedHashMap<>();
+				for (int i = 0; i < size; i++) {
+					map.put(readValue(in), readValue(in));
+				}
+				yield map;
+			}
+			case TAG_LIST -> {
+				int size = readVarint(in);
+				List<Object> list = new ArrayList<>(size);
+				for (int i = 0; i < size; i++) {
+					list.add(readValue(in));
+				}
+				yield list;
+			}
+			default -> throw new IllegalArgumentException("알 수 없는 태그: " + tag);
+		};
+	}
+
+	private static StompMessageType readType(ByteBuffer in) {
+		int id = in.get() & 0xFF;
+		return id == UNKNOWN ? StompMessageType.valueOf(readString(in)) : TYPES[id];
+	}
+
+	private static UUID readUuid(ByteBuffer in) {
+		return new UUID(in.getLong(), in.getLong());
+	}
+
+	private static String readString(ByteBuffer in) {
+		int length = readVarint(in);
+		String value = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+		in.position(in.position() + length);
+		return value;
+	}
+
+	private static int readVarint(ByteBuffer in) {
+		return (int)readVarlong(in);
+	}
+
+	private static long readVarlong(ByteBuffer in) {
+		long value = 0;
+		int shift = 0;
+		while (true) {
+			int b = in.get() & 0xFF;
+			value |= (long)(b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+			shift += 7;
+		}
+	}
+
+	private static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	public static final class UnsupportedValueException extends IllegalArgumentException {
+		private UnsupportedValueException(Class<?> type) {
+			super("압축 코덱이 지원하지 않는 값: " + type.getName());
+		}
+	}
+
+	// ByteArrayOutputStream은 메서드마다 synchronized라 직접 버퍼 관리
+	private static final class Writer {
+		private byte[] buffer;
+		private int size;
+
+		private Writer(int capacity) {
+			this.buffer = new byte[capacity];
+		}
+
+		private void write(int value) {
+			if (size == buffer.length) {
+				buffer = Arrays.copyOf(buffer, size << 1);
+			}
+			buffer[size++] = (byte)value;
+		}
+
+		private void write(byte[] bytes, int offset, int length) {
+			if (size + length > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(size << 1, size + length));
+			}
+			System.arraycopy(bytes, offset, buffer, size, length);
+			size += length;
+		}
+
+		private byte[] toByteArray() {
+			return Arrays.copyOf(buffer, size);
+		}
+
+		private void writeByte(int value) {
+			write(value);
+		}
+
+		private void writeType(StompMessageType type) {
+			Integer id = TYPE_IDS.get(type);
+			if (id != null) {
+				write(id);
+			} else {
+				write(UNKNOWN);
+				writeString(type.name());
+			}
+		}
+
+		private void writeVarint(long value) {
+			while ((value & ~0x7FL) != 0) {
+				write((int)((value & 0x7F) | 0x80));
+				value >>>= 7;
+			}
+			write((int)value);
+		}
+
+		private void writeZigzag(long value) {
+			writeVarint((value << 1) ^ (value >> 63));
+		}
+
+		private void writeUuid(UUID uuid) {
+			writeLong(uuid.getMostSignificantBits());
+			writeLong(uuid.getLeastSignificantBits());
+		}
+
+		private void writeLong(long value) {
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				write((int)(value >>> shift));
+			}
+		}
+
+		private void writeString(String value) {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			writeVarint(bytes.length);
+			write(bytes, 0, bytes.length);
+		}
+
+		private void writeValue(Object value) {
+			switch (value) {
+				case null -> write(TAG_NULL);
+				case Boolean b -> write(b ? TAG_TRUE : TAG_FALSE);
+				case Integer i -> {
+					write(TAG_INT);
+					writeZigzag(i);
+				}
+				case Long l -> {
+					write(TAG_LONG);
+					writeZigzag(l);
+				}
+				case UUID uuid -> {
+					write(TAG_UUID);
+					writeUuid(uuid);
+				}
+				case String s -> {
+					write(TAG_STRING);
+					writeString(s);
+				}
+				case StompMessageType type -> {
+					write(TAG_TYPE);
+					writeType(type);
+				}
+				case Enum<?> e -> {
+					write(TAG_ENUM);
+					writeString(e.name());
+				}
+				case LocalDateTime time -> {
+					write(TAG_DATETIME);
+					writeString(time.toString());
+				}
+				case Map<?, ?> map -> {
+					write(TAG_MAP);
+					writeVarint(map.size());
+					for (Map.Entry<?, ?> entry : map.entrySet()) {
+						writeValue(entry.getKey());
+						writeValue(entry.getValue());
+					}
+				}
+				case Collection<?> list -> {
+					write(TAG_LIST);
+					writeVarint(list.size());
+					for (Object item : list) {
+						writeValue(item);
+					}
+				}
+				// DTO 등은 리플렉션 없이 쓸 수 없으므로 호출한 쪽에서 JSON으로 보냄
+				default -> throw new UnsupportedValueException(value.getClass());
+			}
+		}
+	}
+}
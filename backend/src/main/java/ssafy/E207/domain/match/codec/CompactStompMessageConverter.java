@@ -0,0 +1,59 @@
+package ssafy.E207.domain.match.codec;
+
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.DefaultContentTypeResolver;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+import ssafy.E207.domain.match.dto.response.StompResponse;
+
+/**
+ * StompResponse 변환기
+ *
+ * 기본 JSON 변환은 그대로 하고, 압축 코덱을 쓰는 세션이 있을 때만 압축본을 헤더에 같이 붙여 둠
+ * → 브로커가 구독자별로 복사한 뒤 {@link CompactPayloadNegotiator}가 세션에 맞게 payload를 고름
+ * StompResponse가 아닌 payload는 기본 변환기가 처리
+ */
+@Slf4j
+public final class CompactStompMessageConverter extends MappingJackson2MessageConverter {
+	private final CompactPayloadNegotiator negotiator;
+
+	public CompactStompMessageConverter(ObjectMapper objectMapper, CompactPayloadNegotiator negotiator) {
+		super(objectMapper);
+		this.negotiator = negotiator;
+		// 스프링 기본 변환기와 같은 설정 (content-type 없으면 JSON)
+		DefaultContentTypeResolver resolver = new DefaultContentTypeResolver();
+		resolver.setDefaultMimeType(MimeTypeUtils.APPLICATION_JSON);
+		setContentTypeResolver(resolver);
+	}
+
+	@Override
+	protected boolean canConvertTo(Object payload, MessageHeaders headers) {
+		return payload instanceof StompResponse && super.canConvertTo(payload, headers);
+	}
+
+	// toMessage는 final → 본문 변환 시점에 헤더에 압축본을 붙임
+	// SimpMessagingTemplate이 넘기는 헤더는 수정 가능한 상태로 오고, 그대로 메시지 헤더가 됨
+	@Override
+	protected Object convertToInternal(Object payload, MessageHeaders headers, Object conversionHint) {
+		Object converted = super.convertToInternal(payload, headers, conversionHint);
+		if (converted == null || !(payload instanceof StompResponse response) || !negotiator.hasCompactSessions()) {
+			return converted;
+		}
+		MessageHeaderAccessor accessor = headers == null ? null
+			: MessageHeaderAccessor.getAccessor(headers, MessageHeaderAccessor.class);
+		if (accessor == null || !accessor.isMutable()) {
+			return converted;
+		}
+		try {
+			accessor.setHeader(CompactPayloadNegotiator.COMPACT_PAYLOAD_HEADER, CompactStompCodec.encode(response));
+		} catch (CompactStompCodec.UnsupportedValueException e) {
+			log.debug("[STOMP] {} 압축 불가, JSON으로 전송: {}", response.getType(), e.getMessage());
+		}
+		return converted;
+	}
+}
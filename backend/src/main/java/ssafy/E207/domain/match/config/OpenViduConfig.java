@@ -0,0 +1,22 @@
+package ssafy.E207.domain.match.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.openvidu.java.client.OpenVidu;
+
+@Configuration
+public class OpenViduConfig {
+	// 도커로 올린 openVidu 서버
+	@Value("${openvidu.url}")
+	private String OPENVIDU_URL;
+	// 도커로 올린 openVidu 서버 시크릿키
+	@Value("${openvidu.secret}")
+	private String SECRET;
+
+	@Bean
+	public OpenVidu openVidu() {
+		return new OpenVidu(OPENVIDU_URL, SECRET);
+	}
+}
@@ -0,0 +1,157 @@
+package ssafy.E207.domain.match.config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Pub/Sub 기반 STOMP 팬아웃 (stomp.relay.mode=redis)
+ *
+ * - 이 서버에서 발행한 /topic/**, /user/** 메시지를 stomp:relay 채널로 다른 서버에 전달
+ * - 다른 서버가 보낸 메시지는 이 서버의 brokerChannel로 다시 넣음 → 구독 중인 로컬 세션에만 전달
+ *   (/user/** 는 각 서버가 자기 세션 기준으로 다시 풀어서 전달)
+ * - 다시 넣은 메시지에는 relayed 헤더를 붙여서 재전파하지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "stomp.relay.mode", havingValue = "redis")
+public class RedisStompRelay implements ChannelInterceptor, MessageListener {
+	static final String CHANNEL = "stomp:relay";
+	static final String RELAYED_HEADER = "relayedFrom";
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final ObjectMapper objectMapper;
+	private final MessageChannel brokerChannel;
+	private final String nodeId;
+	private final ChannelTopic topic = new ChannelTopic(CHANNEL);
+	private final Counter published;
+	private final Counter received;
+
+	public RedisStompRelay(StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+		@Value("${stomp.relay.node-id:${matchmaking.node-id:}}") String nodeId) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.objectMapper = objectMapper;
+		this.brokerChannel = brokerChannel;
+		this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+		this.published = Counter.builder("stomp.relay.messages")
+			.description("서버 간 STOMP 팬아웃 메시지 수")
+			.tag("direction", "out")
+			.register(meterRegistry);
+		this.received = Counter.builder("stomp.relay.messages")
+			.description("서버 간 STOMP 팬아웃 메시지 수")
+			.tag("direction", "in")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		listenerContainer.addMessageListener(this, topic);
+		log.info("[StompRelay] Redis 팬아웃 사용 (nodeId: {})", nodeId);
+	}
+
+	@PreDestroy
+	public void stop() {
+		listenerContainer.removeMessageListener(this, topic);
+	}
+
+	// brokerChannel로 나가는 메시지 → 다른 서버에도 발행
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		MessageHeaders headers = message.getHeaders();
+		if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+			|| headers.containsKey(RELAYED_HEADER)) {
+			return message;
+		}
+		String destination = SimpMessageHeaderAccessor.getDestination(headers);
+		if (destination == null || !(destination.startsWith("/topic/") || destination.startsWith("/user/"))) {
+			return message;
+		}
+		byte[] payload = toBytes(message.getPayload());
+		if (payload == null) {
+			log.warn("[StompRelay] 전달할 수 없는 payload 타입: {}", message.getPayload().getClass());
+			return message;
+		}
+
+		try {
+			Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+			Map<String, String> relayed = Map.of(
+				"node", nodeId,
+				"destination", destination,
+				"contentType", contentType == null ? "" : contentType.toString(),
+				"payload", Base64.getEncoder().encodeToString(payload));
+			redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(relayed));
+			published.increment();
+		} catch (Exception e) {
+			log.error("[StompRelay] 발행 실패: {} ({})", destination, e.getMessage(), e);
+		}
+		return message;
+	}
+
+	// 다른 서버가 발행한 메시지 → 이 서버의 구독자에게 전달
+	@Override
+	public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+		try {
+			JsonNode node = objectMapper.readTree(message.getBody());
+			String origin = node.get("node").asText();
+			if (nodeId.equals(origin)) {
+				return;
+			}
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+			accessor.setDestination(node.get("destination").asText());
+			String contentType = node.get("contentType").asText();
+			if (!contentType.isEmpty()) {
+				accessor.setContentType(MimeType.valueOf(contentType));
+			}
+			accessor.setHeader(RELAYED_HEADER, origin);
+			byte[] payload = Base64.getDecoder().decode(node.get("payload").asText());
+			brokerChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+			received.increment();
+		} catch (Exception e) {
+			log.error("[StompRelay] 수신 처리 실패: {}", e.getMessage(), e);
+		}
+	}
+
+	private static byte[] toBytes(Object payload) {
+		if (payload instanceof byte[] bytes) {
+			return bytes;
+		}
+		if (payload instanceof String text) {
+			return text.getBytes(StandardCharsets.UTF_8);
+		}
+		return null;
+	}
+}
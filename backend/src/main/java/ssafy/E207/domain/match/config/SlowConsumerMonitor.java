@@ -0,0 +1,37 @@
+package ssafy.E207.domain.match.config;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 느린 소비자 세션 종료 집계
+ *
+ * 송신 시간/버퍼 제한({@link StompTransportProperties})을 넘은 세션은 스프링이 SESSION_NOT_RELIABLE로 끊음
+ * 끊긴 뒤 처리(재접속 유예 등)는 일반 연결 종료와 같음
+ */
+@Slf4j
+@Component
+public class SlowConsumerMonitor {
+	private final Counter evicted;
+
+	public SlowConsumerMonitor(MeterRegistry meterRegistry) {
+		this.evicted = Counter.builder("stomp.session.evicted")
+			.description("송신 제한을 넘어 끊은 느린 세션 수")
+			.register(meterRegistry);
+	}
+
+	@EventListener
+	public void onDisconnect(SessionDisconnectEvent event) {
+		if (CloseStatus.SESSION_NOT_RELIABLE.equals(event.getCloseStatus())) {
+			evicted.increment();
+			log.warn("[STOMP] 느린 소비자 세션 종료: {} (user: {})", event.getSessionId(),
+				event.getUser() == null ? null : event.getUser().getName());
+		}
+	}
+}
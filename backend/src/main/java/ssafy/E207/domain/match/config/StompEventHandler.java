@@ -12,11 +12,14 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import ssafy.E207.domain.match.service.LobbyFeed;
+import ssafy.E207.domain.match.service.LobbyService;
 import ssafy.E207.domain.match.service.MatchmakingService;
-import ssafy.E207.domain.match.service.RoomService;
+import ssafy.E207.domain.match.service.RoomReconnectService;
 import ssafy.E207.global.jwt.UserPrincipal;
 
 // 로그용
@@ -28,7 +31,8 @@ public class StompEventHandler {
 	private final Map<UUID, String> userActiveSessions = new ConcurrentHashMap<>();
 
 	private final Set<String> sessions = ConcurrentHashMap.newKeySet();
-	private final RoomService roomService;
+	private final RoomReconnectService roomReconnectService;
+	private final LobbyService lobbyService;
 	private final MatchmakingService matchmakingService;
 
 	@EventListener
@@ -51,6 +55,27 @@ public class StompEventHandler {
 		log.info("connect session ID: {}", sessionId);
 	}
 
+	// 로비 구독 → 현재 방 목록 스냅샷 전송
+	// 방 재구독 → 연결이 끊겼던 참가자면 복귀 처리
+	@EventListener
+	public void subscribeHandle(SessionSubscribeEvent event) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		String destination = accessor.getDestination();
+		Principal principal = accessor.getUser();
+		if (principal == null || destination == null) {
+			return;
+		}
+
+		Authentication auth = (Authentication) principal;
+		UserPrincipal userPrincipal = (UserPrincipal) auth.getPrincipal();
+		if (LobbyFeed.TOPIC.equals(destination)) {
+			lobbyService.sendFeedSnapshot(userPrincipal.getUserId());
+		} else if (destination.matches("/topic/\\d+")) {
+			Long roomId = Long.parseLong(destination.substring("/topic/".length()));
+			roomReconnectService.handleResubscribe(roomId, userPrincipal.getUserId());
+		}
+	}
+
 	@EventListener
 	public void disconnectHandle(SessionDisconnectEvent event) {
 		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
@@ -85,8 +110,9 @@ public class StompEventHandler {
 			Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
 			if (sessionAttributes != null && sessionAttributes.containsKey("SUBSCRIBED_ROOM_ID")) {
 				String roomId = (String) sessionAttributes.get("SUBSCRIBED_ROOM_ID");
-				log.info("방 퇴장 처리 - 유저: {}, 방: {}", userId, roomId);
-				roomService.handleUserExit(Long.parseLong(roomId), userId);
+				// 바로 퇴장시키지 않고 유예 (유예 시간 안에 다시 구독하면 복귀)
+				log.info("방 연결 끊김 처리 - 유저: {}, 방: {}", userId, roomId);
+				roomReconnectService.handleDisconnect(Long.parseLong(roomId), userId);
 			}
 		}
 
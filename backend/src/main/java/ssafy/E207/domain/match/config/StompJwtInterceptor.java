@@ -58,8 +58,8 @@ public class StompJwtInterceptor implements ChannelInterceptor {
 		if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
 			String destination = accessor.getDestination();
 
-			// 방 구독시
-			if (destination != null && destination.startsWith("/topic/")) {
+			// 방 구독시 (/topic/lobby 등 방 번호가 아닌 토픽은 제외)
+			if (destination != null && destination.matches("/topic/\\d+")) {
 				String roomId = destination.replace("/topic/", "");
 
 				// 세션 속성에 roomId 저장
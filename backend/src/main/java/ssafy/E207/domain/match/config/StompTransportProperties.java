@@ -0,0 +1,57 @@
+package ssafy.E207.domain.match.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * STOMP 전송 설정 (stomp.transport.*)
+ *
+ * 세션 송신 제한
+ * - 한 세션으로 보내기가 send-time-limit-millis 넘게 막히거나,
+ *   보내지 못하고 쌓인 양이 send-buffer-size-limit(bytes)을 넘으면 느린 소비자로 보고 세션을 끊음
+ *   → 방 브로드캐스트가 한 명 때문에 밀리지 않음, 끊긴 유저는 재접속 유예 시간 안에 다시 붙으면 됨
+ * - message-size-limit: 클라이언트가 보내는 STOMP 프레임 최대 크기
+ *
+ * 채널 실행기 (inbound: 클라이언트 → 서버, outbound: 서버 → 세션)
+ * - 기본값은 스프링 기본과 같음 (코어 = CPU * 2, 큐 무제한)
+ * - virtual-threads: 가상 스레드로 실행, 이때 core-pool-size를 크게(예: 256) 잡아서
+ *   송신이 막힌 세션이 스레드를 잡고 있어도 다른 세션 전송이 밀리지 않게 함
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "stomp.transport")
+public class StompTransportProperties {
+	private int sendTimeLimitMillis = 5_000;
+	private int sendBufferSizeLimit = 128 * 1024;
+	private int messageSizeLimit = 64 * 1024;
+	// 연결 후 CONNECT 프레임이 올 때까지 기다리는 시간
+	private int timeToFirstMessageMillis = 60_000;
+	private Channel inbound = new Channel();
+	private Channel outbound = new Channel();
+
+	@Getter
+	@Setter
+	public static class Channel {
+		private boolean virtualThreads;
+		private int corePoolSize = Runtime.getRuntime().availableProcessors() * 2;
+		private int maxPoolSize = Integer.MAX_VALUE;
+		private int queueCapacity = Integer.MAX_VALUE;
+		private int keepAliveSeconds = 60;
+
+		// 초기화(afterPropertiesSet)는 빈으로 등록될 때 스프링이 함
+		public ThreadPoolTaskExecutor createExecutor(String threadNamePrefix) {
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setThreadNamePrefix(threadNamePrefix);
+			executor.setVirtualThreads(virtualThreads);
+			executor.setCorePoolSize(corePoolSize);
+			executor.setMaxPoolSize(maxPoolSize);
+			executor.setQueueCapacity(queueCapacity);
+			executor.setKeepAliveSeconds(keepAliveSeconds);
+			executor.setAllowCoreThreadTimeOut(true);
+			return executor;
+		}
+	}
+}
@@ -1,19 +1,69 @@
 package ssafy.E207.domain.match.config;
 
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ssafy.E207.domain.match.codec.CompactPayloadNegotiator;
+import ssafy.E207.domain.match.codec.CompactStompMessageConverter;
 
+/**
+ * STOMP 설정
+ *
+ * 브로커 모드 (stomp.relay.mode)
+ * - local (기본): 서버 내장 simple broker, 단일 서버용
+ * - redis: simple broker + Redis Pub/Sub 팬아웃({@link RedisStompRelay}) → 다른 서버에서 발행한 메시지도 수신
+ * - broker: 외부 STOMP 브로커(RabbitMQ STOMP 플러그인 등)로 릴레이
+ *   stomp.relay.host / port / login / passcode / virtual-host
+ *
+ * 게임 이벤트 압축 코덱은 CONNECT 헤더로 세션별 협상 ({@link CompactPayloadNegotiator})
+ *
+ * 엔드포인트
+ * - /connect: SockJS (브라우저 폴백용)
+ * - /ws: 순수 웹소켓 (SockJS 핸드셰이크/프레이밍 없음, 바이너리 프레임 가능)
+ * 송신 제한/채널 실행기는 {@link StompTransportProperties}
+ */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
 	private final StompJwtInterceptor stompJwtInterceptor;
+	private final ObjectProvider<RedisStompRelay> redisStompRelay;
+	private final CompactPayloadNegotiator compactPayloadNegotiator;
+	private final ObjectMapper objectMapper;
+	private final StompTransportProperties transportProperties;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${stomp.relay.mode:local}")
+	private String relayMode;
+	@Value("${stomp.relay.host:localhost}")
+	private String relayHost;
+	@Value("${stomp.relay.port:61613}")
+	private int relayPort;
+	@Value("${stomp.relay.login:guest}")
+	private String relayLogin;
+	@Value("${stomp.relay.passcode:guest}")
+	private String relayPasscode;
+	@Value("${stomp.relay.virtual-host:}")
+	private String relayVirtualHost;
 
 	// 웹소켓 통신을 맺을 경로를 지정
 	// 클라이언트측에서 이 경로로 소켓을 받아오게 됨
@@ -21,8 +71,23 @@ public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
 	public void registerStompEndpoints(StompEndpointRegistry registry) {
 		registry.addEndpoint("/connect")
 			.setAllowedOriginPatterns("*") // 개발 편의성을 위해 와일드카드 패턴 허용 (보안 요건에 따라 구체적 명시 필요)
+			// SockJS 세션은 텍스트 프레임만 가능 → 압축 코덱 협상에서 제외
+			.addInterceptors(compactPayloadNegotiator)
 			// ws:// 말고 http:// 엔드포인트를 사용할 수 있게 해 주는 sockjs 라이브러리를 통한 요청을 허용.
 			.withSockJS();
+
+		// SockJS 없이 바로 붙는 엔드포인트 (Electron/네이티브 클라이언트)
+		registry.addEndpoint("/ws")
+			.setAllowedOriginPatterns("*");
+	}
+
+	// 느린 세션이 방 브로드캐스트를 붙잡지 않도록 세션별 송신 시간/버퍼 제한
+	@Override
+	public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+		registration.setSendTimeLimit(transportProperties.getSendTimeLimitMillis())
+			.setSendBufferSizeLimit(transportProperties.getSendBufferSizeLimit())
+			.setMessageSizeLimit(transportProperties.getMessageSizeLimit())
+			.setTimeToFirstMessage(transportProperties.getTimeToFirstMessageMillis());
 	}
 
 	// 메세지 발행(publish)/수신(subscribe) 경로 설정
@@ -34,7 +99,26 @@ public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 		// 클라이언트가 서버에게서 받을 메세지 경로
 		// /topic/**, /user/queue/**
-		registry.enableSimpleBroker("/topic", "/queue");
+		if ("broker".equals(relayMode)) {
+			StompBrokerRelayRegistration relay = registry.enableStompBrokerRelay("/topic", "/queue")
+				.setRelayHost(relayHost)
+				.setRelayPort(relayPort)
+				.setClientLogin(relayLogin)
+				.setClientPasscode(relayPasscode)
+				.setSystemLogin(relayLogin)
+				.setSystemPasscode(relayPasscode)
+				// 다른 서버에 붙은 유저에게 보내는 /user/** 메시지, 유저 세션 정보를 서버끼리 공유
+				.setUserDestinationBroadcast("/topic/unresolved-user")
+				.setUserRegistryBroadcast("/topic/user-registry");
+			if (!relayVirtualHost.isBlank()) {
+				relay.setVirtualHost(relayVirtualHost);
+			}
+			log.info("[STOMP] 외부 브로커 릴레이 사용: {}:{}", relayHost, relayPort);
+		} else {
+			registry.enableSimpleBroker("/topic", "/queue");
+			// 서버 간 팬아웃 (redis 모드일 때만 빈이 있음)
+			redisStompRelay.ifAvailable(relay -> registry.configureBrokerChannel().interceptors(relay));
+		}
 
 		// 서버가 클라이언트에게 1:1로 보낼 경로 prefix 자동추가
 		registry.setUserDestinationPrefix("/user");
@@ -45,8 +129,36 @@ public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
 	// 대신 interceptor가 웹소켓 요청에 들어 있는 jwt 토큰을 검증한다.
 	@Override
 	public void configureClientInboundChannel(ChannelRegistration registration) {
-		registration.interceptors(stompJwtInterceptor);
+		registration.interceptors(stompJwtInterceptor, compactPayloadNegotiator);
+		registration.taskExecutor(channelExecutor("inbound", transportProperties.getInbound()));
 	}
 
+	// 압축 코덱 세션에는 압축본으로 교체해서 내보냄
+	@Override
+	public void configureClientOutboundChannel(ChannelRegistration registration) {
+		registration.interceptors(compactPayloadNegotiator);
+		registration.taskExecutor(channelExecutor("outbound", transportProperties.getOutbound()));
+	}
+
+	// StompResponse 전용 변환기를 앞에 두고, 나머지는 스프링 기본 변환기 사용
+	@Override
+	public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+		messageConverters.add(new CompactStompMessageConverter(objectMapper, compactPayloadNegotiator));
+		return true;
+	}
 
+	private ThreadPoolTaskExecutor channelExecutor(String channel, StompTransportProperties.Channel properties) {
+		ThreadPoolTaskExecutor executor = properties.createExecutor("stomp-" + channel + "-");
+		Gauge.builder("stomp.channel.queue", executor, ThreadPoolTaskExecutor::getQueueSize)
+			.description("채널 실행기에서 처리를 기다리는 메시지 수")
+			.tag("channel", channel)
+			.register(meterRegistry);
+		Gauge.builder("stomp.channel.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+			.description("채널 실행기에서 처리 중인 메시지 수")
+			.tag("channel", channel)
+			.register(meterRegistry);
+		log.info("[STOMP] {} 채널 실행기: core {}, queue {}, virtual {}", channel, properties.getCorePoolSize(),
+			properties.getQueueCapacity(), properties.isVirtualThreads());
+		return executor;
+	}
 }
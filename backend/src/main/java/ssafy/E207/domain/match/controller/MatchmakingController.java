@@ -13,8 +13,6 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import io.openvidu.java.client.OpenViduHttpException;
-import io.openvidu.java.client.OpenViduJavaClientException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import ssafy.E207.domain.match.service.MatchmakingService;
@@ -28,12 +26,11 @@ public class MatchmakingController {
 	private final MatchmakingService matchmakingService;
 
 	// 매칭을 시작하고, 클라이언트에게 매칭 시작되었다는 메세지 보냄
+	// 대기열 진입만 하고 바로 응답, 매칭 결과는 /user/queue/match로 전달
 	// /matchmaking/start
 	@PostMapping("/start")
 	public ResTemplate<Void> startMatchmaking(@AuthenticationPrincipal UserPrincipal principal, HttpServletRequest request
-	) throws
-		OpenViduJavaClientException,
-		OpenViduHttpException {
+	) {
 		System.out.println("started matchmaking: " + principal);
 
 		matchmakingService.addToQueue(principal.getUserId(), request);
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.openvidu.java.client.OpenViduHttpException;
@@ -24,10 +25,14 @@ import lombok.RequiredArgsConstructor;
 import ssafy.E207.domain.auth.entity.User;
 import ssafy.E207.domain.match.dto.request.RoomCreateRequest;
 import ssafy.E207.domain.match.dto.request.RoomJoinByCodeRequest;
+import ssafy.E207.domain.match.dto.response.LobbyPageResponse;
 import ssafy.E207.domain.match.dto.response.RoomCreateResponse;
 import ssafy.E207.domain.match.dto.request.RoomJoinRequest;
 import ssafy.E207.domain.match.dto.response.RoomJoinResponse;
 import ssafy.E207.domain.match.dto.response.RoomListResponse;
+import ssafy.E207.domain.match.game.RoomMailboxDispatcher;
+import ssafy.E207.domain.match.service.LobbyService;
+import ssafy.E207.domain.match.service.OpenViduWebhookPipeline;
 import ssafy.E207.domain.match.service.RoomService;
 import ssafy.E207.global.common.template.ResTemplate;
 import ssafy.E207.global.jwt.UserPrincipal;
@@ -36,13 +41,15 @@ import ssafy.E207.global.jwt.UserPrincipal;
 @RequiredArgsConstructor
 public class RoomController {
 	private final RoomService roomService;
+	private final LobbyService lobbyService;
+	private final OpenViduWebhookPipeline webhookPipeline;
+	private final RoomMailboxDispatcher mailboxDispatcher;
 
 	// openVidu 웹훅
-	// 세션(방) 종료, 참가자 퇴장 처리
+	// 세션(방) 종료, 참가자 퇴장 처리 (버퍼에 넣고 바로 응답, 처리는 OpenViduWebhookPipeline)
 	@PostMapping("/api/webhook")
 	public ResponseEntity<String> handleWebhook(@RequestBody JSONObject json) {
-		System.out.println("Webhook Received: " + json.toJSONString());
-		roomService.handleWebhook(json);
+		webhookPipeline.accept(json);
 		return new ResponseEntity<>(HttpStatus.OK);
 	}
 
@@ -54,6 +61,15 @@ public class RoomController {
 		return ResTemplate.success(HttpStatus.OK, "방 목록 조회 성공", roomList);
 	}
 
+	// 로비 방 목록 (커서 방식, 첫 페이지는 cursor 없이)
+	@GetMapping("/room/lobby")
+	public ResTemplate<LobbyPageResponse> getLobby(
+		@RequestParam(value = "cursor", required = false) String cursor,
+		@RequestParam(value = "size", defaultValue = "9") int size) {
+		LobbyPageResponse lobby = lobbyService.getLobby(cursor, size);
+		return ResTemplate.success(HttpStatus.OK, "방 목록 조회 성공", lobby);
+	}
+
 	// 방 개설
 	@PostMapping("/room/create")
 	public ResTemplate<RoomCreateResponse> createRoom(@AuthenticationPrincipal UserPrincipal principal,
@@ -94,11 +110,14 @@ public class RoomController {
 		return ResTemplate.success(HttpStatus.OK, "방 코드 조회 성공", Map.of("roomCode", roomCode));
 	}
 
-	// 명시적으로 참가자 퇴장 처리
+	// 명시적으로 참가자 퇴장 처리 (방 메일박스에서 실행, 같은 방의 게임 이벤트와 섞이지 않게)
 	@PostMapping("/room/{roomId}/exit")
 	public ResTemplate<?> handleExit(@AuthenticationPrincipal UserPrincipal principal, @PathVariable Long roomId) {
 		System.out.println("detected participant exit:"+principal);
-		roomService.handleUserExit(roomId, principal.getUserId());
+		mailboxDispatcher.call(roomId, () -> {
+			roomService.handleUserExit(roomId, principal.getUserId());
+			return null;
+		}).join();
 		return ResTemplate.success(HttpStatus.OK, "방 퇴장 성공", null);
 	}
 }
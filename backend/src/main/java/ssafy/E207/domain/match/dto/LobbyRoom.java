@@ -0,0 +1,25 @@
+package ssafy.E207.domain.match.dto;
+
+import java.time.LocalDateTime;
+
+import ssafy.E207.domain.match.dto.response.RoomListResponse;
+import ssafy.E207.global.common.enums.RoomStatus;
+
+/**
+ * 로비 목록 조회용 프로젝션 (방 + 방장 닉네임 + 참가자 수를 쿼리 한 번으로)
+ */
+public record LobbyRoom(Long id, String name, String hostNickname, RoomStatus status, boolean isPrivate,
+						long participantCount, LocalDateTime createdAt) {
+
+	public RoomListResponse toResponse() {
+		return RoomListResponse.builder()
+			.id(id)
+			.name(name)
+			.hostNickname(hostNickname)
+			.status(status)
+			.isPrivate(isPrivate)
+			.participantCount((int)participantCount)
+			.createdTime(createdAt.toString())
+			.build();
+	}
+}
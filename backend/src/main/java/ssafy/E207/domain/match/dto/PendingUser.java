@@ -2,5 +2,8 @@ package ssafy.E207.domain.match.dto;
 
 import java.util.UUID;
 
-public record PendingUser(UUID userId, boolean isElectron) {
+// rating: 대기열 진입 시점의 Elo 레이팅
+// enqueuedAt: 대기열 진입 시각(System.nanoTime), 매칭 범위 확장/소요시간 측정용
+// nodeId: 대기열에 넣은 서버 ID (유저의 STOMP 세션이 붙어 있는 서버, 매칭 알림 라우팅용)
+public record PendingUser(UUID userId, boolean isElectron, int rating, long enqueuedAt, String nodeId) {
 }
@@ -0,0 +1,11 @@
+package ssafy.E207.domain.match.dto;
+
+import java.time.LocalDateTime;
+
+import ssafy.E207.global.common.enums.RoomStatus;
+
+/**
+ * 방 정리 후보 조회용 프로젝션 (RoomReaper, 엔티티 로딩 없이 판단에 필요한 값만)
+ */
+public record ReapCandidate(Long id, String sessionId, RoomStatus status, LocalDateTime updatedAt) {
+}
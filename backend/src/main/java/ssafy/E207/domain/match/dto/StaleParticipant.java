@@ -0,0 +1,7 @@
+package ssafy.E207.domain.match.dto;
+
+/**
+ * 유예 시간이 한참 지나도 남아 있는 끊긴 참가자 (RoomReaper)
+ */
+public record StaleParticipant(Long id, Long roomId) {
+}
@@ -0,0 +1,17 @@
+package ssafy.E207.domain.match.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ssafy.E207.global.common.enums.LobbyEventType;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LobbyEventResponse {
+	private LobbyEventType type;
+	private Long roomId;
+	private RoomListResponse room; // 변경 후 방 정보 (ROOM_REMOVED면 null)
+}
@@ -0,0 +1,23 @@
+package ssafy.E207.domain.match.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * /topic/lobby 배치 (events) 또는 구독 시 스냅샷 (rooms)
+ * 클라이언트는 스냅샷의 seq 이하 배치는 버리고, 그 뒤 배치만 순서대로 적용
+ * (스냅샷에 이미 들어 있는 변경이 다시 올 수 있으므로 방 ID 기준으로 덮어쓰기)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LobbyFeedResponse {
+	private long seq;
+	private List<LobbyEventResponse> events;
+	private List<RoomListResponse> rooms;
+}
@@ -0,0 +1,18 @@
+package ssafy.E207.domain.match.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LobbyPageResponse {
+	private List<RoomListResponse> rooms;
+	private String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+	private boolean hasNext;
+}
@@ -14,10 +14,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,6 +30,8 @@ import ssafy.E207.global.common.enums.RoomStatus;
 import ssafy.E207.global.common.enums.RoomType;
 
 @Entity
+// 로비 목록 키셋 조회 (roomType 조건 + createdAt, id 역순)
+@Table(indexes = @Index(name = "idx_room_type_created_at_id", columnList = "room_type, created_at, id"))
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -45,6 +49,10 @@ public class Room extends BaseEntity {
 	@Column(unique = true, nullable = false)
 	private String roomCode;
 
+	// OpenVidu 세션 ID (미리 만들어 둔 세션을 쓰므로 방 ID와 다름, 웹훅에서 방 조회용)
+	@Column(unique = true)
+	private String sessionId;
+
 	// 방장 아이디
 	@Column
 	private UUID hostId;
@@ -100,6 +108,12 @@ public class Room extends BaseEntity {
 		this.roundCount++;
 	}
 
+	// 게임 종료 시 메모리의 진행 상태 반영
+	public void updateProgress(int turnCount, int roundCount) {
+		this.turnCount = turnCount;
+		this.roundCount = roundCount;
+	}
+
 	private LocalDateTime turnStartedAt;
 	public void updateTurnStartedAt(LocalDateTime time) {
 		this.turnStartedAt = time;
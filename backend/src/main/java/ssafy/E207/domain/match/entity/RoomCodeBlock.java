@@ -0,0 +1,28 @@
+package ssafy.E207.domain.match.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 방 코드 블록 예약 카운터 (id = 1 한 행)
+ *
+ * - RoomCodeAllocator 가 서버마다 next_block 을 1씩 올려 카운터 구간(블록)을 통째로 가져감
+ * - 블록 안의 카운터는 서버 메모리에서만 증가하므로 방 생성마다 DB를 조회하지 않음
+ */
+@Entity
+@Table(name = "room_code_block")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RoomCodeBlock {
+	@Id
+	private Long id;
+
+	// 다음에 예약될 블록 번호
+	@Column(name = "next_block", nullable = false)
+	private long nextBlock;
+}
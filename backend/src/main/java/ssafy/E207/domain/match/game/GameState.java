@@ -0,0 +1,198 @@
+package ssafy.E207.domain.match.game;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.Getter;
+import lombok.Setter;
+import ssafy.E207.domain.match.entity.Room;
+import ssafy.E207.domain.match.entity.RoomParticipant;
+import ssafy.E207.global.common.enums.ParticipantRole;
+import ssafy.E207.global.common.enums.RoomStatus;
+import ssafy.E207.global.common.enums.RoomType;
+
+/**
+ * 방 하나의 게임 진행 상태 (메모리)
+ *
+ * - 공격자/턴/라운드/승수/상태를 들고 있고, 게임 이벤트는 DB 대신 여기서 처리
+ * - 같은 방의 이벤트는 방 메일박스에서 한 번에 하나씩만 처리 → lock 없이 single writer ({@link RoomMailboxDispatcher})
+ * - DB 반영은 게임 시작/종료 시점에만 ({@link GameStateStore})
+ */
+@Getter
+public class GameState {
+	private final Long roomId;
+	private final RoomType roomType;
+	// 방 참가 순서 (RoomParticipant id 오름차순)
+	private final List<Player> players;
+
+	private RoomStatus status;
+	// 현재 공격자 (players 인덱스, 없으면 -1)
+	private int attackerIndex;
+	private int turn;
+	private int round;
+	private LocalDateTime turnStartedAt;
+	// 턴이 바뀔 때마다 증가 (이전 턴에 걸어 둔 타이머가 늦게 도착하면 무시)
+	private long turnSeq;
+
+	private GameState(Long roomId, RoomType roomType, List<Player> players, RoomStatus status, int attackerIndex,
+		int turn, int round, LocalDateTime turnStartedAt) {
+		this.roomId = roomId;
+		this.roomType = roomType;
+		this.players = players;
+		this.status = status;
+		this.attackerIndex = attackerIndex;
+		this.turn = turn;
+		this.round = round;
+		this.turnStartedAt = turnStartedAt;
+	}
+
+	// 트랜잭션 안에서 호출 (참가자/유저 지연 로딩)
+	public static GameState from(Room room) {
+		List<Player> players = room.getRoomParticipants().stream()
+			.map(Player::from)
+			.toList();
+		int attackerIndex = -1;
+		if (room.getCurrentAttacker() != null) {
+			UUID attackerId = room.getCurrentAttacker().getId();
+			for (int i = 0; i < players.size(); i++) {
+				if (players.get(i).getUserId().equals(attackerId)) {
+					attackerIndex = i;
+					break;
+				}
+			}
+		}
+		return new GameState(room.getId(), room.getRoomType(), players, room.getStatus(), attackerIndex,
+			room.getTurnCount(), room.getRoundCount(), room.getTurnStartedAt());
+	}
+
+	public boolean isStatus(RoomStatus roomStatus) {
+		return roomStatus.equals(this.status);
+	}
+
+	public Player find(UUID userId) {
+		return players.stream()
+			.filter(p -> p.getUserId().equals(userId))
+			.findFirst()
+			.orElse(null);
+	}
+
+	public Player attacker() {
+		return attackerIndex < 0 ? null : players.get(attackerIndex);
+	}
+
+	public boolean allReady() {
+		return players.stream().allMatch(Player::isReady);
+	}
+
+	public void start(int firstAttackerIndex, LocalDateTime now) {
+		this.attackerIndex = firstAttackerIndex;
+		this.status = RoomStatus.PLAYING;
+		this.turnStartedAt = now;
+		this.turnSeq++;
+	}
+
+	// 공수교대
+	public Player swapAttacker(LocalDateTime now) {
+		this.attackerIndex = (attackerIndex + 1) % players.size();
+		this.turnStartedAt = now;
+		this.turnSeq++;
+		return attacker();
+	}
+
+	public void nextTurn() {
+		this.turn++;
+	}
+
+	public void nextRound() {
+		this.round++;
+		this.turn = 1;
+	}
+
+	// 진행 중 연결이 끊기면 일시정지 (턴 관련 요청은 PLAYING에서만 받으므로 자동으로 막힘)
+	public void pause() {
+		this.status = RoomStatus.PAUSED;
+		this.turnSeq++;
+	}
+
+	// 모두 다시 연결되면 현재 턴을 처음부터 다시 진행
+	public void resume(LocalDateTime now) {
+		this.status = RoomStatus.PLAYING;
+		this.turnStartedAt = now;
+		this.turnSeq++;
+	}
+
+	public List<Player> disconnectedPlayers() {
+		return players.stream()
+			.filter(p -> !p.isConnected())
+			.toList();
+	}
+
+	public void terminate() {
+		this.status = RoomStatus.TERMINATED;
+		this.turnSeq++;
+	}
+
+	public Map<UUID, Integer> scores() {
+		Player p1 = players.get(0);
+		Player p2 = players.get(1);
+		return Map.of(p1.getUserId(), p1.getWinCount(), p2.getUserId(), p2.getWinCount());
+	}
+
+	// 승수가 같으면 null
+	public UUID winnerId() {
+		Player p1 = players.get(0);
+		Player p2 = players.get(1);
+		if (p1.getWinCount() > p2.getWinCount()) {
+			return p1.getUserId();
+		} else if (p2.getWinCount() > p1.getWinCount()) {
+			return p2.getUserId();
+		}
+		return null;
+	}
+
+	@Getter
+	public static class Player {
+		private final UUID userId;
+		private final String nickname;
+		private final ParticipantRole role;
+		@Setter
+		private boolean ready;
+		private int winCount;
+		// 연결이 끊긴 시각 (연결 중이면 null)
+		private LocalDateTime disconnectedAt;
+
+		private Player(UUID userId, String nickname, ParticipantRole role, boolean ready, int winCount,
+			LocalDateTime disconnectedAt) {
+			this.userId = userId;
+			this.nickname = nickname;
+			this.role = role;
+			this.ready = ready;
+			this.winCount = winCount;
+			this.disconnectedAt = disconnectedAt;
+		}
+
+		static Player from(RoomParticipant participant) {
+			LocalDateTime disconnectedAt = participant.isConnected() ? null : participant.getLastDisconnectedAt();
+			return new Player(participant.getUser().getId(), participant.getUser().getNickname(),
+				participant.getRole(), participant.isReady(), participant.getWinCount(), disconnectedAt);
+		}
+
+		public boolean isConnected() {
+			return disconnectedAt == null;
+		}
+
+		public void disconnect(LocalDateTime now) {
+			this.disconnectedAt = now;
+		}
+
+		public void reconnect() {
+			this.disconnectedAt = null;
+		}
+
+		public void addWin() {
+			this.winCount++;
+		}
+	}
+}
@@ -0,0 +1,178 @@
+package ssafy.E207.domain.match.game;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+import ssafy.E207.domain.match.entity.Room;
+import ssafy.E207.domain.match.entity.RoomParticipant;
+import ssafy.E207.domain.match.repository.RoomParticipantRepository;
+import ssafy.E207.domain.match.repository.RoomRepository;
+import ssafy.E207.domain.match.service.LobbyService;
+import ssafy.E207.domain.user.repository.UserRepository;
+import ssafy.E207.domain.user.service.UserBattleService;
+import ssafy.E207.global.common.enums.RoomStatus;
+
+/**
+ * 방별 게임 상태 저장소
+ *
+ * - 처음 접근할 때 DB에서 한 번 읽어 메모리에 올림 (재시작 후에도 DB 기준으로 복구)
+ * - 참가자 구성이 바뀌면(입장/퇴장/방 삭제) invalidate → 다음 접근 때 다시 읽음
+ * - DB 반영: 준비 상태(UPDATE 1회), 연결 끊김/복귀, 게임 시작, 게임 종료(전적은 outbox에 추가만, BattleResultWriter가 반영)
+ * - 방 상태가 바뀌면 로비 스냅샷도 invalidate
+ */
+@Slf4j
+@Component
+public class GameStateStore {
+	// 로딩 중인 방도 같은 future를 기다림 (DB 조회를 맵 잠금 밖에서 하기 위해 값 대신 future를 둠)
+	private final Map<Long, CompletableFuture<GameState>> states = new ConcurrentHashMap<>();
+	private final RoomRepository roomRepository;
+	private final RoomParticipantRepository roomParticipantRepository;
+	private final UserRepository userRepository;
+	private final UserBattleService userBattleService;
+	private final LobbyService lobbyService;
+	private final TransactionTemplate transactionTemplate;
+	private final TransactionTemplate readOnlyTransactionTemplate;
+
+	public GameStateStore(RoomRepository roomRepository, RoomParticipantRepository roomParticipantRepository,
+		UserRepository userRepository, UserBattleService userBattleService, LobbyService lobbyService,
+		PlatformTransactionManager transactionManager) {
+		this.roomRepository = roomRepository;
+		this.roomParticipantRepository = roomParticipantRepository;
+		this.userRepository = userRepository;
+		this.userBattleService = userBattleService;
+		this.lobbyService = lobbyService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
+	}
+
+	/**
+	 * @return 방이 없으면 null
+	 */
+	public GameState get(Long roomId) {
+		CompletableFuture<GameState> future = states.get(roomId);
+		if (future == null) {
+			CompletableFuture<GameState> loading = new CompletableFuture<>();
+			future = states.putIfAbsent(roomId, loading);
+			if (future == null) {
+				future = loading;
+				complete(roomId, loading);
+			}
+		}
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	public void invalidate(Long roomId) {
+		states.remove(roomId);
+		// 트랜잭션 안에서 호출되면 커밋 후 한 번 더 (커밋 전에 다시 읽힌 이전 상태 제거)
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					states.remove(roomId);
+				}
+			});
+		}
+	}
+
+	public int size() {
+		return states.size();
+	}
+
+	public void persistReady(Long roomId, UUID userId, boolean isReady) {
+		transactionTemplate.executeWithoutResult(status ->
+			roomParticipantRepository.updateReady(roomId, userId, isReady));
+	}
+
+	// 연결 끊김/복귀 (UPDATE 1회 + 방 상태가 바뀌었으면 방도 반영)
+	public void persistConnection(GameState state, GameState.Player player, boolean statusChanged) {
+		transactionTemplate.executeWithoutResult(status -> {
+			if (player.isConnected()) {
+				roomParticipantRepository.updateReconnected(state.getRoomId(), player.getUserId());
+			} else {
+				roomParticipantRepository.updateDisconnected(state.getRoomId(), player.getUserId(),
+					player.getDisconnectedAt());
+			}
+			if (statusChanged) {
+				Room room = roomRepository.findById(state.getRoomId()).orElseThrow();
+				room.updateStatus(state.getStatus());
+				room.updateTurnStartedAt(state.getTurnStartedAt());
+			}
+		});
+		if (statusChanged) {
+			lobbyService.roomChanged(state.getRoomId());
+		}
+	}
+
+	public void persistBattleStart(GameState state) {
+		UUID attackerId = state.attacker().getUserId();
+		transactionTemplate.executeWithoutResult(status -> {
+			Room room = roomRepository.findById(state.getRoomId()).orElseThrow();
+			room.updateAttacker(userRepository.getReferenceById(attackerId));
+			room.updateStatus(RoomStatus.PLAYING);
+			room.updateTurnStartedAt(state.getTurnStartedAt());
+		});
+		lobbyService.roomChanged(state.getRoomId());
+	}
+
+	/**
+	 * 게임 종료 반영 (방 상태/진행도/승수 + 전적)
+	 * @param winnerId 무승부면 null
+	 */
+	public void persistBattleEnd(GameState state, UUID winnerId) {
+		transactionTemplate.executeWithoutResult(status -> {
+			Room room = roomRepository.findById(state.getRoomId()).orElseThrow();
+			room.updateStatus(RoomStatus.TERMINATED);
+			room.updateProgress(state.getTurn(), state.getRound());
+			for (RoomParticipant participant : room.getRoomParticipants()) {
+				GameState.Player player = state.find(participant.getUser().getId());
+				if (player != null) {
+					participant.setWinCount(player.getWinCount());
+				}
+			}
+
+			if (winnerId == null) {
+				userBattleService.recordDraw(room, state.getPlayers().get(0).getUserId());
+			} else {
+				userBattleService.recordBattleResult(room, winnerId);
+			}
+		});
+		lobbyService.roomChanged(state.getRoomId());
+	}
+
+	// 없는 방이거나 실패하면 맵에서 빼서 다음 접근 때 다시 읽음 (그 사이 invalidate됐으면 이미 빠져 있음)
+	private void complete(Long roomId, CompletableFuture<GameState> loading) {
+		try {
+			GameState state = load(roomId);
+			if (state == null) {
+				states.remove(roomId, loading);
+			}
+			loading.complete(state);
+		} catch (RuntimeException e) {
+			states.remove(roomId, loading);
+			loading.completeExceptionally(e);
+		}
+	}
+
+	private GameState load(Long roomId) {
+		return readOnlyTransactionTemplate.execute(status ->
+			roomRepository.findById(roomId).map(GameState::from).orElse(null));
+	}
+}
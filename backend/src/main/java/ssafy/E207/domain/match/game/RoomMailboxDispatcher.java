@@ -0,0 +1,137 @@
+package ssafy.E207.domain.match.game;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방별 메일박스 (액터 방식)
+ *
+ * - 방마다 이벤트 큐 하나 → 같은 방 이벤트는 들어온 순서대로 한 번에 하나씩 처리
+ * - 다른 방끼리는 가상 스레드에서 동시에 처리
+ * - 처리할 이벤트가 없는 방의 메일박스는 바로 제거 (방 개수만큼 메모리가 쌓이지 않음)
+ *
+ * pending(처리 안 된 이벤트 수)은 ConcurrentHashMap.compute 안에서만 바꿔서
+ * 메일박스 생성/제거와 실행 시작/종료가 원자적으로 맞물린다. (방마다 실행 중인 스레드는 최대 1개)
+ */
+@Slf4j
+@Component
+public class RoomMailboxDispatcher {
+	private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final AtomicInteger depth = new AtomicInteger();
+	private final Timer lagTimer;
+	private final Timer processingTimer;
+
+	public RoomMailboxDispatcher(MeterRegistry meterRegistry) {
+		this.lagTimer = Timer.builder("room.mailbox.lag")
+			.description("이벤트가 메일박스에 들어와서 처리 시작까지 기다린 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.processingTimer = Timer.builder("room.mailbox.processing")
+			.description("이벤트 하나 처리 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		Gauge.builder("room.mailbox.depth", depth, AtomicInteger::get)
+			.description("처리 대기 중인 이벤트 수 (전체 방)")
+			.register(meterRegistry);
+		Gauge.builder("room.mailbox.active", mailboxes, Map::size)
+			.description("처리할 이벤트가 남아 있는 방 수")
+			.register(meterRegistry);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	public void submit(Long roomId, Runnable task) {
+		Envelope envelope = new Envelope(task, System.nanoTime());
+		boolean[] idle = new boolean[1];
+		Mailbox mailbox = mailboxes.compute(roomId, (id, current) -> {
+			Mailbox target = current == null ? new Mailbox(id) : current;
+			target.queue.offer(envelope);
+			idle[0] = target.pending++ == 0;
+			return target;
+		});
+		depth.incrementAndGet();
+		// 쉬고 있던 메일박스만 실행 시작 (이미 실행 중이면 그 스레드가 이어서 처리)
+		if (idle[0]) {
+			executor.execute(() -> drain(mailbox));
+		}
+	}
+
+	/**
+	 * 방 메일박스에서 task 를 실행하고 결과를 future 로 받음 (메일박스 밖의 스레드가 방 상태를 바꿀 때)
+	 *
+	 * - task 예외는 future 로 전달 (completeExceptionally)
+	 * - 메일박스 안에서 join 하지 말 것 (같은 방이면 자기 차례를 기다리며 멈춤)
+	 */
+	public <T> CompletableFuture<T> call(Long roomId, Supplier<T> task) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		submit(roomId, () -> {
+			try {
+				result.complete(task.get());
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			}
+		});
+		return result;
+	}
+
+	public int depth() {
+		return depth.get();
+	}
+
+	// 처리할 이벤트가 남아 있는 방 수
+	public int active() {
+		return mailboxes.size();
+	}
+
+	private void drain(Mailbox mailbox) {
+		Mailbox current = mailbox;
+		while (current != null) {
+			Envelope envelope = mailbox.queue.poll();
+			depth.decrementAndGet();
+			long startedAt = System.nanoTime();
+			lagTimer.record(startedAt - envelope.enqueuedAt(), TimeUnit.NANOSECONDS);
+			try {
+				envelope.task().run();
+			} catch (Throwable e) {
+				log.error("[Room {}] 이벤트 처리 중 오류: {}", mailbox.roomId, e.getMessage(), e);
+			}
+			processingTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+			// 남은 이벤트가 없으면 메일박스 제거 → null
+			current = mailboxes.compute(mailbox.roomId, (id, target) -> --target.pending == 0 ? null : target);
+		}
+	}
+
+	private static final class Mailbox {
+		private final Long roomId;
+		private final Queue<Envelope> queue = new ConcurrentLinkedQueue<>();
+		// compute 안에서만 읽고 씀
+		private int pending;
+
+		private Mailbox(Long roomId) {
+			this.roomId = roomId;
+		}
+	}
+
+	private record Envelope(Runnable task, long enqueuedAt) {
+	}
+}
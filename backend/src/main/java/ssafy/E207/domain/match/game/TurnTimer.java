@@ -0,0 +1,284 @@
+package ssafy.E207.domain.match.game;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방별 턴 제한 시간 타이머 (hashed wheel)
+ *
+ * - 스레드 1개가 tick 간격으로 바퀴를 돌면서 만료된 타이머 실행 → 게임마다 스레드/ScheduledFuture 없음
+ * - 방마다 종류({@link Slot})별로 타이머는 최대 1개 (다시 등록하면 이전 타이머는 취소) → 방당 메모리 일정
+ *   턴 타이머와 연결 끊김 유예 타이머는 서로 다른 자리라 한쪽을 등록/취소해도 다른 쪽은 그대로
+ * - 등록/취소는 큐에 넣기만 하고(O(1)) 버킷 반영은 타이머 스레드가 처리
+ * - 만료 콜백은 타이머 스레드에서 실행되므로 가볍게 (방 메일박스에 넘기는 정도)
+ *
+ * 설정
+ * - game.turn-limit-seconds: 턴 제한 시간 (기본 30)
+ * - game.turn-timer.tick-millis: 바퀴 한 칸 간격 (기본 100)
+ * - game.turn-timer.wheel-size: 바퀴 칸 수 (기본 512, 2의 거듭제곱으로 올림)
+ */
+@Slf4j
+@Component
+public class TurnTimer {
+	private static final int INIT = 0;
+	private static final int CANCELLED = 1;
+	private static final int EXPIRED = 2;
+	// 한 tick에 버킷으로 옮길 최대 등록 수 (등록이 몰려도 tick이 밀리지 않게)
+	private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+	@Getter
+	private final int turnLimitSeconds;
+	private final long tickNanos;
+	private final Bucket[] wheel;
+	private final int mask;
+
+	private final Map<Key, Timeout> timeouts = new ConcurrentHashMap<>();
+	private final Queue<Timeout> pendingAdds = new ConcurrentLinkedQueue<>();
+	private final Queue<Timeout> pendingCancels = new ConcurrentLinkedQueue<>();
+	private final Thread worker;
+	private final Counter expiredCounter;
+
+	private volatile boolean running = true;
+	private long startedAt;
+	// 타이머 스레드에서만 사용
+	private long tick;
+
+	public TurnTimer(MeterRegistry meterRegistry,
+		@Value("${game.turn-limit-seconds:30}") int turnLimitSeconds,
+		@Value("${game.turn-timer.tick-millis:100}") long tickMillis,
+		@Value("${game.turn-timer.wheel-size:512}") int wheelSize) {
+		this.turnLimitSeconds = turnLimitSeconds;
+		this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+		int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+		this.wheel = new Bucket[size];
+		for (int i = 0; i < size; i++) {
+			wheel[i] = new Bucket();
+		}
+		this.mask = size - 1;
+		this.worker = Thread.ofPlatform().name("turn-timer").daemon().unstarted(this::run);
+		this.expiredCounter = Counter.builder("game.turn_timer.expired")
+			.description("만료되어 실행된 타이머 수")
+			.register(meterRegistry);
+		Gauge.builder("game.turn_timer.pending", timeouts, Map::size)
+			.description("대기 중인 타이머 수 (방마다 종류별로 최대 1개)")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		this.startedAt = System.nanoTime();
+		worker.start();
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		worker.interrupt();
+	}
+
+	// 턴 제한 시간 뒤에 실행 (이 방에 걸려 있던 타이머는 취소)
+	public void scheduleTurn(Long roomId, Runnable onTimeout) {
+		schedule(roomId, TimeUnit.SECONDS.toMillis(turnLimitSeconds), onTimeout);
+	}
+
+	public void schedule(Long roomId, long delayMillis, Runnable task) {
+		schedule(roomId, Slot.TURN, delayMillis, task);
+	}
+
+	public void schedule(Long roomId, Slot slot, long delayMillis, Runnable task) {
+		long deadline = System.nanoTime() - startedAt + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+		Key key = new Key(roomId, slot);
+		Timeout timeout = new Timeout(key, deadline, task);
+		Timeout previous = timeouts.put(key, timeout);
+		if (previous != null && previous.cancel()) {
+			pendingCancels.offer(previous);
+		}
+		pendingAdds.offer(timeout);
+	}
+
+	public void cancel(Long roomId) {
+		cancel(roomId, Slot.TURN);
+	}
+
+	public void cancel(Long roomId, Slot slot) {
+		Timeout timeout = timeouts.remove(new Key(roomId, slot));
+		if (timeout != null && timeout.cancel()) {
+			pendingCancels.offer(timeout);
+		}
+	}
+
+	public int size() {
+		return timeouts.size();
+	}
+
+	private void run() {
+		while (running) {
+			long deadline = waitForNextTick();
+			if (deadline < 0) {
+				continue;
+			}
+			removeCancelled();
+			transferPending();
+			wheel[(int)(tick & mask)].expire(deadline);
+			tick++;
+		}
+	}
+
+	// 다음 tick 시각까지 대기 (인터럽트되면 -1)
+	private long waitForNextTick() {
+		long deadline = tickNanos * (tick + 1);
+		while (true) {
+			long current = System.nanoTime() - startedAt;
+			long sleepMillis = (deadline - current + 999_999) / 1_000_000;
+			if (sleepMillis <= 0) {
+				return current;
+			}
+			try {
+				Thread.sleep(sleepMillis);
+			} catch (InterruptedException e) {
+				if (!running) {
+					return -1;
+				}
+			}
+		}
+	}
+
+	private void removeCancelled() {
+		Timeout timeout;
+		while ((timeout = pendingCancels.poll()) != null) {
+			if (timeout.bucket != null) {
+				timeout.bucket.remove(timeout);
+			}
+		}
+	}
+
+	private void transferPending() {
+		for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+			Timeout timeout = pendingAdds.poll();
+			if (timeout == null) {
+				return;
+			}
+			if (timeout.state.get() == CANCELLED) {
+				continue;
+			}
+			long calculated = timeout.deadline / tickNanos;
+			timeout.remainingRounds = (calculated - tick) / wheel.length;
+			// 이미 지난 시각이면 이번 칸에 넣어서 바로 실행
+			long ticks = Math.max(calculated, tick);
+			wheel[(int)(ticks & mask)].add(timeout);
+		}
+	}
+
+	// 타이머 종류 (방마다 종류별로 하나씩)
+	public enum Slot {
+		TURN, GRACE
+	}
+
+	private record Key(Long roomId, Slot slot) {
+	}
+
+	private final class Timeout {
+		private final Key key;
+		private final long deadline;
+		private final Runnable task;
+		private final AtomicInteger state = new AtomicInteger(INIT);
+
+		// 아래는 타이머 스레드에서만 사용
+		private long remainingRounds;
+		private Bucket bucket;
+		private Timeout prev;
+		private Timeout next;
+
+		private Timeout(Key key, long deadline, Runnable task) {
+			this.key = key;
+			this.deadline = deadline;
+			this.task = task;
+		}
+
+		private boolean cancel() {
+			return state.compareAndSet(INIT, CANCELLED);
+		}
+
+		private void expire() {
+			if (!state.compareAndSet(INIT, EXPIRED)) {
+				return;
+			}
+			timeouts.remove(key, this);
+			expiredCounter.increment();
+			try {
+				task.run();
+			} catch (Throwable e) {
+				log.error("[TurnTimer] {}번 방 {} 타이머 실행 실패: {}", key.roomId(), key.slot(), e.getMessage(), e);
+			}
+		}
+	}
+
+	// 칸 하나 (이중 연결 리스트, 타이머 스레드에서만 사용)
+	private static final class Bucket {
+		private Timeout head;
+		private Timeout tail;
+
+		private void add(Timeout timeout) {
+			timeout.bucket = this;
+			if (head == null) {
+				head = tail = timeout;
+			} else {
+				tail.next = timeout;
+				timeout.prev = tail;
+				tail = timeout;
+			}
+		}
+
+		private void expire(long deadline) {
+			Timeout timeout = head;
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				if (timeout.remainingRounds <= 0) {
+					remove(timeout);
+					if (timeout.deadline <= deadline) {
+						timeout.expire();
+					}
+				} else if (timeout.state.get() == CANCELLED) {
+					remove(timeout);
+				} else {
+					timeout.remainingRounds--;
+				}
+				timeout = next;
+			}
+		}
+
+		private void remove(Timeout timeout) {
+			if (timeout.bucket != this) {
+				return;
+			}
+			if (timeout.prev != null) {
+				timeout.prev.next = timeout.next;
+			} else {
+				head = timeout.next;
+			}
+			if (timeout.next != null) {
+				timeout.next.prev = timeout.prev;
+			} else {
+				tail = timeout.prev;
+			}
+			timeout.prev = null;
+			timeout.next = null;
+			timeout.bucket = null;
+		}
+	}
+}
@@ -1,13 +1,20 @@
 package ssafy.E207.domain.match.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import ssafy.E207.domain.auth.entity.User;
+import ssafy.E207.domain.match.dto.StaleParticipant;
 import ssafy.E207.domain.match.entity.Room;
 import ssafy.E207.domain.match.entity.RoomParticipant;
 
@@ -22,4 +29,32 @@ public interface RoomParticipantRepository extends JpaRepository<RoomParticipant
 	Long countByRoomId(Long roomId);
 	void deleteByUserId(UUID userId);
 	List<RoomParticipant> findAllByUserId(UUID userId);
+
+	// 끊긴 지 오래된 참가자 (id 키셋)
+	@Query("SELECT new ssafy.E207.domain.match.dto.StaleParticipant(p.id, p.room.id) FROM RoomParticipant p "
+		+ "WHERE p.id > :afterId AND p.isConnected = false AND p.lastDisconnectedAt < :disconnectedBefore ORDER BY p.id")
+	List<StaleParticipant> findStale(@Param("afterId") Long afterId,
+		@Param("disconnectedBefore") LocalDateTime disconnectedBefore, Pageable pageable);
+
+	@Modifying
+	@Query("DELETE FROM RoomParticipant p WHERE p.id IN :ids")
+	int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Modifying
+	@Query("DELETE FROM RoomParticipant p WHERE p.room.id IN :roomIds")
+	int deleteAllByRoomIdIn(@Param("roomIds") Collection<Long> roomIds);
+
+	@Modifying
+	@Query("UPDATE RoomParticipant p SET p.isReady = :isReady WHERE p.room.id = :roomId AND p.user.id = :userId")
+	int updateReady(@Param("roomId") Long roomId, @Param("userId") UUID userId, @Param("isReady") boolean isReady);
+
+	@Modifying
+	@Query("UPDATE RoomParticipant p SET p.isConnected = false, p.lastDisconnectedAt = :disconnectedAt "
+		+ "WHERE p.room.id = :roomId AND p.user.id = :userId")
+	int updateDisconnected(@Param("roomId") Long roomId, @Param("userId") UUID userId,
+		@Param("disconnectedAt") LocalDateTime disconnectedAt);
+
+	@Modifying
+	@Query("UPDATE RoomParticipant p SET p.isConnected = true WHERE p.room.id = :roomId AND p.user.id = :userId")
+	int updateReconnected(@Param("roomId") Long roomId, @Param("userId") UUID userId);
 }
@@ -1,5 +1,6 @@
 package ssafy.E207.domain.match.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +13,8 @@ import org.springframework.stereotype.Repository;
 
 import io.lettuce.core.dynamic.annotation.Param;
 import jakarta.persistence.LockModeType;
+import ssafy.E207.domain.match.dto.LobbyRoom;
+import ssafy.E207.domain.match.dto.ReapCandidate;
 import ssafy.E207.domain.match.entity.Room;
 import ssafy.E207.global.common.enums.RoomType;
 
@@ -20,7 +23,36 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
 	Page<Room> findAll(Pageable pageable);
 	Page<Room> findByRoomType(RoomType roomType, Pageable pageable);
 	Optional<Room> findByRoomCode(String roomCode);
-	boolean existsByRoomCode(String roomCode);
+	List<Room> findAllBySessionIdIn(java.util.Collection<String> sessionIds);
+
+	// 로비 목록: 방장 닉네임, 참가자 수까지 한 번에 (최신순, createdAt/id 키셋)
+	String LOBBY_SELECT = "select new ssafy.E207.domain.match.dto.LobbyRoom(r.id, r.name, u.nickname, r.status, "
+		+ "case when r.password is not null and r.password <> '' then true else false end, "
+		+ "count(p.id), r.createdAt) "
+		+ "from Room r left join User u on u.id = r.hostId left join r.roomParticipants p "
+		+ "where r.roomType = :roomType ";
+	String LOBBY_GROUP_ORDER = "group by r.id, r.name, u.nickname, r.status, r.password, r.createdAt "
+		+ "order by r.createdAt desc, r.id desc";
+
+	@Query(LOBBY_SELECT + LOBBY_GROUP_ORDER)
+	List<LobbyRoom> findLobby(@org.springframework.data.repository.query.Param("roomType") RoomType roomType,
+		Pageable pageable);
+
+	@Query(LOBBY_SELECT + "and r.id in :ids " + LOBBY_GROUP_ORDER)
+	List<LobbyRoom> findLobbyByIds(@org.springframework.data.repository.query.Param("roomType") RoomType roomType,
+		@org.springframework.data.repository.query.Param("ids") java.util.Collection<Long> ids);
+
+	@Query(value = LOBBY_SELECT + LOBBY_GROUP_ORDER,
+		countQuery = "select count(r) from Room r where r.roomType = :roomType")
+	Page<LobbyRoom> findLobbyPage(@org.springframework.data.repository.query.Param("roomType") RoomType roomType,
+		Pageable pageable);
+
+	@Query(LOBBY_SELECT + "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.id < :id)) "
+		+ LOBBY_GROUP_ORDER)
+	List<LobbyRoom> findLobbyAfter(@org.springframework.data.repository.query.Param("roomType") RoomType roomType,
+		@org.springframework.data.repository.query.Param("createdAt") LocalDateTime createdAt,
+		@org.springframework.data.repository.query.Param("id") Long id,
+		Pageable pageable);
 
 	@org.springframework.data.jpa.repository.Modifying
 	@org.springframework.data.jpa.repository.Query("UPDATE Room r SET r.hostId = NULL WHERE r.hostId = :userId")
@@ -30,6 +62,18 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
 	@org.springframework.data.jpa.repository.Query("UPDATE Room r SET r.currentAttacker = NULL WHERE r.currentAttacker.id = :userId")
 	void nullifyCurrentAttackerId(@org.springframework.data.repository.query.Param("userId") java.util.UUID userId);
 
+	// 방 정리 후보 (id 키셋, PK 순서로 조금씩)
+	@Query("select new ssafy.E207.domain.match.dto.ReapCandidate(r.id, r.sessionId, r.status, r.updatedAt) "
+		+ "from Room r where r.id > :afterId and r.createdAt < :createdBefore order by r.id")
+	List<ReapCandidate> findReapCandidates(@org.springframework.data.repository.query.Param("afterId") Long afterId,
+		@org.springframework.data.repository.query.Param("createdBefore") LocalDateTime createdBefore,
+		Pageable pageable);
+
+	// 참가자를 먼저 지운 뒤 호출 (cascade 없이 한 번에 삭제)
+	@org.springframework.data.jpa.repository.Modifying
+	@Query("delete from Room r where r.id in :ids")
+	int deleteAllByIdIn(@org.springframework.data.repository.query.Param("ids") java.util.Collection<Long> ids);
+
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
 	@Query("select r from Room r where r.id = :id")
 	Optional<Room> findByIdWithLock(@Param("id") Long id);
@@ -0,0 +1,110 @@
+package ssafy.E207.domain.match.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.openvidu.java.client.OpenVidu;
+import io.openvidu.java.client.Session;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션 레지스트리 공통 처리
+ *
+ * - 로컬 캐시(Caffeine): 방 ID → Session, 최대 개수 + 마지막 접근 후 TTL로 크기 제한
+ * - 캐시에 없으면 하위 클래스에서 세션 ID를 찾고 OpenVidu에서 Session을 다시 불러옴
+ * - openVidu.fetch()는 전체 세션 목록을 가져오므로 최소 간격을 두고 한 번에 하나만 실행
+ * - OpenVidu 클라이언트도 내부에 세션 맵을 들고 있어서, 주기적으로 fetch()해서 종료된 세션을 비움
+ */
+@Slf4j
+public abstract class CachingSessionRegistry implements SessionRegistry {
+	private static final long MIN_FETCH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	protected final OpenVidu openVidu;
+	protected final Duration ttl;
+	private final Cache<Long, Session> sessions;
+	private final Object fetchLock = new Object();
+	private volatile long lastFetchAt = System.nanoTime() - MIN_FETCH_INTERVAL_NANOS;
+
+	protected CachingSessionRegistry(OpenVidu openVidu, MeterRegistry meterRegistry, long maxSize, Duration ttl) {
+		this.openVidu = openVidu;
+		this.ttl = ttl;
+		this.sessions = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterAccess(ttl)
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, sessions, "openvidu.sessions");
+	}
+
+	// 방 ID → OpenVidu 세션 ID (없으면 null)
+	protected abstract String lookupSessionId(Long roomId);
+
+	protected abstract void storeSessionId(Long roomId, String sessionId);
+
+	protected abstract void removeSessionId(Long roomId);
+
+	@Override
+	public void register(Long roomId, Session session) {
+		sessions.put(roomId, session);
+		storeSessionId(roomId, session.getSessionId());
+	}
+
+	@Override
+	public Session get(Long roomId) {
+		return sessions.get(roomId, this::rehydrate);
+	}
+
+	@Override
+	public void evict(Long roomId) {
+		sessions.invalidate(roomId);
+		removeSessionId(roomId);
+	}
+
+	// OpenVidu 클라이언트 내부 세션 맵 정리 (종료된 세션 제거)
+	@Scheduled(fixedDelayString = "${openvidu.session-registry.prune-millis:300000}")
+	public void prune() {
+		fetchActiveSessions(true);
+	}
+
+	private Session rehydrate(Long roomId) {
+		String sessionId = lookupSessionId(roomId);
+		if (sessionId == null) {
+			return null;
+		}
+		Session session = openVidu.getActiveSession(sessionId);
+		if (session == null && fetchActiveSessions(false)) {
+			session = openVidu.getActiveSession(sessionId);
+		}
+		if (session == null) {
+			// OpenVidu에서 이미 종료된 세션
+			removeSessionId(roomId);
+			return null;
+		}
+		log.info("[OpenVidu] 방 {} 세션 {} 복구", roomId, sessionId);
+		return session;
+	}
+
+	private boolean fetchActiveSessions(boolean force) {
+		synchronized (fetchLock) {
+			if (!force && System.nanoTime() - lastFetchAt < MIN_FETCH_INTERVAL_NANOS) {
+				return false;
+			}
+			try {
+				openVidu.fetch();
+				return true;
+			} catch (Exception e) {
+				log.warn("[OpenVidu] 세션 목록 조회 실패: {}", e.getMessage());
+				return false;
+			} finally {
+				lastFetchAt = System.nanoTime();
+			}
+		}
+	}
+}
@@ -0,0 +1,299 @@
+package ssafy.E207.domain.match.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import ssafy.E207.domain.match.dto.LobbyRoom;
+import ssafy.E207.domain.match.dto.response.LobbyEventResponse;
+import ssafy.E207.domain.match.dto.response.LobbyFeedResponse;
+import ssafy.E207.domain.match.repository.RoomRepository;
+import ssafy.E207.global.common.enums.LobbyEventType;
+import ssafy.E207.global.common.enums.RoomType;
+import ssafy.E207.global.common.util.RedisLease;
+
+/**
+ * 로비 실시간 피드 (/topic/lobby)
+ *
+ * - 방이 바뀌면 방 ID만 표시해 두고, 일정 간격(기본 250ms)마다 바뀐 방들을 쿼리 한 번으로 읽어 배치로 브로드캐스트
+ *   → 같은 방이 여러 번 바뀌어도 배치당 한 번, 시청자 수와 무관하게 배치당 브로드캐스트 한 번
+ * - 최신 방 lobby.snapshot-size 개(로비 스냅샷과 같은 범위)만 들고 있다가 비교해서 생성/인원 변경/상태 변경/삭제 이벤트로 변환
+ *   (그보다 오래된 방의 변경은 보내지 않음 → 커서 조회로 확인)
+ * - 배치마다 seq 증가, /topic/lobby 구독 시 {@link LobbyService} 스냅샷 + seq를 /user/queue/lobby로 전송
+ *   (클라이언트는 /user/queue/lobby 먼저 구독 후 /topic/lobby 구독)
+ *
+ * 서버 여러 대 (stomp.relay.mode=redis, 배치가 모든 서버의 구독자에게 전달됨)
+ * - 변경 표시는 Redis SET(lobby:feed:dirty), seq 는 Redis INCR(lobby:feed:seq)
+ * - 배치는 임대(lobby:feed:publisher)를 가진 서버 한 대만 발행 → seq 가 겹치거나 순서가 섞이지 않음
+ * - 발행 서버가 바뀌면 새 서버가 비교 기준 목록을 DB에서 다시 읽음 (그때 밀려 있던 변경은 생성/삭제 이벤트로)
+ *
+ * 설정
+ * - lobby.feed.flush-millis: 배치 간격 (기본 250)
+ */
+@Slf4j
+@Component
+public class LobbyFeed {
+	public static final String TOPIC = "/topic/lobby";
+	public static final String SNAPSHOT_DESTINATION = "/queue/lobby";
+	static final String DIRTY_KEY = "lobby:feed:dirty";
+	static final String SEQ_KEY = "lobby:feed:seq";
+	static final String PUBLISHER_KEY = "lobby:feed:publisher";
+	private static final long PUBLISHER_TTL_MILLIS = 5000;
+	// 한 배치에서 꺼낼 최대 방 수 (Redis)
+	private static final int MAX_BATCH = 1000;
+
+	private static final Comparator<LobbyRoom> NEWEST_FIRST = Comparator.comparing(LobbyRoom::createdAt)
+		.thenComparing(LobbyRoom::id)
+		.reversed();
+
+	private final RoomRepository roomRepository;
+	private final SimpMessageSendingOperations messageTemplate;
+	private final StringRedisTemplate redisTemplate;
+	// 서버 한 대면 null
+	private final RedisLease publisherLease;
+	private final int windowSize;
+	private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+	private final AtomicLong seq = new AtomicLong();
+	private final Counter batchCounter;
+	private final Counter eventCounter;
+
+	// flush 에서만 사용 (synchronized), 발행 서버가 아니면 null
+	private Window window;
+
+	public LobbyFeed(RoomRepository roomRepository, SimpMessageSendingOperations messageTemplate,
+		StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+		@Value("${stomp.relay.mode:local}") String relayMode,
+		@Value("${lobby.snapshot-size:200}") int windowSize) {
+		this.roomRepository = roomRepository;
+		this.messageTemplate = messageTemplate;
+		this.redisTemplate = redisTemplate;
+		this.publisherLease = "redis".equals(relayMode)
+			? new RedisLease(redisTemplate, PUBLISHER_KEY, PUBLISHER_TTL_MILLIS)
+			: null;
+		this.windowSize = windowSize;
+		this.batchCounter = Counter.builder("lobby.feed.batches")
+			.description("로비 피드 배치 브로드캐스트 수")
+			.register(meterRegistry);
+		this.eventCounter = Counter.builder("lobby.feed.events")
+			.description("로비 피드 이벤트 수")
+			.register(meterRegistry);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (publisherLease != null) {
+			publisherLease.release();
+		}
+	}
+
+	// 트랜잭션 안에서 호출되면 커밋 후에 표시 (커밋 전 데이터를 읽지 않도록)
+	public void markChanged(Long roomId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					mark(roomId);
+				}
+			});
+		} else {
+			mark(roomId);
+		}
+	}
+
+	private void mark(Long roomId) {
+		if (publisherLease == null) {
+			dirty.add(roomId);
+			return;
+		}
+		try {
+			redisTemplate.opsForSet().add(DIRTY_KEY, roomId.toString());
+		} catch (Exception e) {
+			log.warn("[Lobby] 변경 표시 실패 (room={}): {}", roomId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 마지막으로 보낸 배치의 seq (스냅샷을 읽기 전에 호출)
+	 */
+	public long seq() {
+		if (publisherLease == null) {
+			return seq.get();
+		}
+		try {
+			String value = redisTemplate.opsForValue().get(SEQ_KEY);
+			return value == null ? 0 : Long.parseLong(value);
+		} catch (Exception e) {
+			// 0이면 클라이언트가 이후 배치를 전부 적용 (덮어쓰기라 중복돼도 무방)
+			log.warn("[Lobby] seq 조회 실패: {}", e.getMessage());
+			return 0;
+		}
+	}
+
+	public void sendSnapshot(UUID userId, long seq, List<LobbyRoom> rooms) {
+		LobbyFeedResponse snapshot = LobbyFeedResponse.builder()
+			.seq(seq)
+			.rooms(rooms.stream().map(LobbyRoom::toResponse).toList())
+			.build();
+		messageTemplate.convertAndSendToUser(userId.toString(), SNAPSHOT_DESTINATION, snapshot);
+	}
+
+	@Scheduled(fixedDelayString = "${lobby.feed.flush-millis:250}")
+	public void flush() {
+		try {
+			doFlush();
+		} catch (Exception e) {
+			log.error("[Lobby] 피드 배치 처리 실패: {}", e.getMessage(), e);
+		}
+	}
+
+	private synchronized void doFlush() {
+		if (publisherLease != null && !publisherLease.acquire()) {
+			window = null;
+			return;
+		}
+		// 비교 기준을 먼저 읽고 나서 변경을 꺼냄
+		boolean reloaded = window == null;
+		Window current = window();
+		List<Long> ids = takeDirty();
+		if (ids.isEmpty()) {
+			return;
+		}
+
+		Map<Long, LobbyRoom> changed = roomRepository.findLobbyByIds(RoomType.CASUAL, ids).stream()
+			.collect(Collectors.toMap(LobbyRoom::id, Function.identity()));
+		List<LobbyEventResponse> events = new ArrayList<>();
+		for (Long id : ids) {
+			// 비교 기준을 방금 읽었으면 이미 반영된 변경일 수 있음 → 이전 상태를 모르는 것으로 보고 생성/삭제로 보냄
+			LobbyRoom before = reloaded ? null : current.get(id);
+			LobbyRoom after = changed.get(id);
+			if (after == null) {
+				if (current.remove(id) || reloaded) {
+					events.add(new LobbyEventResponse(LobbyEventType.ROOM_REMOVED, id, null));
+				}
+				continue;
+			}
+			if (before == null) {
+				if (current.add(after)) {
+					events.add(new LobbyEventResponse(LobbyEventType.ROOM_CREATED, id, after.toResponse()));
+				}
+				continue;
+			}
+			current.replace(before, after);
+			if (before.participantCount() != after.participantCount()) {
+				events.add(new LobbyEventResponse(LobbyEventType.PARTICIPANT_COUNT_CHANGED, id, after.toResponse()));
+			}
+			if (before.status() != after.status()) {
+				events.add(new LobbyEventResponse(LobbyEventType.STATUS_CHANGED, id, after.toResponse()));
+			}
+		}
+		if (events.isEmpty()) {
+			return;
+		}
+
+		messageTemplate.convertAndSend(TOPIC, LobbyFeedResponse.builder().seq(nextSeq()).events(events).build());
+		batchCounter.increment();
+		eventCounter.increment(events.size());
+	}
+
+	private List<Long> takeDirty() {
+		if (publisherLease == null) {
+			if (dirty.isEmpty()) {
+				return List.of();
+			}
+			List<Long> ids = new ArrayList<>(dirty);
+			dirty.removeAll(ids);
+			return ids;
+		}
+		List<String> ids = redisTemplate.opsForSet().pop(DIRTY_KEY, MAX_BATCH);
+		return ids == null ? List.of() : ids.stream().map(Long::valueOf).toList();
+	}
+
+	private long nextSeq() {
+		if (publisherLease == null) {
+			return seq.incrementAndGet();
+		}
+		Long next = redisTemplate.opsForValue().increment(SEQ_KEY);
+		return next == null ? 0 : next;
+	}
+
+	// 처음 (또는 발행 서버가 된 직후) 한 번 최신 방 windowSize 개를 읽음
+	private Window window() {
+		if (window == null) {
+			window = new Window(windowSize);
+			roomRepository.findLobby(RoomType.CASUAL, PageRequest.of(0, windowSize)).forEach(window::add);
+		}
+		return window;
+	}
+
+	// 최신 방 capacity 개 (넘치면 가장 오래된 방부터 제외)
+	private static final class Window {
+		private final int capacity;
+		private final Map<Long, LobbyRoom> byId = new HashMap<>();
+		private final NavigableSet<LobbyRoom> ordered = new TreeSet<>(NEWEST_FIRST);
+
+		private Window(int capacity) {
+			this.capacity = capacity;
+		}
+
+		LobbyRoom get(Long id) {
+			return byId.get(id);
+		}
+
+		// 가득 찼는데 가장 오래된 방보다도 오래된 방이면 false
+		boolean add(LobbyRoom room) {
+			LobbyRoom existing = byId.get(room.id());
+			if (existing != null) {
+				replace(existing, room);
+				return true;
+			}
+			if (byId.size() >= capacity && NEWEST_FIRST.compare(room, ordered.last()) > 0) {
+				return false;
+			}
+			byId.put(room.id(), room);
+			ordered.add(room);
+			if (byId.size() > capacity) {
+				byId.remove(ordered.pollLast().id());
+			}
+			return true;
+		}
+
+		// 생성 시각/id 는 그대로라 정렬 위치도 같음
+		void replace(LobbyRoom before, LobbyRoom after) {
+			ordered.remove(before);
+			ordered.add(after);
+			byId.put(after.id(), after);
+		}
+
+		boolean remove(Long id) {
+			LobbyRoom room = byId.remove(id);
+			if (room == null) {
+				return false;
+			}
+			ordered.remove(room);
+			return true;
+		}
+	}
+}
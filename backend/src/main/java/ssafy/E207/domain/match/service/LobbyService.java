@@ -0,0 +1,202 @@
+package ssafy.E207.domain.match.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import ssafy.E207.domain.match.dto.LobbyRoom;
+import ssafy.E207.domain.match.dto.response.LobbyPageResponse;
+import ssafy.E207.domain.match.dto.response.RoomListResponse;
+import ssafy.E207.domain.match.exception.InvalidRoomException;
+import ssafy.E207.domain.match.repository.RoomRepository;
+import ssafy.E207.global.common.enums.RoomType;
+
+/**
+ * 로비(방 목록) 조회
+ *
+ * - 방장 닉네임/참가자 수까지 프로젝션 쿼리 한 번으로 조회 (방마다 추가 쿼리 없음)
+ * - 최신 방 목록 앞부분을 짧게 메모리에 들고 있고 모든 폴링 요청이 같이 씀 (스냅샷)
+ * - 방 생성/입장/퇴장/상태 변경 시 invalidate → 다음 요청 때 다시 읽음
+ * - 페이지는 커서(createdAt, id) 기준 → 스냅샷 범위를 넘어가면 DB 키셋 조회
+ * - 실시간 변경은 {@link LobbyFeed}(/topic/lobby)로 푸시, 구독 시 보내는 목록도 같은 스냅샷
+ *
+ * 설정
+ * - lobby.snapshot-ttl-millis: 스냅샷 유지 시간 (기본 1000)
+ * - lobby.snapshot-size: 스냅샷에 담을 방 수 (기본 200)
+ */
+@Slf4j
+@Service
+public class LobbyService {
+	private static final int MAX_PAGE_SIZE = 50;
+
+	private final RoomRepository roomRepository;
+	private final LobbyFeed lobbyFeed;
+	private final long ttlNanos;
+	private final int snapshotSize;
+	private final Counter snapshotLoads;
+
+	private volatile Snapshot snapshot;
+
+	public LobbyService(RoomRepository roomRepository, LobbyFeed lobbyFeed, MeterRegistry meterRegistry,
+		@Value("${lobby.snapshot-ttl-millis:1000}") long ttlMillis,
+		@Value("${lobby.snapshot-size:200}") int snapshotSize) {
+		this.roomRepository = roomRepository;
+		this.lobbyFeed = lobbyFeed;
+		this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+		this.snapshotSize = snapshotSize;
+		this.snapshotLoads = Counter.builder("lobby.snapshot.load")
+			.description("로비 스냅샷을 DB에서 다시 읽은 횟수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+	 */
+	public LobbyPageResponse getLobby(String cursor, int size) {
+		int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+		Cursor after = cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor);
+		Snapshot current = current();
+
+		int from = after == null ? 0 : current.indexAfter(after);
+		List<LobbyRoom> rooms;
+		// 스냅샷 안에서 끝나거나 스냅샷이 전체 목록이면 메모리에서
+		if (from + pageSize + 1 <= current.rooms().size() || current.complete()) {
+			rooms = current.rooms().subList(from, Math.min(from + pageSize + 1, current.rooms().size()));
+		} else {
+			// 커서가 스냅샷보다 뒤에 있을 수도 있으므로 스냅샷 위치가 아니라 커서 그대로 DB 조회
+			rooms = after == null
+				? roomRepository.findLobby(RoomType.CASUAL, PageRequest.of(0, pageSize + 1))
+				: roomRepository.findLobbyAfter(RoomType.CASUAL, after.createdAt(), after.id(),
+				PageRequest.of(0, pageSize + 1));
+		}
+
+		// 한 개 더 읽어서 다음 페이지 여부 판단
+		boolean hasNext = rooms.size() > pageSize;
+		List<LobbyRoom> page = hasNext ? rooms.subList(0, pageSize) : rooms;
+		String nextCursor = hasNext ? Cursor.of(page.get(page.size() - 1)).encode() : null;
+		return LobbyPageResponse.builder()
+			.rooms(page.stream().map(LobbyRoom::toResponse).toList())
+			.nextCursor(nextCursor)
+			.hasNext(hasNext)
+			.build();
+	}
+
+	// 페이지 번호 방식 (기존 API 호환, 정렬은 최신순 고정)
+	public Page<RoomListResponse> getPage(Pageable pageable) {
+		return roomRepository.findLobbyPage(RoomType.CASUAL,
+				PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+			.map(LobbyRoom::toResponse);
+	}
+
+	/**
+	 * /topic/lobby 구독 시 스냅샷 전송 (스냅샷 범위만, 나머지는 커서 조회)
+	 */
+	public void sendFeedSnapshot(UUID userId) {
+		Snapshot current = current();
+		lobbyFeed.sendSnapshot(userId, current.seq(), current.rooms());
+	}
+
+	// 방 생성/입장/퇴장/상태 변경/삭제 → 스냅샷 invalidate + 실시간 피드에 반영
+	public void roomChanged(Long roomId) {
+		invalidate();
+		lobbyFeed.markChanged(roomId);
+	}
+
+	public void invalidate() {
+		snapshot = null;
+		// 트랜잭션 안에서 호출되면 커밋 후 한 번 더 (커밋 전에 다시 읽힌 이전 목록 제거)
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					snapshot = null;
+				}
+			});
+		}
+	}
+
+	private Snapshot current() {
+		Snapshot current = snapshot;
+		if (current != null && !current.isExpired(System.nanoTime(), ttlNanos)) {
+			return current;
+		}
+		// 만료 시 동시에 들어온 요청 중 하나만 DB 조회
+		synchronized (this) {
+			current = snapshot;
+			if (current == null || current.isExpired(System.nanoTime(), ttlNanos)) {
+				// DB 보다 먼저 읽음 → seq 이하 배치의 변경은 스냅샷에 이미 들어 있음
+				long seq = lobbyFeed.seq();
+				List<LobbyRoom> rooms = roomRepository.findLobby(RoomType.CASUAL, PageRequest.of(0, snapshotSize + 1));
+				boolean complete = rooms.size() <= snapshotSize;
+				current = new Snapshot(complete ? rooms : rooms.subList(0, snapshotSize), complete, seq,
+					System.nanoTime());
+				snapshot = current;
+				snapshotLoads.increment();
+			}
+			return current;
+		}
+	}
+
+	private record Snapshot(List<LobbyRoom> rooms, boolean complete, long seq, long loadedAt) {
+		boolean isExpired(long now, long ttlNanos) {
+			return now - loadedAt >= ttlNanos;
+		}
+
+		// 커서 바로 다음 방의 위치 (최신순 정렬에서 커서보다 오래된 첫 방)
+		int indexAfter(Cursor cursor) {
+			int low = 0;
+			int high = rooms.size();
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (cursor.precedes(rooms.get(mid))) {
+					high = mid;
+				} else {
+					low = mid + 1;
+				}
+			}
+			return low;
+		}
+	}
+
+	private record Cursor(LocalDateTime createdAt, Long id) {
+		static Cursor of(LobbyRoom room) {
+			return new Cursor(room.createdAt(), room.id());
+		}
+
+		static Cursor decode(String value) {
+			try {
+				String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+				int separator = decoded.lastIndexOf('_');
+				return new Cursor(LocalDateTime.parse(decoded.substring(0, separator)),
+					Long.parseLong(decoded.substring(separator + 1)));
+			} catch (RuntimeException e) {
+				throw new InvalidRoomException("잘못된 커서입니다.");
+			}
+		}
+
+		String encode() {
+			return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((createdAt + "_" + id).getBytes(StandardCharsets.UTF_8));
+		}
+
+		// 최신순 정렬에서 이 방이 커서 뒤에 오는지 (더 오래된 방)
+		boolean precedes(LobbyRoom room) {
+			int compared = room.createdAt().compareTo(createdAt);
+			return compared < 0 || (compared == 0 && room.id() < id);
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package ssafy.E207.domain.match.service;
+
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import ssafy.E207.domain.match.dto.PendingUser;
+
+/**
+ * JVM 내부 매칭 대기열 (단일 서버용)
+ *
+ * 짝 맞추기는 {@link MatchmakingEngine}이 담당
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "matchmaking.queue", havingValue = "local", matchIfMissing = true)
+public class LocalMatchmakingQueue implements MatchmakingQueue {
+	static final String NODE_ID = "local";
+
+	private final SimpMessageSendingOperations messageTemplate;
+	private final MeterRegistry meterRegistry;
+
+	private MatchmakingEngine engine;
+
+	@Override
+	public void start(BiConsumer<PendingUser, PendingUser> onMatched) {
+		this.engine = new MatchmakingEngine(onMatched, meterRegistry);
+		this.engine.start();
+	}
+
+	@Override
+	public void stop() {
+		engine.stop();
+	}
+
+	@Override
+	public boolean enqueue(UUID userId, boolean isElectron, int rating) {
+		return engine.enqueue(new PendingUser(userId, isElectron, rating, System.nanoTime(), NODE_ID));
+	}
+
+	@Override
+	public boolean cancel(UUID userId) {
+		return engine.cancel(userId);
+	}
+
+	@Override
+	public int size() {
+		return engine.size();
+	}
+
+	@Override
+	public void deliver(PendingUser user, Object payload) {
+		messageTemplate.convertAndSendToUser(user.userId().toString(), MATCH_DESTINATION, payload);
+	}
+}
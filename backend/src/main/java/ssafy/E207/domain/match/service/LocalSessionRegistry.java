@@ -0,0 +1,42 @@
+package ssafy.E207.domain.match.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.openvidu.java.client.OpenVidu;
+import ssafy.E207.domain.match.entity.Room;
+import ssafy.E207.domain.match.repository.RoomRepository;
+
+/**
+ * 단일 서버용 세션 레지스트리 (세션 ID는 DB의 Room.sessionId에서 찾음)
+ */
+@Component
+@ConditionalOnProperty(name = "openvidu.session-registry", havingValue = "local", matchIfMissing = true)
+public class LocalSessionRegistry extends CachingSessionRegistry {
+	private final RoomRepository roomRepository;
+
+	public LocalSessionRegistry(OpenVidu openVidu, MeterRegistry meterRegistry, RoomRepository roomRepository,
+		@Value("${openvidu.session-registry.max-size:10000}") long maxSize,
+		@Value("${openvidu.session-registry.ttl-hours:6}") long ttlHours) {
+		super(openVidu, meterRegistry, maxSize, Duration.ofHours(ttlHours));
+		this.roomRepository = roomRepository;
+	}
+
+	@Override
+	protected String lookupSessionId(Long roomId) {
+		return roomRepository.findById(roomId).map(Room::getSessionId).orElse(null);
+	}
+
+	@Override
+	protected void storeSessionId(Long roomId, String sessionId) {
+		// Room.sessionId로 이미 저장됨
+	}
+
+	@Override
+	protected void removeSessionId(Long roomId) {
+	}
+}
@@ -0,0 +1,227 @@
+package ssafy.E207.domain.match.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import ssafy.E207.domain.match.dto.PendingUser;
+
+/**
+ * 매칭 엔진
+ *
+ * - HTTP 스레드는 대기열에 넣고 바로 반환 (락 없음)
+ * - 짝 맞추기는 전용 매처 스레드 1개가 전담 → 매칭 로직에 동기화 불필요
+ * - waiting: userId 기준 O(1) 중복/취소 확인용 인덱스 (유저마다 상태를 CAS로 바꾸는 {@link Ticket})
+ * - arrivals: 매처 스레드로 넘기는 도착 순서 큐
+ * - pool: 레이팅 순으로 정렬된 대기 풀 ({@link RatingMatchPool})
+ *
+ * 도착 시 허용 범위 안에서 가장 가까운 상대를 찾고(O(log n)), 없으면 풀에 넣는다.
+ * 1초마다 스윕해서 대기 시간이 길어져 범위가 넓어진 유저끼리 짝을 맞춘다.
+ * 취소된 유저는 바로 빼지 않고, 매처 스레드가 꺼낼 때 인덱스에 없으면 버린다.
+ *
+ * 매칭과 취소는 같은 상태를 CAS로 바꿔서 경합 (WAITING → CLAIMED / CANCELLED 중 먼저 바꾼 쪽만 성공)
+ */
+@Slf4j
+public class MatchmakingEngine {
+	private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+	private static final int WAITING = 0;
+	// 매처 스레드가 두 명 중 첫 번째를 잡고 두 번째를 잡기 전까지의 잠깐 (취소는 끝날 때까지 기다림)
+	private static final int CLAIMING = 1;
+	private static final int CLAIMED = 2;
+	private static final int CANCELLED = 3;
+
+	private final Map<UUID, Ticket> waiting = new ConcurrentHashMap<>();
+	private final BlockingQueue<PendingUser> arrivals = new LinkedBlockingQueue<>();
+	private final BiConsumer<PendingUser, PendingUser> onMatched;
+	private final Timer timeToMatch;
+	private final Thread matcher;
+
+	// 매처 스레드 전용
+	private final RatingMatchPool pool = new RatingMatchPool();
+	private long lastSweepAt = System.nanoTime();
+
+	public MatchmakingEngine(BiConsumer<PendingUser, PendingUser> onMatched, MeterRegistry meterRegistry) {
+		this.onMatched = onMatched;
+		this.timeToMatch = Timer.builder("matchmaking.time_to_match")
+			.description("대기열 진입부터 상대가 정해지기까지 걸린 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		Gauge.builder("matchmaking.queue.depth", waiting, Map::size)
+			.description("매칭 대기 중인 유저 수")
+			.register(meterRegistry);
+		Gauge.builder("matchmaking.pool.size", pool, RatingMatchPool::size)
+			.description("매처 스레드 풀에 남아 있는 항목 수 (취소 대기분 포함)")
+			.register(meterRegistry);
+		this.matcher = Thread.ofPlatform().name("matchmaking-matcher").daemon().unstarted(this::runMatcher);
+	}
+
+	public void start() {
+		matcher.start();
+	}
+
+	public void stop() {
+		matcher.interrupt();
+	}
+
+	/**
+	 * 대기열 진입
+	 * @return 이미 대기 중이면 false
+	 */
+	public boolean enqueue(PendingUser pendingUser) {
+		Ticket ticket = new Ticket(pendingUser);
+		// 매칭/취소가 끝났는데 아직 인덱스에서 안 빠진 항목은 새 항목으로 교체
+		if (waiting.merge(pendingUser.userId(), ticket, (current, fresh) -> current.isDone() ? fresh : current)
+			!= ticket) {
+			return false;
+		}
+		arrivals.offer(pendingUser);
+		return true;
+	}
+
+	/**
+	 * 대기열 이탈
+	 * @return 대기 중이었으면 true
+	 */
+	public boolean cancel(UUID userId) {
+		Ticket ticket;
+		while ((ticket = waiting.get(userId)) != null) {
+			int state = ticket.state.get();
+			if (state == WAITING) {
+				if (ticket.state.compareAndSet(WAITING, CANCELLED)) {
+					waiting.remove(userId, ticket);
+					return true;
+				}
+			} else if (state == CLAIMING) {
+				// 매처 스레드가 짝을 확정하거나 되돌릴 때까지 (CAS 두 번 사이)
+				Thread.onSpinWait();
+			} else if (waiting.get(userId) == ticket) {
+				// 이미 매칭됐거나 취소됨 (그 사이 다시 들어온 새 항목이 아니면)
+				return false;
+			}
+		}
+		return false;
+	}
+
+	public int size() {
+		return waiting.size();
+	}
+
+	private void runMatcher() {
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				PendingUser next = arrivals.poll(SWEEP_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+				if (next != null) {
+					match(next);
+				}
+				long now = System.nanoTime();
+				if (now - lastSweepAt >= SWEEP_INTERVAL_NANOS) {
+					lastSweepAt = now;
+					sweep(now);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (Exception e) {
+				log.error("[Matchmaking] 매처 스레드 처리 중 오류: {}", e.getMessage(), e);
+			}
+		}
+		log.info("[Matchmaking] 매처 스레드 종료");
+	}
+
+	private void match(PendingUser next) {
+		// 꺼내기 전에 취소됐거나, 취소 후 다시 들어온 경우(새 항목이 따로 도착함)는 버림
+		if (!isLive(next)) {
+			return;
+		}
+		long now = System.nanoTime();
+		PendingUser partner;
+		while ((partner = pool.pollPartner(next, now, this::isLive)) != null) {
+			if (claim(partner, next, now)) {
+				return;
+			}
+			// next가 방금 취소된 경우 partner는 다시 풀로
+			if (isLive(partner)) {
+				pool.add(partner);
+			}
+			if (!isLive(next)) {
+				return;
+			}
+		}
+		pool.add(next);
+	}
+
+	private void sweep(long now) {
+		List<PendingUser[]> pairs = pool.sweep(now, this::isLive);
+		for (PendingUser[] pair : pairs) {
+			if (!claim(pair[0], pair[1], now)) {
+				// 한쪽이 방금 취소됨 → 남은 쪽은 다시 풀로
+				if (isLive(pair[0])) {
+					pool.add(pair[0]);
+				}
+				if (isLive(pair[1])) {
+					pool.add(pair[1]);
+				}
+			}
+		}
+	}
+
+	private boolean isLive(PendingUser pendingUser) {
+		return ticketOf(pendingUser) != null;
+	}
+
+	// 아직 대기 중인 같은 항목의 티켓 (취소/매칭됐거나 다시 들어온 새 항목이면 null)
+	private Ticket ticketOf(PendingUser pendingUser) {
+		Ticket ticket = waiting.get(pendingUser.userId());
+		if (ticket == null || ticket.pendingUser != pendingUser || ticket.state.get() != WAITING) {
+			return null;
+		}
+		return ticket;
+	}
+
+	// 두 명 모두 WAITING → CLAIMED 로 바꿔야 매칭 성립 (cancel과 같은 상태를 CAS로 경합)
+	private boolean claim(PendingUser first, PendingUser second, long now) {
+		Ticket firstTicket = ticketOf(first);
+		Ticket secondTicket = ticketOf(second);
+		if (firstTicket == null || secondTicket == null
+			|| !firstTicket.state.compareAndSet(WAITING, CLAIMING)) {
+			return false;
+		}
+		if (!secondTicket.state.compareAndSet(WAITING, CLAIMED)) {
+			// second가 방금 취소됨 → first는 다시 대기 상태로 (그 사이 cancel은 기다리고 있었음)
+			firstTicket.state.set(WAITING);
+			return false;
+		}
+		firstTicket.state.set(CLAIMED);
+		waiting.remove(first.userId(), firstTicket);
+		waiting.remove(second.userId(), secondTicket);
+
+		timeToMatch.record(now - first.enqueuedAt(), TimeUnit.NANOSECONDS);
+		timeToMatch.record(now - second.enqueuedAt(), TimeUnit.NANOSECONDS);
+		onMatched.accept(first, second);
+		return true;
+	}
+
+	// 대기열 항목 하나와 그 상태 (매칭과 취소가 같은 상태를 CAS로 바꿈)
+	private static final class Ticket {
+		private final PendingUser pendingUser;
+		private final AtomicInteger state = new AtomicInteger(WAITING);
+
+		private Ticket(PendingUser pendingUser) {
+			this.pendingUser = pendingUser;
+		}
+
+		private boolean isDone() {
+			int current = state.get();
+			return current == CLAIMED || current == CANCELLED;
+		}
+	}
+}
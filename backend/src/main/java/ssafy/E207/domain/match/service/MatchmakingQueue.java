@@ -0,0 +1,46 @@
+package ssafy.E207.domain.match.service;
+
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import ssafy.E207.domain.match.dto.PendingUser;
+
+/**
+ * 매칭 대기열 백엔드
+ *
+ * - local: JVM 내부 대기열 ({@link LocalMatchmakingQueue}, 기본값)
+ * - redis: 여러 서버가 하나의 대기열을 공유 ({@link RedisMatchmakingQueue})
+ *
+ * 설정: matchmaking.queue=local|redis
+ */
+public interface MatchmakingQueue {
+	String MATCH_DESTINATION = "/queue/match";
+
+	/**
+	 * 매칭 처리 시작
+	 * @param onMatched 짝이 정해졌을 때 호출 (각 쌍은 클러스터 전체에서 정확히 한 번만 호출됨)
+	 */
+	void start(BiConsumer<PendingUser, PendingUser> onMatched);
+
+	void stop();
+
+	/**
+	 * 대기열 진입
+	 * @return 이미 대기 중이면 false
+	 */
+	boolean enqueue(UUID userId, boolean isElectron, int rating);
+
+	/**
+	 * 대기열 이탈
+	 * @return 대기 중이었으면 true
+	 */
+	boolean cancel(UUID userId);
+
+	int size();
+
+	/**
+	 * 매칭 결과를 유저에게 전달 (/user/queue/match)
+	 * 유저의 STOMP 세션이 다른 서버에 있으면 해당 서버로 넘긴다.
+	 */
+	void deliver(PendingUser user, Object payload);
+}
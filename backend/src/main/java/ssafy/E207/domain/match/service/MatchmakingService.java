@@ -1,83 +1,132 @@
 package ssafy.E207.domain.match.service;
 
 import java.util.Map;
-import java.util.Queue;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 
-import io.openvidu.java.client.OpenViduHttpException;
-import io.openvidu.java.client.OpenViduJavaClientException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import ssafy.E207.domain.match.dto.PendingUser;
-import ssafy.E207.domain.match.dto.request.RoomCreateRequest;
 import ssafy.E207.domain.match.dto.response.MatchmakingResultDto;
 import ssafy.E207.domain.match.dto.response.StompResponse;
-import ssafy.E207.domain.match.entity.Room;
+import ssafy.E207.domain.user.dto.UserSummary;
+import ssafy.E207.domain.user.service.UserSummaryCache;
 import ssafy.E207.global.common.enums.StompMessageType;
+import ssafy.E207.global.error.exception.NotFoundUserException;
 
-@Transactional
+/**
+ * 매칭 서비스
+ *
+ * - 대기열 관리/짝 맞추기는 {@link MatchmakingQueue}에 위임 (레이팅이 가까운 상대 우선)
+ *   → matchmaking.queue=redis 이면 여러 서버가 하나의 대기열을 공유
+ * - 매칭 성사 후 방 생성(OpenVidu + DB)은 별도 executor에서 비동기로 처리
+ *   → /matchmaking/start 요청 스레드는 방 생성을 기다리지 않음
+ */
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class MatchmakingService {
-	private final Queue<PendingUser> waitingQueue = new ConcurrentLinkedQueue<>();
 	private final RoomService roomService;
-	private final SimpMessageSendingOperations messageTemplate;
+	private final MatchmakingQueue matchmakingQueue;
 	private final ElectronSignatureCheckService electronSignatureCheckService;
+	private final UserSummaryCache userSummaryCache;
+	private final MeterRegistry meterRegistry;
 
-	public synchronized void addToQueue(UUID userId, HttpServletRequest request
-	) throws OpenViduJavaClientException, OpenViduHttpException {
-		if (waitingQueue.stream().anyMatch(pu -> pu.userId().equals(userId))) {
-			return;
-		}
+	// 방 생성은 OpenVidu HTTP 대기가 대부분이라 가상 스레드로 처리
+	private ExecutorService provisioningExecutor;
+	private Timer provisioningTimer;
 
-		boolean isElectron = electronSignatureCheckService.isElectronApp(request);
+	@PostConstruct
+	public void init() {
+		this.provisioningExecutor = Executors.newVirtualThreadPerTaskExecutor();
+		this.provisioningTimer = Timer.builder("matchmaking.room_provisioning")
+			.description("매칭 성사 후 방 생성까지 걸린 시간")
+			.register(meterRegistry);
+		matchmakingQueue.start(this::dispatchMatch);
+	}
 
+	@PreDestroy
+	public void shutdown() {
+		matchmakingQueue.stop();
+		provisioningExecutor.shutdown();
+	}
+
+	public void addToQueue(UUID userId, HttpServletRequest request) {
+		boolean isElectron = electronSignatureCheckService.isElectronApp(request);
+		int rating = userSummaryCache.get(userId)
+			.map(UserSummary::rating)
+			.orElseThrow(NotFoundUserException::notFound);
 
-		waitingQueue.add(new PendingUser(userId, isElectron));
-		System.out.println("현재 큐에 있는 유저:");
-		for(PendingUser pu : waitingQueue){
-			System.out.println(pu.toString());
+		if (!matchmakingQueue.enqueue(userId, isElectron, rating)) {
+			log.info("[Matchmaking] 이미 대기 중인 유저: {}", userId);
+			return;
 		}
+		log.info("[Matchmaking] 대기열 진입: {} (대기 인원: {})", userId, matchmakingQueue.size());
+	}
 
-		if (waitingQueue.size() >= 2) {
-			System.out.println("매칭 시작");
-			PendingUser user1 = waitingQueue.poll();
-			PendingUser user2 = waitingQueue.poll();
+	public void removeFromQueue(UUID userId) {
+		if (matchmakingQueue.cancel(userId)) {
+			log.info("[Matchmaking] 대기열 이탈: {}", userId);
+		}
+	}
 
-			MatchmakingResultDto resultDto = roomService.createRoomFromMatchmaking(user1, user2);
+	// 매처 스레드(또는 Redis 모드에서는 진입 요청 스레드)에서 호출됨 → 블로킹 작업은 executor로 넘김
+	private void dispatchMatch(PendingUser user1, PendingUser user2) {
+		provisioningExecutor.execute(() -> provisionRoom(user1, user2));
+	}
 
-			messageTemplate.convertAndSendToUser(
-				user1.userId().toString(),
-				"/queue/match",
-				StompResponse.builder()
-					.type(StompMessageType.RESPONSE_MATCHMAKING_SUCCESS)
-					.senderId(null)
-					.senderNickname("시스템")
-					.message("매칭이 완료되었습니다.")
-					.data(Map.of("id", resultDto.getId(), "name", resultDto.getName(), "token", resultDto.getToken1(), "participants", resultDto.getParticipants()))
-					.build()
-			);
-			messageTemplate.convertAndSendToUser(
-				user2.userId().toString(),
-				"/queue/match",
-				StompResponse.builder()
-					.type(StompMessageType.RESPONSE_MATCHMAKING_SUCCESS)
-					.senderId(null)
-					.senderNickname("시스템")
-					.message("매칭이 완료되었습니다.")
-					.data(Map.of("id", resultDto.getId(), "name", resultDto.getName(), "token", resultDto.getToken2(), "participants", resultDto.getParticipants()))
-					.build()
-			);
+	private void provisionRoom(PendingUser user1, PendingUser user2) {
+		log.info("[Matchmaking] 매칭 성사: {} vs {}", user1.userId(), user2.userId());
+		MatchmakingResultDto resultDto;
+		try {
+			resultDto = provisioningTimer.recordCallable(() -> roomService.createRoomFromMatchmaking(user1, user2));
+		} catch (Exception e) {
+			log.error("[Matchmaking] 매칭 방 생성 실패: {}", e.getMessage(), e);
+			sendMatchFailed(user1);
+			sendMatchFailed(user2);
+			return;
 		}
+
+		matchmakingQueue.deliver(
+			user1,
+			StompResponse.builder()
+				.type(StompMessageType.RESPONSE_MATCHMAKING_SUCCESS)
+				.senderId(null)
+				.senderNickname("시스템")
+				.message("매칭이 완료되었습니다.")
+				.data(Map.of("id", resultDto.getId(), "name", resultDto.getName(), "token", resultDto.getToken1(), "participants", resultDto.getParticipants()))
+				.build()
+		);
+		matchmakingQueue.deliver(
+			user2,
+			StompResponse.builder()
+				.type(StompMessageType.RESPONSE_MATCHMAKING_SUCCESS)
+				.senderId(null)
+				.senderNickname("시스템")
+				.message("매칭이 완료되었습니다.")
+				.data(Map.of("id", resultDto.getId(), "name", resultDto.getName(), "token", resultDto.getToken2(), "participants", resultDto.getParticipants()))
+				.build()
+		);
 	}
 
-	public synchronized void removeFromQueue(UUID userId) {
-		waitingQueue.removeIf(pu -> pu.userId().equals(userId));
+	private void sendMatchFailed(PendingUser user) {
+		matchmakingQueue.deliver(
+			user,
+			StompResponse.builder()
+				.type(StompMessageType.RESPONSE_ERROR)
+				.senderId(null)
+				.senderNickname("시스템")
+				.message("매칭 방 생성에 실패했습니다. 다시 시도해주세요.")
+				.build()
+		);
 	}
 
 }
@@ -0,0 +1,271 @@
+package ssafy.E207.domain.match.service;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.openvidu.java.client.ConnectionProperties;
+import io.openvidu.java.client.ConnectionType;
+import io.openvidu.java.client.OpenVidu;
+import io.openvidu.java.client.OpenViduHttpException;
+import io.openvidu.java.client.OpenViduJavaClientException;
+import io.openvidu.java.client.OpenViduRole;
+import io.openvidu.java.client.Session;
+import io.openvidu.java.client.SessionProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import ssafy.E207.domain.user.dto.UserSummary;
+
+/**
+ * OpenVidu 세션/토큰 발급
+ *
+ * - 미리 만들어 둔 빈 세션 풀에서 꺼내 쓰고, 꺼낸 만큼 백그라운드에서 다시 채움
+ *   → 방 생성 시 세션 생성 HTTP 왕복이 사라짐 (풀이 비었으면 그 자리에서 생성)
+ * - 참가자 토큰(커넥션)은 가상 스레드에서 병렬로 발급
+ * - 빈 세션은 OpenVidu가 일정 시간 뒤 정리하므로(OPENVIDU_SESSIONS_GARBAGE_THRESHOLD) 그 전에 교체
+ *
+ * 설정
+ * - openvidu.session-pool.size: 풀 크기 (기본 4, 0이면 풀 미사용)
+ * - openvidu.session-pool.max-age-seconds: 풀에 둘 최대 시간 (기본 600)
+ */
+@Slf4j
+@Component
+public class OpenViduSessionProvisioner {
+	private static final int SESSION_NOT_FOUND = 404;
+
+	private final OpenVidu openVidu;
+	private final int poolSize;
+	private final long maxAgeNanos;
+
+	private final Deque<PooledSession> pool = new ConcurrentLinkedDeque<>();
+	// 생성 중인 풀 세션 수 (풀 크기 초과 생성 방지)
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	private final Counter poolHits;
+	private final Counter poolMisses;
+	private final Timer provisioningTimer;
+	private final Timer sessionCreateTimer;
+
+	public OpenViduSessionProvisioner(OpenVidu openVidu, MeterRegistry meterRegistry,
+		@Value("${openvidu.session-pool.size:4}") int poolSize,
+		@Value("${openvidu.session-pool.max-age-seconds:600}") long maxAgeSeconds) {
+		this.openVidu = openVidu;
+		this.poolSize = poolSize;
+		this.maxAgeNanos = TimeUnit.SECONDS.toNanos(maxAgeSeconds);
+		this.poolHits = Counter.builder("openvidu.session_pool.acquire")
+			.description("세션 풀 사용 결과")
+			.tag("result", "hit")
+			.register(meterRegistry);
+		this.poolMisses = Counter.builder("openvidu.session_pool.acquire")
+			.description("세션 풀 사용 결과")
+			.tag("result", "miss")
+			.register(meterRegistry);
+		this.provisioningTimer = Timer.builder("openvidu.provisioning")
+			.description("세션 확보 + 참가자 토큰 발급까지 걸린 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.sessionCreateTimer = Timer.builder("openvidu.session.create")
+			.description("OpenVidu 세션 생성 요청 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		Gauge.builder("openvidu.session_pool.size", pool, Deque::size)
+			.description("미리 만들어 둔 세션 수")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void init() {
+		refill();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+		// 배포 시 남은 빈 세션 정리 (실패해도 OpenVidu가 나중에 정리함)
+		PooledSession pooled;
+		while ((pooled = pool.pollFirst()) != null) {
+			closeQuietly(pooled.session());
+		}
+	}
+
+	// 오래된 세션 교체 + 풀 채우기
+	@Scheduled(fixedDelayString = "${openvidu.session-pool.refresh-millis:60000}")
+	public void refresh() {
+		long now = System.nanoTime();
+		pool.removeIf(pooled -> {
+			if (pooled.isExpired(now, maxAgeNanos)) {
+				executor.execute(() -> closeQuietly(pooled.session()));
+				return true;
+			}
+			return false;
+		});
+		refill();
+	}
+
+	/**
+	 * 세션을 확보하고 참가자 수만큼 토큰을 병렬 발급
+	 * @return 세션 + 참가자 순서대로의 토큰
+	 */
+	public Provisioned provision(List<UserSummary> users) throws OpenViduJavaClientException, OpenViduHttpException {
+		long startedAt = System.nanoTime();
+		try {
+			boolean pooled = true;
+			Session session = pollPooled();
+			if (session == null) {
+				pooled = false;
+				session = createSession();
+			}
+			try {
+				return new Provisioned(session, createTokens(session, users));
+			} catch (OpenViduHttpException e) {
+				// 풀에 있던 세션이 OpenVidu 쪽에서 이미 정리된 경우 → 새로 만들어 한 번 더
+				if (!pooled || e.getStatus() != SESSION_NOT_FOUND) {
+					throw e;
+				}
+				log.warn("[OpenVidu] 풀 세션 {} 이 만료되어 새로 생성합니다.", session.getSessionId());
+				session = createSession();
+				return new Provisioned(session, createTokens(session, users));
+			}
+		} finally {
+			provisioningTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	public String createToken(Session session, UserSummary user) throws
+		OpenViduJavaClientException,
+		OpenViduHttpException {
+		String data = String.format("{\"userId\":\"%s\", \"nickname\":\"%s\"}",
+			user.id(),
+			user.nickname());
+		ConnectionProperties connectionProperties = new ConnectionProperties.Builder()
+			.type(ConnectionType.WEBRTC)
+			.data(data)
+			.role(OpenViduRole.PUBLISHER)
+			.build();
+		return session.createConnection(connectionProperties).getToken();
+	}
+
+	// 방 저장에 실패해서 쓰지 못하게 된 세션 정리
+	public void release(Session session) {
+		executor.execute(() -> closeQuietly(session));
+	}
+
+	// OpenVidu가 풀의 빈 세션을 먼저 정리한 경우 (sessionDestroyed 웹훅)
+	public boolean evict(String sessionId) {
+		boolean removed = pool.removeIf(pooled -> pooled.session().getSessionId().equals(sessionId));
+		if (removed) {
+			refill();
+		}
+		return removed;
+	}
+
+	public int poolSize() {
+		return pool.size();
+	}
+
+	private Session pollPooled() {
+		long now = System.nanoTime();
+		PooledSession pooled;
+		while ((pooled = pool.pollFirst()) != null) {
+			if (!pooled.isExpired(now, maxAgeNanos)) {
+				poolHits.increment();
+				refill();
+				return pooled.session();
+			}
+			Session expired = pooled.session();
+			executor.execute(() -> closeQuietly(expired));
+		}
+		poolMisses.increment();
+		refill();
+		return null;
+	}
+
+	private List<String> createTokens(Session session, List<UserSummary> users) throws
+		OpenViduJavaClientException,
+		OpenViduHttpException {
+		List<CompletableFuture<String>> futures = users.stream()
+			.map(user -> CompletableFuture.supplyAsync(() -> {
+				try {
+					return createToken(session, user);
+				} catch (OpenViduJavaClientException | OpenViduHttpException e) {
+					throw new CompletionException(e);
+				}
+			}, executor))
+			.toList();
+		try {
+			return futures.stream().map(CompletableFuture::join).toList();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof OpenViduHttpException httpException) {
+				throw httpException;
+			}
+			if (e.getCause() instanceof OpenViduJavaClientException clientException) {
+				throw clientException;
+			}
+			throw e;
+		}
+	}
+
+	private Session createSession() throws OpenViduJavaClientException, OpenViduHttpException {
+		long startedAt = System.nanoTime();
+		try {
+			return openVidu.createSession(new SessionProperties.Builder().build());
+		} finally {
+			sessionCreateTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private void refill() {
+		while (true) {
+			int current = inFlight.get();
+			if (pool.size() + current >= poolSize) {
+				return;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				executor.execute(this::createPooledSession);
+			}
+		}
+	}
+
+	private void createPooledSession() {
+		try {
+			pool.offerLast(new PooledSession(createSession(), System.nanoTime()));
+		} catch (Exception e) {
+			log.warn("[OpenVidu] 풀 세션 생성 실패: {}", e.getMessage());
+		} finally {
+			inFlight.decrementAndGet();
+		}
+	}
+
+	private void closeQuietly(Session session) {
+		try {
+			session.close();
+		} catch (Exception e) {
+			log.debug("[OpenVidu] 세션 {} 종료 실패: {}", session.getSessionId(), e.getMessage());
+		}
+	}
+
+	public record Provisioned(Session session, List<String> tokens) {
+	}
+
+	private record PooledSession(Session session, long createdAt) {
+		boolean isExpired(long now, long maxAgeNanos) {
+			return now - createdAt >= maxAgeNanos;
+		}
+	}
+}
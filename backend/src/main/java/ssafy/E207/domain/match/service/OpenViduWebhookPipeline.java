@@ -0,0 +1,303 @@
+package ssafy.E207.domain.match.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.json.simple.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import ssafy.E207.domain.match.entity.Room;
+import ssafy.E207.domain.match.game.RoomMailboxDispatcher;
+import ssafy.E207.domain.match.repository.RoomRepository;
+
+/**
+ * OpenVidu 웹훅 수신 파이프라인
+ *
+ * <pre>
+ * HTTP 스레드: 필요한 이벤트만 골라 파싱 → 중복 확인 → 고정 크기 버퍼에 넣고 바로 200 응답
+ * 처리 스레드 1개: 버퍼에 쌓인 이벤트를 batch-size 만큼 한 번에 꺼내 처리
+ *   1. sessionDestroyed 중 미리 만들어 둔 세션 풀의 세션은 풀에서만 제거
+ *   2. 남은 이벤트의 방 조회는 배치당 한 번
+ *   3. participantLeft → 이벤트마다 연결 끊김으로 넘김 (같은 배치에서 방이 지워질 세션은 건너뜀)
+ *      → STOMP 끊김과 같은 유예를 거침 ({@link RoomReconnectService}), 이미 유예 중이면 무시됨
+ *   4. 나머지 sessionDestroyed → 방 메일박스에서 RoomService.destroyRoom (한꺼번에 넘기고 모두 끝날 때까지 기다림)
+ * </pre>
+ *
+ * - 중복 제거: 아직 처리되지 않은 같은 이벤트(세션 종료는 세션별, 퇴장은 세션+유저별)는 버림
+ * - 버퍼가 가득 차면 버림 (버려진 세션 종료의 방은 RoomReaper 가 세션 없는 방으로 정리)
+ * - 서버 종료 시 버퍼에 남은 이벤트는 처리하지 않음
+ *
+ * 설정
+ * - openvidu.webhook.capacity: 버퍼 크기 (기본 10000)
+ * - openvidu.webhook.batch-size: 한 번에 처리할 이벤트 수 (기본 200)
+ */
+@Slf4j
+@Component
+public class OpenViduWebhookPipeline {
+	static final String PARTICIPANT_LEFT = "participantLeft";
+	static final String SESSION_DESTROYED = "sessionDestroyed";
+
+	private final RoomService roomService;
+	private final RoomReconnectService roomReconnectService;
+	private final RoomMailboxDispatcher mailboxDispatcher;
+	private final RoomRepository roomRepository;
+	private final OpenViduSessionProvisioner sessionProvisioner;
+	private final ObjectMapper objectMapper;
+	private final BlockingQueue<Event> buffer;
+	// 버퍼에 있는 이벤트 키 (꺼낼 때 제거)
+	private final Set<String> pending = ConcurrentHashMap.newKeySet();
+	private final int batchSize;
+
+	private final Counter accepted;
+	private final Counter duplicates;
+	private final Counter dropped;
+	private final Counter ignored;
+	private final Counter failures;
+	private final Timer lagTimer;
+	private final DistributionSummary batchSummary;
+
+	private volatile boolean running;
+	private Thread worker;
+
+	public OpenViduWebhookPipeline(RoomService roomService,
+		RoomReconnectService roomReconnectService,
+		RoomMailboxDispatcher mailboxDispatcher,
+		RoomRepository roomRepository,
+		OpenViduSessionProvisioner sessionProvisioner,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${openvidu.webhook.capacity:10000}") int capacity,
+		@Value("${openvidu.webhook.batch-size:200}") int batchSize) {
+		this.roomService = roomService;
+		this.roomReconnectService = roomReconnectService;
+		this.mailboxDispatcher = mailboxDispatcher;
+		this.roomRepository = roomRepository;
+		this.sessionProvisioner = sessionProvisioner;
+		this.objectMapper = objectMapper;
+		this.buffer = new ArrayBlockingQueue<>(capacity);
+		this.batchSize = batchSize;
+
+		this.accepted = events(meterRegistry, "accepted");
+		this.duplicates = events(meterRegistry, "duplicate");
+		this.dropped = events(meterRegistry, "dropped");
+		this.ignored = events(meterRegistry, "ignored");
+		this.failures = Counter.builder("openvidu.webhook.failures")
+			.description("처리에 실패한 웹훅 이벤트 수")
+			.register(meterRegistry);
+		this.lagTimer = Timer.builder("openvidu.webhook.lag")
+			.description("웹훅 수신부터 처리 시작까지 걸린 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.batchSummary = DistributionSummary.builder("openvidu.webhook.batch")
+			.description("한 번에 처리한 웹훅 이벤트 수")
+			.register(meterRegistry);
+		Gauge.builder("openvidu.webhook.depth", buffer, BlockingQueue::size)
+			.description("처리 대기 중인 웹훅 이벤트 수")
+			.register(meterRegistry);
+	}
+
+	private static Counter events(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("openvidu.webhook.events")
+			.description("수신한 웹훅 이벤트 수")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	public void start() {
+		running = true;
+		worker = Thread.ofVirtual().name("openvidu-webhook").start(this::run);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		running = false;
+		if (worker != null) {
+			worker.interrupt();
+		}
+	}
+
+	/**
+	 * [HTTP 스레드] 웹훅 접수 (DB 접근 없음)
+	 */
+	public void accept(JSONObject json) {
+		String type = (String)json.get("event");
+		String sessionId = (String)json.get("sessionId");
+		if (sessionId == null || !(PARTICIPANT_LEFT.equals(type) || SESSION_DESTROYED.equals(type))) {
+			ignored.increment();
+			return;
+		}
+		boolean destroyed = SESSION_DESTROYED.equals(type);
+		UUID userId = null;
+		if (!destroyed) {
+			userId = parseUserId(json.get("serverData"));
+			if (userId == null) {
+				// 게임 참가자가 아닌 연결 (serverData 없음)
+				ignored.increment();
+				return;
+			}
+		}
+
+		Event event = new Event(destroyed, sessionId, userId, System.nanoTime());
+		if (!pending.add(event.key())) {
+			duplicates.increment();
+			return;
+		}
+		if (!buffer.offer(event)) {
+			pending.remove(event.key());
+			dropped.increment();
+			log.warn("[Webhook] 버퍼가 가득 차 이벤트를 버립니다. ({} {})", type, sessionId);
+			return;
+		}
+		accepted.increment();
+	}
+
+	private UUID parseUserId(Object serverData) {
+		if (!(serverData instanceof String raw) || raw.isBlank()) {
+			return null;
+		}
+		try {
+			String userId = objectMapper.readTree(raw).path("userId").asText(null);
+			return userId == null ? null : UUID.fromString(userId);
+		} catch (Exception e) {
+			log.debug("[Webhook] serverData 파싱 실패: {}", raw);
+			return null;
+		}
+	}
+
+	private void run() {
+		while (running) {
+			try {
+				processPending(1, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception e) {
+				log.error("[Webhook] 이벤트 처리 중 오류: {}", e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * 이벤트가 들어올 때까지 최대 timeout 기다린 뒤 쌓인 만큼(최대 batch-size) 처리
+	 *
+	 * @return 처리한 이벤트 수
+	 */
+	int processPending(long timeout, TimeUnit unit) throws InterruptedException {
+		Event first = buffer.poll(timeout, unit);
+		if (first == null) {
+			return 0;
+		}
+		List<Event> batch = new ArrayList<>(batchSize);
+		batch.add(first);
+		buffer.drainTo(batch, batchSize - 1);
+		process(batch);
+		return batch.size();
+	}
+
+	private void process(List<Event> batch) {
+		long startedAt = System.nanoTime();
+		Set<String> destroyedSessions = new LinkedHashSet<>();
+		List<Event> left = new ArrayList<>();
+		for (Event event : batch) {
+			pending.remove(event.key());
+			lagTimer.record(startedAt - event.receivedAt(), TimeUnit.NANOSECONDS);
+			if (!event.destroyed()) {
+				left.add(event);
+			} else if (!sessionProvisioner.evict(event.sessionId())) {
+				// 풀의 빈 세션이 아니면 방 세션
+				destroyedSessions.add(event.sessionId());
+			}
+		}
+		batchSummary.record(batch.size());
+
+		// 방이 통째로 지워질 세션의 퇴장은 처리할 필요 없음
+		left.removeIf(event -> destroyedSessions.contains(event.sessionId()));
+		if (left.isEmpty() && destroyedSessions.isEmpty()) {
+			return;
+		}
+		Map<String, Long> roomIds = findRoomIds(left, destroyedSessions);
+		handleParticipantsLeft(left, roomIds);
+		destroyRooms(destroyedSessions, roomIds);
+	}
+
+	// 세션 ID → 방 ID (퇴장/종료 세션을 한 번에 조회)
+	private Map<String, Long> findRoomIds(List<Event> left, Set<String> destroyedSessions) {
+		Set<String> sessionIds = new LinkedHashSet<>(destroyedSessions);
+		left.forEach(event -> sessionIds.add(event.sessionId()));
+		Map<String, Long> roomIds = new HashMap<>();
+		for (Room room : roomRepository.findAllBySessionIdIn(sessionIds)) {
+			roomIds.put(room.getSessionId(), room.getId());
+		}
+		return roomIds;
+	}
+
+	private void handleParticipantsLeft(List<Event> left, Map<String, Long> roomIds) {
+		for (Event event : left) {
+			Long roomId = roomIds.get(event.sessionId());
+			// 네트워크가 잠깐 끊겨도 WebRTC 연결이 끊기면서 오는 이벤트 → 바로 퇴장시키지 않고 유예
+			if (roomId != null) {
+				roomReconnectService.handleDisconnect(roomId, event.userId());
+			}
+		}
+	}
+
+	// 게임 상태와 같이 지워야 하므로 방 메일박스에서 삭제 (배치의 방을 한꺼번에 넘기고 모두 끝날 때까지 기다림)
+	private void destroyRooms(Set<String> sessionIds, Map<String, Long> roomIds) {
+		Map<String, CompletableFuture<Boolean>> calls = new LinkedHashMap<>();
+		for (String sessionId : sessionIds) {
+			Long roomId = roomIds.get(sessionId);
+			if (roomId != null) {
+				calls.put(sessionId, mailboxDispatcher.call(roomId, () -> roomService.destroyRoom(roomId)));
+			}
+		}
+		CompletableFuture.allOf(calls.values().toArray(CompletableFuture<?>[]::new))
+			.exceptionally(e -> null)
+			.join();
+
+		int destroyed = 0;
+		for (Map.Entry<String, CompletableFuture<Boolean>> call : calls.entrySet()) {
+			try {
+				if (call.getValue().join()) {
+					destroyed++;
+				}
+			} catch (CompletionException e) {
+				failures.increment();
+				log.warn("[Webhook] 방 삭제 실패 (room={}, session={}): {}", roomIds.get(call.getKey()), call.getKey(),
+					e.getCause().getMessage());
+			}
+		}
+		if (destroyed > 0) {
+			log.info("[Webhook] 세션 종료로 방 {}개 삭제", destroyed);
+		}
+	}
+
+	private record Event(boolean destroyed, String sessionId, UUID userId, long receivedAt) {
+		String key() {
+			return destroyed ? SESSION_DESTROYED + ':' + sessionId : PARTICIPANT_LEFT + ':' + sessionId + ':' + userId;
+		}
+	}
+}
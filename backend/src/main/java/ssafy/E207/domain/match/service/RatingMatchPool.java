@@ -0,0 +1,151 @@
+package ssafy.E207.domain.match.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import ssafy.E207.domain.match.dto.PendingUser;
+
+/**
+ * 레이팅 구간별 대기 풀 (매처 스레드 전용, 스레드 안전하지 않음)
+ *
+ * - TreeMap<레이팅, 도착순 deque> → 가까운 레이팅 탐색/삽입 O(log n)
+ * - 허용 범위: 기본 ±100, 5초마다 +50, 최대 ±1000
+ * - 취소된 유저는 즉시 빼지 않고 탐색/스윕 중에 isLive로 걸러냄
+ */
+class RatingMatchPool {
+	static final int BASE_WINDOW = 100;
+	static final int WIDEN_STEP = 50;
+	static final long WIDEN_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+	static final int MAX_WINDOW = 1000;
+
+	private final TreeMap<Integer, ArrayDeque<PendingUser>> buckets = new TreeMap<>();
+	private int size;
+
+	static int window(PendingUser pendingUser, long now) {
+		long widened = (now - pendingUser.enqueuedAt()) / WIDEN_INTERVAL_NANOS * WIDEN_STEP;
+		return (int)Math.min(MAX_WINDOW, BASE_WINDOW + widened);
+	}
+
+	// 둘 중 한 명이라도 허용 범위 안이면 매칭 (오래 기다린 쪽의 넓어진 범위를 활용)
+	static boolean acceptable(PendingUser a, PendingUser b, long now) {
+		int diff = Math.abs(a.rating() - b.rating());
+		return diff <= Math.max(window(a, now), window(b, now));
+	}
+
+	/**
+	 * 새로 도착한 유저의 허용 범위 안에서 가장 가까운 레이팅의 상대를 꺼낸다.
+	 * 상대가 없으면 null (풀에 넣지는 않음)
+	 */
+	PendingUser pollPartner(PendingUser pendingUser, long now, Predicate<PendingUser> isLive) {
+		int rating = pendingUser.rating();
+		int window = window(pendingUser, now);
+		Integer lower = buckets.floorKey(rating);
+		Integer upper = buckets.higherKey(rating);
+
+		while (lower != null || upper != null) {
+			boolean pickLower = upper == null || (lower != null && rating - lower <= upper - rating);
+			int key = pickLower ? lower : upper;
+			if (Math.abs(key - rating) > window) {
+				return null;
+			}
+
+			PendingUser partner = pollLive(key, isLive);
+			if (partner != null) {
+				return partner;
+			}
+			// 해당 구간이 비었으면 다음 구간으로
+			if (pickLower) {
+				lower = buckets.lowerKey(key);
+			} else {
+				upper = buckets.higherKey(key);
+			}
+		}
+		return null;
+	}
+
+	void add(PendingUser pendingUser) {
+		buckets.computeIfAbsent(pendingUser.rating(), k -> new ArrayDeque<>()).addLast(pendingUser);
+		size++;
+	}
+
+	/**
+	 * 대기 시간이 지나 범위가 넓어진 유저끼리 짝 맞추기.
+	 * 레이팅 순으로 인접한 두 명만 비교하므로 O(n)
+	 *
+	 * @return 풀에서 꺼낸 짝 목록
+	 */
+	List<PendingUser[]> sweep(long now, Predicate<PendingUser> isLive) {
+		// 1. 취소된 유저 정리 + 레이팅 순 나열
+		List<PendingUser> ordered = new ArrayList<>(size);
+		Iterator<Map.Entry<Integer, ArrayDeque<PendingUser>>> bucketIt = buckets.entrySet().iterator();
+		while (bucketIt.hasNext()) {
+			ArrayDeque<PendingUser> bucket = bucketIt.next().getValue();
+			Iterator<PendingUser> it = bucket.iterator();
+			while (it.hasNext()) {
+				PendingUser current = it.next();
+				if (isLive.test(current)) {
+					ordered.add(current);
+				} else {
+					it.remove();
+					size--;
+				}
+			}
+			if (bucket.isEmpty()) {
+				bucketIt.remove();
+			}
+		}
+
+		// 2. 인접한 두 명씩 비교해서 짝 맞추기
+		List<PendingUser[]> pairs = new ArrayList<>();
+		int i = 0;
+		while (i + 1 < ordered.size()) {
+			PendingUser a = ordered.get(i);
+			PendingUser b = ordered.get(i + 1);
+			if (acceptable(a, b, now)) {
+				remove(a);
+				remove(b);
+				pairs.add(new PendingUser[] {a, b});
+				i += 2;
+			} else {
+				i++;
+			}
+		}
+		return pairs;
+	}
+
+	int size() {
+		return size;
+	}
+
+	private PendingUser pollLive(int key, Predicate<PendingUser> isLive) {
+		ArrayDeque<PendingUser> bucket = buckets.get(key);
+		PendingUser found = null;
+		while (found == null && !bucket.isEmpty()) {
+			PendingUser candidate = bucket.pollFirst();
+			size--;
+			if (isLive.test(candidate)) {
+				found = candidate;
+			}
+		}
+		if (bucket.isEmpty()) {
+			buckets.remove(key);
+		}
+		return found;
+	}
+
+	private void remove(PendingUser pendingUser) {
+		ArrayDeque<PendingUser> bucket = buckets.get(pendingUser.rating());
+		if (bucket != null && bucket.remove(pendingUser)) {
+			size--;
+			if (bucket.isEmpty()) {
+				buckets.remove(pendingUser.rating());
+			}
+		}
+	}
+}
@@ -0,0 +1,335 @@
+package ssafy.E207.domain.match.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import ssafy.E207.domain.match.dto.PendingUser;
+import ssafy.E207.global.common.util.RedisLease;
+
+/**
+ * Redis 기반 매칭 대기열 (blue/green 등 여러 서버가 하나의 풀을 공유)
+ *
+ * - matchmaking:waiting ZSET  "userId|레이팅|진입시각(ms)|electron(0/1)|nodeId" → 레이팅
+ * - matchmaking:users   HASH  userId → 위 멤버 (중복 진입 확인/취소용)
+ *
+ * 진입/이탈/짝 맞추기는 전부 Lua 스크립트로 원자적으로 처리 → 한 쌍은 정확히 한 서버만 가져감.
+ * 짝을 가져간 서버가 방을 만들고, 상대 유저의 세션이 다른 서버에 있으면
+ * matchmaking:notify:{nodeId} 채널로 결과를 넘겨서 그 서버가 전달한다.
+ *
+ * 스윕 (넓어진 범위로 다시 짝 맞추기)
+ * - 임대(matchmaking:sweeper)를 가진 서버 한 대만 1초마다 실행
+ * - 한 번에 레이팅 순으로 matchmaking.redis.sweep-scan-size 명(기본 1000)만 읽고,
+ *   다음 시작 순위를 matchmaking:sweep:cursor 에 저장해서 이어감 (끝까지 가면 처음부터)
+ * - 진입 시각이 멤버에 들어 있어서 유저마다 따로 조회하지 않음
+ *
+ * 범위 규칙은 {@link RatingMatchPool}과 동일 (기본 ±100, 5초마다 +50, 최대 ±1000)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "matchmaking.queue", havingValue = "redis")
+public class RedisMatchmakingQueue implements MatchmakingQueue, MessageListener {
+	static final String POOL_KEY = "matchmaking:waiting";
+	static final String USERS_KEY = "matchmaking:users";
+	static final String SWEEP_CURSOR_KEY = "matchmaking:sweep:cursor";
+	static final String SWEEPER_KEY = "matchmaking:sweeper";
+	static final String NOTIFY_CHANNEL_PREFIX = "matchmaking:notify:";
+	private static final long SWEEP_INTERVAL_MILLIS = 1000;
+	private static final long SWEEPER_TTL_MILLIS = 5 * SWEEP_INTERVAL_MILLIS;
+	// 한 번의 스윕에서 가져갈 최대 쌍 수 (Redis 블로킹 시간 제한)
+	private static final int SWEEP_MAX_PAIRS = 100;
+
+	// 반환: {0} 이미 대기 중 / {1} 대기열 진입 / {2, 상대 멤버} 즉시 매칭
+	private static final RedisScript<List<Object>> ENQUEUE_SCRIPT = listScript("""
+		if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 1 then
+			return {0}
+		end
+		local rating = tonumber(ARGV[2])
+		local window = tonumber(ARGV[4])
+		local below = redis.call('ZREVRANGEBYSCORE', KEYS[1], rating, rating - window, 'WITHSCORES', 'LIMIT', 0, 1)
+		local above = redis.call('ZRANGEBYSCORE', KEYS[1], '(' .. rating, rating + window, 'WITHSCORES', 'LIMIT', 0, 1)
+		local partner = nil
+		local diff = nil
+		if #below > 0 then
+			partner = below[1]
+			diff = rating - tonumber(below[2])
+		end
+		if #above > 0 and (partner == nil or tonumber(above[2]) - rating < diff) then
+			partner = above[1]
+		end
+		if partner then
+			redis.call('ZREM', KEYS[1], partner)
+			redis.call('HDEL', KEYS[2], string.match(partner, '^[^|]*'))
+			return {2, partner}
+		end
+		redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+		redis.call('ZADD', KEYS[1], rating, ARGV[3])
+		return {1}
+		""");
+
+	private static final RedisScript<Long> CANCEL_SCRIPT = new DefaultRedisScript<>("""
+		local member = redis.call('HGET', KEYS[2], ARGV[1])
+		if member then
+			redis.call('HDEL', KEYS[2], ARGV[1])
+			redis.call('ZREM', KEYS[1], member)
+			return 1
+		end
+		return 0
+		""", Long.class);
+
+	// 커서 순위부터 scanSize 명을 레이팅 순으로 읽어 인접한 두 명씩 비교해서 짝을 꺼냄
+	// 반환: {멤버1, 멤버2, ...}
+	private static final RedisScript<List<Object>> SWEEP_SCRIPT = listScript("""
+		local now = tonumber(ARGV[1])
+		local base = tonumber(ARGV[2])
+		local step = tonumber(ARGV[3])
+		local interval = tonumber(ARGV[4])
+		local maxWindow = tonumber(ARGV[5])
+		local maxPairs = tonumber(ARGV[6])
+		local scanSize = tonumber(ARGV[7])
+		local start = tonumber(redis.call('GET', KEYS[3]) or '0')
+		local members = redis.call('ZRANGE', KEYS[1], start, start + scanSize - 1, 'WITHSCORES')
+		if #members == 0 and start > 0 then
+			start = 0
+			members = redis.call('ZRANGE', KEYS[1], 0, scanSize - 1, 'WITHSCORES')
+		end
+		local result = {}
+		local matched = 0
+		local scanned = 0
+		local prev, prevRating, prevWindow = nil, nil, nil
+		for i = 1, #members, 2 do
+			local member = members[i]
+			local rating = tonumber(members[i + 1])
+			local enqueuedAt = tonumber(string.match(member, '^[^|]*|[^|]*|([^|]*)'))
+			local window = math.min(maxWindow, base + math.floor((now - enqueuedAt) / interval) * step)
+			scanned = scanned + 1
+			if prev and rating - prevRating <= math.max(window, prevWindow) then
+				redis.call('ZREM', KEYS[1], prev, member)
+				redis.call('HDEL', KEYS[2], string.match(prev, '^[^|]*'), string.match(member, '^[^|]*'))
+				table.insert(result, prev)
+				table.insert(result, member)
+				prev = nil
+				matched = matched + 1
+				if matched >= maxPairs then
+					break
+				end
+			else
+				prev, prevRating, prevWindow = member, rating, window
+			end
+		end
+		-- 꺼낸 만큼 순위가 당겨짐, 짝이 없던 마지막 유저는 다음 구간 첫 유저와 다시 비교
+		local nextStart = start + scanned - 2 * matched
+		if matched < maxPairs then
+			if #members < 2 * scanSize then
+				nextStart = 0
+			elseif prev then
+				nextStart = nextStart - 1
+			end
+		end
+		redis.call('SET', KEYS[3], nextStart)
+		return result
+		""");
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final SimpMessageSendingOperations messageTemplate;
+	private final SimpUserRegistry userRegistry;
+	private final ObjectMapper objectMapper;
+	private final String nodeId;
+	private final int sweepScanSize;
+	private final RedisLease sweeperLease;
+	private final Timer timeToMatch;
+	private final ChannelTopic notifyTopic;
+
+	private BiConsumer<PendingUser, PendingUser> onMatched;
+	private ScheduledExecutorService sweeper;
+
+	public RedisMatchmakingQueue(StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		SimpMessageSendingOperations messageTemplate,
+		SimpUserRegistry userRegistry,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${matchmaking.node-id:}") String nodeId,
+		@Value("${matchmaking.redis.sweep-scan-size:1000}") int sweepScanSize) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.messageTemplate = messageTemplate;
+		this.userRegistry = userRegistry;
+		this.objectMapper = objectMapper;
+		this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+		this.notifyTopic = new ChannelTopic(NOTIFY_CHANNEL_PREFIX + this.nodeId);
+		// 인접한 두 명을 비교하므로 최소 2명
+		this.sweepScanSize = Math.max(2, sweepScanSize);
+		this.sweeperLease = new RedisLease(redisTemplate, SWEEPER_KEY, SWEEPER_TTL_MILLIS);
+		this.timeToMatch = Timer.builder("matchmaking.time_to_match")
+			.description("대기열 진입부터 상대가 정해지기까지 걸린 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		Gauge.builder("matchmaking.queue.depth", redisTemplate, RedisMatchmakingQueue::poolSize)
+			.description("매칭 대기 중인 유저 수 (클러스터 전체)")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public void start(BiConsumer<PendingUser, PendingUser> onMatched) {
+		this.onMatched = onMatched;
+		listenerContainer.addMessageListener(this, notifyTopic);
+		this.sweeper = Executors.newSingleThreadScheduledExecutor(
+			Thread.ofPlatform().name("matchmaking-redis-sweeper").daemon().factory());
+		sweeper.scheduleWithFixedDelay(this::sweepSafely, SWEEP_INTERVAL_MILLIS, SWEEP_INTERVAL_MILLIS,
+			TimeUnit.MILLISECONDS);
+		log.info("[Matchmaking] Redis 대기열 사용 (nodeId: {})", nodeId);
+	}
+
+	@Override
+	public void stop() {
+		sweeper.shutdownNow();
+		sweeperLease.release();
+		listenerContainer.removeMessageListener(this, notifyTopic);
+	}
+
+	@Override
+	public boolean enqueue(UUID userId, boolean isElectron, int rating) {
+		long now = System.currentTimeMillis();
+		String member = userId + "|" + rating + "|" + now + "|" + (isElectron ? 1 : 0) + "|" + nodeId;
+		List<Object> result = redisTemplate.execute(ENQUEUE_SCRIPT, List.of(POOL_KEY, USERS_KEY),
+			userId.toString(), String.valueOf(rating), member, String.valueOf(RatingMatchPool.BASE_WINDOW));
+
+		long status = ((Number)result.get(0)).longValue();
+		if (status == 0) {
+			return false;
+		}
+		if (status == 2) {
+			PendingUser partner = toPendingUser((String)result.get(1), now);
+			PendingUser newcomer = toPendingUser(member, now);
+			claimed(partner, newcomer);
+		}
+		return true;
+	}
+
+	@Override
+	public boolean cancel(UUID userId) {
+		Long removed = redisTemplate.execute(CANCEL_SCRIPT, List.of(POOL_KEY, USERS_KEY), userId.toString());
+		return removed != null && removed == 1;
+	}
+
+	@Override
+	public int size() {
+		return (int)poolSize(redisTemplate);
+	}
+
+	private static double poolSize(StringRedisTemplate redisTemplate) {
+		Long size = redisTemplate.opsForZSet().zCard(POOL_KEY);
+		return size == null ? 0 : size;
+	}
+
+	@Override
+	public void deliver(PendingUser user, Object payload) {
+		String userId = user.userId().toString();
+		if (nodeId.equals(user.nodeId()) || userRegistry.getUser(userId) != null) {
+			messageTemplate.convertAndSendToUser(userId, MATCH_DESTINATION, payload);
+			return;
+		}
+		try {
+			String message = objectMapper.writeValueAsString(Map.of("userId", userId, "payload", payload));
+			redisTemplate.convertAndSend(NOTIFY_CHANNEL_PREFIX + user.nodeId(), message);
+		} catch (Exception e) {
+			log.error("[Matchmaking] 매칭 알림 전달 실패: {} → {}", userId, user.nodeId(), e);
+		}
+	}
+
+	// 다른 서버가 넘긴 매칭 알림 → 이 서버에 붙은 유저에게 전달
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			JsonNode node = objectMapper.readTree(message.getBody());
+			Map<?, ?> payload = objectMapper.convertValue(node.get("payload"), Map.class);
+			messageTemplate.convertAndSendToUser(node.get("userId").asText(), MATCH_DESTINATION, payload);
+		} catch (Exception e) {
+			log.error("[Matchmaking] 매칭 알림 수신 처리 실패: {}", e.getMessage(), e);
+		}
+	}
+
+	void sweep() {
+		long now = System.currentTimeMillis();
+		List<Object> result = redisTemplate.execute(SWEEP_SCRIPT, List.of(POOL_KEY, USERS_KEY, SWEEP_CURSOR_KEY),
+			String.valueOf(now),
+			String.valueOf(RatingMatchPool.BASE_WINDOW),
+			String.valueOf(RatingMatchPool.WIDEN_STEP),
+			String.valueOf(TimeUnit.NANOSECONDS.toMillis(RatingMatchPool.WIDEN_INTERVAL_NANOS)),
+			String.valueOf(RatingMatchPool.MAX_WINDOW),
+			String.valueOf(SWEEP_MAX_PAIRS),
+			String.valueOf(sweepScanSize));
+
+		for (int i = 0; i + 1 < result.size(); i += 2) {
+			claimed(toPendingUser((String)result.get(i), now), toPendingUser((String)result.get(i + 1), now));
+		}
+	}
+
+	// 임대를 가진 서버만 스윕 (아니면 false)
+	boolean sweepIfLeader() {
+		if (!sweeperLease.acquire()) {
+			return false;
+		}
+		sweep();
+		return true;
+	}
+
+	private void sweepSafely() {
+		try {
+			sweepIfLeader();
+		} catch (Exception e) {
+			log.error("[Matchmaking] Redis 대기열 스윕 실패: {}", e.getMessage(), e);
+		}
+	}
+
+	private void claimed(PendingUser first, PendingUser second) {
+		long nowNanos = System.nanoTime();
+		timeToMatch.record(nowNanos - first.enqueuedAt(), TimeUnit.NANOSECONDS);
+		timeToMatch.record(nowNanos - second.enqueuedAt(), TimeUnit.NANOSECONDS);
+		onMatched.accept(first, second);
+	}
+
+	// 서버마다 nanoTime 기준이 달라서 Redis에는 ms 시각을 저장하고, 꺼낼 때 이 서버의 nanoTime으로 환산
+	private static PendingUser toPendingUser(String member, long nowMillis) {
+		String[] fields = member.split("\\|", 5);
+		long waitedMillis = Math.max(0, nowMillis - Long.parseLong(fields[2]));
+		return new PendingUser(
+			UUID.fromString(fields[0]),
+			"1".equals(fields[3]),
+			Integer.parseInt(fields[1]),
+			System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(waitedMillis),
+			fields[4]);
+	}
+
+	// Lua 가 돌려주는 배열은 타입 정보 없이 List 로 받음
+	@SuppressWarnings("unchecked")
+	private static RedisScript<List<Object>> listScript(String script) {
+		return (RedisScript<List<Object>>)(RedisScript<?>)new DefaultRedisScript<>(script, List.class);
+	}
+}
@@ -0,0 +1,60 @@
+package ssafy.E207.domain.match.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.openvidu.java.client.OpenVidu;
+import ssafy.E207.domain.match.entity.Room;
+import ssafy.E207.domain.match.repository.RoomRepository;
+
+/**
+ * 클러스터용 세션 레지스트리
+ *
+ * openvidu:session:{roomId} → 세션 ID (TTL)
+ * Redis에 없으면 DB(Room.sessionId)에서 찾아 다시 저장
+ */
+@Component
+@ConditionalOnProperty(name = "openvidu.session-registry", havingValue = "redis")
+public class RedisSessionRegistry extends CachingSessionRegistry {
+	private static final String KEY_PREFIX = "openvidu:session:";
+
+	private final StringRedisTemplate redisTemplate;
+	private final RoomRepository roomRepository;
+
+	public RedisSessionRegistry(OpenVidu openVidu, MeterRegistry meterRegistry, StringRedisTemplate redisTemplate,
+		RoomRepository roomRepository,
+		@Value("${openvidu.session-registry.max-size:10000}") long maxSize,
+		@Value("${openvidu.session-registry.ttl-hours:6}") long ttlHours) {
+		super(openVidu, meterRegistry, maxSize, Duration.ofHours(ttlHours));
+		this.redisTemplate = redisTemplate;
+		this.roomRepository = roomRepository;
+	}
+
+	@Override
+	protected String lookupSessionId(Long roomId) {
+		String sessionId = redisTemplate.opsForValue().get(KEY_PREFIX + roomId);
+		if (sessionId != null) {
+			return sessionId;
+		}
+		sessionId = roomRepository.findById(roomId).map(Room::getSessionId).orElse(null);
+		if (sessionId != null) {
+			storeSessionId(roomId, sessionId);
+		}
+		return sessionId;
+	}
+
+	@Override
+	protected void storeSessionId(Long roomId, String sessionId) {
+		redisTemplate.opsForValue().set(KEY_PREFIX + roomId, sessionId, ttl);
+	}
+
+	@Override
+	protected void removeSessionId(Long roomId) {
+		redisTemplate.delete(KEY_PREFIX + roomId);
+	}
+}
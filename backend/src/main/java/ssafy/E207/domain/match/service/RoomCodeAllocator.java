@@ -0,0 +1,247 @@
+package ssafy.E207.domain.match.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방 입장 코드 발급 (DB 존재 여부 조회 없음)
+ *
+ * <pre>
+ * 1. room_code_block 의 next_block 을 1 올려 카운터 구간 [block * block-size, +block-size) 를 이 서버가 예약
+ * 2. 구간 안의 카운터를 메모리에서 하나씩 꺼내 24비트 Feistel 순열에 통과 → 6자리 16진수 코드
+ *    → 순열은 전단사이므로 카운터가 겹치지 않으면 코드도 겹치지 않음 (서버 여러 대여도 블록이 다름)
+ * 3. 방이 삭제되면 커밋 후 코드를 반납 → recycle-delay 가 지난 코드부터 카운터보다 먼저 재사용
+ * </pre>
+ *
+ * - 코드 공간은 16^6 (약 1,677만) 개, 카운터가 한 바퀴 돌면 처음 코드부터 다시 사용
+ *   (그때까지 남아 있는 방 또는 이전 방식의 랜덤 코드와 겹치면 room_code 유니크 제약에서 실패 → RoomService 가 다음 코드로 재시도)
+ *   이때 반납 목록의 코드도 카운터가 다시 발급하게 되므로 반납 목록은 비움
+ * - 반납 목록은 반납한 서버 메모리에만 있으므로 다른 서버가 같은 코드를 받을 일이 없음 (재시작 시 버려짐)
+ *
+ * 설정
+ * - room.code.secret: 순열 키 (운영 중 바꾸면 살아 있는 방 코드와 겹칠 수 있음)
+ * - room.code.block-size: 한 번에 예약할 카운터 수 (기본 1000)
+ * - room.code.recycle-delay-seconds: 반납 후 재사용까지 대기 (기본 600, 이전 초대 링크로 새 방에 들어가는 것 방지)
+ * - room.code.max-recycled: 반납 목록 최대 크기 (기본 10000, 넘치면 버림)
+ */
+@Slf4j
+@Component
+public class RoomCodeAllocator {
+	static final int CODE_LENGTH = 6;
+	private static final int HALF_BITS = 12;
+	private static final int HALF_MASK = (1 << HALF_BITS) - 1;
+	static final long CODE_SPACE = 1L << (HALF_BITS * 2);
+	private static final int ROUNDS = 4;
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+	private static final String BUMP_BLOCK = "UPDATE room_code_block SET next_block = next_block + 1 WHERE id = 1";
+	private static final String INSERT_BLOCK = "INSERT INTO room_code_block (id, next_block) VALUES (1, 1)";
+	private static final String SELECT_BLOCK = "SELECT next_block FROM room_code_block WHERE id = 1";
+
+	private final JdbcTemplate jdbcTemplate;
+	// 방 생성 트랜잭션이 롤백돼도 예약한 블록은 남아야 함 (다른 서버와 겹치지 않도록)
+	private final TransactionTemplate blockTransactionTemplate;
+	private final long key;
+	private final int blockSize;
+	private final long recycleDelayNanos;
+	private final int maxRecycled;
+
+	private final Queue<Released> recycled = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger recycledSize = new AtomicInteger();
+
+	// 현재 예약한 구간 [next, end)
+	private long next;
+	private long end;
+	// 현재 구간이 카운터 몇 바퀴째인지 (아직 예약 전이면 -1)
+	private long cycle = -1;
+
+	private final Counter issued;
+	private final Counter reused;
+	private final Counter blocks;
+
+	public RoomCodeAllocator(JdbcTemplate jdbcTemplate,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${room.code.secret:E207}") String secret,
+		@Value("${room.code.block-size:1000}") int blockSize,
+		@Value("${room.code.recycle-delay-seconds:600}") long recycleDelaySeconds,
+		@Value("${room.code.max-recycled:10000}") int maxRecycled) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.blockTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.blockTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.key = UUID.nameUUIDFromBytes(secret.getBytes(StandardCharsets.UTF_8)).getMostSignificantBits();
+		this.blockSize = blockSize;
+		this.recycleDelayNanos = TimeUnit.SECONDS.toNanos(recycleDelaySeconds);
+		this.maxRecycled = maxRecycled;
+
+		this.issued = Counter.builder("room.code.allocations")
+			.description("방 코드 발급 수")
+			.tag("source", "counter")
+			.register(meterRegistry);
+		this.reused = Counter.builder("room.code.allocations")
+			.description("방 코드 발급 수")
+			.tag("source", "recycled")
+			.register(meterRegistry);
+		this.blocks = Counter.builder("room.code.blocks")
+			.description("예약한 카운터 블록 수")
+			.register(meterRegistry);
+		Gauge.builder("room.code.recycled", recycledSize, AtomicInteger::get)
+			.description("재사용 대기 중인 방 코드 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 새 방 코드 (반납된 코드 우선)
+	 */
+	public String allocate() {
+		String code = pollRecycled();
+		if (code != null) {
+			reused.increment();
+			return code;
+		}
+		issued.increment();
+		return encode(nextCounter(), key);
+	}
+
+	/**
+	 * 삭제된 방의 코드 반납 (트랜잭션 안이면 커밋 후에 반영)
+	 */
+	public void release(String code) {
+		if (code == null || code.length() != CODE_LENGTH) {
+			return;
+		}
+		afterCommit(() -> {
+			if (recycledSize.incrementAndGet() > maxRecycled) {
+				recycledSize.decrementAndGet();
+				return;
+			}
+			recycled.add(new Released(code, System.nanoTime()));
+		});
+	}
+
+	private String pollRecycled() {
+		Released head;
+		while ((head = recycled.peek()) != null) {
+			// 먼저 반납된 코드가 앞에 있으므로 맨 앞이 아직이면 나머지도 아직
+			if (System.nanoTime() - head.releasedAt() < recycleDelayNanos) {
+				return null;
+			}
+			if (recycled.remove(head)) {
+				recycledSize.decrementAndGet();
+				return head.code();
+			}
+		}
+		return null;
+	}
+
+	private synchronized long nextCounter() {
+		if (next == end) {
+			long block = reserveBlock();
+			next = block * blockSize;
+			end = next + blockSize;
+			long blockCycle = (end - 1) / CODE_SPACE;
+			if (cycle >= 0 && blockCycle != cycle) {
+				clearRecycled();
+			}
+			cycle = blockCycle;
+		}
+		return next++ % CODE_SPACE;
+	}
+
+	private void clearRecycled() {
+		while (recycled.poll() != null) {
+			recycledSize.decrementAndGet();
+		}
+	}
+
+	private long reserveBlock() {
+		long block = blockTransactionTemplate.execute(status -> {
+			if (jdbcTemplate.update(BUMP_BLOCK) == 0) {
+				try {
+					jdbcTemplate.update(INSERT_BLOCK);
+					return 0L;
+				} catch (DuplicateKeyException e) {
+					// 다른 서버가 먼저 행을 만든 경우
+					jdbcTemplate.update(BUMP_BLOCK);
+				}
+			}
+			return jdbcTemplate.queryForObject(SELECT_BLOCK, Long.class) - 1;
+		});
+		blocks.increment();
+		if (block > 0 && block * blockSize % CODE_SPACE < blockSize) {
+			log.warn("[RoomCode] 코드 공간을 한 바퀴 돌아 처음 코드부터 다시 발급합니다. (block={})", block);
+		}
+		return block;
+	}
+
+	/**
+	 * 24비트 카운터 → 6자리 16진수 코드
+	 */
+	static String encode(long counter, long key) {
+		int value = permute(counter, key);
+		char[] code = new char[CODE_LENGTH];
+		for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+			code[i] = HEX[value & 0xF];
+			value >>>= 4;
+		}
+		return new String(code);
+	}
+
+	/**
+	 * 12비트씩 나눈 4라운드 Feistel (같은 key 안에서 24비트 공간의 전단사)
+	 */
+	static int permute(long counter, long key) {
+		int left = (int)(counter >>> HALF_BITS) & HALF_MASK;
+		int right = (int)counter & HALF_MASK;
+		for (int round = 0; round < ROUNDS; round++) {
+			int mixed = left ^ roundFunction(right, key, round);
+			left = right;
+			right = mixed;
+		}
+		return (left << HALF_BITS) | right;
+	}
+
+	private static int roundFunction(int half, long key, int round) {
+		long x = ((long)round << HALF_BITS | half) ^ key;
+		x *= 0x9E3779B97F4A7C15L;
+		x ^= x >>> 32;
+		x *= 0xBF58476D1CE4E5B9L;
+		x ^= x >>> 29;
+		return (int)x & HALF_MASK;
+	}
+
+	private static void afterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	private record Released(String code, long releasedAt) {
+	}
+}
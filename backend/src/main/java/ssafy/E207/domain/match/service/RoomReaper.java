@@ -0,0 +1,281 @@
+package ssafy.E207.domain.match.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.openvidu.java.client.OpenVidu;
+import io.openvidu.java.client.Session;
+import lombok.extern.slf4j.Slf4j;
+import ssafy.E207.domain.match.dto.ReapCandidate;
+import ssafy.E207.domain.match.dto.StaleParticipant;
+import ssafy.E207.domain.match.game.RoomMailboxDispatcher;
+import ssafy.E207.domain.match.repository.RoomParticipantRepository;
+import ssafy.E207.domain.match.repository.RoomRepository;
+import ssafy.E207.global.common.enums.RoomStatus;
+
+/**
+ * 방 / 참가자 정리 (주기 실행)
+ *
+ * <pre>
+ * 1. 끊긴 지 disconnected-after 이상 지난 참가자 (재연결 유예를 처리하던 서버가 죽은 경우)
+ *    → id 키셋으로 chunk-size 씩 읽어 방별로 삭제, 그래서 빈 방이 되면 방도 삭제
+ * 2. 방 전체를 id 키셋으로 chunk-size 씩 읽으며 (만든 지 session-grace 이상 지난 방만)
+ *    - TERMINATED 이고 terminated-after 동안 변경 없음
+ *    - OpenVidu 에 세션이 없음 (웹훅 유실/버림) → 실행마다 활성 세션 목록을 한 번만 받아서 비교
+ *    → RoomService.destroyRoom 으로 삭제
+ * </pre>
+ *
+ * - 삭제는 게임 상태와 같이 방 메일박스에서 실행 (청크의 방을 한꺼번에 넘기고 모두 끝날 때까지 기다림,
+ *   실패한 방은 다음 실행에서 다시)
+ * - 게임 트래픽과 겹치지 않도록 초당 max-rows-per-second 행까지만 읽음 (청크 사이에 대기)
+ * - 대기하는 동안 스케줄러 스레드를 잡지 않도록 실행은 가상 스레드에서, 이전 실행이 안 끝났으면 건너뜀
+ * - OpenVidu 세션 목록을 못 받으면 이번에는 TERMINATED 방만 정리
+ *
+ * 설정
+ * - room.reaper.enabled: 실행 여부 (기본 true, 서버 여러 대면 한 대만 켜도 됨)
+ * - room.reaper.interval-millis: 주기 (기본 300000)
+ * - room.reaper.chunk-size: 한 번에 읽을 행 수 (기본 500)
+ * - room.reaper.max-rows-per-second: 초당 읽을 행 수 상한 (기본 2000)
+ * - room.reaper.terminated-after-seconds (기본 600), session-grace-seconds (기본 300),
+ *   disconnected-after-seconds (기본 600)
+ */
+@Slf4j
+@Component
+public class RoomReaper {
+	private final RoomRepository roomRepository;
+	private final RoomParticipantRepository roomParticipantRepository;
+	private final RoomService roomService;
+	private final RoomMailboxDispatcher mailboxDispatcher;
+	private final OpenVidu openVidu;
+	private final boolean enabled;
+	private final int chunkSize;
+	private final int maxRowsPerSecond;
+	private final long terminatedAfterSeconds;
+	private final long sessionGraceSeconds;
+	private final long disconnectedAfterSeconds;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	// 이번 실행에서 마지막으로 읽은 방 id
+	private final AtomicLong progress = new AtomicLong();
+	private final Timer runTimer;
+	private final Counter scanned;
+	private final Counter reclaimedRooms;
+	private final Counter reclaimedParticipants;
+
+	public RoomReaper(RoomRepository roomRepository,
+		RoomParticipantRepository roomParticipantRepository,
+		RoomService roomService,
+		RoomMailboxDispatcher mailboxDispatcher,
+		OpenVidu openVidu,
+		MeterRegistry meterRegistry,
+		@Value("${room.reaper.enabled:true}") boolean enabled,
+		@Value("${room.reaper.chunk-size:500}") int chunkSize,
+		@Value("${room.reaper.max-rows-per-second:2000}") int maxRowsPerSecond,
+		@Value("${room.reaper.terminated-after-seconds:600}") long terminatedAfterSeconds,
+		@Value("${room.reaper.session-grace-seconds:300}") long sessionGraceSeconds,
+		@Value("${room.reaper.disconnected-after-seconds:600}") long disconnectedAfterSeconds) {
+		this.roomRepository = roomRepository;
+		this.roomParticipantRepository = roomParticipantRepository;
+		this.roomService = roomService;
+		this.mailboxDispatcher = mailboxDispatcher;
+		this.openVidu = openVidu;
+		this.enabled = enabled;
+		this.chunkSize = chunkSize;
+		this.maxRowsPerSecond = maxRowsPerSecond;
+		this.terminatedAfterSeconds = terminatedAfterSeconds;
+		this.sessionGraceSeconds = sessionGraceSeconds;
+		this.disconnectedAfterSeconds = disconnectedAfterSeconds;
+
+		this.runTimer = Timer.builder("room.reaper.run")
+			.description("방 정리 한 번 실행 시간")
+			.register(meterRegistry);
+		this.scanned = Counter.builder("room.reaper.scanned")
+			.description("정리 대상인지 확인한 행 수")
+			.register(meterRegistry);
+		this.reclaimedRooms = Counter.builder("room.reaper.reclaimed")
+			.description("정리한 행 수")
+			.tag("type", "room")
+			.register(meterRegistry);
+		this.reclaimedParticipants = Counter.builder("room.reaper.reclaimed")
+			.description("정리한 행 수")
+			.tag("type", "participant")
+			.register(meterRegistry);
+		Gauge.builder("room.reaper.progress", progress, AtomicLong::get)
+			.description("이번 실행에서 마지막으로 확인한 방 id")
+			.register(meterRegistry);
+	}
+
+	@Scheduled(initialDelayString = "${room.reaper.initial-delay-millis:60000}",
+		fixedDelayString = "${room.reaper.interval-millis:300000}")
+	public void schedule() {
+		if (!enabled || !running.compareAndSet(false, true)) {
+			return;
+		}
+		Thread.ofVirtual().name("room-reaper").start(() -> {
+			try {
+				reap();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (Exception e) {
+				log.error("[RoomReaper] 정리 중 오류: {}", e.getMessage(), e);
+			} finally {
+				running.set(false);
+			}
+		});
+	}
+
+	void reap() throws InterruptedException {
+		long startedAt = System.nanoTime();
+		LocalDateTime now = LocalDateTime.now();
+		int participants = reapParticipants(now.minusSeconds(disconnectedAfterSeconds));
+		int rooms = reapRooms(now, fetchLiveSessionIds());
+		runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		if (participants > 0 || rooms > 0) {
+			log.info("[RoomReaper] 방 {}개, 참가자 {}명 정리", rooms, participants);
+		}
+	}
+
+	private int reapParticipants(LocalDateTime disconnectedBefore) throws InterruptedException {
+		long afterId = 0;
+		int removed = 0;
+		while (true) {
+			long chunkStartedAt = System.nanoTime();
+			List<StaleParticipant> chunk = roomParticipantRepository.findStale(afterId, disconnectedBefore,
+				PageRequest.ofSize(chunkSize));
+			if (chunk.isEmpty()) {
+				return removed;
+			}
+			afterId = chunk.get(chunk.size() - 1).id();
+			scanned.increment(chunk.size());
+			Map<Long, List<Long>> byRoom = new LinkedHashMap<>();
+			chunk.forEach(p -> byRoom.computeIfAbsent(p.roomId(), id -> new ArrayList<>()).add(p.id()));
+			Map<Long, CompletableFuture<Boolean>> calls = new LinkedHashMap<>();
+			byRoom.forEach((roomId, participantIds) -> calls.put(roomId,
+				mailboxDispatcher.call(roomId, () -> roomService.removeStaleParticipants(roomId, participantIds))));
+			Map<Long, Boolean> results = awaitAll(calls);
+			for (Map.Entry<Long, List<Long>> entry : byRoom.entrySet()) {
+				Boolean emptied = results.get(entry.getKey());
+				if (emptied == null) {
+					continue;
+				}
+				if (emptied) {
+					reclaimedRooms.increment();
+				}
+				reclaimedParticipants.increment(entry.getValue().size());
+				removed += entry.getValue().size();
+			}
+			if (chunk.size() < chunkSize) {
+				return removed;
+			}
+			pace(chunk.size(), chunkStartedAt);
+		}
+	}
+
+	private int reapRooms(LocalDateTime now, Set<String> liveSessionIds) throws InterruptedException {
+		LocalDateTime createdBefore = now.minusSeconds(sessionGraceSeconds);
+		LocalDateTime terminatedBefore = now.minusSeconds(terminatedAfterSeconds);
+		long afterId = 0;
+		int removed = 0;
+		progress.set(0);
+		while (true) {
+			long chunkStartedAt = System.nanoTime();
+			List<ReapCandidate> chunk = roomRepository.findReapCandidates(afterId, createdBefore,
+				PageRequest.ofSize(chunkSize));
+			if (chunk.isEmpty()) {
+				return removed;
+			}
+			afterId = chunk.get(chunk.size() - 1).id();
+			progress.set(afterId);
+			scanned.increment(chunk.size());
+
+			Map<Long, CompletableFuture<Boolean>> calls = new LinkedHashMap<>();
+			for (ReapCandidate candidate : chunk) {
+				if (isStale(candidate, terminatedBefore, liveSessionIds)) {
+					Long roomId = candidate.id();
+					calls.put(roomId, mailboxDispatcher.call(roomId, () -> roomService.destroyRoom(roomId)));
+				}
+			}
+			for (Boolean destroyed : awaitAll(calls).values()) {
+				if (Boolean.TRUE.equals(destroyed)) {
+					reclaimedRooms.increment();
+					removed++;
+				}
+			}
+			if (chunk.size() < chunkSize) {
+				return removed;
+			}
+			pace(chunk.size(), chunkStartedAt);
+		}
+	}
+
+	private static boolean isStale(ReapCandidate candidate, LocalDateTime terminatedBefore, Set<String> liveSessionIds) {
+		if (RoomStatus.TERMINATED.equals(candidate.status()) && candidate.updatedAt().isBefore(terminatedBefore)) {
+			return true;
+		}
+		// 세션 목록을 못 받았으면 판단하지 않음
+		return liveSessionIds != null
+			&& (candidate.sessionId() == null || !liveSessionIds.contains(candidate.sessionId()));
+	}
+
+	// 방 메일박스에 한꺼번에 넘긴 작업이 모두 끝날 때까지 기다림 (실패한 방은 결과에서 빠짐)
+	private <T> Map<Long, T> awaitAll(Map<Long, CompletableFuture<T>> calls) {
+		CompletableFuture.allOf(calls.values().toArray(CompletableFuture<?>[]::new))
+			.exceptionally(e -> null)
+			.join();
+		Map<Long, T> results = new HashMap<>();
+		calls.forEach((roomId, call) -> {
+			try {
+				results.put(roomId, call.join());
+			} catch (CompletionException e) {
+				log.warn("[RoomReaper] 방 {} 정리 실패: {}", roomId, e.getCause().getMessage());
+			}
+		});
+		return results;
+	}
+
+	/**
+	 * OpenVidu 활성 세션 ID 전체 (못 받으면 null)
+	 */
+	private Set<String> fetchLiveSessionIds() {
+		try {
+			openVidu.fetch();
+			Set<String> sessionIds = new HashSet<>();
+			for (Session session : openVidu.getActiveSessions()) {
+				sessionIds.add(session.getSessionId());
+			}
+			return sessionIds;
+		} catch (Exception e) {
+			log.warn("[RoomReaper] 세션 목록 조회 실패, 이번에는 종료된 방만 정리: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	// 초당 max-rows-per-second 를 넘지 않도록 청크 사이에 대기
+	private void pace(int rows, long chunkStartedAt) throws InterruptedException {
+		long minNanos = TimeUnit.SECONDS.toNanos(rows) / maxRowsPerSecond;
+		long remaining = minNanos - (System.nanoTime() - chunkStartedAt);
+		if (remaining > 0) {
+			TimeUnit.NANOSECONDS.sleep(remaining);
+		}
+	}
+}
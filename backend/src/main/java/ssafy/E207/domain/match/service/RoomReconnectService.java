@@ -0,0 +1,196 @@
+package ssafy.E207.domain.match.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+import ssafy.E207.domain.match.game.GameState;
+import ssafy.E207.domain.match.game.GameStateStore;
+import ssafy.E207.domain.match.game.RoomMailboxDispatcher;
+import ssafy.E207.domain.match.game.TurnTimer;
+import ssafy.E207.global.common.enums.RoomStatus;
+import ssafy.E207.global.common.enums.StompMessageType;
+
+/**
+ * 연결 끊김 유예 / 재접속 복귀
+ *
+ * - 웹소켓이 끊기면 바로 퇴장시키지 않고 유예 시간 동안 기다림 (진행 중이던 게임은 PAUSED)
+ *   OpenVidu participantLeft 웹훅도 같은 경로 (먼저 온 쪽이 유예를 시작하고 나중 것은 무시)
+ * - 유예 시간 안에 방을 다시 구독하면 복귀 → 현재 게임 상태를 방에 다시 알림, 모두 돌아오면 게임 재개
+ * - 유예 시간이 지나야만 기존 퇴장 처리({@link RoomService#handleUserExit}) 실행
+ * - 유예 타이머는 턴 타이머와 다른 자리({@link TurnTimer.Slot#GRACE})에 등록 → 턴 타이머 등록/취소에 지워지지 않음
+ * - 유예 중인 참가자가 있으면 게임을 시작하지 않음
+ *
+ * 설정
+ * - game.reconnect-grace-seconds: 유예 시간 (기본 20)
+ */
+@Slf4j
+@Service
+public class RoomReconnectService {
+	private final GameStateStore gameStateStore;
+	private final RoomMailboxDispatcher roomMailboxDispatcher;
+	private final TurnTimer turnTimer;
+	private final RoomService roomService;
+	private final StompMessageService stompMessageService;
+	private final int graceSeconds;
+
+	public RoomReconnectService(GameStateStore gameStateStore, RoomMailboxDispatcher roomMailboxDispatcher,
+		TurnTimer turnTimer, RoomService roomService, StompMessageService stompMessageService,
+		@Value("${game.reconnect-grace-seconds:20}") int graceSeconds) {
+		this.gameStateStore = gameStateStore;
+		this.roomMailboxDispatcher = roomMailboxDispatcher;
+		this.turnTimer = turnTimer;
+		this.roomService = roomService;
+		this.stompMessageService = stompMessageService;
+		this.graceSeconds = graceSeconds;
+	}
+
+	public void handleDisconnect(Long roomId, UUID userId) {
+		roomMailboxDispatcher.submit(roomId, () -> disconnect(roomId, userId));
+	}
+
+	public void handleResubscribe(Long roomId, UUID userId) {
+		roomMailboxDispatcher.submit(roomId, () -> reconnect(roomId, userId));
+	}
+
+	private void disconnect(Long roomId, UUID userId) {
+		GameState state = gameStateStore.get(roomId);
+		if (state == null) {
+			return;
+		}
+		GameState.Player player = state.find(userId);
+		if (player == null || !player.isConnected()) {
+			return;
+		}
+		// 결과 화면이면 기다릴 이유가 없음
+		if (state.isStatus(RoomStatus.TERMINATED)) {
+			roomService.handleUserExit(roomId, userId);
+			return;
+		}
+
+		player.disconnect(LocalDateTime.now());
+		boolean paused = state.isStatus(RoomStatus.PLAYING);
+		if (paused) {
+			state.pause();
+		}
+		log.info("{}번 방 유저 {} 연결 끊김 → {}초 유예", roomId, userId, graceSeconds);
+
+		stompMessageService.sendSystemMessageToRoom(roomId,
+			StompMessageType.RESPONSE_PARTICIPANT_DISCONNECTED,
+			player.getNickname() + "님의 연결이 끊겼습니다. " + graceSeconds + "초 안에 돌아오지 않으면 퇴장 처리됩니다.",
+			Map.of(
+				"userId", userId,
+				"graceSeconds", graceSeconds,
+				"status", state.getStatus()
+			));
+		gameStateStore.persistConnection(state, player, paused);
+		scheduleGrace(state);
+	}
+
+	private void reconnect(Long roomId, UUID userId) {
+		GameState state = gameStateStore.get(roomId);
+		if (state == null) {
+			return;
+		}
+		GameState.Player player = state.find(userId);
+		// 처음 입장하는 구독이면 무시
+		if (player == null || player.isConnected()) {
+			return;
+		}
+
+		player.reconnect();
+		boolean resumed = false;
+		if (!state.disconnectedPlayers().isEmpty()) {
+			// 아직 안 돌아온 사람 기준으로 유예 타이머 다시 등록
+			scheduleGrace(state);
+		} else {
+			turnTimer.cancel(roomId, TurnTimer.Slot.GRACE);
+			if (state.isStatus(RoomStatus.PAUSED)) {
+				state.resume(LocalDateTime.now());
+				stompMessageService.scheduleTurnTimeout(state);
+				resumed = true;
+			}
+		}
+		log.info("{}번 방 유저 {} 복귀 (재개: {})", roomId, userId, resumed);
+
+		stompMessageService.sendSystemMessageToRoom(roomId,
+			StompMessageType.RESPONSE_PARTICIPANT_RECONNECTED,
+			player.getNickname() + "님이 다시 연결되었습니다.",
+			snapshot(state, userId));
+		gameStateStore.persistConnection(state, player, resumed);
+	}
+
+	// 유예 시간 만료 → 기존 퇴장 처리
+	private void expireGrace(Long roomId) {
+		GameState state = gameStateStore.get(roomId);
+		if (state == null) {
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		List<GameState.Player> expired = state.disconnectedPlayers().stream()
+			.filter(p -> !graceDeadline(p).isAfter(now))
+			.toList();
+		for (GameState.Player player : expired) {
+			log.info("{}번 방 유저 {} 유예 시간 만료 → 퇴장", roomId, player.getUserId());
+			roomService.handleUserExit(roomId, player.getUserId());
+		}
+		// 퇴장 처리는 실패해도 예외를 삼키고, 참가자 행이 이미 없으면 상태를 건드리지 않음
+		// → 결과와 상관없이 만료된 사람이 남은 상태를 버리고 DB에서 다시 읽게 함
+		if (!expired.isEmpty()) {
+			gameStateStore.invalidate(roomId);
+		}
+
+		// 남은 사람 중 아직 만료되지 않은 사람만 다시 등록 (지난 만료 시각을 다시 걸면 바로 또 만료됨)
+		GameState current = gameStateStore.get(roomId);
+		if (current != null) {
+			scheduleGrace(roomId, current.disconnectedPlayers().stream()
+				.filter(p -> graceDeadline(p).isAfter(now))
+				.toList());
+		}
+	}
+
+	private void scheduleGrace(GameState state) {
+		scheduleGrace(state.getRoomId(), state.disconnectedPlayers());
+	}
+
+	// 가장 먼저 끊긴 사람의 만료 시각에 맞춰 등록 (방마다 유예 타이머 하나)
+	private void scheduleGrace(Long roomId, List<GameState.Player> disconnected) {
+		disconnected.stream()
+			.map(this::graceDeadline)
+			.min(Comparator.naturalOrder())
+			.ifPresent(deadline -> {
+				long delayMillis = Math.max(0, Duration.between(LocalDateTime.now(), deadline).toMillis());
+				turnTimer.schedule(roomId, TurnTimer.Slot.GRACE, delayMillis,
+					() -> roomMailboxDispatcher.submit(roomId, () -> expireGrace(roomId)));
+			});
+	}
+
+	private LocalDateTime graceDeadline(GameState.Player player) {
+		return player.getDisconnectedAt().plusSeconds(graceSeconds);
+	}
+
+	// 복귀한 사람이 화면을 다시 그릴 수 있는 현재 상태
+	private Map<String, Object> snapshot(GameState state, UUID userId) {
+		Map<String, Object> data = new HashMap<>();
+		data.put("userId", userId);
+		data.put("status", state.getStatus());
+		data.put("attackerId", state.attacker() == null ? null : state.attacker().getUserId());
+		data.put("currentTurn", state.getTurn());
+		data.put("currentRound", state.getRound());
+		data.put("turnStartedAt", state.getTurnStartedAt());
+		data.put("limitTime", turnTimer.getTurnLimitSeconds());
+		data.put("disconnectedUserIds", state.disconnectedPlayers().stream().map(GameState.Player::getUserId).toList());
+		if (state.getPlayers().size() == 2) {
+			data.put("currentScores", state.scores());
+		}
+		return data;
+	}
+}
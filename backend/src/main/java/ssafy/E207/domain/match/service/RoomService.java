@@ -1,39 +1,37 @@
 package ssafy.E207.domain.match.service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
-import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import io.openvidu.java.client.Connection;
-import io.openvidu.java.client.ConnectionProperties;
-import io.openvidu.java.client.ConnectionType;
-import io.openvidu.java.client.OpenVidu;
 import io.openvidu.java.client.OpenViduHttpException;
 import io.openvidu.java.client.OpenViduJavaClientException;
-import io.openvidu.java.client.OpenViduRole;
 import io.openvidu.java.client.Session;
-import io.openvidu.java.client.SessionProperties;
-import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import ssafy.E207.domain.auth.entity.User;
+import lombok.extern.slf4j.Slf4j;
 import ssafy.E207.domain.match.dto.PendingUser;
 import ssafy.E207.domain.match.dto.request.RoomJoinByCodeRequest;
 import ssafy.E207.domain.match.exception.ElectronNeededException;
+import ssafy.E207.domain.match.game.GameStateStore;
+import ssafy.E207.domain.match.game.TurnTimer;
+import ssafy.E207.domain.user.dto.UserSummary;
 import ssafy.E207.domain.user.repository.UserRepository;
+import ssafy.E207.domain.user.service.ProfileImageProcessor;
+import ssafy.E207.domain.user.service.UserSummaryCache;
 import ssafy.E207.domain.match.dto.response.MatchmakingResultDto;
 import ssafy.E207.domain.match.dto.response.ParticipantDetailDto;
 import ssafy.E207.domain.match.dto.response.StompResponse;
@@ -44,6 +42,7 @@ import ssafy.E207.domain.match.dto.response.RoomJoinResponse;
 import ssafy.E207.domain.match.dto.response.RoomListResponse;
 import ssafy.E207.global.common.enums.StompMessageType;
 import ssafy.E207.global.common.enums.ParticipantRole;
+import ssafy.E207.global.common.enums.ProfileImageSize;
 import ssafy.E207.domain.match.entity.Room;
 import ssafy.E207.domain.match.entity.RoomParticipant;
 import ssafy.E207.global.common.enums.RoomStatus;
@@ -55,72 +54,88 @@ import ssafy.E207.domain.match.exception.InvalidRoomException;
 import ssafy.E207.domain.match.exception.NotFoundRoomException;
 import ssafy.E207.global.error.exception.NotFoundUserException;
 
+@Slf4j
 @Transactional
 @RequiredArgsConstructor
 @Service
 public class RoomService {
+	// 방 코드가 살아 있는 방과 겹쳐 저장에 실패할 때 다른 코드로 다시 시도하는 횟수
+	private static final int MAX_ROOM_CODE_ATTEMPTS = 3;
+
 	private final UserRepository userRepository;
+	private final UserSummaryCache userSummaryCache;
 	private final RoomRepository roomRepository;
 	private final ElectronSignatureCheckService electronSignatureCheckService;
 	private final RoomParticipantRepository roomParticipantRepository;
 	private final SimpMessageSendingOperations messageTemplate;
 	private final MinioConfig minioConfig;
-	private OpenVidu openVidu;
-
-	// Map<세션고유식별자, 세션>
-	private Map<String, Session> mapSessions = new ConcurrentHashMap<>();
-	// Map<세션고유식별자, Map<사용자식별토큰, 사용자역할>>
-	private Map<String, Map<String, OpenViduRole>> mapSessionNamesTokens = new ConcurrentHashMap<>();
-	// 도커로 올린 openVidu 서버
-	@Value("${openvidu.url}")
-	private String OPENVIDU_URL;
-	// 도커로 올린 openVidu 서버 시크릿키
-	@Value("${openvidu.secret}")
-	private String SECRET;
-
-	@PostConstruct
-	public void init() {
-		this.openVidu = new OpenVidu(OPENVIDU_URL, SECRET);
+	private final OpenViduSessionProvisioner sessionProvisioner;
+	private final TransactionTemplate transactionTemplate;
+	private final SessionRegistry sessionRegistry;
+	private final GameStateStore gameStateStore;
+	private final TurnTimer turnTimer;
+	private final LobbyService lobbyService;
+	private final RoomCodeAllocator roomCodeAllocator;
+
+	/**
+	 * 방 삭제 (OpenVidu 세션 종료, RoomReaper)
+	 * 게임 상태를 같이 지우므로 방 메일박스 안에서 호출
+	 *
+	 * @return 방이 있어서 삭제했으면 true
+	 */
+	public boolean destroyRoom(Long roomId) {
+		Optional<Room> room = roomRepository.findById(roomId);
+		room.ifPresent(this::deleteRoom);
+		return room.isPresent();
 	}
 
-	public void handleWebhook(JSONObject json) {
-		String event = (String)json.get("event");
-		Long sessionId = Long.parseLong((String)json.get("sessionId")); // 방 ID
-		System.out.println("webhook event detected.");
-		// 참가자가 나간 경우
-		if ("participantLeft".equals(event)) {
-			try {
-				JSONParser parser = new JSONParser();
-				JSONObject serverData = (JSONObject)parser.parse((String)json.get("serverData"));
-
-				UUID userId = UUID.fromString(serverData.get("userId").toString());
-				String nickname = (String)serverData.get("nickname");
-
-				System.out.println("from [" + sessionId + "] user [" + userId + "][" + nickname + "] left.");
+	/**
+	 * 한 방에서 끊긴 지 오래된 참가자 삭제 (RoomReaper, 방 메일박스 안에서 호출)
+	 *
+	 * @return 참가자가 모두 빠져 방도 같이 삭제했으면 true
+	 */
+	public boolean removeStaleParticipants(Long roomId, Collection<Long> participantIds) {
+		roomParticipantRepository.deleteAllByIdIn(participantIds);
+		gameStateStore.invalidate(roomId);
+		lobbyService.roomChanged(roomId);
+		return roomParticipantRepository.countByRoomId(roomId) == 0 && destroyRoom(roomId);
+	}
 
-				handleUserExit(sessionId, userId);
-			} catch (Exception e) {
-				System.err.println("Webhook participantLeft 처리 중 오류: " + e.getMessage());
-			}
-		}
-		if ("sessionDestroyed".equals(event)) {
+	/**
+	 * 새 방 코드로 방 저장 트랜잭션 실행
+	 * 코드 공간을 한 바퀴 돈 뒤에는 아직 남아 있는 방(또는 이전 방식의 랜덤 코드)과 겹칠 수 있으므로
+	 * room_code 유니크 제약 위반이면 다음 코드로 새 트랜잭션에서 다시 시도 (겹친 코드는 쓰는 중이라 반납하지 않음)
+	 */
+	private <T> T saveWithRoomCode(Function<String, T> save) {
+		for (int attempt = 1; ; attempt++) {
+			String roomCode = roomCodeAllocator.allocate();
 			try {
-				System.out.println("room [" + sessionId + "] destroyed");
-
-				// 방 삭제
-				// roomparticipant cascade 삭제됨
-				roomRepository.deleteById(sessionId);
-
-				// 메모리에서 제거
-				this.mapSessions.remove(sessionId);
-				this.mapSessionNamesTokens.remove(sessionId);
-
-			} catch (Exception e) {
-				System.err.println("Webhook sessionDestroyed 처리 중 오류: " + e.getMessage());
+				return transactionTemplate.execute(status -> save.apply(roomCode));
+			} catch (DataIntegrityViolationException e) {
+				if (attempt >= MAX_ROOM_CODE_ATTEMPTS) {
+					throw e;
+				}
+				log.warn("[Room] 방 코드 {} 저장 실패, 다른 코드로 다시 시도 ({}/{}): {}", roomCode, attempt,
+					MAX_ROOM_CODE_ATTEMPTS, e.getMostSpecificCause().getMessage());
 			}
 		}
 	}
 
+	// 참가자 → 방 순서로 벌크 DELETE 두 번 (엔티티 삭제 + cascade 하지 않음)
+	private void deleteRoom(Room room) {
+		List<Long> roomIds = List.of(room.getId());
+		roomParticipantRepository.deleteAllByRoomIdIn(roomIds);
+		roomRepository.deleteAllByIdIn(roomIds);
+
+		// 세션 레지스트리, 게임 상태에서 제거
+		roomCodeAllocator.release(room.getRoomCode());
+		sessionRegistry.evict(room.getId());
+		gameStateStore.invalidate(room.getId());
+		lobbyService.roomChanged(room.getId());
+		turnTimer.cancel(room.getId());
+		turnTimer.cancel(room.getId(), TurnTimer.Slot.GRACE);
+	}
+
 	public void handleUserExit(Long roomId, UUID userId) {
 		try {
 			Optional<RoomParticipant> participantOptional = roomParticipantRepository.findByRoomIdAndUserId(
@@ -133,6 +148,11 @@ public class RoomService {
 			System.out.println("participant left:" + leavingParticipant);
 			roomParticipantRepository.delete(leavingParticipant);
 			roomParticipantRepository.flush();
+			// 참가자 구성이 바뀌었으므로 게임 상태/로비 목록은 DB에서 다시 읽음
+			gameStateStore.invalidate(roomId);
+			lobbyService.roomChanged(roomId);
+			// 누가 나가면 진행 중인 게임은 끝나므로 턴 타이머도 취소
+			turnTimer.cancel(roomId);
 
 			// 남은 참가자 수 0명이면 방 폭파
 			long remainingParticipants = roomParticipantRepository.countByRoomId(roomId);
@@ -140,12 +160,14 @@ public class RoomService {
 			if (remainingParticipants == 0) {
 				System.out.println("방에 남은 인원이 없어 방을 폭파합니다: " + roomId);
 				roomRepository.delete(room);
+				roomCodeAllocator.release(room.getRoomCode());
+				sessionRegistry.evict(roomId);
 			}
 			// 다른 참가자 남아 있을 때
 			// 비밀방
 			else if (RoomType.CASUAL.equals(room.getRoomType())) {
-				// 비밀방 플레이중
-				if (RoomStatus.PLAYING.equals(room.getStatus())) {
+				// 비밀방 플레이중 (연결 끊김으로 일시정지된 경우 포함)
+				if (RoomStatus.PLAYING.equals(room.getStatus()) || RoomStatus.PAUSED.equals(room.getStatus())) {
 					System.out.println("playing room");
 					StompResponse leaveMessage = new StompResponse();
 					leaveMessage.setType(StompMessageType	.RESPONSE_ROOM_DESTROYED);
@@ -202,33 +224,16 @@ public class RoomService {
 	}
 
 	public Page<RoomListResponse> getRoomList(Pageable pageable) {
-		Page<Room> roomPage = roomRepository.findByRoomType(RoomType.CASUAL, pageable);
-
-		Page<RoomListResponse> roomList = roomPage.map(room -> {
-			UUID hostId = room.getHostId();
-			String hostNickname = null;
-			if (hostId != null) {
-				hostNickname = userRepository.findById(room.getHostId()).get().getNickname();
-			}
-			return RoomListResponse.builder()
-				.id(room.getId())
-				.name(room.getName())
-				.hostNickname(hostNickname)
-				.status(room.getStatus())
-				.isPrivate(room.getPassword() != null && !room.getPassword().isEmpty())
-				.participantCount(room.getRoomParticipants().size())
-				.createdTime(room.getCreatedAt().toString())
-				.build();
-		});
-
-		return roomList;
+		return lobbyService.getPage(pageable);
 	}
 
+	// OpenVidu 호출은 트랜잭션 밖에서 하고, DB 저장만 짧은 트랜잭션으로 처리 (DB 커넥션 점유 최소화)
+	@Transactional(Transactional.TxType.NOT_SUPPORTED)
 	public RoomCreateResponse createRoom(UUID userId, RoomCreateRequest roomCreateRequest,
 		HttpServletRequest request) throws
 		OpenViduJavaClientException,
 		OpenViduHttpException {
-		User user = userRepository.findById(userId)
+		UserSummary user = userSummaryCache.get(userId)
 			.orElseThrow(() -> new NotFoundUserException("해당 유저를 찾을 수 없습니다."));
 
 		boolean isElectron = false;
@@ -238,35 +243,40 @@ public class RoomService {
 			isElectron = electronSignatureCheckService.isElectronApp(request);
 		}
 
-		// 1. DB에 방 정보 저장
-		Room savedRoom = Room.builder()
-			.name(roomCreateRequest.getName())
-			.roomCode(generateUniqueRoomCode())
-			.password(roomCreateRequest.getPassword())
-			.hostId(userId)
-			.roomType(RoomType.CASUAL)
-			.isElectronNeeded(roomCreateRequest.isElectronNeeded())
-			.build();
-		roomRepository.save(savedRoom);
-		Long roomId = savedRoom.getId();
-
-		// 2. OpenVidu 세션 및 커넥션 생성
-		// 2-1. 세션 생성(=방 생성)
-		Session session = createSession(roomId);
-		// 2-2. 참가자 커넥션 생성(=참가자가 PUBLISHER 역햘, userId, nickname 가지고 방에 참가)
-		Connection connection = createConnection(session, user, OpenViduRole.PUBLISHER);
-		// 2-3. 참가자 토큰 생성(=참가자를 식별할 수 있는 정보 생성)
-		String token = connection.getToken();
+		// 1. OpenVidu 세션 확보(미리 만들어 둔 풀) 및 참가자 토큰 발급
+		OpenViduSessionProvisioner.Provisioned provisioned = sessionProvisioner.provision(List.of(user));
+		Session session = provisioned.session();
+		String token = provisioned.tokens().get(0);
 
-		// 3. 서버 메모리에 세션, 토큰, 롤 저장
-		this.mapSessions.put(String.valueOf(roomId), session);
-		this.mapSessionNamesTokens.put(String.valueOf(roomId), new ConcurrentHashMap<>());
-		this.mapSessionNamesTokens.get(String.valueOf(roomId)).put(token, OpenViduRole.PUBLISHER);
+		// 2. DB에 방 정보, 방 참가자 저장
+		final boolean hostIsElectron = isElectron;
+		Room savedRoom;
+		try {
+			savedRoom = saveWithRoomCode(roomCode -> {
+				Room room = Room.builder()
+					.name(roomCreateRequest.getName())
+					.roomCode(roomCode)
+					.sessionId(session.getSessionId())
+					.password(roomCreateRequest.getPassword())
+					.hostId(userId)
+					.roomType(RoomType.CASUAL)
+					.isElectronNeeded(roomCreateRequest.isElectronNeeded())
+					.build();
+				roomRepository.save(room);
+				createAndSaveParticipant(room, userId, ParticipantRole.HOST, hostIsElectron);
+				return room;
+			});
+		} catch (RuntimeException e) {
+			sessionProvisioner.release(session);
+			throw e;
+		}
+		Long roomId = savedRoom.getId();
 
-		// 4. 방 참가자 DB에 저장
-		createAndSaveParticipant(savedRoom, user, ParticipantRole.HOST, isElectron);
+		// 3. 세션 레지스트리에 등록
+		sessionRegistry.register(roomId, session);
+		lobbyService.roomChanged(roomId);
 
-		// 5. 응답
+		// 4. 응답
 		RoomCreateResponse response = RoomCreateResponse.builder()
 			.id(savedRoom.getId())
 			.name(savedRoom.getName())
@@ -276,65 +286,66 @@ public class RoomService {
 		return response;
 	}
 
+	@Transactional(Transactional.TxType.NOT_SUPPORTED)
 	public MatchmakingResultDto createRoomFromMatchmaking(PendingUser pendingUser1, PendingUser pendingUser2) throws
 		OpenViduJavaClientException,
 		OpenViduHttpException {
-		User user1 = userRepository.findById(pendingUser1.userId())
+		UserSummary user1 = userSummaryCache.get(pendingUser1.userId())
 			.orElseThrow(() -> new NotFoundUserException("해당 유저를 찾을 수 없습니다."));
 
-		User user2 = userRepository.findById(pendingUser2.userId())
+		UserSummary user2 = userSummaryCache.get(pendingUser2.userId())
 			.orElseThrow(() -> new NotFoundUserException("해당 유저를 찾을 수 없습니다."));
 
-		// 1. DB에 방 정보 저장
-		Room savedRoom = Room.builder()
-			.name(user1.getNickname() + " vs " + user2.getNickname())
-			.roomCode(generateUniqueRoomCode())
-			.hostId(user1.getId())
-			.roomType(RoomType.RANKED)
-			.build();
-		roomRepository.save(savedRoom);
+		// 1. OpenVidu 세션 확보(미리 만들어 둔 풀) 및 두 참가자 토큰 병렬 발급
+		OpenViduSessionProvisioner.Provisioned provisioned = sessionProvisioner.provision(List.of(user1, user2));
+		Session session = provisioned.session();
+		String token1 = provisioned.tokens().get(0);
+		String token2 = provisioned.tokens().get(1);
+
+		// 2. DB에 방 정보, 방 참가자 저장
+		List<RoomParticipant> savedParticipants;
+		try {
+			savedParticipants = saveWithRoomCode(roomCode -> {
+				Room room = Room.builder()
+					.name(user1.nickname() + " vs " + user2.nickname())
+					.roomCode(roomCode)
+					.sessionId(session.getSessionId())
+					.hostId(user1.id())
+					.roomType(RoomType.RANKED)
+					.build();
+				roomRepository.save(room);
+				return List.of(
+					createAndSaveParticipant(room, user1.id(), ParticipantRole.PARTICIPANT, pendingUser1.isElectron()),
+					createAndSaveParticipant(room, user2.id(), ParticipantRole.PARTICIPANT, pendingUser2.isElectron()));
+			});
+		} catch (RuntimeException e) {
+			sessionProvisioner.release(session);
+			throw e;
+		}
+		RoomParticipant p1 = savedParticipants.get(0);
+		RoomParticipant p2 = savedParticipants.get(1);
+		Room savedRoom = p1.getRoom();
 		Long roomId = savedRoom.getId();
 
-		// 2. OpenVidu 세션 및 커넥션 생성
-		// 2-1. 세션 생성(=방 생성)
-		Session session = createSession(roomId);
-
-		// 2-2. 참가자 커넥션 생성(=참가자가 아래 정보를 가지고 방에 참가)
-		Connection connection1 = createConnection(session, user1, OpenViduRole.PUBLISHER);
-		Connection connection2 = createConnection(session, user2, OpenViduRole.PUBLISHER);
-
-		// 2-3. 참가자 토큰 생성(=참가자를 식별할 수 있는 정보 생성)
-		String token1 = connection1.getToken();
-		String token2 = connection2.getToken();
-
-		// 3. 서버 메모리에 세션, 토큰, 롤 저장 (키: roomId로 일관성 유지)
-		String sessionKey = String.valueOf(roomId);
-		this.mapSessions.put(sessionKey, session);
-		this.mapSessionNamesTokens.put(sessionKey, new ConcurrentHashMap<>());
-		this.mapSessionNamesTokens.get(sessionKey).put(token1, OpenViduRole.PUBLISHER);
-		this.mapSessionNamesTokens.get(sessionKey).put(token2, OpenViduRole.PUBLISHER);
-		// 4. 방 참가자 DB에 저장
-		RoomParticipant p1 = createAndSaveParticipant(savedRoom, user1, ParticipantRole.PARTICIPANT,
-			pendingUser1.isElectron());
-		RoomParticipant p2 = createAndSaveParticipant(savedRoom, user2, ParticipantRole.PARTICIPANT,
-			pendingUser2.isElectron());
-
-		// 5. 반환할 참가자 정보 생성
+		// 3. 세션 레지스트리에 등록
+		sessionRegistry.register(roomId, session);
+
+		// 4. 반환할 참가자 정보 생성
 		List<ParticipantDetailDto> participantInfos = new ArrayList<>();
 		ParticipantDetailDto participantInfo1 = ParticipantDetailDto.builder()
 			.isReady(p1.isReady())
 			.isHost(false)
 			.isElectron(p1.isElectron())
-			.nickname(p1.getUser().getNickname())
-			.userId(p1.getUser().getId())
-			.profileImageUrl(generateProfileImageUrl(p1.getUser().getProfileImage()))
+			.nickname(user1.nickname())
+			.userId(user1.id())
+			.profileImageUrl(generateProfileImageUrl(user1.profileImage()))
 			.stats(ParticipantDetailDto.PlayerStats.builder()
-				.totalGames(p1.getUser().getTotalGames())
-				.totalWins(p1.getUser().getTotalWins())
-				.totalLosses(p1.getUser().getTotalLosses())
-				.totalDraws(p1.getUser().getTotalDraws())
-				.currentWinStreak(p1.getUser().getCurrentWinStreak())
-				.maxWinStreak(p1.getUser().getMaxWinStreak())
+				.totalGames(user1.totalGames())
+				.totalWins(user1.totalWins())
+				.totalLosses(user1.totalLosses())
+				.totalDraws(user1.totalDraws())
+				.currentWinStreak(user1.currentWinStreak())
+				.maxWinStreak(user1.maxWinStreak())
 				.build())
 
 			.build();
@@ -343,20 +354,20 @@ public class RoomService {
 			.isReady(p2.isReady())
 			.isHost(false)
 			.isElectron(p2.isElectron())
-			.nickname(p2.getUser().getNickname())
-			.userId(p2.getUser().getId())
-			.profileImageUrl(generateProfileImageUrl(p2.getUser().getProfileImage()))
+			.nickname(user2.nickname())
+			.userId(user2.id())
+			.profileImageUrl(generateProfileImageUrl(user2.profileImage()))
 			.stats(ParticipantDetailDto.PlayerStats.builder()
-				.totalGames(p2.getUser().getTotalGames())
-				.totalWins(p2.getUser().getTotalWins())
-				.totalLosses(p2.getUser().getTotalLosses())
-				.totalDraws(p2.getUser().getTotalDraws())
-				.currentWinStreak(p2.getUser().getCurrentWinStreak())
-				.maxWinStreak(p2.getUser().getMaxWinStreak())
+				.totalGames(user2.totalGames())
+				.totalWins(user2.totalWins())
+				.totalLosses(user2.totalLosses())
+				.totalDraws(user2.totalDraws())
+				.currentWinStreak(user2.currentWinStreak())
+				.maxWinStreak(user2.maxWinStreak())
 				.build())
 			.build();
 		participantInfos.add(participantInfo2);
-		// 6. 응답
+		// 5. 응답
 		return MatchmakingResultDto.builder()
 			.id(savedRoom.getId())
 			.name(savedRoom.getName())
@@ -369,7 +380,7 @@ public class RoomService {
 	public RoomJoinResponse joinRoom(UUID userId, RoomJoinRequest roomJoinRequest, HttpServletRequest request) throws
 		OpenViduJavaClientException,
 		OpenViduHttpException {
-		User user = userRepository.findById(userId)
+		UserSummary user = userSummaryCache.get(userId)
 			.orElseThrow(() -> new NotFoundUserException("사용자를 찾을 수 없습니다."));
 		Room room = roomRepository.findByIdWithLock(roomJoinRequest.getId())
 			.orElseThrow(() -> new NotFoundRoomException("존재하지 않는 방입니다."));
@@ -397,20 +408,15 @@ public class RoomService {
 
 		// 1. OpenVidu 세션 가져오기
 		String sessionId = String.valueOf(room.getId());
-		Session session = this.mapSessions.get(sessionId);
+		Session session = sessionRegistry.get(room.getId());
 		if (session == null) {
 			throw new NotFoundRoomException("존재하지 않는 방입니다.");
 		}
 
-		// 2. 참가자 커넥션/토큰 생성
-		Connection connection = createConnection(session, user, OpenViduRole.PUBLISHER);
-		String token = connection.getToken();
-
-		// 3. 서버 메모리에 토큰 저장
-		this.mapSessionNamesTokens.get(sessionId).put(token, OpenViduRole.PUBLISHER);
-
+		// 2. 참가자 토큰 생성
+		String token = sessionProvisioner.createToken(session, user);
 
-		// 4. 기존 방 참가자 정보 생성, 신규 참가자 중복 체크
+		// 3. 기존 방 참가자 정보 생성, 신규 참가자 중복 체크
 		List<ParticipantDetailDto> participantInfos = new ArrayList<>();
 		boolean hasJoined = false;
 		for (RoomParticipant p : participants) {
@@ -437,32 +443,34 @@ public class RoomService {
 		}
 
 
-		// 5. 신규 참가자 DB에 저장
+		// 4. 신규 참가자 DB에 저장
 		if (!hasJoined) {
 			RoomParticipant chatParticipant = RoomParticipant.builder()
 				.room(room)
-				.user(user)
+				.user(userRepository.getReferenceById(userId))
 				.isElectron(isElectron)
 				.role(ParticipantRole.PARTICIPANT)
 				.build();
 			roomParticipantRepository.save(chatParticipant);
+			gameStateStore.invalidate(room.getId());
+			lobbyService.roomChanged(room.getId());
 
 
 			// 자신도 들어가게
 			ParticipantDetailDto myInfo = ParticipantDetailDto.builder()
-				.userId(chatParticipant.getUser().getId())
-				.nickname(chatParticipant.getUser().getNickname())
-				.profileImageUrl(generateProfileImageUrl(chatParticipant.getUser().getProfileImage()))
+				.userId(user.id())
+				.nickname(user.nickname())
+				.profileImageUrl(generateProfileImageUrl(user.profileImage()))
 				.isHost(false)
 				.isReady(chatParticipant.isReady())
 				.isElectron(chatParticipant.isElectron())
 				.stats(ParticipantDetailDto.PlayerStats.builder()
-					.totalGames(user.getTotalGames())
-					.totalWins(user.getTotalWins())
-					.totalLosses(user.getTotalLosses())
-					.totalDraws(user.getTotalDraws())
-					.currentWinStreak(user.getCurrentWinStreak())
-					.maxWinStreak(user.getMaxWinStreak())
+					.totalGames(user.totalGames())
+					.totalWins(user.totalWins())
+					.totalLosses(user.totalLosses())
+					.totalDraws(user.totalDraws())
+					.currentWinStreak(user.currentWinStreak())
+					.maxWinStreak(user.maxWinStreak())
 					.build())
 				.build();
 			participantInfos.add(myInfo);
@@ -482,7 +490,7 @@ public class RoomService {
 			messageTemplate.convertAndSend("/topic/" + sessionId, joinedMessage);
 		}
 
-		// 6. 응답
+		// 5. 응답
 		RoomJoinResponse response = RoomJoinResponse.builder()
 			.id(room.getId())
 			.name(room.getName())
@@ -498,7 +506,7 @@ public class RoomService {
 		HttpServletRequest request) throws
 		OpenViduJavaClientException,
 		OpenViduHttpException {
-		User user = userRepository.findById(userId)
+		UserSummary user = userSummaryCache.get(userId)
 			.orElseThrow(() -> new NotFoundUserException("사용자를 찾을 수 없습니다."));
 		Room room = roomRepository.findByRoomCodeWithLock(roomJoinByCodeRequest.roomCode())
 			.orElseThrow(() -> new NotFoundRoomException("존재하지 않는 방입니다."));
@@ -522,19 +530,15 @@ public class RoomService {
 
 		// 1. OpenVidu 세션 가져오기
 		String sessionId = String.valueOf(room.getId());
-		Session session = this.mapSessions.get(sessionId);
+		Session session = sessionRegistry.get(room.getId());
 		if (session == null) {
 			throw new NotFoundRoomException("존재하지 않는 방입니다.");
 		}
 
-		// 2. 참가자 커넥션/토큰 생성
-		Connection connection = createConnection(session, user, OpenViduRole.PUBLISHER);
-		String token = connection.getToken();
-
-		// 3. 서버 메모리에 토큰 저장
-		this.mapSessionNamesTokens.get(sessionId).put(token, OpenViduRole.PUBLISHER);
+		// 2. 참가자 토큰 생성
+		String token = sessionProvisioner.createToken(session, user);
 
-		// 4. 기존 방 참가자 정보 생성, 신규 참가자 중복 체크
+		// 3. 기존 방 참가자 정보 생성, 신규 참가자 중복 체크
 		List<ParticipantDetailDto> participantInfos = new ArrayList<>();
 		boolean hasJoined = false;
 		for (RoomParticipant p : participants) {
@@ -560,30 +564,32 @@ public class RoomService {
 			participantInfos.add(participantInfo);
 		}
 
-		// 5. 신규 참가자 DB에 저장
+		// 4. 신규 참가자 DB에 저장
 		if (!hasJoined) {
 			RoomParticipant chatParticipant = RoomParticipant.builder()
 				.room(room)
-				.user(user)
+				.user(userRepository.getReferenceById(userId))
 				.isElectron(isElectron)
 				.role(ParticipantRole.PARTICIPANT)
 				.build();
 			roomParticipantRepository.save(chatParticipant);
+			gameStateStore.invalidate(room.getId());
+			lobbyService.roomChanged(room.getId());
 			// 자신도 들어가게
 			ParticipantDetailDto myInfo = ParticipantDetailDto.builder()
 				.isReady(chatParticipant.isReady())
 				.isHost(false)
 				.isElectron(chatParticipant.isElectron())
-				.nickname(chatParticipant.getUser().getNickname())
-				.userId(chatParticipant.getUser().getId())
-				.profileImageUrl(generateProfileImageUrl(chatParticipant.getUser().getProfileImage()))
+				.nickname(user.nickname())
+				.userId(user.id())
+				.profileImageUrl(generateProfileImageUrl(user.profileImage()))
 				.stats(ParticipantDetailDto.PlayerStats.builder()
-					.totalGames(user.getTotalGames())
-					.totalWins(user.getTotalWins())
-					.totalLosses(user.getTotalLosses())
-					.totalDraws(user.getTotalDraws())
-					.currentWinStreak(user.getCurrentWinStreak())
-					.maxWinStreak(user.getMaxWinStreak())
+					.totalGames(user.totalGames())
+					.totalWins(user.totalWins())
+					.totalLosses(user.totalLosses())
+					.totalDraws(user.totalDraws())
+					.currentWinStreak(user.currentWinStreak())
+					.maxWinStreak(user.maxWinStreak())
 					.build())
 				.build();
 			participantInfos.add(myInfo);
@@ -604,7 +610,7 @@ public class RoomService {
 			messageTemplate.convertAndSend("/topic/" + sessionId, joinedMessage);
 		}
 
-		// 6. 응답
+		// 5. 응답
 		RoomJoinResponse response = RoomJoinResponse.builder()
 			.id(room.getId())
 			.name(room.getName())
@@ -630,37 +636,7 @@ public class RoomService {
 		return room.getRoomCode();
 	}
 
-	private String generateUniqueRoomCode() {
-		String code;
-		do {
-			// 6자리 랜덤 코드 생성
-			code = UUID.randomUUID().toString().substring(0, 6).toUpperCase();
-		} while (roomRepository.existsByRoomCode(code)); // DB에 이미 있는지 체크
-
-		return code;
-	}
-
-	private Session createSession(Long roomId) throws OpenViduJavaClientException, OpenViduHttpException {
-		SessionProperties properties = new SessionProperties.Builder().customSessionId(String.valueOf(roomId)).build();
-		Session session = this.openVidu.createSession(properties);
-		return session;
-	}
-
-	private Connection createConnection(Session session, User user, OpenViduRole role) throws
-		OpenViduJavaClientException,
-		OpenViduHttpException {
-		String data = String.format("{\"userId\":\"%s\", \"nickname\":\"%s\"}",
-			user.getId(),
-			user.getNickname());
-		ConnectionProperties connectionProperties = new ConnectionProperties.Builder()
-			.type(ConnectionType.WEBRTC)
-			.data(data)
-			.role(role)
-			.build();
-		return session.createConnection(connectionProperties);
-	}
-
-	public RoomParticipant createAndSaveParticipant(Room room, User user, ParticipantRole role, boolean isElectron) {
+	public RoomParticipant createAndSaveParticipant(Room room, UUID userId, ParticipantRole role, boolean isElectron) {
 		boolean isReady = false;
 		if (role.equals(ParticipantRole.HOST)) {
 			isReady = true;
@@ -668,7 +644,7 @@ public class RoomService {
 
 		RoomParticipant savedParticipant = RoomParticipant.builder()
 			.room(room)
-			.user(user)
+			.user(userRepository.getReferenceById(userId))
 			.role(role)
 			.isReady(isReady)
 			.isElectron(isElectron)
@@ -693,7 +669,8 @@ public class RoomService {
 		if (!endpoint.endsWith("/")) {
 			endpoint += "/";
 		}
-		return endpoint + bucket + "/" + objectKey;
+		// 카드에 들어가는 크기라 작은 썸네일 (처리 전 원본이면 원본)
+		return endpoint + bucket + "/" + ProfileImageProcessor.variantKey(objectKey, ProfileImageSize.SMALL);
 	}
 
 }
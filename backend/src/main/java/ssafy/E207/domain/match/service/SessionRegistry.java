@@ -0,0 +1,26 @@
+package ssafy.E207.domain.match.service;
+
+import io.openvidu.java.client.Session;
+
+/**
+ * 방 ID → OpenVidu 세션 조회
+ *
+ * - local: DB(Room.sessionId)로 세션 ID를 찾음 ({@link LocalSessionRegistry}, 기본값)
+ * - redis: Redis에 세션 ID를 TTL과 함께 저장해서 여러 서버가 공유 ({@link RedisSessionRegistry})
+ *
+ * 두 구현 모두 앞단에 크기 제한이 있는 로컬 캐시를 두고,
+ * 캐시에 없으면 OpenVidu에서 다시 불러온다 (재시작/배포 후에도 기존 방 입장 가능)
+ *
+ * 설정: openvidu.session-registry=local|redis
+ */
+public interface SessionRegistry {
+
+	void register(Long roomId, Session session);
+
+	/**
+	 * @return OpenVidu에 살아 있는 세션, 없으면 null
+	 */
+	Session get(Long roomId);
+
+	void evict(Long roomId);
+}
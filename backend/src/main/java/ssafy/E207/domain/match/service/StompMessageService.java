@@ -1,81 +1,92 @@
 package ssafy.E207.domain.match.service;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import ssafy.E207.domain.auth.entity.User;
-import ssafy.E207.global.error.exception.NotFoundUserException;
-import ssafy.E207.domain.user.repository.UserRepository;
 import ssafy.E207.domain.match.dto.request.StompRequest;
 import ssafy.E207.domain.match.dto.response.StompResponse;
-import ssafy.E207.domain.match.entity.Room;
-import ssafy.E207.domain.match.entity.RoomParticipant;
+import ssafy.E207.domain.match.game.GameState;
+import ssafy.E207.domain.match.game.GameStateStore;
+import ssafy.E207.domain.match.game.RoomMailboxDispatcher;
+import ssafy.E207.domain.match.game.TurnTimer;
 import ssafy.E207.global.common.enums.ParticipantRole;
-import ssafy.E207.global.common.enums.StompMessageType;
 import ssafy.E207.global.common.enums.RoomStatus;
 import ssafy.E207.global.common.enums.RoomType;
-import ssafy.E207.domain.match.repository.RoomParticipantRepository;
-import ssafy.E207.domain.match.repository.RoomRepository;
-import ssafy.E207.domain.user.service.UserBattleService;
+import ssafy.E207.global.common.enums.StompMessageType;
+import ssafy.E207.global.error.exception.NotFoundUserException;
 
+/**
+ * 게임 이벤트 처리
+ *
+ * - 방 상태는 메모리({@link GameState})에서 읽고 바꾼 뒤 바로 브로드캐스트
+ * - 같은 방 이벤트는 방 메일박스({@link RoomMailboxDispatcher})에서 순서대로 하나씩 처리
+ * - 진행 중인 턴은 턴 타이머({@link TurnTimer})로 제한 시간 관리 → 시간이 지나면 턴 스왑과 같은 흐름으로 넘김
+ * - DB는 준비 상태 변경, 게임 시작/종료 때만 반영 ({@link GameStateStore})
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
-@Transactional
 public class StompMessageService {
 	private final SimpMessageSendingOperations messageTemplate;
-	private final RoomParticipantRepository roomParticipantRepository;
-	private final RoomRepository roomRepository;
-	private final UserRepository userRepository;
-	private final UserBattleService userBattleService;
+	private final GameStateStore gameStateStore;
+	private final RoomMailboxDispatcher roomMailboxDispatcher;
+	private final TurnTimer turnTimer;
 
 	public void handleMessage(Long roomId, UUID senderId, StompRequest stompRequest) {
-		StompMessageType type = stompRequest.getType();
-
 		log.info("Event: {} | Room: {} | User: {}",
 			stompRequest.getType(), roomId, senderId);
 
+		roomMailboxDispatcher.submit(roomId, () -> process(roomId, senderId, stompRequest));
+	}
+
+	// 방 메일박스 스레드에서 실행 (같은 방 이벤트는 순서대로 하나씩)
+	private void process(Long roomId, UUID senderId, StompRequest stompRequest) {
+		StompMessageType type = stompRequest.getType();
+
+		GameState state = gameStateStore.get(roomId);
+		if (state == null) {
+			sendSystemMessageToUser(senderId, roomId, StompMessageType.RESPONSE_ERROR, "존재하지 않는 방입니다.", null);
+			return;
+		}
+
 		if (StompMessageType.REQUEST_READY_CHANGE == type) {
-			handleReadyChange(roomId, senderId, stompRequest);
+			handleReadyChange(state, senderId, stompRequest);
 		} else if (StompMessageType.REQUEST_TURN_SWAP == type) {
-			handleTurnSwap(roomId, senderId, stompRequest);
+			handleTurnSwap(state, senderId, stompRequest);
 		} else if (StompMessageType.REQUEST_LAUGHED == type) {
-			handleLaughed(roomId, senderId, stompRequest);
+			handleLaughed(state, senderId, stompRequest);
 		} else if (StompMessageType.REQUEST_SURRENDER == type) {
-			handleSurrender(roomId, senderId, stompRequest);
+			handleSurrender(state, senderId, stompRequest);
 		} else if (StompMessageType.REQUEST_BATTLE_START == type) {
-			handleBattleStart(roomId, senderId, stompRequest);
+			handleBattleStart(state, senderId, stompRequest);
 		} else if (StompMessageType.REQUEST_REPORT == type) {
-			handleReport(roomId, senderId, stompRequest);
+			handleReport(state, senderId, stompRequest);
 		} else {
 			sendSystemMessageToUser(senderId, roomId, StompMessageType.RESPONSE_ERROR, "알 수 없는 타입입니다.", null);
 		}
-
 	}
 
 	// 준비상태 변경
-	public void handleReadyChange(Long roomId, UUID senderId, StompRequest stompRequest) {
-		Room room = roomRepository.findById(roomId).orElseThrow();
+	private void handleReadyChange(GameState state, UUID senderId, StompRequest stompRequest) {
+		Long roomId = state.getRoomId();
 		// 대기 상태에서만 준비 변경 가능
-		if (!RoomStatus.WAITING.equals(room.getStatus())) {
+		if (!state.isStatus(RoomStatus.WAITING)) {
 			sendSystemMessageToUser(senderId, roomId,
 				StompMessageType.RESPONSE_ERROR, "대기중일 때만 준비 상태 변경이 가능합니다.", null);
 			return;
 		}
 
-		RoomParticipant senderAsParticipant = roomParticipantRepository.findByRoomIdAndUserId(roomId, senderId)
-			.orElseThrow(() -> new NotFoundUserException("참가자 정보 없음"));
+		GameState.Player sender = findParticipant(state, senderId);
 		// 방장은 준비상태 변경할 필요 없음
-		if (ParticipantRole.HOST.equals(senderAsParticipant.getRole())) {
+		if (ParticipantRole.HOST.equals(sender.getRole())) {
 			sendSystemMessageToUser(senderId, roomId,
 				StompMessageType.RESPONSE_ERROR, "방장은 항상 준비 상태입니다.", null);
 			return;
@@ -83,68 +94,42 @@ public class StompMessageService {
 
 		// 참가자 준비상태 변경
 		boolean isReady = (boolean)stompRequest.getData().get("isReady");
-		senderAsParticipant.setReady(isReady);
-		roomParticipantRepository.save(senderAsParticipant);
+		sender.setReady(isReady);
 
 		// 준비 메세지 보냄
-		User sender = userRepository.findById(senderId).orElseThrow(() -> new NotFoundUserException("참가자 정보 없음"));
 		sendSystemMessageToRoom(roomId,
 			StompMessageType.RESPONSE_READY_CHANGE,
 			sender.getNickname() + "님이 " + (isReady ? "준비되었습니다." : "준비를 취소했습니다."),
-			Map.of("userId", sender.getId(), "isReady", isReady));
+			Map.of("userId", sender.getUserId(), "isReady", isReady));
+		gameStateStore.persistReady(roomId, senderId, isReady);
 
 		// 방 종류에 따라 자동시작 처리
-		if (RoomType.CASUAL == room.getRoomType()) {
-			;
-		} else if (room.getRoomType() == RoomType.RANKED) {
-			List<RoomParticipant> participants = room.getRoomParticipants();
-			if (participants.size() == 2 && participants.stream().allMatch(RoomParticipant::isReady)) {
+		if (RoomType.RANKED == state.getRoomType()) {
+			if (state.getPlayers().size() == 2 && state.allReady()) {
 				log.info("{}번 방 자동 시작", roomId);
-
-				// 방 상태 변경(선공, 방 상태, 시작시간)
-				Collections.shuffle(participants);
-				User firstAttacker = participants.getFirst().getUser();
-				room.updateAttacker(firstAttacker);
-				room.updateStatus(RoomStatus.PLAYING);
-				room.updateTurnStartedAt(LocalDateTime.now());
-				roomRepository.save(room);
-
-				sendSystemMessageToRoom(roomId,
-					StompMessageType.RESPONSE_BATTLE_START,
-					"게임이 시작되었습니다.",
-					Map.of(
-						"attackerId", firstAttacker.getId(),
-						// "limitTime", 30
-						"currentTurn", room.getTurnCount(),
-						"currentRound", room.getRoundCount(),
-						"currentScores", Map.of(participants.get(0).getUser().getId(),
-							0,
-							participants.get(1).getUser().getId(),
-							0)
-					));
+				startBattle(state);
 			}
 		}
 	}
 
 	// 게임 시작
-	public void handleBattleStart(Long roomId, UUID senderId, StompRequest stompRequest) {
-		Room room = roomRepository.findById(roomId).orElseThrow();
-		List<RoomParticipant> participants = room.getRoomParticipants();
+	private void handleBattleStart(GameState state, UUID senderId, StompRequest stompRequest) {
+		Long roomId = state.getRoomId();
+		List<GameState.Player> participants = state.getPlayers();
 
 		// 대기 상태에서만 게임 시작 가능
-		if (!RoomStatus.WAITING.equals(room.getStatus())) {
+		if (!state.isStatus(RoomStatus.WAITING)) {
 			sendSystemMessageToUser(senderId, roomId,
 				StompMessageType.RESPONSE_ERROR, "대기중일 때만 게임 시작이 가능합니다.", null);
 			return;
 		}
 
 		// 방 생성으로 만들어진 방만 수동으로 게임 시작
-		if (RoomType.CASUAL == room.getRoomType()) {
-			RoomParticipant senderAsParticipant = roomParticipantRepository.findByRoomIdAndUserId(roomId, senderId)
-				.orElseThrow(() -> new NotFoundUserException("참가자 정보 없음"));
+		if (RoomType.CASUAL == state.getRoomType()) {
+			GameState.Player sender = findParticipant(state, senderId);
 
 			// 방장 체크
-			if (!ParticipantRole.HOST.equals(senderAsParticipant.getRole())) {
+			if (!ParticipantRole.HOST.equals(sender.getRole())) {
 				sendSystemMessageToUser(senderId, roomId,
 					StompMessageType.RESPONSE_ERROR, "방장만 시작할 수 있습니다.", null);
 				return;
@@ -157,39 +142,20 @@ public class StompMessageService {
 				return;
 			}
 			// 이미 시작했거나 종료결과 보는 상태인지 체크
-			else if (RoomStatus.PLAYING.equals(room.getStatus()) || RoomStatus.TERMINATED.equals(room.getStatus())) {
+			else if (state.isStatus(RoomStatus.PLAYING) || state.isStatus(RoomStatus.PAUSED)
+				|| state.isStatus(RoomStatus.TERMINATED)) {
 				sendSystemMessageToUser(senderId, roomId,
 					StompMessageType.RESPONSE_ERROR, "게임이 이미 시작되었거나 종료된 상태입니다.	", null);
 				return;
 			}
 			// 전부 준비되었는지 체크
-			else if (participants.stream().allMatch(RoomParticipant::isReady)) {
-				// 방 상태 변경(선공, 방 상태, 시작시간)
-				Collections.shuffle(participants);
-				User firstAttacker = participants.getFirst().getUser();
-				room.updateAttacker(firstAttacker);
-				room.updateStatus(RoomStatus.PLAYING);
-				room.updateTurnStartedAt(LocalDateTime.now());
-				roomRepository.save(room);
-
-				sendSystemMessageToRoom(roomId,
-					StompMessageType.RESPONSE_BATTLE_START,
-					"게임이 시작되었습니다.",
-					Map.of(
-						"attackerId", firstAttacker.getId(),
-						//"limitTime", 30,
-						"currentTurn", room.getTurnCount(),
-						"currentRound", room.getRoundCount(),
-						"currentScores", Map.of(participants.get(0).getUser().getId(),
-							0,
-							participants.get(1).getUser().getId(),
-							0)
-					));
+			else if (state.allReady()) {
+				startBattle(state);
 			} else {
 				sendSystemMessageToUser(senderId, roomId,
 					StompMessageType.RESPONSE_ERROR, "준비되지 않은 사용자가 있습니다.", null);
 			}
-		} else if (room.getRoomType() == RoomType.RANKED) {
+		} else if (state.getRoomType() == RoomType.RANKED) {
 			sendSystemMessageToUser(senderId, roomId,
 				StompMessageType.RESPONSE_ERROR, "현재 이 방에서는 두 사람 다 준비 버튼을 누르면 자동으로 시작됩니다.", null);
 		}
@@ -197,359 +163,262 @@ public class StompMessageService {
 	}
 
 	// 턴 스왑 검사
-	public void handleTurnSwap(Long roomId, UUID senderId, StompRequest stompRequest) {
-		Room room = roomRepository.findById(roomId).orElseThrow();
+	private void handleTurnSwap(GameState state, UUID senderId, StompRequest stompRequest) {
+		Long roomId = state.getRoomId();
 		// 게임중에만 턴 넘기기 가능
-		if (!room.getStatus().equals(RoomStatus.PLAYING)) {
+		if (!state.isStatus(RoomStatus.PLAYING)) {
 			sendSystemMessageToUser(senderId, roomId, StompMessageType.RESPONSE_ERROR, "게임 중에만 턴을 넘길 수 있습니다.", null);
 			return;
 		}
 
-		User currentAttacker = room.getCurrentAttacker();
+		GameState.Player currentAttacker = state.attacker();
 		// 공격자만 턴 넘기기 가능
-		if (!currentAttacker.getId().equals(senderId)) {
+		if (!currentAttacker.getUserId().equals(senderId)) {
 			sendSystemMessageToUser(senderId, roomId, StompMessageType.RESPONSE_ERROR, "공격자만 턴을 넘길 수 있습니다.", null);
 			return;
 		}
 
-		// 턴 전환 한 번도 안 했을 경우 그냥 턴 전환
-		if (room.getTurnCount() == 1) {
-			room.incrementTurnCount();
-
-			// 공수교대
-			List<RoomParticipant> participants = room.getRoomParticipants();
-
-			int currentIndex = -1;
-			for (int i = 0; i < participants.size(); i++) {
-				if (participants.get(i).getUser().equals(currentAttacker)) {
-					currentIndex = i;
-					break;
-				}
-			}
-			int nextIndex = (currentIndex + 1) % participants.size();
-			User nextAttacker = participants.get(nextIndex).getUser();
-
-			room.updateAttacker(nextAttacker);
-			room.updateTurnStartedAt(LocalDateTime.now());
-			roomRepository.save(room);
+		advanceTurn(state, StompMessageType.REQUEST_TURN_SWAP,
+			"턴이 스왑됐습니다. 공격자는 ",
+			"공수교대를 한 번씩 해 무승부입니다. 새로운 공격자는 ");
+	}
 
-			sendSystemMessageToRoom(roomId,
-				StompMessageType.RESPONSE_TURN_SWAP,
-				"턴이 스왑됐습니다. 공격자는 " + nextAttacker.getNickname() + "님입니다!",
-				Map.of(
-					"reason", StompMessageType.REQUEST_TURN_SWAP,
-					"attackerId", nextAttacker.getId(),
-					"currentTurn", room.getTurnCount(),
-					"currentRound", room.getRoundCount(),
-					"currentScores", Map.of(participants.get(0).getUser().getId(), participants.get(0).getWinCount(),
-						participants.get(1).getUser().getId(), participants.get(1).getWinCount())
-				)
-			);
-		}
-		// 만약 공수교대 한 번씩 했는데 턴 넘기기 들어오면
-		// 무승부 처리하고 다음 라운드 갈 준비
-		else {
-			List<RoomParticipant> participants = room.getRoomParticipants();
-
-			// 근데 이미 3라운드 했으면 게임 종료
-			if (room.getRoundCount() == 3) {
-				room.updateStatus(RoomStatus.TERMINATED);
-				roomRepository.save(room);
-
-				RoomParticipant p1 = participants.get(0);
-				RoomParticipant p2 = participants.get(1);
-				UUID winnerId = getWinnerId(p1, p2);
-				if (winnerId == null) {
-					// 무승부인 경우 전적 처리
-					userBattleService.recordDraw(room, p1.getUser().getId());
-					sendSystemMessageToRoom(roomId,
-						StompMessageType.RESPONSE_BATTLE_END,
-						"경기 종료! 무승부입니다.",
-						Map.of(
-							"reason", StompMessageType.REQUEST_TURN_SWAP,
-							"winnerId", "",
-							"finalTurn", room.getTurnCount(),
-							"finalRound", room.getRoundCount(),
-							"finalScores",
-							Map.of(participants.get(0).getUser().getId(), participants.get(0).getWinCount(),
-								participants.get(1).getUser().getId(), participants.get(1).getWinCount())
-						)
-					);
-				} else {
-					userBattleService.recordBattleResult(room, winnerId);
-					sendSystemMessageToRoom(roomId,
-						StompMessageType.RESPONSE_BATTLE_END,
-						"경기 종료! 승자가 결정되었습니다.",
-						Map.of(
-							"reason", StompMessageType.REQUEST_TURN_SWAP,
-							"winnerId", winnerId.toString(),
-							"finalTurn", room.getTurnCount(),
-							"finalRound", room.getRoundCount(),
-							"finalScores",
-							Map.of(participants.get(0).getUser().getId(), participants.get(0).getWinCount(),
-								participants.get(1).getUser().getId(), participants.get(1).getWinCount())
-						)
-					);
-				}
-			}
-			// 무승부 처리하고 다음 라운드 갈 준비
-			else {
-				room.resetTurnCount();
-				room.incrementRoundCount();
-
-				int currentIndex = -1;
-				for (int i = 0; i < participants.size(); i++) {
-					if (participants.get(i).getUser().equals(currentAttacker)) {
-						currentIndex = i;
-						break;
-					}
-				}
-				int nextIndex = (currentIndex + 1) % participants.size();
-				User nextAttacker = participants.get(nextIndex).getUser();
-
-				room.updateAttacker(nextAttacker);
-				room.updateTurnStartedAt(LocalDateTime.now());
-				roomRepository.save(room);
-				sendSystemMessageToRoom(roomId,
-					StompMessageType.RESPONSE_ROUND_END,
-					"공수교대를 한 번씩 해 무승부입니다. 새로운 공격자는 " + nextAttacker.getNickname() + "님입니다!",
-					Map.of(
-						"reason", StompMessageType.REQUEST_TURN_SWAP,
-						"attackerId", nextAttacker.getId(),
-						"currentTurn", room.getTurnCount(),
-						"currentRound", room.getRoundCount(),
-						"currentScores",
-						Map.of(participants.get(0).getUser().getId(), participants.get(0).getWinCount(),
-							participants.get(1).getUser().getId(), participants.get(1).getWinCount())
-					)
-				);
-				return;
-			}
+	// 턴 제한 시간 초과 (턴 타이머 → 방 메일박스에서 실행)
+	private void handleTurnTimeout(Long roomId, long turnSeq) {
+		GameState state = gameStateStore.get(roomId);
+		// 그 사이 턴이 바뀌었거나 게임이 끝났으면 무시
+		if (state == null || !state.isStatus(RoomStatus.PLAYING) || state.getTurnSeq() != turnSeq) {
+			return;
 		}
-
+		log.info("{}번 방 {}라운드 {}턴 시간 초과", roomId, state.getRound(), state.getTurn());
+		advanceTurn(state, StompMessageType.TURN_TIMEOUT,
+			"시간이 초과되어 턴이 스왑됩니다. 공격자는 ",
+			"시간이 초과되어 라운드가 새로 시작됩니다. 새로운 공격자는 ");
 	}
 
 	// 웃었다고 보냄
-	public void handleLaughed(Long roomId, UUID senderId, StompRequest stompRequest) {
-		Room room = roomRepository.findById(roomId).orElseThrow();
+	private void handleLaughed(GameState state, UUID senderId, StompRequest stompRequest) {
+		Long roomId = state.getRoomId();
 		// 게임 중인지 체크
-		if (!room.getStatus().equals(RoomStatus.PLAYING)) {
+		if (!state.isStatus(RoomStatus.PLAYING)) {
 			sendSystemMessageToUser(senderId, roomId, StompMessageType.RESPONSE_ERROR, "게임 중에만 웃었다는 신호를 보낼 수 있습니다.",
 				null);
 			return;
 		}
 
 		// 공격자가 웃었다고 보냈는지 체크
-		User currentAttacker = room.getCurrentAttacker();
-		UUID attackerId = currentAttacker.getId();
+		GameState.Player currentAttacker = state.attacker();
+		UUID attackerId = currentAttacker.getUserId();
 		if (senderId.equals(attackerId)) {
 			sendSystemMessageToUser(senderId, roomId, StompMessageType.RESPONSE_ERROR, "공격자는 웃어도 됩니다.", null);
 			return;
 		}
 
+		// 이번 턴 타이머 취소 (다음 턴으로 넘어가면 새로 등록)
+		turnTimer.cancel(roomId);
+
 		// 공격자 승수 추가
-		List<RoomParticipant> participants = room.getRoomParticipants();
-		participants.stream()
-			.filter(p -> p.getUser().getId().equals(attackerId))
-			.findFirst()
-			.ifPresent(p -> p.setWinCount(p.getWinCount() + 1));
+		currentAttacker.addWin();
 
 		// 2승했으면 게임 종료
-		boolean hasWinner = participants.stream()
-			.anyMatch(p -> p.getWinCount() >= 2);
-		if (hasWinner) {
-			room.updateStatus(RoomStatus.TERMINATED);
-			roomRepository.save(room);
-
-			// 전적 기록/집계 업데이트 (winner: attackerId)
-			userBattleService.recordBattleResult(room, attackerId);
-
-			sendSystemMessageToRoom(roomId,
-				StompMessageType.RESPONSE_BATTLE_END,
+		if (currentAttacker.getWinCount() >= 2) {
+			finishBattle(state, attackerId,
 				"경기 종료! " + currentAttacker.getNickname() + "님이 최종 승리하였습니다.",
 				Map.of(
 					"reason", StompMessageType.REQUEST_LAUGHED,
-					"finalTurn", room.getTurnCount(),
-					"finalRound", room.getRoundCount(),
+					"finalTurn", state.getTurn(),
+					"finalRound", state.getRound(),
 					"winnerId", attackerId,
-					"finalScores", Map.of(participants.get(0).getUser().getId(), participants.get(0).getWinCount(),
-						participants.get(1).getUser().getId(), participants.get(1).getWinCount())
+					"finalScores", state.scores()
 				)
 			);
 
 			// 2승한 사람이 없음
 		} else {
-			// 그렇다면 턴 스왑하는 경우 / 라운드 넘어가는 경우.
-			// 턴 스왑하는 경우
-			if (room.getTurnCount() == 1) {
-				room.incrementTurnCount();
-
-				// 공수교대
-				int currentIndex = -1;
-				for (int i = 0; i < participants.size(); i++) {
-					if (participants.get(i).getUser().equals(currentAttacker)) {
-						currentIndex = i;
-						break;
-					}
-				}
-				int nextIndex = (currentIndex + 1) % participants.size();
-				User nextAttacker = participants.get(nextIndex).getUser();
-
-				room.updateAttacker(nextAttacker);
-				room.updateTurnStartedAt(LocalDateTime.now());
-				roomRepository.save(room);
-
-				sendSystemMessageToRoom(roomId,
-					StompMessageType.RESPONSE_TURN_SWAP,
-					"수비자가 웃어 턴이 스왑됩니다. 공격자는 " + nextAttacker.getNickname() + "님입니다!",
-					Map.of(
-						"reason", StompMessageType.REQUEST_LAUGHED,
-						"attackerId", nextAttacker.getId(),
-						"currentTurn", room.getTurnCount(),
-						"currentRound", room.getRoundCount(),
-						"currentScores",
-						Map.of(participants.get(0).getUser().getId(), participants.get(0).getWinCount(),
-							participants.get(1).getUser().getId(), participants.get(1).getWinCount())
-					)
-				);
-				// 공수교대 끝, 라운드 넘어가는 경우
-			} else {
-				// 라운드 넘어가는 경우에서, 지금 3라운드라면 종료
-				if (room.getRoundCount() == 3) {
-					room.updateStatus(RoomStatus.TERMINATED);
-					roomRepository.save(room);
-					RoomParticipant p1 = participants.get(0);
-					RoomParticipant p2 = participants.get(1);
-
-					UUID winnerId = getWinnerId(p1, p2);
-					// 3라운드에서 승자가 있는 경우
-					if (winnerId != null) {
-						userBattleService.recordBattleResult(room, winnerId);
-						sendSystemMessageToRoom(roomId,
-							StompMessageType.RESPONSE_BATTLE_END,
-							"경기 종료! 승자가 결정되었습니다.",
-							Map.of(
-								"reason", StompMessageType.REQUEST_LAUGHED,
-								"finalTurn", room.getTurnCount(),
-								"finalRound", room.getRoundCount(),
-								"winnerId", winnerId.toString(),
-								"finalScores",
-								Map.of(participants.get(0).getUser().getId(), participants.get(0).getWinCount(),
-									participants.get(1).getUser().getId(), participants.get(1).getWinCount())
-							)
-						);
-						// 3라운드가 끝났는데 무승부인 경우
-					} else {
-						userBattleService.recordDraw(room, p1.getUser().getId());
-						sendSystemMessageToRoom(roomId,
-							StompMessageType.RESPONSE_BATTLE_END,
-							"경기 종료! 무승부입니다.",
-							Map.of(
-								"reason", StompMessageType.REQUEST_LAUGHED,
-								"finalTurn", room.getTurnCount(),
-								"finalRound", room.getRoundCount(),
-								"winnerId", "",
-								"finalScores",
-								Map.of(participants.get(0).getUser().getId(), participants.get(0).getWinCount(),
-									participants.get(1).getUser().getId(), participants.get(1).getWinCount())
-							)
-						);
-					}
-					// 라운드 넘어가는 경우에서, 지금 2라운드 이하라면 +1라운드.
-				} else if (room.getRoundCount() < 3) {
-					room.incrementRoundCount();
-					room.resetTurnCount();
-					int currentIndex = -1;
-					for (int i = 0; i < participants.size(); i++) {
-						if (participants.get(i).getUser().equals(currentAttacker)) {
-							currentIndex = i;
-							break;
-						}
-					}
-					int nextIndex = (currentIndex + 1) % participants.size();
-					User nextAttacker = participants.get(nextIndex).getUser();
-
-					room.updateAttacker(nextAttacker);
-					room.updateTurnStartedAt(LocalDateTime.now());
-					roomRepository.save(room);
-
-					sendSystemMessageToRoom(roomId,
-						StompMessageType.RESPONSE_ROUND_END,
-						"수비자가 웃었습니다. 라운드가 새로 시작됩니다. 새로운 공격자는 " + nextAttacker.getNickname() + "님입니다!",
-						Map.of(
-							"reason", StompMessageType.REQUEST_LAUGHED,
-							"attackerId", nextAttacker.getId(),
-							"currentTurn", room.getTurnCount(),
-							"currentRound", room.getRoundCount(),
-							"currentScores",
-							Map.of(participants.get(0).getUser().getId(), participants.get(0).getWinCount(),
-								participants.get(1).getUser().getId(), participants.get(1).getWinCount())
-						)
-					);
-				}
-			}
+			advanceTurn(state, StompMessageType.REQUEST_LAUGHED,
+				"수비자가 웃어 턴이 스왑됩니다. 공격자는 ",
+				"수비자가 웃었습니다. 라운드가 새로 시작됩니다. 새로운 공격자는 ");
 		}
 	}
 
 	// 기권
-	public void handleSurrender(Long roomId, UUID senderId, StompRequest stompRequest) {
-		Room room = roomRepository.findById(roomId).orElseThrow();
-		if (!room.getStatus().equals(RoomStatus.PLAYING)) {
+	private void handleSurrender(GameState state, UUID senderId, StompRequest stompRequest) {
+		Long roomId = state.getRoomId();
+		if (!state.isStatus(RoomStatus.PLAYING)) {
 			sendSystemMessageToUser(senderId, roomId, StompMessageType.RESPONSE_ERROR, "게임 중에만 항복할 수 있습니다.", null);
 			return;
 		}
-		room.updateStatus(RoomStatus.TERMINATED);
-		roomRepository.save(room);
-
-		List<RoomParticipant> participants = room.getRoomParticipants();
-		User sender = userRepository.findById(senderId).orElseThrow(() -> new NotFoundUserException("참가자 정보 없음"));
-		User winner = participants.stream()
-			.map(RoomParticipant::getUser)
-			.filter(user -> !user.getId().equals(senderId))
+
+		GameState.Player sender = findParticipant(state, senderId);
+		GameState.Player winner = state.getPlayers().stream()
+			.filter(p -> !p.getUserId().equals(senderId))
 			.findFirst()
 			.orElseThrow(() -> new IllegalStateException("승리자를 결정할 수 없습니다."));
 
-		// 전적 기록/집계 업데이트
-		userBattleService.recordBattleResult(room, winner.getId());
-
-		sendSystemMessageToRoom(roomId,
-			StompMessageType.RESPONSE_BATTLE_END,
+		finishBattle(state, winner.getUserId(),
 			"경기 종료! " + sender.getNickname() + "님이 기권하셨습니다.",
 			Map.of(
 				"reason", StompMessageType.REQUEST_SURRENDER,
-				"finalTurn", room.getTurnCount(),
-				"finalRound", room.getRoundCount(),
-				"winnerId", winner.getId(),
-				"finalScores", Map.of(participants.get(0).getUser().getId(), participants.get(0).getWinCount(),
-					participants.get(1).getUser().getId(), participants.get(1).getWinCount())
+				"finalTurn", state.getTurn(),
+				"finalRound", state.getRound(),
+				"winnerId", winner.getUserId(),
+				"finalScores", state.scores()
 			)
 		);
 	}
 
 	// 신고 처리
-	public void handleReport(Long roomId, UUID senderId, StompRequest stompRequest) {
-		Room room = roomRepository.findById(roomId).orElseThrow();
-		List<RoomParticipant> participants = room.getRoomParticipants();
+	private void handleReport(GameState state, UUID senderId, StompRequest stompRequest) {
+		List<GameState.Player> participants = state.getPlayers();
 
 		int currentIndex = 0;
 		for (int i = 0; i < participants.size(); i++) {
-			if (participants.get(i).getUser().getId().equals(senderId)) {
+			if (participants.get(i).getUserId().equals(senderId)) {
 				currentIndex = i;
 				break;
 			}
 		}
 		int nextIndex = (currentIndex + 1) % participants.size();
-		User targetUser = participants.get(nextIndex).getUser();
+		GameState.Player targetUser = participants.get(nextIndex);
 
-		sendSystemMessageToRoom(roomId,
+		sendSystemMessageToRoom(state.getRoomId(),
 			StompMessageType.RESPONSE_REPORTED,
 			targetUser.getNickname() + "님이 신고당하셨습니다.",
 			Map.of(
-				"reportedUserId", targetUser.getId()
+				"reportedUserId", targetUser.getUserId()
 			)
 		);
 	}
 
+	// 방 상태 변경(선공, 방 상태, 시작시간) → 브로드캐스트 → DB 반영
+	private void startBattle(GameState state) {
+		// 연결이 끊겨 유예 중인 참가자가 있으면 시작하지 않음 (돌아온 뒤 다시 시작)
+		List<GameState.Player> disconnected = state.disconnectedPlayers();
+		if (!disconnected.isEmpty()) {
+			sendSystemMessageToRoom(state.getRoomId(),
+				StompMessageType.RESPONSE_ERROR,
+				"연결이 끊긴 참가자가 있어 게임을 시작할 수 없습니다.",
+				Map.of("disconnectedUserIds", disconnected.stream().map(GameState.Player::getUserId).toList()));
+			return;
+		}
+		int firstAttackerIndex = ThreadLocalRandom.current().nextInt(state.getPlayers().size());
+		state.start(firstAttackerIndex, LocalDateTime.now());
+		GameState.Player firstAttacker = state.attacker();
+
+		sendSystemMessageToRoom(state.getRoomId(),
+			StompMessageType.RESPONSE_BATTLE_START,
+			"게임이 시작되었습니다.",
+			Map.of(
+				"attackerId", firstAttacker.getUserId(),
+				"limitTime", turnTimer.getTurnLimitSeconds(),
+				"currentTurn", state.getTurn(),
+				"currentRound", state.getRound(),
+				"currentScores", state.scores()
+			));
+		scheduleTurnTimeout(state);
+		gameStateStore.persistBattleStart(state);
+	}
+
+	// 턴 넘기기 (턴 스왑 요청 / 웃음 / 시간 초과 공통)
+	// 첫 턴이면 공수교대, 두 번째 턴이면 다음 라운드 (3라운드였으면 승수로 종료)
+	private void advanceTurn(GameState state, StompMessageType reason, String turnSwapMessage,
+		String roundEndMessage) {
+		Long roomId = state.getRoomId();
+		if (state.getTurn() == 1) {
+			state.nextTurn();
+
+			// 공수교대
+			GameState.Player nextAttacker = state.swapAttacker(LocalDateTime.now());
+
+			sendSystemMessageToRoom(roomId,
+				StompMessageType.RESPONSE_TURN_SWAP,
+				turnSwapMessage + nextAttacker.getNickname() + "님입니다!",
+				Map.of(
+					"reason", reason,
+					"attackerId", nextAttacker.getUserId(),
+					"currentTurn", state.getTurn(),
+					"currentRound", state.getRound(),
+					"currentScores", state.scores()
+				)
+			);
+			scheduleTurnTimeout(state);
+		}
+		// 이미 3라운드 했으면 게임 종료
+		else if (state.getRound() >= 3) {
+			finishByScore(state, reason);
+		}
+		// 다음 라운드
+		else {
+			state.nextRound();
+			GameState.Player nextAttacker = state.swapAttacker(LocalDateTime.now());
+
+			sendSystemMessageToRoom(roomId,
+				StompMessageType.RESPONSE_ROUND_END,
+				roundEndMessage + nextAttacker.getNickname() + "님입니다!",
+				Map.of(
+					"reason", reason,
+					"attackerId", nextAttacker.getUserId(),
+					"currentTurn", state.getTurn(),
+					"currentRound", state.getRound(),
+					"currentScores", state.scores()
+				)
+			);
+			scheduleTurnTimeout(state);
+		}
+	}
+
+	// 이번 턴 제한 시간 등록 (방마다 하나, 이전 턴 타이머는 자동 취소)
+	void scheduleTurnTimeout(GameState state) {
+		Long roomId = state.getRoomId();
+		long turnSeq = state.getTurnSeq();
+		turnTimer.scheduleTurn(roomId,
+			() -> roomMailboxDispatcher.submit(roomId, () -> handleTurnTimeout(roomId, turnSeq)));
+	}
+
+	// 3라운드 종료: 승수로 승패 결정
+	private void finishByScore(GameState state, StompMessageType reason) {
+		UUID winnerId = state.winnerId();
+		if (winnerId == null) {
+			finishBattle(state, null,
+				"경기 종료! 무승부입니다.",
+				Map.of(
+					"reason", reason,
+					"winnerId", "",
+					"finalTurn", state.getTurn(),
+					"finalRound", state.getRound(),
+					"finalScores", state.scores()
+				)
+			);
+		} else {
+			finishBattle(state, winnerId,
+				"경기 종료! 승자가 결정되었습니다.",
+				Map.of(
+					"reason", reason,
+					"winnerId", winnerId.toString(),
+					"finalTurn", state.getTurn(),
+					"finalRound", state.getRound(),
+					"finalScores", state.scores()
+				)
+			);
+		}
+	}
+
+	// 게임 종료 → 브로드캐스트 → DB 반영 (방 상태, 전적)
+	private void finishBattle(GameState state, UUID winnerId, String message, Map<String, Object> data) {
+		state.terminate();
+		turnTimer.cancel(state.getRoomId());
+		sendSystemMessageToRoom(state.getRoomId(), StompMessageType.RESPONSE_BATTLE_END, message, data);
+		gameStateStore.persistBattleEnd(state, winnerId);
+	}
+
+	private GameState.Player findParticipant(GameState state, UUID userId) {
+		GameState.Player player = state.find(userId);
+		if (player == null) {
+			throw new NotFoundUserException("참가자 정보 없음");
+		}
+		return player;
+	}
+
 	public void sendSystemMessageToRoom(Long roomId, StompMessageType messageType, String message,
 		Map<String, Object> data) {
 		StompResponse response = StompResponse.builder()
@@ -574,13 +443,4 @@ public class StompMessageService {
 			.build();
 		messageTemplate.convertAndSendToUser(userId.toString(), "/queue/errors/" + roomId, response);
 	}
-
-	public UUID getWinnerId(RoomParticipant p1, RoomParticipant p2) {
-		if (p1.getWinCount() > p2.getWinCount()) {
-			return p1.getUser().getId();
-		} else if (p2.getWinCount() > p1.getWinCount()) {
-			return p2.getUser().getId();
-		} else
-			return null;
-	}
 }
@@ -2,7 +2,10 @@ package ssafy.E207.domain.user.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,22 +15,28 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ssafy.E207.domain.user.dto.request.ConfirmProfileImageRequest;
 import ssafy.E207.domain.user.dto.request.DeleteProfileImageRequest;
 import ssafy.E207.domain.user.dto.request.UpdateMarketingRequest;
 import ssafy.E207.domain.user.dto.request.UpdateUserInfoRequest;
 import ssafy.E207.domain.user.dto.request.UploadProfileImageRequest;
+import ssafy.E207.domain.user.dto.response.BattleHistoryResponse;
 import ssafy.E207.domain.user.dto.response.ConfirmProfileImageResponse;
 import ssafy.E207.domain.user.dto.response.MyInfoResponse;
 import ssafy.E207.domain.user.dto.response.UploadProfileImageResponse;
 import ssafy.E207.domain.user.dto.response.UserChangeResponse;
 import ssafy.E207.domain.user.exception.DuplicateNicknameMessageException;
 import ssafy.E207.domain.user.exception.ImageNotUploadedException;
+import ssafy.E207.domain.user.service.BattleHistoryService;
 import ssafy.E207.domain.user.service.MinioService;
 import ssafy.E207.domain.user.service.UserService;
+import ssafy.E207.global.common.enums.ExportFormat;
 import ssafy.E207.global.common.template.ResTemplate;
 import ssafy.E207.global.jwt.UserPrincipal;
 
+import java.util.UUID;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/user")
@@ -35,6 +44,7 @@ public class UserController {
 
     private final UserService userService;
     private final MinioService minioService;
+    private final BattleHistoryService battleHistoryService;
 
     /**
      * [API] 닉네임 중복 체크
@@ -68,6 +78,47 @@ public class UserController {
         return ResTemplate.success(HttpStatus.OK, "사용자 정보 조회 성공", data);
     }
 
+    /**
+     * [API] 내 전적 목록 (최신순)
+     *
+     * GET /user/battles?cursor=&size=20
+     *
+     * - cursor: 이전 응답의 nextCursor (첫 페이지는 생략)
+     * - size: 1~100 (기본 20)
+     * - 400: 잘못된 cursor
+     */
+    @GetMapping("/battles")
+    public ResTemplate<BattleHistoryResponse> getBattleHistory(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
+    ) {
+        BattleHistoryResponse data = battleHistoryService.getHistory(principal.getUserId(), cursor, size);
+        return ResTemplate.success(HttpStatus.OK, "전적 조회 성공", data);
+    }
+
+    /**
+     * [API] 내 전적 전체 내보내기
+     *
+     * GET /user/battles/export?format=NDJSON|CSV
+     *
+     * 전체 전적을 메모리에 모으지 않고 DB에서 읽는 대로 응답에 흘려보낸다.
+     */
+    @GetMapping("/battles/export")
+    public ResponseEntity<StreamingResponseBody> exportBattleHistory(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format
+    ) {
+        // 응답 본문은 요청 스레드 밖에서 쓰이므로 userId는 미리 꺼내둔다
+        UUID userId = principal.getUserId();
+        StreamingResponseBody body = outputStream -> battleHistoryService.export(userId, format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"battles." + format.extension() + "\"")
+                .body(body);
+    }
+
     /**
      * [API] 마케팅 수신동의 변경
      *
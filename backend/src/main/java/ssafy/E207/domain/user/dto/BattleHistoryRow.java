@@ -0,0 +1,17 @@
+package ssafy.E207.domain.user.dto;
+
+import ssafy.E207.global.common.enums.BattleResult;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전적 목록 조회용 행 (엔티티 대신 바로 생성 → 영속성 컨텍스트에 쌓이지 않음)
+ */
+public record BattleHistoryRow(
+        Long id,
+        Long roomId,
+        BattleResult result,
+        String opponentUserId,
+        LocalDateTime createdAt
+) {
+}
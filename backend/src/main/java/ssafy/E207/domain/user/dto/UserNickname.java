@@ -0,0 +1,9 @@
+package ssafy.E207.domain.user.dto;
+
+import java.util.UUID;
+
+/**
+ * 닉네임 일괄 조회 결과
+ */
+public record UserNickname(UUID id, String nickname) {
+}
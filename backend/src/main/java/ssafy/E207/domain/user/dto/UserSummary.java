@@ -0,0 +1,40 @@
+package ssafy.E207.domain.user.dto;
+
+import ssafy.E207.domain.auth.entity.User;
+import ssafy.E207.global.common.enums.OAuthProvider;
+
+import java.util.UUID;
+
+/**
+ * 자주 조회되는 유저 정보 요약 (캐시 저장용, 엔티티 대신 사용)
+ */
+public record UserSummary(
+        UUID id,
+        String nickname,
+        String profileImage,
+        OAuthProvider oauthProvider,
+        boolean marketing,
+        int rating,
+        int totalGames,
+        int totalWins,
+        int totalDraws,
+        int totalLosses,
+        int currentWinStreak,
+        int maxWinStreak
+) {
+    public static UserSummary from(User user) {
+        return new UserSummary(
+                user.getId(),
+                user.getNickname(),
+                user.getProfileImage(),
+                user.getOauthProvider(),
+                user.isMarketing(),
+                user.getRating(),
+                user.getTotalGames(),
+                user.getTotalWins(),
+                user.getTotalDraws(),
+                user.getTotalLosses(),
+                user.getCurrentWinStreak(),
+                user.getMaxWinStreak());
+    }
+}
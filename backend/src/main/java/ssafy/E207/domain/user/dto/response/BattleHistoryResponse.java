@@ -0,0 +1,27 @@
+package ssafy.E207.domain.user.dto.response;
+
+import lombok.Builder;
+import ssafy.E207.global.common.enums.BattleResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 전적 목록 (커서 기반 페이지)
+ */
+@Builder
+public record BattleHistoryResponse(
+        List<Item> items,
+        String nextCursor, // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+        boolean hasNext
+) {
+    @Builder
+    public record Item(
+            Long roomId,
+            BattleResult result,
+            String opponentUserId,
+            String opponentNickname, // 탈퇴 등으로 찾을 수 없으면 null
+            LocalDateTime playedAt
+    ) {
+    }
+}
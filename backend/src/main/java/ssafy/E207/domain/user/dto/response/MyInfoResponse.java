@@ -1,7 +1,7 @@
 package ssafy.E207.domain.user.dto.response;
 
 import lombok.Builder;
-import ssafy.E207.domain.auth.entity.User;
+import ssafy.E207.domain.user.dto.UserSummary;
 
 import java.util.List;
 import java.util.UUID;
@@ -20,18 +20,18 @@ public record MyInfoResponse(
         int maxWinStreak,
         List<String> recentResults
 ) {
-    public static MyInfoResponse from(User user, String profileImageUrl, List<String> recentResults) {
+    public static MyInfoResponse from(UserSummary user, String profileImageUrl, List<String> recentResults) {
         return MyInfoResponse.builder()
-                .id(user.getId())
-                .nickname(user.getNickname())
+                .id(user.id())
+                .nickname(user.nickname())
                 .profileImageUrl(profileImageUrl) // 해결된 URL 사용
-                .isMarketing(user.isMarketing())
-                .totalGames(user.getTotalGames())
-                .totalWins(user.getTotalWins())
-                .totalDraws(user.getTotalDraws())
-                .totalLosses(user.getTotalLosses())
-                .currentWinStreak(user.getCurrentWinStreak())
-                .maxWinStreak(user.getMaxWinStreak())
+                .isMarketing(user.marketing())
+                .totalGames(user.totalGames())
+                .totalWins(user.totalWins())
+                .totalDraws(user.totalDraws())
+                .totalLosses(user.totalLosses())
+                .currentWinStreak(user.currentWinStreak())
+                .maxWinStreak(user.maxWinStreak())
                 .recentResults(recentResults)
                 .build();
     }
@@ -0,0 +1,50 @@
+package ssafy.E207.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import ssafy.E207.global.common.entity.BaseEntity;
+
+import java.util.UUID;
+
+/**
+ * 전적 기록 대기열(outbox)
+ * - 게임 종료 트랜잭션에서 1행만 추가하고 바로 반환
+ * - BattleResultWriter가 모아서 battle_records 저장 + 유저 스탯 반영 후 삭제
+ */
+@Getter
+@Entity
+@Table(
+        name = "battle_result_outbox",
+        indexes = {
+                @Index(name = "idx_battle_result_outbox_attempts", columnList = "attempts, id")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class BattleResultOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** match.room.id */
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    /** 승자 (무승부면 아무나) */
+    @Column(name = "first_user_id", nullable = false)
+    private UUID firstUserId;
+
+    /** 패자 (무승부면 나머지 한 명) */
+    @Column(name = "second_user_id", nullable = false)
+    private UUID secondUserId;
+
+    @Column(nullable = false)
+    private boolean draw;
+
+    /** 반영 실패 횟수 (max-attempts 이상이면 더 이상 집어가지 않음) */
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+}
@@ -0,0 +1,34 @@
+package ssafy.E207.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import ssafy.E207.global.common.entity.BaseEntity;
+
+/**
+ * 아직 유저에게 연결되지 않은 MinIO 객체 목록
+ * - Presigned URL 발급 시 추가, 프로필 이미지 확정(로그인 유저 확인 / 회원가입) 시 삭제
+ * - 교체되거나 탈퇴로 빠진 이전 이미지도 다시 추가
+ * - MinioCleanupScheduler가 오래된 행만 읽어 객체와 함께 삭제
+ */
+@Getter
+@Entity
+@Table(name = "pending_uploads")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class PendingUpload extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** MinIO objectKey */
+    @Column(name = "object_key", nullable = false, unique = true, length = 512)
+    private String objectKey;
+
+    public static PendingUpload of(String objectKey) {
+        return PendingUpload.builder()
+                .objectKey(objectKey)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package ssafy.E207.domain.user.exception;
+
+import ssafy.E207.global.error.exception.InvalidGroupException;
+
+/**
+ * [User][Exception] InvalidHistoryCursorException
+ * 전적 목록 커서가 손상되었거나 형식이 맞지 않을 때.
+ *
+ * HTTP 400 BAD_REQUEST
+ */
+public class InvalidHistoryCursorException extends InvalidGroupException {
+    private InvalidHistoryCursorException() {
+        super("잘못된 페이지 커서입니다.");
+    }
+
+    public static InvalidHistoryCursorException invalid() {
+        return new InvalidHistoryCursorException();
+    }
+}
@@ -4,16 +4,39 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import ssafy.E207.domain.user.dto.BattleHistoryRow;
 import ssafy.E207.domain.user.entity.BattleRecord;
 import ssafy.E207.global.common.enums.BattleResult;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 public interface BattleRecordRepository extends JpaRepository<BattleRecord, Long> {
 
+    String HISTORY_SELECT = "select new ssafy.E207.domain.user.dto.BattleHistoryRow("
+            + "br.id, br.roomId, br.result, br.opponentUserId, br.createdAt) from BattleRecord br ";
+
     @Query("select br.result from BattleRecord br where br.user.id = :userId order by br.createdAt desc")
     List<BattleResult> findRecentResults(@Param("userId") UUID userId, Pageable pageable);
 
     boolean existsByRoomIdAndUser_Id(Long roomId, UUID userId);
+
+    /**
+     * 전적 목록 첫 페이지 (idx_battle_records_user_created 역순 탐색)
+     */
+    @Query(HISTORY_SELECT + "where br.user.id = :userId "
+            + "order by br.createdAt desc, br.id desc")
+    List<BattleHistoryRow> findHistory(@Param("userId") UUID userId, Pageable pageable);
+
+    /**
+     * 전적 목록 다음 페이지 (keyset: 마지막으로 본 (createdAt, id) 보다 이전 행부터, OFFSET 없음)
+     */
+    @Query(HISTORY_SELECT + "where br.user.id = :userId "
+            + "and (br.createdAt < :createdAt or (br.createdAt = :createdAt and br.id < :id)) "
+            + "order by br.createdAt desc, br.id desc")
+    List<BattleHistoryRow> findHistoryBefore(@Param("userId") UUID userId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
 }
@@ -0,0 +1,30 @@
+package ssafy.E207.domain.user.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import ssafy.E207.domain.user.entity.BattleResultOutbox;
+
+import java.util.List;
+
+public interface BattleResultOutboxRepository extends JpaRepository<BattleResultOutbox, Long> {
+
+    /**
+     * 처리할 전적 이벤트를 오래된 순으로 잠그고 가져옴.
+     * 다른 서버가 잡고 있는 행은 건너뜀 (lock.timeout -2 = SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from BattleResultOutbox o where o.attempts < :maxAttempts order by o.id")
+    List<BattleResultOutbox> findPendingForUpdate(@Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+    @Modifying
+    @Query("update BattleResultOutbox o set o.attempts = o.attempts + 1 where o.id in :ids")
+    int incrementAttempts(@Param("ids") List<Long> ids);
+}
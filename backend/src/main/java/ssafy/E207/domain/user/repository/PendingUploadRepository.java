@@ -0,0 +1,38 @@
+package ssafy.E207.domain.user.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ssafy.E207.domain.user.entity.PendingUpload;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PendingUploadRepository extends JpaRepository<PendingUpload, Long> {
+
+    boolean existsByObjectKey(String objectKey);
+
+    /**
+     * afterId 다음부터 createdBefore 이전에 추가된 행을 id 순으로 조회 (정리 대상 키셋 페이지).
+     */
+    @Query("select p from PendingUpload p where p.id > :afterId and p.createdAt < :createdBefore order by p.id")
+    List<PendingUpload> findExpired(@Param("afterId") Long afterId,
+                                    @Param("createdBefore") LocalDateTime createdBefore,
+                                    Pageable pageable);
+
+    /**
+     * 정리할 행을 id 순으로 잠금 (이미 지워진 행은 빠짐, 잠금은 트랜잭션이 끝날 때까지)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from PendingUpload p where p.id in :ids order by p.id")
+    List<PendingUpload> lockAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from PendingUpload p where p.objectKey = :objectKey")
+    int deleteByObjectKey(@Param("objectKey") String objectKey);
+}
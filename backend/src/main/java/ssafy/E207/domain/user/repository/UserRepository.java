@@ -1,10 +1,15 @@
 package ssafy.E207.domain.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ssafy.E207.domain.auth.entity.User;
+import ssafy.E207.domain.user.dto.UserNickname;
 import ssafy.E207.global.common.enums.OAuthProvider;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,12 +33,13 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByNickname(String nickname);
 
     /**
-     * 프로필 이미지 URL(objectKey)이 DB에 등록되어 있는지 확인.
+     * 주어진 objectKey 중 프로필 이미지로 쓰이고 있는 것만 조회 (MinIO 정리 시 한 번에 확인).
      *
-     * @param profileImage MinIO objectKey
-     * @return 등록 시 true
+     * @param keys MinIO objectKey 목록
+     * @return 사용 중인 objectKey (순서 보장 안 함)
      */
-    boolean existsByProfileImage(String profileImage);
+    @Query("select u.profileImage from User u where u.profileImage in :keys")
+    List<String> findProfileImagesIn(@Param("keys") Collection<String> keys);
 
     /**
      * 닉네임으로 사용자 조회.
@@ -42,4 +48,13 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * @return 사용자 엔티티 (Optional)
      */
     Optional<User> findByNickname(String nickname);
+
+    /**
+     * 여러 유저의 닉네임을 한 번에 조회 (전적 목록의 상대 닉네임 등).
+     *
+     * @param ids 조회할 사용자 ID 목록
+     * @return 존재하는 사용자만 (순서 보장 안 함)
+     */
+    @Query("select new ssafy.E207.domain.user.dto.UserNickname(u.id, u.nickname) from User u where u.id in :ids")
+    List<UserNickname> findNicknamesByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,214 @@
+package ssafy.E207.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.E207.domain.user.dto.BattleHistoryRow;
+import ssafy.E207.domain.user.dto.UserNickname;
+import ssafy.E207.domain.user.dto.response.BattleHistoryResponse;
+import ssafy.E207.domain.user.exception.InvalidHistoryCursorException;
+import ssafy.E207.domain.user.repository.BattleRecordRepository;
+import ssafy.E207.domain.user.repository.UserRepository;
+import ssafy.E207.global.common.enums.ExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * [User][History] BattleHistoryService
+ *
+ * - 목록: (createdAt, id) keyset 페이지네이션 → idx_battle_records_user_created 를 역순으로 읽고 멈춤 (OFFSET 없음)
+ * - 상대 닉네임: 페이지(또는 내보내기 묶음) 단위로 IN 쿼리 한 번
+ * - 내보내기: 목록과 같은 keyset 조회로 500행씩 짧은 읽기 트랜잭션에서 읽고(닉네임 포함), 커밋한 뒤 출력
+ *   → 느린 클라이언트에게 쓰는 동안 커넥션/커서를 잡고 있지 않음 (전체 전적을 메모리에 올리지도 않음)
+ */
+@Service
+public class BattleHistoryService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    // 내보내기 시 한 트랜잭션에서 읽는 행 수
+    static final int EXPORT_CHUNK_SIZE = 500;
+
+    private final BattleRecordRepository battleRecordRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public BattleHistoryService(BattleRecordRepository battleRecordRepository,
+                                UserRepository userRepository,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager) {
+        this.battleRecordRepository = battleRecordRepository;
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * [API] 전적 목록 조회
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     */
+    public BattleHistoryResponse getHistory(UUID userId, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.clamp(size, 1, MAX_PAGE_SIZE);
+        // 한 행 더 읽어서 다음 페이지 유무 판단
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+
+        List<BattleHistoryRow> rows = readOnlyTransactionTemplate.execute(status -> {
+            if (cursor == null || cursor.isBlank()) {
+                return battleRecordRepository.findHistory(userId, limit);
+            }
+            Cursor position = Cursor.decode(cursor);
+            return battleRecordRepository.findHistoryBefore(userId, position.createdAt(), position.id(), limit);
+        });
+
+        boolean hasNext = rows.size() > pageSize;
+        List<BattleHistoryRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+        Map<String, String> nicknames = findNicknames(page);
+
+        List<BattleHistoryResponse.Item> items = page.stream()
+                .map(row -> toItem(row, nicknames))
+                .toList();
+        BattleHistoryRow last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return BattleHistoryResponse.builder()
+                .items(items)
+                .nextCursor(hasNext ? new Cursor(last.createdAt(), last.id()).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * [API] 전적 전체 내보내기 (최신순)
+     *
+     * 응답 스트림에 바로 쓰므로 컨트롤러의 StreamingResponseBody 안에서 호출
+     */
+    public void export(UUID userId, ExportFormat format, OutputStream outputStream) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        PageRequest limit = PageRequest.ofSize(EXPORT_CHUNK_SIZE);
+        try {
+            if (format == ExportFormat.CSV) {
+                writer.write("playedAt,result,roomId,opponentUserId,opponentNickname\n");
+            }
+            Cursor position = null;
+            while (true) {
+                Cursor after = position;
+                ExportChunk chunk = readOnlyTransactionTemplate.execute(status -> {
+                    List<BattleHistoryRow> rows = after == null
+                            ? battleRecordRepository.findHistory(userId, limit)
+                            : battleRecordRepository.findHistoryBefore(userId, after.createdAt(), after.id(), limit);
+                    return new ExportChunk(rows, findNicknames(rows));
+                });
+                writeChunk(writer, format, chunk);
+                if (chunk.rows().size() < EXPORT_CHUNK_SIZE) {
+                    break;
+                }
+                BattleHistoryRow last = chunk.rows().get(chunk.rows().size() - 1);
+                position = new Cursor(last.createdAt(), last.id());
+            }
+            writer.flush();
+        } catch (IOException e) {
+            // 클라이언트가 다운로드를 중단한 경우 등
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeChunk(Writer writer, ExportFormat format, ExportChunk chunk) throws IOException {
+        for (BattleHistoryRow row : chunk.rows()) {
+            BattleHistoryResponse.Item item = toItem(row, chunk.nicknames());
+            if (format == ExportFormat.CSV) {
+                writer.write(item.playedAt() + "," + item.result() + "," + item.roomId() + ","
+                        + item.opponentUserId() + "," + csv(item.opponentNickname()) + "\n");
+            } else {
+                writer.write(objectMapper.writeValueAsString(item));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    private Map<String, String> findNicknames(Collection<BattleHistoryRow> rows) {
+        Set<UUID> opponentIds = new HashSet<>();
+        for (BattleHistoryRow row : rows) {
+            try {
+                opponentIds.add(UUID.fromString(row.opponentUserId()));
+            } catch (IllegalArgumentException ignored) {
+                // 형식이 깨진 과거 데이터는 닉네임 없이 반환
+            }
+        }
+        Map<String, String> nicknames = new HashMap<>();
+        if (opponentIds.isEmpty()) {
+            return nicknames;
+        }
+        for (UserNickname user : userRepository.findNicknamesByIdIn(opponentIds)) {
+            nicknames.put(user.id().toString(), user.nickname());
+        }
+        return nicknames;
+    }
+
+    private static BattleHistoryResponse.Item toItem(BattleHistoryRow row, Map<String, String> nicknames) {
+        return BattleHistoryResponse.Item.builder()
+                .roomId(row.roomId())
+                .result(row.result())
+                .opponentUserId(row.opponentUserId())
+                .opponentNickname(nicknames.get(row.opponentUserId()))
+                .playedAt(row.createdAt())
+                .build();
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private record ExportChunk(List<BattleHistoryRow> rows, Map<String, String> nicknames) {
+    }
+
+    /**
+     * 마지막으로 본 행 위치 ("createdAt|id" 를 URL-safe Base64 로)
+     */
+    record Cursor(LocalDateTime createdAt, Long id) {
+
+        String encode() {
+            String raw = createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                if (separator < 0) {
+                    throw InvalidHistoryCursorException.invalid();
+                }
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw InvalidHistoryCursorException.invalid();
+            }
+        }
+    }
+}
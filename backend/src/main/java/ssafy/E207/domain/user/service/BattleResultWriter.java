@@ -0,0 +1,362 @@
+package ssafy.E207.domain.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.E207.domain.leaderboard.dto.LeaderboardStanding;
+import ssafy.E207.domain.leaderboard.service.Leaderboard;
+import ssafy.E207.domain.user.entity.BattleResultOutbox;
+import ssafy.E207.domain.user.repository.BattleResultOutboxRepository;
+import ssafy.E207.global.common.enums.BattleResult;
+import ssafy.E207.global.common.util.UuidBytes;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * [User][Battle] BattleResultWriter
+ *
+ * battle_result_outbox에 쌓인 게임 종료 이벤트를 모아서 반영.
+ *
+ * <pre>
+ * 1. outbox 최대 batch-size 행을 잠그고 가져옴 (SKIP LOCKED → 서버 여러 대가 나눠서 처리)
+ * 2. battle_records 를 INSERT IGNORE 로 JDBC 배치 저장
+ *    → 이미 있는 (room_id, user_id)는 0행 = 중복 이벤트, 스탯 반영 안 함
+ * 3. 저장된 유저만 레이팅 한 번에 조회 → Elo 변동량 계산
+ * 4. users 를 유저별 변동량 배치 UPDATE (total_wins = total_wins + n 형태, 엔티티 로딩 없음)
+ *    → 같은 유저가 여러 판이면 판 순서대로 합친 값 한 줄 (UPDATE 실행 순서와 무관)
+ * 5. outbox 삭제 → 1~5가 한 트랜잭션
+ * </pre>
+ *
+ * - 배치가 실패하면 한 건씩 다시 시도하고, 실패한 건은 attempts 증가 (max-attempts 이상이면 보류)
+ * - JDBC로 직접 갱신하므로 유저 요약 캐시는 여기서 무효화, 리더보드는 커밋 후 바뀐 유저만 갱신
+ * - 드라이버가 배치 결과를 SUCCESS_NO_INFO로 돌려주면(rewriteBatchedStatements) 저장된 것으로 취급,
+ *   같은 배치 안의 같은 방은 미리 걸러냄
+ *
+ * 설정
+ * - battle.outbox.batch-size: 한 번에 가져올 이벤트 수 (기본 100)
+ * - battle.outbox.max-attempts: 재시도 한도 (기본 5)
+ * - battle.outbox.poll-millis: 확인 주기 (기본 500)
+ */
+@Slf4j
+@Component
+public class BattleResultWriter {
+    private static final String INSERT_RECORD = """
+            INSERT IGNORE INTO battle_records (room_id, user_id, result, opponent_user_id, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)""";
+    private static final String SELECT_STATS = """
+            SELECT id, rating, total_games, total_wins, current_win_streak, max_win_streak
+            FROM users WHERE id IN (:ids)""";
+    // 한 배치에서 유저별 변동을 합쳐 한 번에 (연승은 판 순서대로 계산한 값을 넘김)
+    // max_win_streak 을 먼저 계산 → 갱신 전 current_win_streak 기준
+    private static final String UPDATE_STATS = """
+            UPDATE users SET rating = rating + ?, total_games = total_games + ?, total_wins = total_wins + ?,
+            total_draws = total_draws + ?, total_losses = total_losses + ?,
+            max_win_streak = GREATEST(max_win_streak, current_win_streak + ?, ?),
+            current_win_streak = CASE WHEN ? THEN ? ELSE current_win_streak + ? END,
+            updated_at = ? WHERE id = ?""";
+
+    private final BattleResultOutboxRepository outboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserSummaryCache userSummaryCache;
+    private final Leaderboard leaderboard;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    private final Timer flushTimer;
+    private final Counter applied;
+    private final Counter duplicates;
+    private final Counter failures;
+
+    public BattleResultWriter(BattleResultOutboxRepository outboxRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            UserSummaryCache userSummaryCache,
+            Leaderboard leaderboard,
+            MeterRegistry meterRegistry,
+            @Value("${battle.outbox.batch-size:100}") int batchSize,
+            @Value("${battle.outbox.max-attempts:5}") int maxAttempts) {
+        this.outboxRepository = outboxRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userSummaryCache = userSummaryCache;
+        this.leaderboard = leaderboard;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.flushTimer = Timer.builder("battle.outbox.flush")
+                .description("전적 배치 반영 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.applied = Counter.builder("battle.outbox.records")
+                .description("전적 반영 결과")
+                .tag("result", "applied")
+                .register(meterRegistry);
+        this.duplicates = Counter.builder("battle.outbox.records")
+                .description("전적 반영 결과")
+                .tag("result", "duplicate")
+                .register(meterRegistry);
+        this.failures = Counter.builder("battle.outbox.failures")
+                .description("반영에 실패한 전적 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${battle.outbox.poll-millis:500}")
+    public void flush() {
+        int processed;
+        do {
+            processed = flushTimer.record(this::flushBatch);
+        } while (processed == batchSize);
+    }
+
+    private int flushBatch() {
+        List<Long> ids = new ArrayList<>();
+        try {
+            return transactionTemplate.execute(status -> {
+                List<BattleResultOutbox> batch =
+                        outboxRepository.findPendingForUpdate(maxAttempts, PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    return 0;
+                }
+                batch.forEach(event -> ids.add(event.getId()));
+                apply(batch);
+                outboxRepository.deleteAllByIdInBatch(ids);
+                return batch.size();
+            });
+        } catch (RuntimeException e) {
+            log.warn("[BattleOutbox] 배치 반영 실패, 한 건씩 재시도: {} ({}건)", e.getMessage(), ids.size());
+            ids.forEach(this::flushOne);
+            return 0;
+        }
+    }
+
+    // 배치 실패 시 원인 이벤트만 골라내기 위한 단건 처리
+    private void flushOne(Long id) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.findById(id).ifPresent(event -> {
+                apply(List.of(event));
+                outboxRepository.deleteAllByIdInBatch(List.of(id));
+            }));
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.error("[BattleOutbox] 전적 반영 실패: outboxId={} ({})", id, e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.incrementAttempts(List.of(id)));
+        }
+    }
+
+    /**
+     * 이벤트 묶음을 battle_records / users 에 반영 (호출한 쪽 트랜잭션 안에서 실행)
+     */
+    void apply(List<BattleResultOutbox> batch) {
+        // 같은 배치 안의 같은 방은 첫 이벤트만
+        Map<Long, BattleResultOutbox> byRoom = new LinkedHashMap<>();
+        for (BattleResultOutbox event : batch) {
+            if (byRoom.putIfAbsent(event.getRoomId(), event) != null) {
+                duplicates.increment(2);
+            }
+        }
+        List<BattleResultOutbox> events = new ArrayList<>(byRoom.values());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 1. battle_records 배치 저장 (이벤트당 2행: first, second 순)
+        List<Object[]> records = new ArrayList<>(events.size() * 2);
+        for (BattleResultOutbox event : events) {
+            BattleResult first = event.isDraw() ? BattleResult.D : BattleResult.W;
+            BattleResult second = event.isDraw() ? BattleResult.D : BattleResult.L;
+            records.add(recordRow(event.getRoomId(), event.getFirstUserId(), first, event.getSecondUserId(), now));
+            records.add(recordRow(event.getRoomId(), event.getSecondUserId(), second, event.getFirstUserId(), now));
+        }
+        int[] inserted = jdbcTemplate.batchUpdate(INSERT_RECORD, records);
+
+        // 2. 새로 저장된 행이 있는 이벤트의 두 유저 현재 전적 조회 (상대 레이팅도 필요)
+        Map<UUID, UserStats> stats = loadStats(events, inserted);
+        if (stats.isEmpty()) {
+            duplicates.increment(records.size());
+            return;
+        }
+
+        // 3. 이벤트 순서대로 변동량 계산 (같은 유저가 여러 판이면 앞 판 결과를 반영한 값 기준)
+        Set<UUID> updated = new LinkedHashSet<>();
+        for (int i = 0; i < events.size(); i++) {
+            BattleResultOutbox event = events.get(i);
+            UserStats first = stats.get(event.getFirstUserId());
+            UserStats second = stats.get(event.getSecondUserId());
+            if (first == null || second == null) {
+                // 유저 행이 없음 (방어) → 저장된 전적만 남기고 스탯은 건너뜀
+                log.warn("[BattleOutbox] 유저를 찾을 수 없어 스탯 반영 생략: roomId={}", event.getRoomId());
+                continue;
+            }
+            BattleResult firstResult = event.isDraw() ? BattleResult.D : BattleResult.W;
+            BattleResult secondResult = event.isDraw() ? BattleResult.D : BattleResult.L;
+            int firstDelta = EloRating.delta(first.rating, second.rating, event.isDraw() ? 0.5 : 1.0);
+            int secondDelta = EloRating.delta(second.rating, first.rating, event.isDraw() ? 0.5 : 0.0);
+
+            if (inserted[2 * i] != 0) {
+                first.apply(firstResult, firstDelta);
+                updated.add(first.userId);
+                applied.increment();
+            } else {
+                duplicates.increment();
+            }
+            if (inserted[2 * i + 1] != 0) {
+                second.apply(secondResult, secondDelta);
+                updated.add(second.userId);
+                applied.increment();
+            } else {
+                duplicates.increment();
+            }
+        }
+
+        // 4. 유저별 UPDATE 한 줄씩 배치
+        if (!updated.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_STATS, updated.stream().map(id -> stats.get(id).updateRow(now)).toList());
+        }
+        updated.forEach(userSummaryCache::invalidate);
+
+        // 5. 커밋 후 리더보드 반영 (조회해 둔 값 + 이번 변동 = 갱신 후 전적)
+        List<LeaderboardStanding> standings = updated.stream().map(id -> stats.get(id).toStanding()).toList();
+        afterCommit(() -> updateLeaderboard(standings));
+    }
+
+    private void updateLeaderboard(List<LeaderboardStanding> standings) {
+        try {
+            leaderboard.update(standings);
+        } catch (Exception e) {
+            // 다음 재구성(LeaderboardReconciler) 때 맞춰짐
+            log.warn("[BattleOutbox] 리더보드 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private Map<UUID, UserStats> loadStats(List<BattleResultOutbox> events, int[] inserted) {
+        Set<UUID> ids = new HashSet<>();
+        for (int i = 0; i < events.size(); i++) {
+            if (inserted[2 * i] != 0 || inserted[2 * i + 1] != 0) {
+                ids.add(events.get(i).getFirstUserId());
+                ids.add(events.get(i).getSecondUserId());
+            }
+        }
+        Map<UUID, UserStats> stats = new HashMap<>();
+        if (ids.isEmpty()) {
+            return stats;
+        }
+        namedJdbcTemplate.query(SELECT_STATS, Map.of("ids", ids.stream().map(UuidBytes::toBytes).toList()),
+                (RowCallbackHandler) rs -> {
+                    UserStats user = new UserStats(UuidBytes.fromBytes(rs.getBytes("id")), rs.getInt("rating"),
+                            rs.getInt("total_games"), rs.getInt("total_wins"), rs.getInt("current_win_streak"),
+                            rs.getInt("max_win_streak"));
+                    stats.put(user.userId, user);
+                });
+        return stats;
+    }
+
+    private static Object[] recordRow(Long roomId, UUID userId, BattleResult result, UUID opponentId, Timestamp now) {
+        return new Object[] {roomId, UuidBytes.toBytes(userId), result.name(), opponentId.toString(), now, now};
+    }
+
+    // UPDATE 문과 같은 규칙으로 메모리에서도 반영 (레이팅 연쇄 계산, 리더보드 갱신용)
+    // + 이번 배치에서의 변동량 (UPDATE_STATS 파라미터)
+    private static final class UserStats {
+        private final UUID userId;
+        private int rating;
+        private int totalGames;
+        private int totalWins;
+        private int currentWinStreak;
+        private int maxWinStreak;
+
+        private int ratingDelta;
+        private int games;
+        private int wins;
+        private int draws;
+        private int losses;
+        // 첫 무/패 전까지의 연승 (기존 연승에 이어짐)
+        private int leadingWins;
+        // 첫 무/패 이후 가장 긴 연승
+        private int longestRun;
+        // 이번 배치에 무/패가 있었는지 → 있으면 연승은 마지막 무/패 이후 값으로 덮어씀
+        private boolean streakReset;
+        private int trailingWins;
+
+        private UserStats(UUID userId, int rating, int totalGames, int totalWins, int currentWinStreak,
+                int maxWinStreak) {
+            this.userId = userId;
+            this.rating = rating;
+            this.totalGames = totalGames;
+            this.totalWins = totalWins;
+            this.currentWinStreak = currentWinStreak;
+            this.maxWinStreak = maxWinStreak;
+        }
+
+        private void apply(BattleResult result, int ratingDelta) {
+            rating += ratingDelta;
+            totalGames++;
+            this.ratingDelta += ratingDelta;
+            games++;
+            if (result == BattleResult.W) {
+                totalWins++;
+                currentWinStreak++;
+                maxWinStreak = Math.max(maxWinStreak, currentWinStreak);
+                wins++;
+                if (streakReset) {
+                    trailingWins++;
+                    longestRun = Math.max(longestRun, trailingWins);
+                } else {
+                    leadingWins++;
+                }
+            } else {
+                currentWinStreak = 0;
+                if (result == BattleResult.D) {
+                    draws++;
+                } else {
+                    losses++;
+                }
+                streakReset = true;
+                trailingWins = 0;
+            }
+        }
+
+        private Object[] updateRow(Timestamp now) {
+            return new Object[] {ratingDelta, games, wins, draws, losses, leadingWins, longestRun, streakReset,
+                    trailingWins, leadingWins, now, UuidBytes.toBytes(userId)};
+        }
+
+        private LeaderboardStanding toStanding() {
+            return new LeaderboardStanding(userId, totalGames, totalWins, maxWinStreak);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package ssafy.E207.domain.user.service;
+
+/**
+ * Elo 레이팅 계산
+ *
+ * - 기대 승률: 1 / (1 + 10^((상대 - 나) / 400))
+ * - 변동폭: K * (실제 결과 - 기대 승률), 승 1 / 무 0.5 / 패 0
+ */
+public final class EloRating {
+
+    private static final int K_FACTOR = 32;
+
+    private EloRating() {
+    }
+
+    /**
+     * 결과 반영 후 레이팅 변동량
+     *
+     * @param rating         내 레이팅
+     * @param opponentRating 상대 레이팅
+     * @param score          승 1.0 / 무 0.5 / 패 0.0
+     */
+    public static int delta(int rating, int opponentRating, double score) {
+        double expected = 1.0 / (1.0 + Math.pow(10, (opponentRating - rating) / 400.0));
+        return (int) Math.round(K_FACTOR * (score - expected));
+    }
+}
@@ -34,6 +34,7 @@ public class MinioService {
     // minioExternalClient 제거: 사용하지 않음 (XML 파싱 에러 원인)
     private final MinioConfig minioConfig;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PendingUploadLedger pendingUploadLedger;
 
     private static final Set<String> ALLOWED_CONTENT_TYPES = Set.of(
             "image/png",
@@ -43,7 +44,7 @@ public class MinioService {
             "image/webp"
     );
 
-    private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
+    static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
 
     /**
      * 프로필 이미지 업로드용 Presigned URL 생성
@@ -105,6 +106,9 @@ public class MinioService {
                 // 실패해도 원본 유지
             }
 
+            // 확정되지 않으면 MinioCleanupScheduler가 정리
+            pendingUploadLedger.recordPresigned(objectKey);
+
             log.info("[MinIO] Presigned URL 생성 완료: userIdentifier={}, objectKey={}", userIdentifier, objectKey);
             return UploadProfileImageResponse.of(presignedUrl, objectKey);
 
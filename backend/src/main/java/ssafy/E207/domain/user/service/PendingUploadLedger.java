@@ -0,0 +1,67 @@
+package ssafy.E207.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ssafy.E207.domain.user.entity.PendingUpload;
+import ssafy.E207.domain.user.repository.PendingUploadRepository;
+
+import java.util.Objects;
+
+/**
+ * 업로드 대기 목록(pending_uploads) 기록
+ *
+ * <pre>
+ * 1. Presigned URL 발급 → 추가
+ * 2. 프로필 이미지 확정 → 새 키 삭제, 교체된 이전 키 추가
+ * 3. 회원 탈퇴 → 쓰던 키 추가
+ * </pre>
+ *
+ * - 목록에 남은 키만 MinioCleanupScheduler의 삭제 후보 (버킷 전체를 훑지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingUploadLedger {
+
+    private final PendingUploadRepository pendingUploadRepository;
+
+    /**
+     * Presigned URL 발급 시 (업로드가 안 되거나 확정되지 않으면 정리 대상)
+     */
+    @Transactional
+    public void recordPresigned(String objectKey) {
+        pendingUploadRepository.save(PendingUpload.of(objectKey));
+    }
+
+    /**
+     * 프로필 이미지 확정 시 (확정한 트랜잭션과 함께 커밋)
+     *
+     * @param objectKey   새로 연결한 키
+     * @param replacedKey 이전에 쓰던 키 (없으면 null)
+     */
+    @Transactional
+    public void confirm(String objectKey, String replacedKey) {
+        if (objectKey != null) {
+            pendingUploadRepository.deleteByObjectKey(objectKey);
+        }
+        if (!Objects.equals(objectKey, replacedKey)) {
+            discard(replacedKey);
+        }
+    }
+
+    /**
+     * 더 이상 쓰지 않는 키를 정리 대상으로 추가
+     */
+    @Transactional
+    public void discard(String objectKey) {
+        // http로 시작하는 구 데이터는 MinIO 객체가 아님
+        if (objectKey == null || objectKey.isBlank() || objectKey.startsWith("http")) {
+            return;
+        }
+        if (!pendingUploadRepository.existsByObjectKey(objectKey)) {
+            pendingUploadRepository.save(PendingUpload.of(objectKey));
+        }
+    }
+}
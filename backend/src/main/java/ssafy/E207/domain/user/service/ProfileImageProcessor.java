@@ -0,0 +1,462 @@
+package ssafy.E207.domain.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.E207.domain.user.repository.UserRepository;
+import ssafy.E207.global.common.enums.ProfileImageSize;
+import ssafy.E207.global.config.MinioConfig;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로필 이미지 후처리 (확정된 원본 → 정사각형 JPEG 썸네일)
+ *
+ * <pre>
+ * 1. 프로필 이미지 확정(로그인 유저 확인 / 회원가입) 커밋 후 작업 큐에 넣음 (꽉 차면 버림 → 원본 그대로 제공)
+ * 2. 원본을 내려받아 SHA-256 → profile/h/{hash}
+ *    → 같은 원본이 이미 처리돼 있으면 다시 만들지 않음 (유저가 달라도 같은 키 공유)
+ * 3. 디코딩 (메타데이터는 읽지 않음) → EXIF 방향 반영 → 가운데 기준 정사각형으로 잘라 크기별 축소
+ *    → JPEG 로 다시 인코딩 (EXIF / GPS 등 메타데이터 없음) → profile/h/{hash}/{px}.jpg 업로드
+ * 4. 유저의 프로필이 아직 그 원본이면 profile/h/{hash} 로 바꾸고 원본은 정리 대상으로
+ *    (그 사이 다른 이미지로 바꿨으면 만든 썸네일을 정리 대상으로)
+ * 5. 커밋 후 썸네일이 전부 있는지 다시 확인 → 없으면 다시 만들어 올림
+ *    (다른 유저가 버린 같은 해시 키를 MinioCleanupScheduler 가 커밋 직전에 지운 경우.
+ *     정리는 pending_uploads 행을 잠근 채 지우고 4의 confirm 은 그 행을 지우므로, 커밋 시점엔 정리가 끝나 있음)
+ * </pre>
+ *
+ * - 처리된 키는 크기 없이 저장하고, URL 을 만들 때 {@link #variantKey}로 크기를 붙임
+ * - JDK ImageIO 에 WebP 인코더가 없어 썸네일은 JPEG 만 만듦 (WebP 원본은 디코딩도 못 해서 원본 그대로 제공)
+ * - 큐는 메모리에만 있으므로 서버가 죽으면 처리 전 작업은 사라짐 (원본 그대로 제공)
+ *
+ * 설정
+ * - profile-image.workers: 처리 스레드 수 (기본 2, CPU 작업이라 가상 스레드가 아닌 고정 풀)
+ * - profile-image.queue-capacity: 대기 작업 수 상한 (기본 100)
+ * - profile-image.jpeg-quality: JPEG 품질 0~1 (기본 0.82)
+ */
+@Slf4j
+@Component
+public class ProfileImageProcessor {
+    static final String PROCESSED_PREFIX = "profile/h/";
+    // 디코딩 전에 크기만 보고 거름 (작은 파일로 거대한 이미지를 만드는 경우)
+    private static final long MAX_PIXELS = 40_000_000L;
+    // 내용이 같으면 키도 같으므로 브라우저/CDN 에서 오래 캐시해도 됨
+    private static final Map<String, String> IMMUTABLE = Map.of("Cache-Control", "public, max-age=31536000, immutable");
+
+    private final MinioClient minioClient;
+    private final MinioConfig minioConfig;
+    private final UserRepository userRepository;
+    private final PendingUploadLedger pendingUploadLedger;
+    private final TransactionTemplate transactionTemplate;
+    private final float jpegQuality;
+    private final ThreadPoolExecutor executor;
+
+    private final Counter processed;
+    private final Counter deduplicated;
+    private final Counter restored;
+    private final Counter failed;
+    private final Counter dropped;
+    private final Timer processTimer;
+    private final Map<ProfileImageSize, DistributionSummary> outputBytes = new EnumMap<>(ProfileImageSize.class);
+
+    public ProfileImageProcessor(MinioClient minioClient,
+            MinioConfig minioConfig,
+            UserRepository userRepository,
+            PendingUploadLedger pendingUploadLedger,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${profile-image.workers:2}") int workers,
+            @Value("${profile-image.queue-capacity:100}") int queueCapacity,
+            @Value("${profile-image.jpeg-quality:0.82}") float jpegQuality) {
+        this.minioClient = minioClient;
+        this.minioConfig = minioConfig;
+        this.userRepository = userRepository;
+        this.pendingUploadLedger = pendingUploadLedger;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.jpegQuality = jpegQuality;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("profile-image-", 0).daemon(true).factory());
+
+        this.processed = jobs(meterRegistry, "processed");
+        this.deduplicated = jobs(meterRegistry, "deduplicated");
+        this.restored = jobs(meterRegistry, "restored");
+        this.failed = jobs(meterRegistry, "failed");
+        this.dropped = jobs(meterRegistry, "dropped");
+        this.processTimer = Timer.builder("profile.image.process")
+                .description("프로필 이미지 한 장 처리 시간")
+                .register(meterRegistry);
+        for (ProfileImageSize size : ProfileImageSize.values()) {
+            outputBytes.put(size, DistributionSummary.builder("profile.image.output.bytes")
+                    .description("만든 썸네일 크기")
+                    .baseUnit("bytes")
+                    .tag("size", size.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("profile.image.queue", executor.getQueue(), BlockingQueue::size)
+                .description("처리 대기 중인 프로필 이미지 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter jobs(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("profile.image.jobs")
+                .description("프로필 이미지 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 확정된 원본을 처리 대상으로 등록 (트랜잭션 안이면 커밋 후)
+     */
+    public void submit(UUID userId, String objectKey) {
+        if (userId == null || objectKey == null || objectKey.isBlank()
+                || objectKey.startsWith("http") || objectKey.startsWith(PROCESSED_PREFIX)) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                executor.execute(() -> run(userId, objectKey));
+            } catch (RejectedExecutionException e) {
+                dropped.increment();
+                log.warn("[ProfileImage] 작업 큐가 가득 차 원본을 그대로 사용합니다. (userId={}, objectKey={})", userId, objectKey);
+            }
+        });
+    }
+
+    private void run(UUID userId, String objectKey) {
+        long startedAt = System.nanoTime();
+        try {
+            process(userId, objectKey);
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("[ProfileImage] 처리 실패, 원본을 그대로 사용합니다. (objectKey={}): {}", objectKey, e.getMessage());
+        } finally {
+            processTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void process(UUID userId, String objectKey) throws Exception {
+        byte[] original = download(objectKey);
+        String processedKey = PROCESSED_PREFIX + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(original));
+
+        // 큰 크기를 마지막에 올리므로 그게 있으면 전부 있음
+        if (exists(variantKey(processedKey, ProfileImageSize.LARGE))) {
+            deduplicated.increment();
+        } else {
+            uploadVariants(original, processedKey);
+            processed.increment();
+        }
+
+        Boolean confirmed = transactionTemplate.execute(status -> {
+            boolean current = userRepository.findById(userId)
+                    .filter(user -> objectKey.equals(user.getProfileImage()))
+                    .map(user -> {
+                        user.updateProfileImage(processedKey);
+                        return true;
+                    })
+                    .orElse(false);
+            if (current) {
+                pendingUploadLedger.confirm(processedKey, objectKey);
+            } else {
+                // 처리하는 동안 다른 이미지로 바뀜 (다른 유저가 쓰고 있으면 정리 때 남김)
+                pendingUploadLedger.discard(processedKey);
+            }
+            return current;
+        });
+        if (Boolean.TRUE.equals(confirmed) && !allExist(processedKey)) {
+            restored.increment();
+            log.warn("[ProfileImage] 정리 작업이 지운 썸네일을 다시 올립니다. (processedKey={})", processedKey);
+            uploadVariants(original, processedKey);
+        }
+        log.info("[ProfileImage] 처리 완료: userId={}, {} -> {}", userId, objectKey, processedKey);
+    }
+
+    /**
+     * 저장된 프로필 키 → 크기별 objectKey (처리 전 원본이면 그대로)
+     */
+    public static String variantKey(String storedKey, ProfileImageSize size) {
+        if (storedKey == null || !storedKey.startsWith(PROCESSED_PREFIX)) {
+            return storedKey;
+        }
+        return storedKey + "/" + size.pixels() + ".jpg";
+    }
+
+    /**
+     * 저장된 프로필 키가 가리키는 MinIO 객체 전부 (정리 시 사용)
+     */
+    public static List<String> objectKeys(String storedKey) {
+        if (!storedKey.startsWith(PROCESSED_PREFIX)) {
+            return List.of(storedKey);
+        }
+        List<String> keys = new ArrayList<>();
+        for (ProfileImageSize size : ProfileImageSize.values()) {
+            keys.add(variantKey(storedKey, size));
+        }
+        return keys;
+    }
+
+    // 큰 크기를 마지막에 올림 (큰 크기가 있으면 전부 있음)
+    private void uploadVariants(byte[] original, String processedKey) throws Exception {
+        BufferedImage image = decode(original);
+        int orientation = exifOrientation(original);
+        for (ProfileImageSize size : ProfileImageSize.values()) {
+            byte[] thumbnail = encodeJpeg(thumbnail(image, orientation, size.pixels()), jpegQuality);
+            upload(variantKey(processedKey, size), thumbnail);
+            outputBytes.get(size).record(thumbnail.length);
+        }
+    }
+
+    private boolean allExist(String processedKey) {
+        for (String objectKey : objectKeys(processedKey)) {
+            if (!exists(objectKey)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] download(String objectKey) throws Exception {
+        try (GetObjectResponse response = minioClient.getObject(
+                GetObjectArgs.builder()
+                        .bucket(minioConfig.getBucket())
+                        .object(objectKey)
+                        .build())) {
+            byte[] bytes = response.readNBytes((int)MinioService.MAX_FILE_SIZE + 1);
+            if (bytes.length > MinioService.MAX_FILE_SIZE) {
+                throw new IllegalArgumentException("파일 크기 초과");
+            }
+            return bytes;
+        }
+    }
+
+    private boolean exists(String objectKey) {
+        try {
+            minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(minioConfig.getBucket())
+                            .object(objectKey)
+                            .build()
+            );
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void upload(String objectKey, byte[] bytes) throws Exception {
+        minioClient.putObject(
+                PutObjectArgs.builder()
+                        .bucket(minioConfig.getBucket())
+                        .object(objectKey)
+                        .stream(new ByteArrayInputStream(bytes), bytes.length, -1)
+                        .contentType("image/jpeg")
+                        .headers(IMMUTABLE)
+                        .build()
+        );
+    }
+
+    /**
+     * 첫 프레임만 디코딩 (메타데이터는 읽지 않음)
+     */
+    static BufferedImage decode(byte[] original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("지원하지 않는 이미지 형식");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long)reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    throw new IllegalArgumentException("이미지 해상도 초과");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 가운데 기준 정사각형으로 잘라 pixels 크기로 (투명 부분은 흰색)
+     */
+    static BufferedImage thumbnail(BufferedImage image, int orientation, int pixels) {
+        int side = Math.min(image.getWidth(), image.getHeight());
+        BufferedImage current = image.getSubimage((image.getWidth() - side) / 2, (image.getHeight() - side) / 2, side, side);
+        // 한 번에 크게 줄이면 계단 현상 → 절반씩 줄이다가 마지막에 맞춤
+        int size = side;
+        while (size / 2 >= pixels) {
+            size /= 2;
+            current = draw(current, size, RenderingHints.VALUE_INTERPOLATION_BILINEAR, new AffineTransform());
+        }
+        return draw(current, pixels, RenderingHints.VALUE_INTERPOLATION_BICUBIC, orientationTransform(orientation, pixels));
+    }
+
+    private static BufferedImage draw(BufferedImage source, int size, Object interpolation, AffineTransform orientation) {
+        BufferedImage target = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, size, size);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.transform(orientation);
+            g.drawImage(source, 0, 0, size, size, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * EXIF Orientation(1~8) → 정사각형 n 픽셀 기준 변환
+     */
+    private static AffineTransform orientationTransform(int orientation, int n) {
+        return switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, n, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, n, n);  // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, n);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 대각선 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, n, 0);   // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, n, n);  // 반대 대각선 반전
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, n);   // 반시계 방향 90도
+            default -> new AffineTransform();
+        };
+    }
+
+    static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * JPEG APP1(Exif) 의 IFD0 Orientation 태그 (없거나 JPEG 가 아니면 1)
+     */
+    static int exifOrientation(byte[] jpeg) {
+        if (jpeg.length < 4 || (jpeg[0] & 0xFF) != 0xFF || (jpeg[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+        int offset = 2;
+        while (offset + 4 <= jpeg.length && (jpeg[offset] & 0xFF) == 0xFF) {
+            int marker = jpeg[offset + 1] & 0xFF;
+            int length = readShort(jpeg, offset + 2, false);
+            // SOS 부터는 이미지 데이터
+            if (marker == 0xDA || length < 2) {
+                return 1;
+            }
+            if (marker == 0xE1 && length >= 16 && offset + 2 + length <= jpeg.length
+                    && new String(jpeg, offset + 4, 6, StandardCharsets.ISO_8859_1).equals("Exif\0\0")) {
+                return readOrientation(jpeg, offset + 10, offset + 2 + length);
+            }
+            offset += 2 + length;
+        }
+        return 1;
+    }
+
+    private static int readOrientation(byte[] bytes, int tiff, int end) {
+        boolean little = bytes[tiff] == 'I';
+        int ifdOffset = readInt(bytes, tiff + 4, little);
+        int ifd = tiff + ifdOffset;
+        if (ifdOffset < 8 || ifd + 2 > end) {
+            return 1;
+        }
+        int entries = readShort(bytes, ifd, little);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                return 1;
+            }
+            if (readShort(bytes, entry, little) == 0x0112) {
+                int orientation = readShort(bytes, entry + 8, little);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] bytes, int offset, boolean little) {
+        int a = bytes[offset] & 0xFF;
+        int b = bytes[offset + 1] & 0xFF;
+        return little ? (b << 8) | a : (a << 8) | b;
+    }
+
+    private static int readInt(byte[] bytes, int offset, boolean little) {
+        int high = readShort(bytes, offset + (little ? 2 : 0), little);
+        int low = readShort(bytes, offset + (little ? 0 : 2), little);
+        return (high << 16) | low;
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -3,25 +3,27 @@ package ssafy.E207.domain.user.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import ssafy.E207.domain.auth.entity.User;
 import ssafy.E207.domain.match.entity.Room;
 import ssafy.E207.domain.match.entity.RoomParticipant;
-import ssafy.E207.domain.user.entity.BattleRecord;
-import ssafy.E207.domain.user.repository.BattleRecordRepository;
-import ssafy.E207.domain.user.repository.UserRepository;
-import ssafy.E207.global.common.enums.BattleResult;
+import ssafy.E207.domain.user.entity.BattleResultOutbox;
+import ssafy.E207.domain.user.repository.BattleResultOutboxRepository;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+/**
+ * 게임 종료 시 전적 기록 요청
+ *
+ * - 게임 종료 트랜잭션에서는 outbox에 1행만 추가 (조회/전적 저장/유저 갱신 없음)
+ * - 실제 battle_records 저장과 스탯/레이팅 반영은 {@link BattleResultWriter}가 모아서 처리
+ * - 같은 방이 두 번 들어와도 battle_records 유니크 제약(uk_battle_records_room_user)으로 한 번만 반영
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class UserBattleService {
 
-    private final UserRepository userRepository;
-    private final BattleRecordRepository battleRecordRepository;
+    private final BattleResultOutboxRepository battleResultOutboxRepository;
 
     /**
      * 게임이 TERMINATED 되었을 때 호출
@@ -34,48 +36,15 @@ public class UserBattleService {
             return; // 방어: 기록 불가
         }
 
-        User winner = participants.stream().map(RoomParticipant::getUser)
-                .filter(u -> u.getId().equals(winnerId))
-                .findFirst()
-                .orElse(null);
-        User loser = participants.stream().map(RoomParticipant::getUser)
-                .filter(u -> !u.getId().equals(winnerId))
-                .findFirst()
-                .orElse(null);
-
-        if (winner == null || loser == null) return;
-
-        // 중복 저장 방지 (같은 roomId에 대해 동일 유저 기록이 이미 있으면 스킵)
-        if (battleRecordRepository.existsByRoomIdAndUser_Id(room.getId(), winner.getId())
-                || battleRecordRepository.existsByRoomIdAndUser_Id(room.getId(), loser.getId())) {
-            return;
-        }
+        UUID loserId = findOpponentId(participants, winnerId);
+        if (loserId == null || !containsUser(participants, winnerId)) return;
 
-        // 영속 상태 확보
-        winner = userRepository.findById(winner.getId()).orElse(winner);
-        loser = userRepository.findById(loser.getId()).orElse(loser);
-
-        // BattleRecord 2건 저장 (유저 기준)
-        battleRecordRepository.save(BattleRecord.builder()
-                .roomId(room.getId())
-                .user(winner)
-                .result(BattleResult.W)
-                .opponentUserId(loser.getId().toString())
-                .build());
-
-        battleRecordRepository.save(BattleRecord.builder()
+        battleResultOutboxRepository.save(BattleResultOutbox.builder()
                 .roomId(room.getId())
-                .user(loser)
-                .result(BattleResult.L)
-                .opponentUserId(winner.getId().toString())
+                .firstUserId(winnerId)
+                .secondUserId(loserId)
+                .draw(false)
                 .build());
-
-        // 누적 스탯 업데이트
-        winner.applyWinResult();
-        loser.applyLossResult();
-
-        userRepository.save(winner);
-        userRepository.save(loser);
     }
 
 	/**
@@ -88,47 +57,27 @@ public class UserBattleService {
 			return; // 방어: 기록 불가
 		}
 
-		User someone = participants.stream().map(RoomParticipant::getUser)
-			.filter(u -> u.getId().equals(userId))
-			.findFirst()
-			.orElse(null);
-		User opponent = participants.stream().map(RoomParticipant::getUser)
-			.filter(u -> !u.getId().equals(userId))
-			.findFirst()
-			.orElse(null);
+		UUID opponentId = findOpponentId(participants, userId);
+		if (opponentId == null || !containsUser(participants, userId)) return;
 
-		if (someone == null || opponent == null) return;
-
-		// 중복 저장 방지 (같은 roomId에 대해 동일 유저 기록이 이미 있으면 스킵)
-		if (battleRecordRepository.existsByRoomIdAndUser_Id(room.getId(), someone.getId())
-			|| battleRecordRepository.existsByRoomIdAndUser_Id(room.getId(), opponent.getId())) {
-			return;
-		}
-
-		// 영속 상태 확보
-		someone = userRepository.findById(someone.getId()).orElse(someone);
-		opponent = userRepository.findById(opponent.getId()).orElse(opponent);
-
-		// BattleRecord 2건 저장 (유저 기준)
-		battleRecordRepository.save(BattleRecord.builder()
-			.roomId(room.getId())
-			.user(someone)
-			.result(BattleResult.D)
-			.opponentUserId(opponent.getId().toString())
-			.build());
-
-		battleRecordRepository.save(BattleRecord.builder()
+		battleResultOutboxRepository.save(BattleResultOutbox.builder()
 			.roomId(room.getId())
-			.user(opponent)
-			.result(BattleResult.D)
-			.opponentUserId(someone.getId().toString())
+			.firstUserId(userId)
+			.secondUserId(opponentId)
+			.draw(true)
 			.build());
+	}
 
-		// 누적 스탯 업데이트
-		someone.applyDrawResult();
-		opponent.applyDrawResult();
+    // 프록시의 getId()는 DB를 조회하지 않음
+    private UUID findOpponentId(List<RoomParticipant> participants, UUID userId) {
+        return participants.stream()
+                .map(p -> p.getUser().getId())
+                .filter(id -> !id.equals(userId))
+                .findFirst()
+                .orElse(null);
+    }
 
-		userRepository.save(someone);
-		userRepository.save(opponent);
-	}
+    private boolean containsUser(List<RoomParticipant> participants, UUID userId) {
+        return participants.stream().anyMatch(p -> p.getUser().getId().equals(userId));
+    }
 }
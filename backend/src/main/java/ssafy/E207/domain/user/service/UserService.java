@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ssafy.E207.domain.auth.entity.User;
 import ssafy.E207.domain.auth.exception.DuplicateNicknameException;
+import ssafy.E207.domain.user.dto.UserSummary;
 import ssafy.E207.domain.user.dto.request.UpdateUserInfoRequest;
 import ssafy.E207.domain.user.dto.response.MyInfoResponse;
 import ssafy.E207.domain.user.dto.response.UserChangeResponse;
@@ -14,6 +15,7 @@ import ssafy.E207.domain.user.exception.InvalidNicknamePolicyException;
 import ssafy.E207.domain.user.repository.BattleRecordRepository;
 import ssafy.E207.domain.user.repository.UserRepository;
 import ssafy.E207.global.common.enums.BattleResult;
+import ssafy.E207.global.common.enums.ProfileImageSize;
 import ssafy.E207.global.error.exception.NotFoundUserException;
 
 import java.util.List;
@@ -26,6 +28,9 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final BattleRecordRepository battleRecordRepository;
+    private final UserSummaryCache userSummaryCache;
+    private final PendingUploadLedger pendingUploadLedger;
+    private final ProfileImageProcessor profileImageProcessor;
     private final ssafy.E207.global.config.MinioConfig minioConfig; // Config 주입
 
     //닉네임 정책: 1~10자, 한글/영문/숫자만 허용
@@ -36,14 +41,14 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public MyInfoResponse getMyInfo(UUID userId) {
-        User user = userRepository.findById(userId)
+        UserSummary user = userSummaryCache.get(userId)
                 .orElseThrow(NotFoundUserException::notFound);
 
         List<BattleResult> recent = battleRecordRepository.findRecentResults(userId, PageRequest.of(0, 5));
         List<String> recentResults = recent.stream().map(Enum::name).toList();
 
         // URL 변환
-        String profileImageUrl = resolveProfileImageUrl(user.getProfileImage());
+        String profileImageUrl = resolveProfileImageUrl(user.profileImage());
 
         return MyInfoResponse.from(
                 user,
@@ -107,8 +112,13 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(NotFoundUserException::notFound);
 
+        String replacedKey = user.getProfileImage();
         user.updateProfileImage(objectKey);
         userRepository.save(user);
+        // 새 키는 정리 대상에서 빼고, 이전 이미지는 정리 대상으로
+        pendingUploadLedger.confirm(objectKey, replacedKey);
+        // 커밋 후 썸네일 생성 (끝나기 전까지는 원본 URL)
+        profileImageProcessor.submit(userId, objectKey);
         
         // URL 변환해서 반환
         return resolveProfileImageUrl(objectKey);
@@ -121,6 +131,7 @@ public class UserService {
      * 
      * DB에는 "profile/user1/image.png" 같은 키만 저장됨.
      * 프론트엔드에 줄 때는 "https://도메인/objects/버킷명/profile/user1/image.png" 형태로 반환.
+     * 썸네일이 만들어진 키(profile/h/...)면 내 정보용 큰 썸네일 URL.
      * 
      * 만약 null이면 null 반환
      */
@@ -141,7 +152,7 @@ public class UserService {
             externalEndpoint += "/";
         }
 
-        return externalEndpoint + bucket + "/" + objectKey;
+        return externalEndpoint + bucket + "/" + ProfileImageProcessor.variantKey(objectKey, ProfileImageSize.LARGE);
     }
 
     public boolean isValidNickname(String nickname) {
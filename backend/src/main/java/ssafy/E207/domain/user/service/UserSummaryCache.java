@@ -0,0 +1,191 @@
+package ssafy.E207.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ssafy.E207.domain.user.dto.UserSummary;
+import ssafy.E207.domain.user.repository.UserRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * [User][Cache] UserSummaryCache
+ *
+ * 유저 요약 정보(닉네임, 프로필, 전적, 레이팅) 2단 캐시.
+ *
+ * <pre>
+ * get(userId)
+ *   ─► [L1] Caffeine (W-TinyLFU, 서버 로컬)
+ *        └ miss ─► [L2] Redis user:summary:{id} (user.summary-cache.redis-enabled=true 일 때만)
+ *                   └ miss ─► MySQL users
+ * </pre>
+ *
+ * - 무효화: User 엔티티가 수정/삭제되면 {@link UserSummaryInvalidator}가 호출
+ *   (닉네임/프로필 변경, 전적 반영, 레이팅, 탈퇴 모두 포함)
+ *   트랜잭션 안이면 커밋 후 한 번 더 지움 (커밋 전에 다시 읽힌 이전 값 제거)
+ * - Redis 사용 시 무효화를 user:summary:invalidate 채널로 다른 서버에도 전파
+ * - 지표: user.summary 캐시 (hit/miss, hit_ratio), user.summary.redis (hit/miss)
+ */
+@Slf4j
+@Component
+public class UserSummaryCache implements MessageListener {
+    static final String KEY_PREFIX = "user:summary:";
+    static final String INVALIDATE_CHANNEL = "user:summary:invalidate";
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final boolean redisEnabled;
+    private final Duration ttl;
+    private final Cache<UUID, UserSummary> local;
+    private final ChannelTopic invalidateTopic = new ChannelTopic(INVALIDATE_CHANNEL);
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public UserSummaryCache(UserRepository userRepository,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${user.summary-cache.max-size:10000}") long maxSize,
+            @Value("${user.summary-cache.ttl-seconds:300}") long ttlSeconds,
+            @Value("${user.summary-cache.redis-enabled:false}") boolean redisEnabled) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.redisEnabled = redisEnabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "user.summary");
+        Gauge.builder("user.summary.hit_ratio", local, cache -> cache.stats().hitRate())
+                .description("유저 요약 로컬 캐시 적중률")
+                .register(meterRegistry);
+        this.redisHits = Counter.builder("user.summary.redis")
+                .description("유저 요약 Redis 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMisses = Counter.builder("user.summary.redis")
+                .description("유저 요약 Redis 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (redisEnabled) {
+            listenerContainer.addMessageListener(this, invalidateTopic);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (redisEnabled) {
+            listenerContainer.removeMessageListener(this, invalidateTopic);
+        }
+    }
+
+    /**
+     * [Read] 유저 요약 조회 (없는 유저면 empty)
+     */
+    public Optional<UserSummary> get(UUID userId) {
+        return Optional.ofNullable(local.get(userId, this::load));
+    }
+
+    /**
+     * [Invalidate] 유저 정보가 바뀌었을 때 호출
+     */
+    public void invalidate(UUID userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    // 다른 서버에서 무효화한 유저 → 로컬에서만 제거
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            local.invalidate(UUID.fromString(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            log.warn("[UserCache] 잘못된 무효화 메시지: {}", e.getMessage());
+        }
+    }
+
+    private void evict(UUID userId) {
+        local.invalidate(userId);
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.delete(KEY_PREFIX + userId);
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, userId.toString());
+        } catch (Exception e) {
+            log.warn("[UserCache] Redis 무효화 실패: {} ({})", userId, e.getMessage());
+        }
+    }
+
+    private UserSummary load(UUID userId) {
+        if (redisEnabled) {
+            UserSummary cached = readRedis(userId);
+            if (cached != null) {
+                redisHits.increment();
+                return cached;
+            }
+            redisMisses.increment();
+        }
+        UserSummary summary = userRepository.findById(userId).map(UserSummary::from).orElse(null);
+        if (summary != null && redisEnabled) {
+            writeRedis(summary);
+        }
+        return summary;
+    }
+
+    // Redis 장애 시에는 DB 조회로 진행
+    private UserSummary readRedis(UUID userId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            return json == null ? null : objectMapper.readValue(json, UserSummary.class);
+        } catch (Exception e) {
+            log.warn("[UserCache] Redis 조회 실패: {} ({})", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(UserSummary summary) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + summary.id(), objectMapper.writeValueAsString(summary), ttl);
+        } catch (Exception e) {
+            log.warn("[UserCache] Redis 저장 실패: {} ({})", summary.id(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package ssafy.E207.domain.user.service;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ssafy.E207.domain.auth.entity.User;
+
+/**
+ * [User][Cache] User 엔티티가 수정/삭제되면 요약 캐시 무효화 (JPA 엔티티 리스너)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSummaryInvalidator {
+    private final UserSummaryCache userSummaryCache;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        userSummaryCache.invalidate(user.getId());
+    }
+}
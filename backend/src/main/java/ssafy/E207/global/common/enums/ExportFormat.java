@@ -0,0 +1,25 @@
+package ssafy.E207.global.common.enums;
+
+/**
+ * 내보내기 형식
+ */
+public enum ExportFormat {
+	NDJSON("application/x-ndjson", "ndjson"), // 한 줄에 JSON 하나
+	CSV("text/csv", "csv");
+
+	private final String contentType;
+	private final String extension;
+
+	ExportFormat(String contentType, String extension) {
+		this.contentType = contentType;
+		this.extension = extension;
+	}
+
+	public String contentType() {
+		return contentType;
+	}
+
+	public String extension() {
+		return extension;
+	}
+}
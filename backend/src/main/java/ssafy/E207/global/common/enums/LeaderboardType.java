@@ -0,0 +1,10 @@
+package ssafy.E207.global.common.enums;
+
+/**
+ * 리더보드 종류
+ */
+public enum LeaderboardType {
+	WINS,       // 누적 승수
+	WIN_RATE,   // 승률 (최소 판수 이상만)
+	MAX_STREAK  // 최대 연승
+}
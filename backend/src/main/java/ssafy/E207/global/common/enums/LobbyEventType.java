@@ -0,0 +1,8 @@
+package ssafy.E207.global.common.enums;
+
+public enum LobbyEventType {
+	ROOM_CREATED,               // 방 생성 (room 전체 포함)
+	PARTICIPANT_COUNT_CHANGED,  // 입장/퇴장
+	STATUS_CHANGED,             // 대기/게임 중/일시정지/종료
+	ROOM_REMOVED                // 방 삭제
+}
@@ -0,0 +1,19 @@
+package ssafy.E207.global.common.enums;
+
+/**
+ * 프로필 이미지 썸네일 크기 (정사각형, 한 변 픽셀)
+ */
+public enum ProfileImageSize {
+	SMALL(128), // 로비 / 방 참가자 카드
+	LARGE(512); // 내 정보
+
+	private final int pixels;
+
+	ProfileImageSize(int pixels) {
+		this.pixels = pixels;
+	}
+
+	public int pixels() {
+		return pixels;
+	}
+}
@@ -7,6 +7,8 @@ public enum StompMessageType {
 	REQUEST_LAUGHED,
 	REQUEST_SURRENDER,
 	REQUEST_REPORT,
+	// 턴 제한 시간 초과 (서버 내부, 턴 스왑/라운드 종료 reason)
+	TURN_TIMEOUT,
 
 	RESPONSE_MATCHMAKING_SUCCESS,
 	RESPONSE_READY_CHANGE,
@@ -20,5 +22,7 @@ public enum StompMessageType {
 	CHAT,
 	RESPONSE_ROOM_DESTROYED,
 	RESPONSE_PARTICIPANT_LEFT,
-	RESPONSE_REPORTED
+	RESPONSE_REPORTED,
+	RESPONSE_PARTICIPANT_DISCONNECTED,
+	RESPONSE_PARTICIPANT_RECONNECTED
 }
\ No newline at end of file
@@ -0,0 +1,70 @@
+package ssafy.E207.global.common.util;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서버 여러 대 중 한 대만 실행할 작업용 임대 (Redis 키 하나)
+ *
+ * - acquire: 키가 없으면 가져가고, 이미 내 것이면 TTL 연장 → 주기 작업 시작마다 호출
+ * - 가진 서버가 죽으면 TTL 뒤에 다른 서버가 가져감 (TTL 은 작업 주기보다 넉넉하게)
+ * - Redis 오류면 false (이번 주기는 건너뜀)
+ */
+@Slf4j
+public class RedisLease {
+	private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+		local owner = redis.call('GET', KEYS[1])
+		if not owner then
+			redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+			return 1
+		end
+		if owner == ARGV[1] then
+			redis.call('PEXPIRE', KEYS[1], ARGV[2])
+			return 1
+		end
+		return 0
+		""", Long.class);
+
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('GET', KEYS[1]) == ARGV[1] then
+			return redis.call('DEL', KEYS[1])
+		end
+		return 0
+		""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final String key;
+	private final String owner = UUID.randomUUID().toString();
+	private final long ttlMillis;
+
+	public RedisLease(StringRedisTemplate redisTemplate, String key, long ttlMillis) {
+		this.redisTemplate = redisTemplate;
+		this.key = key;
+		this.ttlMillis = ttlMillis;
+	}
+
+	public boolean acquire() {
+		try {
+			Long acquired = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(key), owner, String.valueOf(ttlMillis));
+			return Long.valueOf(1).equals(acquired);
+		} catch (Exception e) {
+			log.warn("[Lease] {} 획득 실패: {}", key, e.getMessage());
+			return false;
+		}
+	}
+
+	// 서버 종료 시 다음 서버가 TTL 을 기다리지 않도록
+	public void release() {
+		try {
+			redisTemplate.execute(RELEASE_SCRIPT, List.of(key), owner);
+		} catch (Exception e) {
+			log.debug("[Lease] {} 반납 실패: {}", key, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package ssafy.E207.global.common.util;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * UUID ↔ binary(16) 변환 (JDBC로 users.id 등을 직접 다룰 때 사용)
+ *
+ * Hibernate 기본 UUID 매핑과 같은 순서: 상위 8바이트 → 하위 8바이트
+ */
+public final class UuidBytes {
+
+	private UuidBytes() {
+	}
+
+	public static byte[] toBytes(UUID id) {
+		return ByteBuffer.allocate(16)
+			.putLong(id.getMostSignificantBits())
+			.putLong(id.getLeastSignificantBits())
+			.array();
+	}
+
+	public static UUID fromBytes(byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		return new UUID(buffer.getLong(), buffer.getLong());
+	}
+}
@@ -1,126 +1,239 @@
 package ssafy.E207.global.config;
 
-import io.minio.ListObjectsArgs;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.minio.MinioClient;
-import io.minio.RemoveObjectArgs;
+import io.minio.RemoveObjectsArgs;
 import io.minio.Result;
-import io.minio.messages.Item;
-import lombok.RequiredArgsConstructor;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ssafy.E207.domain.user.entity.PendingUpload;
+import ssafy.E207.domain.user.repository.PendingUploadRepository;
 import ssafy.E207.domain.user.repository.UserRepository;
-
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import ssafy.E207.domain.user.service.ProfileImageProcessor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * MinIO 미사용 파일 정리 스케줄러
  *
- * - Presigned URL 발급 후 업로드/확인되지 않은 파일 정리
- * - DB에 등록되지 않은 고아 파일 삭제
+ * <pre>
+ * 1. pending_uploads 에서 retention 이 지난 행을 id 키셋으로 chunk-size 씩 읽음 (버킷 목록 조회 없음)
+ * 2. 청크마다 한 트랜잭션에서 행을 잠그고, 키를 users.profile_image 에 IN 한 번으로 확인 → 쓰이고 있으면 행만 삭제
+ * 3. 나머지는 removeObjects 로 한 번에 삭제 → 성공한 키의 행 삭제 (실패한 행은 남겨 다음 바퀴에 재시도)
+ *    썸네일 키(profile/h/{hash})는 크기별 객체 전부 삭제 (다른 유저가 같은 해시를 쓰면 2에서 남음)
+ * </pre>
+ *
+ * - 삭제가 끝날 때까지 행 잠금을 유지 → 같은 해시 키를 다시 쓰는 ProfileImageProcessor 는 행을 지우는 confirm 에서
+ *   이 트랜잭션을 기다린 뒤 커밋하고, 커밋 후 객체가 없으면 다시 올림
+ *
+ * - 한 번에 max-keys-per-run 개까지만 처리하고, 다음 실행은 마지막으로 본 id 다음부터 이어감
+ *   (끝까지 읽으면 처음부터, 서버 재시작 시에도 처음부터)
+ * - 목록이 생기기 전에 올라간 객체는 대상이 아님
+ *
+ * 설정
+ * - minio.cleanup.retention-minutes: 이 시간이 지난 행만 정리 (기본 60, Presigned URL 만료보다 길어야 함)
+ * - minio.cleanup.chunk-size: 한 번에 확인/삭제할 키 수 (기본 500)
+ * - minio.cleanup.max-keys-per-run: 실행당 처리할 키 수 상한 (기본 5000)
+ * - minio.cleanup.interval-millis: 주기 (기본 600000)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class MinioCleanupScheduler {
 
     private final MinioClient minioClient;
     private final MinioConfig minioConfig;
     private final UserRepository userRepository;
+    private final PendingUploadRepository pendingUploadRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long retentionMinutes;
+    private final int chunkSize;
+    private final int maxKeysPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    // 다음 실행이 이어서 읽을 위치 (마지막으로 본 pending_uploads.id)
+    private final AtomicLong checkpoint = new AtomicLong();
+    private final Timer runTimer;
+    private final Counter deleted;
+    private final Counter kept;
+    private final Counter failed;
+
+    public MinioCleanupScheduler(MinioClient minioClient,
+                                 MinioConfig minioConfig,
+                                 UserRepository userRepository,
+                                 PendingUploadRepository pendingUploadRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${minio.cleanup.retention-minutes:60}") long retentionMinutes,
+                                 @Value("${minio.cleanup.chunk-size:500}") int chunkSize,
+                                 @Value("${minio.cleanup.max-keys-per-run:5000}") int maxKeysPerRun) {
+        this.minioClient = minioClient;
+        this.minioConfig = minioConfig;
+        this.userRepository = userRepository;
+        this.pendingUploadRepository = pendingUploadRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionMinutes = retentionMinutes;
+        this.chunkSize = chunkSize;
+        this.maxKeysPerRun = maxKeysPerRun;
+
+        this.runTimer = Timer.builder("minio.cleanup.run")
+                .description("MinIO 정리 한 번 실행 시간")
+                .register(meterRegistry);
+        this.deleted = keys(meterRegistry, "deleted");
+        this.kept = keys(meterRegistry, "kept");
+        this.failed = keys(meterRegistry, "failed");
+        Gauge.builder("minio.cleanup.checkpoint", checkpoint, AtomicLong::get)
+                .description("다음 실행이 이어서 읽을 pending_uploads id")
+                .register(meterRegistry);
+    }
 
-    // 파일 보관 기간 (시간 단위) - 이 시간이 지난 미사용 파일 삭제
-    private static final int RETENTION_HOURS = 1;
+    private static Counter keys(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("minio.cleanup.keys")
+                .description("정리 대상으로 확인한 키 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
 
     /**
-     * 매 시간마다 미사용 파일 정리
-     *
-     * - DB에 등록되지 않은 파일 중 1시간 이상 지난 파일 삭제
-     * - temp_ 로 시작하는 회원가입 미완료 파일도 정리
+     * 주기마다 정리 (MinIO 응답을 기다리는 동안 스케줄러 스레드를 잡지 않도록 가상 스레드에서 실행)
      */
-    @Scheduled(cron = "0 0 * * * *") // 매 시간 정각
+    @Scheduled(initialDelayString = "${minio.cleanup.initial-delay-millis:60000}",
+            fixedDelayString = "${minio.cleanup.interval-millis:600000}")
     public void cleanupOrphanedFiles() {
-        log.info("[MinIO Cleanup] 미사용 파일 정리 시작");
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("minio-cleanup").start(() -> {
+            try {
+                cleanup();
+            } catch (Exception e) {
+                log.error("[MinIO Cleanup] 정리 중 오류 발생: {}", e.getMessage(), e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
 
-        String bucket = minioConfig.getBucket();
-        Instant cutoffTime = Instant.now().minus(RETENTION_HOURS, ChronoUnit.HOURS);
+    /**
+     * checkpoint 부터 최대 max-keys-per-run 개 정리
+     *
+     * @return 삭제한 객체 수
+     */
+    int cleanup() {
+        long startedAt = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(retentionMinutes);
+        long afterId = checkpoint.get();
+        int processed = 0;
         int deletedCount = 0;
-        int checkedCount = 0;
-
-        try {
-            Iterable<Result<Item>> results = minioClient.listObjects(
-                    ListObjectsArgs.builder()
-                            .bucket(bucket)
-                            .prefix("profile/")
-                            .recursive(true)
-                            .build()
-            );
 
-            for (Result<Item> result : results) {
-                try {
-                    checkedCount++;
-                    Item item = result.get();
-                    String objectKey = item.objectName();
-
-                    // lastModified가 null일 수 있음
-                    if (item.lastModified() == null) {
-                        log.warn("[MinIO Cleanup] lastModified가 null: {}", objectKey);
-                        continue;
-                    }
-
-                    Instant lastModified = item.lastModified().toInstant();
-
-                    // 1. 최근 파일은 스킵 (아직 확인 중일 수 있음)
-                    if (lastModified.isAfter(cutoffTime)) {
-                        continue;
-                    }
-
-                    // 2. temp_ 로 시작하는 회원가입 미완료 파일 삭제
-                    if (objectKey.contains("/temp_")) {
-                        deleteObject(bucket, objectKey);
-                        deletedCount++;
-                        continue;
-                    }
-
-                    // 3. DB에 등록되지 않은 파일 삭제
-                    if (!isObjectInDatabase(objectKey)) {
-                        deleteObject(bucket, objectKey);
-                        deletedCount++;
-                    }
-                } catch (Exception e) {
-                    log.warn("[MinIO Cleanup] 파일 처리 중 오류: {}", e.getMessage());
-                }
+        while (processed < maxKeysPerRun) {
+            List<PendingUpload> chunk = pendingUploadRepository.findExpired(afterId, cutoff,
+                    PageRequest.ofSize(Math.min(chunkSize, maxKeysPerRun - processed)));
+            if (chunk.isEmpty()) {
+                // 끝까지 읽었으면 다음 실행은 처음부터 (실패로 남은 행 재시도)
+                afterId = 0;
+                break;
             }
+            afterId = chunk.get(chunk.size() - 1).getId();
+            processed += chunk.size();
+            deletedCount += cleanupChunk(chunk);
+        }
+        checkpoint.set(afterId);
 
-            log.info("[MinIO Cleanup] 정리 완료: 검사={}, 삭제={}", checkedCount, deletedCount);
-
-        } catch (Exception e) {
-            log.error("[MinIO Cleanup] 정리 중 오류 발생: {}", e.getMessage(), e);
+        runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (processed > 0) {
+            log.info("[MinIO Cleanup] 정리 완료: 검사={}, 삭제={}, checkpoint={}", processed, deletedCount, afterId);
         }
+        return deletedCount;
     }
 
-    /**
-     * DB에 해당 objectKey가 등록되어 있는지 확인
-     */
-    private boolean isObjectInDatabase(String objectKey) {
-        return userRepository.existsByProfileImage(objectKey);
+    private int cleanupChunk(List<PendingUpload> expired) {
+        List<Long> ids = expired.stream().map(PendingUpload::getId).toList();
+        Integer deletedCount = transactionTemplate.execute(status -> cleanupLocked(pendingUploadRepository.lockAllByIdIn(ids)));
+        return deletedCount == null ? 0 : deletedCount;
+    }
+
+    // 그 사이 확정돼서 지워진 행은 잠금 결과에서 빠짐
+    private int cleanupLocked(List<PendingUpload> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<String> keys = chunk.stream().map(PendingUpload::getObjectKey).toList();
+        Set<String> inUse = new HashSet<>(userRepository.findProfileImagesIn(keys));
+
+        // 썸네일 키(profile/h/...)는 크기별 객체로 펼쳐서 삭제
+        List<String> orphans = new ArrayList<>();
+        Map<String, String> storedKeys = new HashMap<>();
+        for (String key : keys) {
+            if (!inUse.contains(key)) {
+                orphans.add(key);
+                ProfileImageProcessor.objectKeys(key).forEach(objectKey -> storedKeys.put(objectKey, key));
+            }
+        }
+        Set<String> failedKeys = new HashSet<>();
+        removeObjects(List.copyOf(storedKeys.keySet())).forEach(objectKey -> failedKeys.add(storedKeys.get(objectKey)));
+
+        List<Long> done = chunk.stream()
+                .filter(row -> !failedKeys.contains(row.getObjectKey()))
+                .map(PendingUpload::getId)
+                .toList();
+        if (!done.isEmpty()) {
+            pendingUploadRepository.deleteAllByIdInBatch(done);
+        }
+
+        int deletedCount = orphans.size() - failedKeys.size();
+        kept.increment(inUse.size());
+        deleted.increment(deletedCount);
+        failed.increment(failedKeys.size());
+        return deletedCount;
     }
 
     /**
-     * MinIO에서 파일 삭제
+     * 여러 객체를 한 번에 삭제 (없는 객체는 성공으로 처리됨)
+     *
+     * @return 삭제에 실패한 키
      */
-    private void deleteObject(String bucket, String objectKey) {
+    private Set<String> removeObjects(List<String> keys) {
+        Set<String> failedKeys = new HashSet<>();
+        if (keys.isEmpty()) {
+            return failedKeys;
+        }
         try {
-            minioClient.removeObject(
-                    RemoveObjectArgs.builder()
-                            .bucket(bucket)
-                            .object(objectKey)
+            // 결과를 순회해야 실제 요청이 나감
+            Iterable<Result<DeleteError>> results = minioClient.removeObjects(
+                    RemoveObjectsArgs.builder()
+                            .bucket(minioConfig.getBucket())
+                            .objects(keys.stream().map(DeleteObject::new).toList())
                             .build()
             );
-            log.info("[MinIO Cleanup] 파일 삭제: {}", objectKey);
+            for (Result<DeleteError> result : results) {
+                DeleteError error = result.get();
+                failedKeys.add(error.objectName());
+                log.warn("[MinIO Cleanup] 파일 삭제 실패: {}, error={}", error.objectName(), error.message());
+            }
         } catch (Exception e) {
-            log.warn("[MinIO Cleanup] 파일 삭제 실패: {}, error={}", objectKey, e.getMessage());
+            // 요청 자체가 실패하면 청크 전체를 남겨 다음에 재시도
+            log.warn("[MinIO Cleanup] 일괄 삭제 실패: {}개, error={}", keys.size(), e.getMessage());
+            failedKeys.addAll(keys);
         }
+        return failedKeys;
     }
 }
-
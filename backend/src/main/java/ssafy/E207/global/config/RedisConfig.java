@@ -0,0 +1,23 @@
+package ssafy.E207.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis Pub/Sub 설정
+ *
+ * - 서버 간 메시지 전달용 리스너 컨테이너 (매칭 알림 등)
+ * - 구독하는 리스너가 없으면 연결을 열지 않음
+ */
+@Configuration
+public class RedisConfig {
+
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
+	}
+}
@@ -67,6 +67,7 @@ public class SecurityConfig {
 								"/user/delete/profileImage",  // 회원가입 시 registerToken으로 접근
 								"/error",
 								"/connect/**",  // 웹소켓 프로토콜은 StompJwtInterceptor에서 jwt 토큰 검사
+								"/ws",  // SockJS 없는 웹소켓 엔드포인트 (위와 동일)
 								"/webhook", // openvidu 웹훅 이벤트(participant left, session destroyed) 들어오는 경로
 								"/actuator/**") // Spring Actuator (Health Check)
 						.permitAll()
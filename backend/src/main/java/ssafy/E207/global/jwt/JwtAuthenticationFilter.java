@@ -14,7 +14,7 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
-import ssafy.E207.domain.auth.service.AuthService;
+import ssafy.E207.domain.auth.service.RefreshCoalescer;
 import ssafy.E207.domain.auth.dto.response.AuthTokenResponse;
 import ssafy.E207.domain.auth.exception.InvalidTokenException;
 
@@ -50,7 +50,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private static final String BEARER_PREFIX = "Bearer ";
 
 	private final JwtTokenProvider jwtTokenProvider;
-	private final AuthService authService;
+	private final RefreshCoalescer refreshCoalescer;
 	private final JwtCookieProvider jwtCookieProvider;
 
 	@Override
@@ -85,8 +85,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		if (refreshToken != null) {
 			try {
-				// 리프레시 토큰으로 재발급 시도
-				AuthTokenResponse tokens = authService.refresh(refreshToken);
+				// 리프레시 토큰으로 재발급 시도 (같은 유저의 동시 요청은 한 번만 재발급하고 결과 공유)
+				AuthTokenResponse tokens = refreshCoalescer.refresh(refreshToken);
 
 				// 새 Access Token으로 인증 설정
 				String newAccessToken = tokens.accessToken();
@@ -1,16 +1,28 @@
 package ssafy.E207.global.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import ssafy.E207.domain.auth.entity.User;
 import ssafy.E207.domain.auth.exception.InvalidTokenException;
+import ssafy.E207.global.common.enums.OAuthProvider;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <h2>JwtTokenProvider</h2>
@@ -25,12 +37,40 @@ import java.util.Date;
  * │  id, role    │ ────►│      SIGN      │ ────►│ eyJhbGci...    │
  * └──────────────┘      └────────────────┘      └────────────────┘
  * </pre>
+ *
+ * <p>
+ * 서명 키와 파서는 생성 시 한 번만 만들어 재사용한다.<br>
+ * 검증에 성공한 토큰은 토큰 해시(SHA-256) → Claims로 캐시하여, 같은 토큰이 반복해서 들어오면 HMAC 검증을 건너뛴다.
+ * 캐시 항목은 토큰 만료 시각(exp)과 최대 TTL 중 빠른 쪽에 만료된다.
+ * </p>
+ * <ul>
+ * <li><b>jwt.claims-cache.max-size</b> : 캐시 최대 토큰 수 (기본 10000, 0이면 캐시 미사용)</li>
+ * <li><b>jwt.claims-cache.max-ttl-seconds</b> : 캐시 최대 유지 시간 (기본 300)</li>
+ * </ul>
  */
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
 	private final JwtProperties jwtProperties;
+	private final SecretKey signingKey;
+	private final JwtParser jwtParser;
+	private final Cache<String, Claims> verifiedTokens;
+
+	public JwtTokenProvider(JwtProperties jwtProperties, MeterRegistry meterRegistry,
+			@Value("${jwt.claims-cache.max-size:10000}") long cacheMaxSize,
+			@Value("${jwt.claims-cache.max-ttl-seconds:300}") long cacheMaxTtlSeconds) {
+		this.jwtProperties = jwtProperties;
+		this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getSecret()));
+		this.jwtParser = Jwts.parserBuilder()
+				.setSigningKey(signingKey)
+				.build();
+		this.verifiedTokens = Caffeine.newBuilder()
+				.maximumSize(cacheMaxSize)
+				.expireAfter(new ClaimsExpiry(TimeUnit.SECONDS.toNanos(cacheMaxTtlSeconds)))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.claims");
+	}
 
 	/**
 	 * Access Token 생성.
@@ -42,13 +82,24 @@ public class JwtTokenProvider {
 	 * @return 서명된 JWT 문자열 (Bearer prefix 미포함)
 	 */
 	public String createAccessToken(User user) {
+		return createAccessToken(user.getId(), user.getOauthProvider());
+	}
+
+	/**
+	 * Access Token 생성 (엔티티 없이 식별 정보만으로).
+	 *
+	 * @param userId   사용자 ID
+	 * @param provider 가입한 소셜 플랫폼
+	 * @return 서명된 JWT 문자열 (Bearer prefix 미포함)
+	 */
+	public String createAccessToken(UUID userId, OAuthProvider provider) {
 		Instant now = Instant.now();
 		Instant expiry = now.plusSeconds(jwtProperties.getAccessTokenValidityInSeconds());
 
 		return Jwts.builder()
 				.setIssuer(jwtProperties.getIssuer())
-				.setSubject(String.valueOf(user.getId()))
-				.claim("provider", user.getOauthProvider().name())
+				.setSubject(String.valueOf(userId))
+				.claim("provider", provider.name())
 				.setIssuedAt(Date.from(now))
 				.setExpiration(Date.from(expiry))
 				.signWith(getSigningKey())
@@ -66,12 +117,22 @@ public class JwtTokenProvider {
 	 * @return 재발급용 JWT 문자열
 	 */
 	public String createRefreshToken(User user) {
+		return createRefreshToken(user.getId());
+	}
+
+	/**
+	 * Refresh Token 생성 (엔티티 없이 사용자 ID만으로).
+	 *
+	 * @param userId 토큰 발급 대상 사용자 ID
+	 * @return 재발급용 JWT 문자열
+	 */
+	public String createRefreshToken(UUID userId) {
 		Instant now = Instant.now();
 		Instant expiry = now.plusSeconds(jwtProperties.getRefreshTokenValidityInSeconds());
 
 		return Jwts.builder()
 				.setIssuer(jwtProperties.getIssuer())
-				.setSubject(String.valueOf(user.getId()))
+				.setSubject(String.valueOf(userId))
 				.claim("type", "refresh")
 				.setIssuedAt(Date.from(now))
 				.setExpiration(Date.from(expiry))
@@ -117,12 +178,20 @@ public class JwtTokenProvider {
 	 * @throws InvalidTokenException 토큰이 만료되었거나 손상된 경우
 	 */
 	public Claims parseClaims(String token) {
+		if (token == null) {
+			throw InvalidTokenException.invalidToken();
+		}
+		String key = hash(token);
+		Claims cached = verifiedTokens.getIfPresent(key);
+		if (cached != null && cached.getExpiration().after(new Date())) {
+			return cached;
+		}
 		try {
-			return Jwts.parserBuilder()
-					.setSigningKey(getSigningKey())
-					.build()
-					.parseClaimsJws(token)
-					.getBody();
+			Claims claims = jwtParser.parseClaimsJws(token).getBody();
+			if (claims.getExpiration() != null) {
+				verifiedTokens.put(key, claims);
+			}
+			return claims;
 		} catch (ExpiredJwtException e) {
 			throw e; // 만료된 토큰은 Filter에서 처리하기 위해 그대로 던짐
 		} catch (JwtException | IllegalArgumentException e) {
@@ -131,11 +200,22 @@ public class JwtTokenProvider {
 	}
 
 	/**
-	 * [Signature] Base64 인코딩된 시크릿 키를 HMAC 서명 키로 변환합니다.
+	 * [Signature] 생성 시 만들어 둔 HMAC 서명 키를 반환합니다.
 	 */
 	private SecretKey getSigningKey() {
-		byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret());
-		return Keys.hmacShaKeyFor(keyBytes);
+		return signingKey;
+	}
+
+	/**
+	 * [Cache] 토큰 원문 대신 SHA-256 해시를 캐시 키로 사용합니다.
+	 */
+	private static String hash(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
 	}
 
 	/**
@@ -144,4 +224,26 @@ public class JwtTokenProvider {
 	public JwtProperties getJwtProperties() {
 		return jwtProperties;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * [Cache] 토큰 만료 시각(exp)과 최대 TTL 중 빠른 쪽에 캐시 항목을 만료시킵니다.
+	 */
+	private record ClaimsExpiry(long maxTtlNanos) implements Expiry<String, Claims> {
+		@Override
+		public long expireAfterCreate(String key, Claims claims, long currentTime) {
+			long untilExpiry = TimeUnit.MILLISECONDS.toNanos(
+					claims.getExpiration().getTime() - System.currentTimeMillis());
+			return Math.max(0, Math.min(untilExpiry, maxTtlNanos));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, claims, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,165 @@
+package ssafy.E207.domain.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ssafy.E207.domain.auth.dto.response.AuthTokenResponse;
+import ssafy.E207.domain.auth.exception.InvalidTokenException;
+import ssafy.E207.global.jwt.JwtTokenProvider;
+
+class RefreshCoalescerTest {
+	private AuthService authService;
+	private JwtTokenProvider jwtTokenProvider;
+	private final AtomicInteger issued = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		authService = mock(AuthService.class);
+		jwtTokenProvider = mock(JwtTokenProvider.class);
+	}
+
+	private RefreshCoalescer coalescer(long graceSeconds) {
+		return new RefreshCoalescer(authService, jwtTokenProvider, new SimpleMeterRegistry(), graceSeconds);
+	}
+
+	private String tokenOf(UUID userId) {
+		String token = "refresh-" + userId + "-" + UUID.randomUUID();
+		when(jwtTokenProvider.parseClaims(token)).thenReturn(Jwts.claims().setSubject(userId.toString()));
+		return token;
+	}
+
+	// 재발급이 오래 걸리는 상황 (Redis/MySQL 왕복)
+	private void slowRefresh(long millis) {
+		when(authService.refresh(anyString())).thenAnswer(invocation -> {
+			Thread.sleep(millis);
+			int n = issued.incrementAndGet();
+			return AuthTokenResponse.of("access-" + n, "refresh-" + n);
+		});
+	}
+
+	@Test
+	void 같은_유저의_동시_재발급은_한_번만_실행되고_결과를_공유한다() throws Exception {
+		RefreshCoalescer coalescer = coalescer(10);
+		String token = tokenOf(UUID.randomUUID());
+		slowRefresh(200);
+
+		int requests = 50;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<AuthTokenResponse>> results = new ArrayList<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < requests; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return coalescer.refresh(token);
+				}));
+			}
+			start.countDown();
+			for (Future<AuthTokenResponse> result : results) {
+				assertEquals(AuthTokenResponse.of("access-1", "refresh-1"), result.get(5, TimeUnit.SECONDS));
+			}
+		}
+		verify(authService, times(1)).refresh(token);
+	}
+
+	@Test
+	void 유예_시간_안에_이전_토큰으로_늦게_온_요청도_같은_토큰을_받는다() {
+		RefreshCoalescer coalescer = coalescer(10);
+		String token = tokenOf(UUID.randomUUID());
+		slowRefresh(0);
+
+		AuthTokenResponse first = coalescer.refresh(token);
+		AuthTokenResponse late = coalescer.refresh(token);
+
+		assertEquals(first, late);
+		verify(authService, times(1)).refresh(token);
+	}
+
+	@Test
+	void 유예_시간이_지나면_기존_검증을_다시_탄다() throws InterruptedException {
+		RefreshCoalescer coalescer = coalescer(0);
+		String token = tokenOf(UUID.randomUUID());
+		slowRefresh(0);
+
+		coalescer.refresh(token);
+		Thread.sleep(20);
+		coalescer.refresh(token);
+
+		verify(authService, times(2)).refresh(token);
+	}
+
+	@Test
+	void 다른_유저는_합쳐지지_않는다() throws Exception {
+		RefreshCoalescer coalescer = coalescer(10);
+		slowRefresh(100);
+		List<String> tokens = List.of(tokenOf(UUID.randomUUID()), tokenOf(UUID.randomUUID()),
+			tokenOf(UUID.randomUUID()));
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<AuthTokenResponse>> results = new ArrayList<>();
+			for (String token : tokens) {
+				results.add(executor.submit(() -> coalescer.refresh(token)));
+			}
+			for (Future<AuthTokenResponse> result : results) {
+				result.get(5, TimeUnit.SECONDS);
+			}
+		}
+		assertEquals(3, issued.get());
+	}
+
+	@Test
+	void 실패하면_기다리던_요청도_실패하고_다음_요청은_다시_시도한다() throws Exception {
+		RefreshCoalescer coalescer = coalescer(10);
+		String token = tokenOf(UUID.randomUUID());
+		CountDownLatch inRefresh = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(authService.refresh(token))
+			.thenAnswer(invocation -> {
+				inRefresh.countDown();
+				release.await();
+				throw new InvalidTokenException("로그인이 만료되었습니다. 다시 로그인해주세요.");
+			})
+			.thenReturn(AuthTokenResponse.of("access", "refresh"));
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			Future<AuthTokenResponse> leader = executor.submit(() -> coalescer.refresh(token));
+			inRefresh.await();
+			Future<AuthTokenResponse> follower = executor.submit(() -> coalescer.refresh(token));
+			Thread.sleep(50);
+			release.countDown();
+
+			Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+			Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+			assertInstanceOf(InvalidTokenException.class, leaderError.getCause());
+			assertInstanceOf(InvalidTokenException.class, followerError.getCause());
+		}
+
+		assertEquals(AuthTokenResponse.of("access", "refresh"), coalescer.refresh(token));
+		verify(authService, times(2)).refresh(token);
+	}
+
+	@Test
+	void 토큰에서_유저를_못_찾으면_기존_경로로_넘긴다() {
+		RefreshCoalescer coalescer = coalescer(10);
+		when(jwtTokenProvider.parseClaims("broken")).thenThrow(InvalidTokenException.invalidToken());
+		when(authService.refresh("broken")).thenThrow(InvalidTokenException.invalidToken());
+
+		assertThrows(InvalidTokenException.class, () -> coalescer.refresh("broken"));
+		verify(authService).refresh("broken");
+	}
+}
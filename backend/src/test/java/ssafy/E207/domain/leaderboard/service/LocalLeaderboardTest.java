@@ -0,0 +1,100 @@
+package ssafy.E207.domain.leaderboard.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import ssafy.E207.domain.leaderboard.dto.LeaderboardStanding;
+import ssafy.E207.global.common.enums.LeaderboardType;
+
+/**
+ * 메모리 리더보드 테스트
+ */
+class LocalLeaderboardTest {
+	private final LocalLeaderboard leaderboard = new LocalLeaderboard(10);
+
+	private final UUID alice = UUID.randomUUID();
+	private final UUID bob = UUID.randomUUID();
+	private final UUID carol = UUID.randomUUID();
+
+	@Test
+	void 종류별로_점수_내림차순_순위를_매긴다() {
+		leaderboard.update(List.of(
+			new LeaderboardStanding(alice, 20, 15, 3),
+			new LeaderboardStanding(bob, 5, 5, 5),
+			new LeaderboardStanding(carol, 30, 12, 7)));
+
+		assertEquals(List.of(alice, carol, bob), userIds(leaderboard.top(LeaderboardType.WINS, 0, 10)));
+		assertEquals(List.of(carol, bob, alice), userIds(leaderboard.top(LeaderboardType.MAX_STREAK, 0, 10)));
+		// 승률은 10판 이상만 (bob 제외)
+		assertEquals(List.of(alice, carol), userIds(leaderboard.top(LeaderboardType.WIN_RATE, 0, 10)));
+		assertTrue(leaderboard.find(LeaderboardType.WIN_RATE, bob).isEmpty());
+
+		Leaderboard.Entry carolWins = leaderboard.find(LeaderboardType.WINS, carol).orElseThrow();
+		assertEquals(2, carolWins.rank());
+		assertEquals(12, carolWins.score());
+	}
+
+	@Test
+	void 점수가_바뀌면_순위가_이동하고_페이지는_offset부터_자른다() {
+		leaderboard.update(List.of(
+			new LeaderboardStanding(alice, 3, 3, 3),
+			new LeaderboardStanding(bob, 2, 2, 2),
+			new LeaderboardStanding(carol, 1, 1, 1)));
+		leaderboard.update(List.of(new LeaderboardStanding(carol, 5, 5, 5)));
+
+		assertEquals(1, leaderboard.find(LeaderboardType.WINS, carol).orElseThrow().rank());
+		List<Leaderboard.Entry> secondPage = leaderboard.top(LeaderboardType.WINS, 1, 1);
+		assertEquals(1, secondPage.size());
+		assertEquals(alice, secondPage.get(0).userId());
+		assertEquals(2, secondPage.get(0).rank());
+		assertEquals(3, leaderboard.size(LeaderboardType.WINS));
+	}
+
+	@Test
+	void 재구성은_commit_전까지_기존_순위를_유지한다() {
+		leaderboard.update(List.of(new LeaderboardStanding(alice, 1, 1, 1)));
+
+		Leaderboard.Rebuild rebuild = leaderboard.rebuild();
+		rebuild.add(new LeaderboardStanding(bob, 4, 4, 4));
+		assertTrue(leaderboard.find(LeaderboardType.WINS, alice).isPresent());
+
+		rebuild.commit();
+		assertTrue(leaderboard.find(LeaderboardType.WINS, alice).isEmpty());
+		assertEquals(1, leaderboard.find(LeaderboardType.WINS, bob).orElseThrow().rank());
+	}
+
+	@Test
+	void 재구성_중의_갱신과_제거는_교체_후에도_남는다() {
+		leaderboard.update(List.of(new LeaderboardStanding(carol, 2, 2, 2)));
+		Leaderboard.Rebuild rebuild = leaderboard.rebuild();
+		// DB 를 읽은 뒤 전적이 바뀜 → 재구성에는 예전 값이 들어감
+		leaderboard.update(List.of(new LeaderboardStanding(alice, 6, 6, 6)));
+		leaderboard.remove(carol);
+		rebuild.add(new LeaderboardStanding(alice, 5, 5, 5));
+		rebuild.add(new LeaderboardStanding(carol, 2, 2, 2));
+		rebuild.add(new LeaderboardStanding(bob, 4, 4, 4));
+		rebuild.commit();
+
+		assertEquals(6, leaderboard.find(LeaderboardType.WINS, alice).orElseThrow().score());
+		assertTrue(leaderboard.find(LeaderboardType.WINS, carol).isEmpty());
+		assertEquals(2, leaderboard.size(LeaderboardType.WINS));
+	}
+
+	@Test
+	void 제거하면_모든_종류에서_빠진다() {
+		leaderboard.update(List.of(new LeaderboardStanding(alice, 12, 6, 2)));
+		leaderboard.remove(alice);
+
+		for (LeaderboardType type : LeaderboardType.values()) {
+			assertEquals(0, leaderboard.size(type));
+		}
+	}
+
+	private List<UUID> userIds(List<Leaderboard.Entry> entries) {
+		return entries.stream().map(Leaderboard.Entry::userId).toList();
+	}
+}
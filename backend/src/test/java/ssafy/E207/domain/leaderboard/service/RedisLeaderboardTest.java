@@ -0,0 +1,138 @@
+package ssafy.E207.domain.leaderboard.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import ssafy.E207.domain.leaderboard.dto.LeaderboardStanding;
+import ssafy.E207.global.common.enums.LeaderboardType;
+
+/**
+ * Redis 리더보드 테스트
+ *
+ * 로컬 Redis(localhost:6379, DB 15)가 떠 있을 때만 실행 (없으면 건너뜀)
+ * 예: docker run -p 6379:6379 redis:7
+ */
+class RedisLeaderboardTest {
+	private LettuceConnectionFactory connectionFactory;
+	private StringRedisTemplate redisTemplate;
+	private RedisLeaderboard leaderboard;
+
+	private final UUID alice = UUID.randomUUID();
+	private final UUID bob = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		RedisStandaloneConfiguration config = new RedisStandaloneConfiguration("localhost", 6379);
+		config.setDatabase(15);
+		connectionFactory = new LettuceConnectionFactory(config);
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		try {
+			connectionFactory.getConnection().ping();
+		} catch (Exception e) {
+			connectionFactory.destroy();
+			Assumptions.abort("로컬 Redis 없음: " + e.getMessage());
+		}
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		clear();
+		leaderboard = new RedisLeaderboard(redisTemplate, 10);
+	}
+
+	@AfterEach
+	void tearDown() {
+		// 로컬 Redis가 없어 건너뛴 경우
+		if (redisTemplate == null) {
+			return;
+		}
+		clear();
+		connectionFactory.destroy();
+	}
+
+	@Test
+	void 내_순위와_상위_목록을_조회한다() {
+		leaderboard.update(List.of(
+			new LeaderboardStanding(alice, 12, 9, 4),
+			new LeaderboardStanding(bob, 5, 5, 5)));
+
+		Leaderboard.Entry aliceWins = leaderboard.find(LeaderboardType.WINS, alice).orElseThrow();
+		assertEquals(1, aliceWins.rank());
+		assertEquals(9, aliceWins.score());
+		assertEquals(2, leaderboard.find(LeaderboardType.WINS, bob).orElseThrow().rank());
+		assertEquals(1, leaderboard.find(LeaderboardType.MAX_STREAK, bob).orElseThrow().rank());
+		assertTrue(leaderboard.find(LeaderboardType.WIN_RATE, bob).isEmpty());
+
+		List<Leaderboard.Entry> top = leaderboard.top(LeaderboardType.WINS, 1, 10);
+		assertEquals(1, top.size());
+		assertEquals(bob, top.get(0).userId());
+		assertEquals(2, top.get(0).rank());
+	}
+
+	@Test
+	void 재구성하면_임시_키로_채운_뒤_한_번에_교체한다() {
+		leaderboard.update(List.of(new LeaderboardStanding(alice, 1, 1, 1)));
+
+		Leaderboard.Rebuild rebuild = leaderboard.rebuild();
+		rebuild.add(new LeaderboardStanding(bob, 3, 3, 3));
+		assertTrue(leaderboard.find(LeaderboardType.WINS, alice).isPresent());
+		rebuild.commit();
+
+		assertTrue(leaderboard.find(LeaderboardType.WINS, alice).isEmpty());
+		assertEquals(1, leaderboard.size(LeaderboardType.WINS));
+		// 순위에 아무도 없는 종류는 키 자체가 지워짐
+		assertEquals(0, leaderboard.size(LeaderboardType.WIN_RATE));
+		assertEquals(-1L, redisTemplate.getExpire(RedisLeaderboard.key(LeaderboardType.WINS)));
+		assertTrue(redisTemplate.keys(RedisLeaderboard.KEY_PREFIX + "*:rebuild:*").isEmpty());
+	}
+
+	@Test
+	void 재구성_중의_갱신과_제거는_교체_후에도_남는다() {
+		UUID carol = UUID.randomUUID();
+		leaderboard.update(List.of(new LeaderboardStanding(carol, 2, 2, 2)));
+		Leaderboard.Rebuild rebuild = leaderboard.rebuild();
+		// 다른 서버에서 DB 를 읽은 뒤 전적이 바뀜 → 재구성에는 예전 값이 들어감
+		RedisLeaderboard other = new RedisLeaderboard(redisTemplate, 10);
+		other.update(List.of(new LeaderboardStanding(alice, 6, 6, 6)));
+		other.remove(carol);
+		rebuild.add(new LeaderboardStanding(alice, 5, 5, 5));
+		rebuild.add(new LeaderboardStanding(carol, 2, 2, 2));
+		rebuild.add(new LeaderboardStanding(bob, 4, 4, 4));
+		rebuild.commit();
+
+		assertEquals(6, leaderboard.find(LeaderboardType.WINS, alice).orElseThrow().score());
+		assertTrue(leaderboard.find(LeaderboardType.WINS, carol).isEmpty());
+		assertEquals(2, leaderboard.size(LeaderboardType.WINS));
+		assertFalse(redisTemplate.hasKey(RedisLeaderboard.TOUCHED_KEY));
+		assertFalse(redisTemplate.hasKey(RedisLeaderboard.REBUILDING_KEY));
+	}
+
+	@Test
+	void 재구성을_취소하면_기존_순위가_남고_기록도_멈춘다() {
+		leaderboard.update(List.of(new LeaderboardStanding(alice, 1, 1, 1)));
+		Leaderboard.Rebuild rebuild = leaderboard.rebuild();
+		rebuild.add(new LeaderboardStanding(bob, 3, 3, 3));
+		rebuild.cancel();
+		leaderboard.update(List.of(new LeaderboardStanding(bob, 3, 3, 3)));
+
+		assertEquals(2, leaderboard.size(LeaderboardType.WINS));
+		assertFalse(redisTemplate.hasKey(RedisLeaderboard.TOUCHED_KEY));
+		assertTrue(redisTemplate.keys(RedisLeaderboard.KEY_PREFIX + "*:rebuild:*").isEmpty());
+	}
+
+	private void clear() {
+		Set<String> keys = redisTemplate.keys(RedisLeaderboard.KEY_PREFIX + "*");
+		if (keys != null && !keys.isEmpty()) {
+			redisTemplate.delete(keys);
+		}
+	}
+}
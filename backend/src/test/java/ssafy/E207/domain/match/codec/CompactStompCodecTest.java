@@ -0,0 +1,155 @@
+package ssafy.E207.domain.match.codec;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ssafy.E207.domain.match.dto.response.StompResponse;
+import ssafy.E207.global.common.enums.StompMessageType;
+
+class CompactStompCodecTest {
+	private final UUID attacker = UUID.randomUUID();
+	private final UUID defender = UUID.randomUUID();
+
+	@Test
+	void 턴_스왑_이벤트는_JSON보다_훨씬_작고_그대로_복원된다() {
+		StompResponse response = turnSwap();
+
+		byte[] compact = CompactStompCodec.encode(response);
+		byte[] json = json(response);
+		assertTrue(compact.length * 3 < json.length, compact.length + " / " + json.length);
+
+		StompResponse decoded = CompactStompCodec.decode(compact);
+		assertEquals(StompMessageType.RESPONSE_TURN_SWAP, decoded.getType());
+		// 템플릿 타입은 문구/닉네임을 보내지 않음
+		assertNull(decoded.getMessage());
+		assertNull(decoded.getSenderNickname());
+		assertEquals(StompMessageType.REQUEST_TURN_SWAP, decoded.getData().get("reason"));
+		assertEquals(attacker, decoded.getData().get("attackerId"));
+		assertEquals(3, decoded.getData().get("currentTurn"));
+		assertEquals(Map.of(attacker, 1, defender, 2), decoded.getData().get("currentScores"));
+	}
+
+	@Test
+	void 게임_종료와_채팅도_JSON보다_작다() {
+		Map<String, Object> data = new LinkedHashMap<>();
+		data.put("reason", StompMessageType.REQUEST_LAUGHED);
+		data.put("finalTurn", 6);
+		data.put("finalRound", 3);
+		data.put("winnerId", attacker);
+		data.put("finalScores", Map.of(attacker, 1, defender, 2));
+		StompResponse battleEnd = new StompResponse(StompMessageType.RESPONSE_BATTLE_END, null, "시스템",
+			"게임이 종료되었습니다.", data);
+		StompResponse chat = new StompResponse(StompMessageType.CHAT, attacker, "닉네임", "안녕하세요 한 판 해요", null);
+
+		assertTrue(CompactStompCodec.encode(battleEnd).length * 3 < json(battleEnd).length);
+		// 채팅은 문구를 그대로 보내므로 필드 이름/UUID 문자열만큼만 줄어듦
+		assertTrue(CompactStompCodec.encode(chat).length < json(chat).length);
+	}
+
+	@Test
+	void 채팅과_에러는_문구를_유지하고_모르는_키도_보낸다() {
+		Map<String, Object> data = new LinkedHashMap<>();
+		data.put("unknownKey", List.of(-1L, "값", true));
+		data.put("winnerId", null);
+		StompResponse chat = new StompResponse(StompMessageType.CHAT, attacker, "닉네임", "안녕하세요", data);
+
+		StompResponse decoded = CompactStompCodec.decode(CompactStompCodec.encode(chat));
+		assertEquals(attacker, decoded.getSenderId());
+		assertEquals("안녕하세요", decoded.getMessage());
+		assertEquals(List.of(-1L, "값", true), decoded.getData().get("unknownKey"));
+		assertTrue(decoded.getData().containsKey("winnerId"));
+		assertNull(decoded.getData().get("winnerId"));
+	}
+
+	@Test
+	void DTO가_들어있으면_압축하지_않는다() {
+		StompResponse joined = new StompResponse(StompMessageType.RESPONSE_PARTICIPANT_JOINED, null, "시스템",
+			"입장했습니다.", Map.of("stats", new Object()));
+
+		assertThrows(CompactStompCodec.UnsupportedValueException.class, () -> CompactStompCodec.encode(joined));
+	}
+
+	@Test
+	void 협상한_세션에만_압축본이_나간다() {
+		CompactPayloadNegotiator negotiator = new CompactPayloadNegotiator();
+		CompactStompMessageConverter converter = new CompactStompMessageConverter(new ObjectMapper(), negotiator);
+
+		// 압축 세션이 없으면 압축본을 만들지 않음
+		assertNull(converter.toMessage(turnSwap(), templateHeaders()).getHeaders()
+			.get(CompactPayloadNegotiator.COMPACT_PAYLOAD_HEADER));
+
+		connect(negotiator, "compact-session", true);
+		connect(negotiator, "json-session", false);
+		Message<?> converted = converter.toMessage(turnSwap(), templateHeaders());
+
+		Message<?> toCompact = negotiator.preSend(outbound(converted, "compact-session"), null);
+		assertEquals(CompactStompCodec.CONTENT_TYPE, toCompact.getHeaders().get(MessageHeaders.CONTENT_TYPE));
+		assertEquals(StompMessageType.RESPONSE_TURN_SWAP,
+			CompactStompCodec.decode((byte[])toCompact.getPayload()).getType());
+
+		Message<?> toJson = negotiator.preSend(outbound(converted, "json-session"), null);
+		assertSame(converted.getPayload(), toJson.getPayload());
+
+		// 연결 종료 후에는 다시 JSON
+		StompHeaderAccessor disconnect = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+		disconnect.setSessionId("compact-session");
+		negotiator.preSend(MessageBuilder.createMessage(new byte[0], disconnect.getMessageHeaders()), null);
+		assertFalse(negotiator.isCompact("compact-session"));
+	}
+
+	private void connect(CompactPayloadNegotiator negotiator, String sessionId, boolean compact) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+		accessor.setSessionId(sessionId);
+		if (compact) {
+			accessor.setNativeHeader(CompactPayloadNegotiator.CODEC_HEADER, CompactPayloadNegotiator.COMPACT);
+		}
+		negotiator.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), null);
+	}
+
+	// SimpMessagingTemplate이 변환기에 넘기는 것과 같은 수정 가능한 헤더
+	private MessageHeaders templateHeaders() {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setLeaveMutable(true);
+		return accessor.getMessageHeaders();
+	}
+
+	// 브로커가 구독 세션별로 복사해서 내보내는 메시지
+	private Message<?> outbound(Message<?> converted, String sessionId) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setSessionId(sessionId);
+		accessor.setDestination("/topic/1");
+		accessor.copyHeadersIfAbsent(converted.getHeaders());
+		return MessageBuilder.createMessage(converted.getPayload(), accessor.getMessageHeaders());
+	}
+
+	private static byte[] json(StompResponse response) {
+		return (byte[])new MappingJackson2MessageConverter().toMessage(response, null).getPayload();
+	}
+
+	private StompResponse turnSwap() {
+		Map<String, Object> data = new LinkedHashMap<>();
+		data.put("reason", StompMessageType.REQUEST_TURN_SWAP);
+		data.put("attackerId", attacker);
+		data.put("currentTurn", 3);
+		data.put("currentRound", 2);
+		data.put("currentScores", Map.of(attacker, 1, defender, 2));
+		return new StompResponse(StompMessageType.RESPONSE_TURN_SWAP, null, "시스템",
+			"공수가 교대되었습니다. 이번 공격은 닉네임님입니다!", data);
+	}
+}
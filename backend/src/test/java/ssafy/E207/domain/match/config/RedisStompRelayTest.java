@@ -0,0 +1,196 @@
+package ssafy.E207.domain.match.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 서버 간 STOMP 팬아웃 테스트
+ *
+ * 서버 두 대(각자 simple broker + brokerChannel)를 띄우고 한쪽에서 발행한 메시지가
+ * 다른 쪽 구독 세션까지 전달되는지 확인
+ *
+ * 로컬 Redis(localhost:6379, DB 15)가 떠 있을 때만 실행 (없으면 건너뜀)
+ * 예: docker run -p 6379:6379 redis:7
+ */
+class RedisStompRelayTest {
+	private LettuceConnectionFactory connectionFactory;
+	private RedisMessageListenerContainer listenerContainer;
+	private StringRedisTemplate redisTemplate;
+	private Node nodeA;
+	private Node nodeB;
+
+	@BeforeEach
+	void setUp() {
+		RedisStandaloneConfiguration config = new RedisStandaloneConfiguration("localhost", 6379);
+		config.setDatabase(15);
+		connectionFactory = new LettuceConnectionFactory(config);
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		try {
+			connectionFactory.getConnection().ping();
+		} catch (Exception e) {
+			connectionFactory.destroy();
+			Assumptions.abort("로컬 Redis 없음: " + e.getMessage());
+		}
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+
+		listenerContainer = new RedisMessageListenerContainer();
+		listenerContainer.setConnectionFactory(connectionFactory);
+		listenerContainer.afterPropertiesSet();
+		listenerContainer.start();
+
+		nodeA = new Node("node-a");
+		nodeB = new Node("node-b");
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		// 로컬 Redis가 없어 건너뛴 경우
+		if (redisTemplate == null) {
+			return;
+		}
+		if (nodeA != null) {
+			nodeA.stop();
+			nodeB.stop();
+		}
+		listenerContainer.destroy();
+		connectionFactory.destroy();
+	}
+
+	@Test
+	void 다른_서버에서_발행한_방_메시지를_받는다() throws Exception {
+		nodeB.subscribe("session-b", "/topic/1");
+		nodeA.subscribe("session-a", "/topic/1");
+		awaitSubscribed();
+
+		nodeA.template.convertAndSend("/topic/1", Map.of("type", "RESPONSE_TURN_SWAP"));
+
+		Message<?> onB = nodeB.outbound.poll(3, TimeUnit.SECONDS);
+		assertNotNull(onB);
+		assertEquals("session-b", SimpMessageHeaderAccessor.getSessionId(onB.getHeaders()));
+		assertTrue(new String((byte[])onB.getPayload(), StandardCharsets.UTF_8).contains("RESPONSE_TURN_SWAP"));
+
+		// 발행한 서버의 구독자는 한 번만 받음 (자기 메시지는 되돌아와도 무시)
+		assertNotNull(nodeA.outbound.poll(3, TimeUnit.SECONDS));
+		assertNull(nodeA.outbound.poll(500, TimeUnit.MILLISECONDS));
+		assertNull(nodeB.outbound.poll(500, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	void 구독하지_않은_서버에는_전달되지_않는다() throws Exception {
+		nodeB.subscribe("session-b", "/topic/2");
+		awaitSubscribed();
+
+		nodeA.template.convertAndSend("/topic/1", Map.of("type", "CHAT"));
+
+		assertNull(nodeB.outbound.poll(1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void 유저_메시지는_다른_서버의_brokerChannel로_넘어가서_그_서버가_다시_푼다() throws Exception {
+		BlockingQueue<Message<?>> brokerMessagesOnB = new LinkedBlockingQueue<>();
+		nodeB.brokerChannel.subscribe(brokerMessagesOnB::add);
+		awaitSubscribed();
+
+		nodeA.template.convertAndSendToUser("user-1", "/queue/match", Map.of("message", "매칭이 완료되었습니다."));
+
+		Message<?> relayed = brokerMessagesOnB.poll(3, TimeUnit.SECONDS);
+		assertNotNull(relayed);
+		assertEquals("/user/user-1/queue/match", SimpMessageHeaderAccessor.getDestination(relayed.getHeaders()));
+		assertEquals("node-a", relayed.getHeaders().get(RedisStompRelay.RELAYED_HEADER));
+	}
+
+	// 리스너 컨테이너의 SUBSCRIBE가 Redis에 반영될 때까지 대기 (첫 연결은 수백 ms 걸릴 수 있음)
+	private void awaitSubscribed() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (subscribers() == 0) {
+			assertTrue(System.nanoTime() < deadline, "Redis 구독이 붙지 않음");
+			Thread.sleep(20);
+		}
+	}
+
+	// PUBSUB NUMSUB (스프링 execute는 정수 응답을 못 읽어서 Lettuce 명령을 직접 씀)
+	@SuppressWarnings("unchecked")
+	private long subscribers() {
+		byte[] channel = RedisStompRelay.CHANNEL.getBytes(StandardCharsets.UTF_8);
+		Map<byte[], Long> counts = redisTemplate.execute((RedisCallback<Map<byte[], Long>>)connection -> {
+			try {
+				return ((RedisAsyncCommands<byte[], byte[]>)connection.getNativeConnection())
+					.pubsubNumsub(channel).get(1, TimeUnit.SECONDS);
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		return counts == null ? 0 : counts.values().stream().mapToLong(Long::longValue).sum();
+	}
+
+	private class Node {
+		private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+		private final BlockingQueue<Message<?>> outbound = new LinkedBlockingQueue<>();
+		private final SimpleBrokerMessageHandler broker;
+		private final SimpMessagingTemplate template;
+		private final RedisStompRelay relay;
+
+		private Node(String nodeId) {
+			MessageChannel clientOutbound = (message, timeout) -> outbound.add(message);
+			broker = new SimpleBrokerMessageHandler(new ExecutorSubscribableChannel(), clientOutbound, brokerChannel,
+				List.of("/topic", "/queue"));
+			broker.start();
+			relay = new RedisStompRelay(redisTemplate, listenerContainer, new ObjectMapper(),
+				new SimpleMeterRegistry(), brokerChannel, nodeId);
+			brokerChannel.addInterceptor(relay);
+			relay.start();
+			template = new SimpMessagingTemplate(brokerChannel);
+			template.setMessageConverter(new MappingJackson2MessageConverter());
+		}
+
+		private void subscribe(String sessionId, String destination) {
+			// simple broker는 CONNECT로 등록된 세션에만 전달
+			SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+			connect.setSessionId(sessionId);
+			broker.handleMessage(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+			outbound.clear();
+
+			SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+			accessor.setSessionId(sessionId);
+			accessor.setSubscriptionId("sub-" + sessionId);
+			accessor.setDestination(destination);
+			broker.handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+		}
+
+		private void stop() {
+			relay.stop();
+			broker.stop();
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package ssafy.E207.domain.match.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import ssafy.E207.domain.match.entity.Room;
+import ssafy.E207.domain.match.repository.RoomParticipantRepository;
+import ssafy.E207.domain.match.repository.RoomRepository;
+import ssafy.E207.domain.match.service.LobbyService;
+import ssafy.E207.domain.user.repository.UserRepository;
+import ssafy.E207.domain.user.service.UserBattleService;
+import ssafy.E207.global.common.enums.RoomStatus;
+import ssafy.E207.global.common.enums.RoomType;
+
+/**
+ * 게임 상태 로딩 테스트 (방 1의 DB 조회가 끝나지 않은 상태에서 다른 방/invalidate 확인)
+ */
+class GameStateStoreTest {
+	private final CountDownLatch loading = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private RoomRepository roomRepository;
+	private GameStateStore store;
+
+	@BeforeEach
+	void setUp() {
+		roomRepository = mock(RoomRepository.class);
+		when(roomRepository.findById(1L)).thenAnswer(invocation -> {
+			loading.countDown();
+			assertTrue(release.await(5, TimeUnit.SECONDS));
+			return Optional.of(room(1L));
+		});
+		when(roomRepository.findById(2L)).thenReturn(Optional.of(room(2L)));
+		store = new GameStateStore(roomRepository, mock(RoomParticipantRepository.class), mock(UserRepository.class),
+			mock(UserBattleService.class), mock(LobbyService.class), mock(PlatformTransactionManager.class));
+	}
+
+	@Test
+	void 읽는_중인_방이_있어도_다른_방과_invalidate는_기다리지_않는다() throws Exception {
+		CompletableFuture<GameState> first = CompletableFuture.supplyAsync(() -> store.get(1L));
+		assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+		assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+			assertEquals(2L, store.get(2L).getRoomId());
+			store.invalidate(1L);
+		});
+
+		release.countDown();
+		assertEquals(1L, first.get(5, TimeUnit.SECONDS).getRoomId());
+		// 읽는 도중 invalidate됐으므로 다음 접근 때 다시 읽음
+		store.get(1L);
+		verify(roomRepository, times(2)).findById(1L);
+	}
+
+	@Test
+	void 없는_방은_저장하지_않는다() {
+		assertNull(store.get(3L));
+		assertNull(store.get(3L));
+
+		verify(roomRepository, times(2)).findById(3L);
+		assertEquals(0, store.size());
+	}
+
+	private Room room(Long id) {
+		return Room.builder().id(id).roomType(RoomType.CASUAL).status(RoomStatus.WAITING).build();
+	}
+}
@@ -0,0 +1,176 @@
+package ssafy.E207.domain.match.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ssafy.E207.domain.auth.entity.User;
+import ssafy.E207.domain.match.dto.request.StompRequest;
+import ssafy.E207.domain.match.dto.response.StompResponse;
+import ssafy.E207.domain.match.entity.Room;
+import ssafy.E207.domain.match.entity.RoomParticipant;
+import ssafy.E207.domain.match.service.StompMessageService;
+import ssafy.E207.global.common.enums.ParticipantRole;
+import ssafy.E207.global.common.enums.RoomStatus;
+import ssafy.E207.global.common.enums.RoomType;
+import ssafy.E207.global.common.enums.StompMessageType;
+
+/**
+ * 방 메일박스 동시성 테스트
+ */
+class RoomMailboxDispatcherTest {
+	private static final int PRODUCERS = 16;
+
+	private SimpleMeterRegistry meterRegistry;
+	private RoomMailboxDispatcher dispatcher;
+	private ExecutorService producers;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		dispatcher = new RoomMailboxDispatcher(meterRegistry);
+		producers = Executors.newFixedThreadPool(PRODUCERS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		producers.shutdownNow();
+		dispatcher.shutdown();
+	}
+
+	@Test
+	void 같은_방_이벤트는_겹치지_않고_전부_처리된다() throws Exception {
+		int rooms = 100;
+		int eventsPerRoom = 1_000;
+		int[] counters = new int[rooms];
+		AtomicInteger[] running = new AtomicInteger[rooms];
+		AtomicInteger overlaps = new AtomicInteger();
+		for (int i = 0; i < rooms; i++) {
+			running[i] = new AtomicInteger();
+		}
+
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(PRODUCERS);
+		for (int p = 0; p < PRODUCERS; p++) {
+			int offset = p;
+			producers.execute(() -> {
+				try {
+					start.await();
+					// 생산자마다 전체 이벤트를 PRODUCERS 간격으로 나눠 맡음 → 방마다 정확히 eventsPerRoom개
+					for (int i = offset; i < rooms * eventsPerRoom; i += PRODUCERS) {
+						int room = i % rooms;
+						dispatcher.submit((long)room, () -> {
+							if (running[room].incrementAndGet() > 1) {
+								overlaps.incrementAndGet();
+							}
+							// 일부러 원자적이지 않은 증가 → 동시에 실행되면 값이 틀어짐
+							counters[room] = counters[room] + 1;
+							running[room].decrementAndGet();
+						});
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		start.countDown();
+		assertTrue(done.await(30, TimeUnit.SECONDS));
+		awaitDrained();
+
+		assertEquals(0, overlaps.get());
+		for (int i = 0; i < rooms; i++) {
+			assertEquals(eventsPerRoom, counters[i]);
+		}
+		assertEquals(0.0, meterRegistry.get("room.mailbox.active").gauge().value());
+		assertEquals((long)rooms * eventsPerRoom, meterRegistry.get("room.mailbox.lag").timer().count());
+	}
+
+	@Test
+	void 웃음_이벤트가_동시에_몰려도_점수와_종료가_한_번만_반영된다() throws Exception {
+		User first = User.builder().id(UUID.randomUUID()).nickname("player1").build();
+		User second = User.builder().id(UUID.randomUUID()).nickname("player2").build();
+		Room room = Room.builder()
+			.id(1L)
+			.roomType(RoomType.RANKED)
+			.status(RoomStatus.PLAYING)
+			.currentAttacker(first)
+			.build();
+		room.getRoomParticipants().add(RoomParticipant.builder().room(room).user(first).role(ParticipantRole.HOST).build());
+		room.getRoomParticipants().add(
+			RoomParticipant.builder().room(room).user(second).role(ParticipantRole.PARTICIPANT).build());
+		GameState state = GameState.from(room);
+
+		SimpMessageSendingOperations messageTemplate = mock(SimpMessageSendingOperations.class);
+		GameStateStore gameStateStore = mock(GameStateStore.class);
+		when(gameStateStore.get(1L)).thenReturn(state);
+		StompMessageService service = new StompMessageService(messageTemplate, gameStateStore, dispatcher,
+			mock(TurnTimer.class));
+
+		int eventsPerProducer = 250;
+		List<UUID> senders = List.of(first.getId(), second.getId());
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(PRODUCERS);
+		for (int p = 0; p < PRODUCERS; p++) {
+			int offset = p;
+			producers.execute(() -> {
+				try {
+					start.await();
+					for (int i = 0; i < eventsPerProducer; i++) {
+						// 두 사람이 번갈아 보냄
+						service.handleMessage(1L, senders.get((i + offset) % 2),
+							new StompRequest(StompMessageType.REQUEST_LAUGHED, null, Map.of()));
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		start.countDown();
+		assertTrue(done.await(30, TimeUnit.SECONDS));
+		awaitDrained();
+
+		ArgumentCaptor<StompResponse> broadcasts = ArgumentCaptor.forClass(StompResponse.class);
+		verify(messageTemplate, atLeastOnce()).convertAndSend(eq("/topic/1"), broadcasts.capture());
+		long battleEnds = broadcasts.getAllValues().stream()
+			.filter(response -> response.getType() == StompMessageType.RESPONSE_BATTLE_END)
+			.count();
+		int totalWins = state.getPlayers().stream().mapToInt(GameState.Player::getWinCount).sum();
+		int maxWins = state.getPlayers().stream().mapToInt(GameState.Player::getWinCount).max().orElse(0);
+
+		assertTrue(state.isStatus(RoomStatus.TERMINATED));
+		assertEquals(1, battleEnds);
+		verify(gameStateStore, times(1)).persistBattleEnd(eq(state), any());
+		// 인정된 웃음 하나당 방 브로드캐스트 하나 (턴 스왑 / 라운드 종료 / 게임 종료)
+		assertEquals(broadcasts.getAllValues().size(), totalWins);
+		assertTrue(maxWins <= 2);
+		assertTrue(state.getRound() <= 3);
+	}
+
+	private void awaitDrained() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		while (dispatcher.depth() > 0 || meterRegistry.get("room.mailbox.active").gauge().value() > 0) {
+			assertTrue(System.nanoTime() < deadline, "메일박스가 비지 않음");
+			Thread.sleep(10);
+		}
+	}
+}
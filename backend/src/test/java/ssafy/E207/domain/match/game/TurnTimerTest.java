@@ -0,0 +1,94 @@
+package ssafy.E207.domain.match.game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 턴 타이머 테스트 (tick 10ms, 바퀴 8칸 → 80ms 넘는 타이머는 바퀴를 여러 바퀴 돈 뒤 만료)
+ */
+class TurnTimerTest {
+	private TurnTimer turnTimer;
+
+	@BeforeEach
+	void setUp() {
+		turnTimer = new TurnTimer(new SimpleMeterRegistry(), 30, 10, 8);
+		turnTimer.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		turnTimer.stop();
+	}
+
+	@Test
+	void 제한_시간이_지나면_실행된다() throws Exception {
+		CountDownLatch fired = new CountDownLatch(1);
+		long startedAt = System.nanoTime();
+
+		turnTimer.schedule(1L, 200, fired::countDown);
+
+		assertTrue(fired.await(2, TimeUnit.SECONDS));
+		assertTrue(System.nanoTime() - startedAt >= TimeUnit.MILLISECONDS.toNanos(200));
+		assertEquals(0, turnTimer.size());
+	}
+
+	@Test
+	void 취소하면_실행되지_않는다() throws Exception {
+		AtomicInteger fired = new AtomicInteger();
+
+		turnTimer.schedule(1L, 50, fired::incrementAndGet);
+		turnTimer.cancel(1L);
+
+		Thread.sleep(200);
+		assertEquals(0, fired.get());
+		assertEquals(0, turnTimer.size());
+	}
+
+	@Test
+	void 같은_방에_다시_등록하면_이전_타이머는_취소된다() throws Exception {
+		AtomicInteger first = new AtomicInteger();
+		CountDownLatch second = new CountDownLatch(1);
+
+		turnTimer.schedule(1L, 50, first::incrementAndGet);
+		turnTimer.schedule(1L, 100, second::countDown);
+
+		assertTrue(second.await(2, TimeUnit.SECONDS));
+		assertEquals(0, first.get());
+	}
+
+	@Test
+	void 턴_타이머와_유예_타이머는_서로_덮어쓰거나_취소하지_않는다() throws Exception {
+		CountDownLatch grace = new CountDownLatch(1);
+		AtomicInteger turn = new AtomicInteger();
+
+		turnTimer.schedule(1L, TurnTimer.Slot.GRACE, 100, grace::countDown);
+		turnTimer.schedule(1L, 50, turn::incrementAndGet);
+		turnTimer.cancel(1L);
+		assertEquals(1, turnTimer.size());
+
+		assertTrue(grace.await(2, TimeUnit.SECONDS));
+		assertEquals(0, turn.get());
+		assertEquals(0, turnTimer.size());
+	}
+
+	@Test
+	void 방이_많아도_방마다_한_번씩_실행된다() throws Exception {
+		int rooms = 10_000;
+		CountDownLatch fired = new CountDownLatch(rooms);
+		for (long roomId = 0; roomId < rooms; roomId++) {
+			turnTimer.schedule(roomId, roomId % 300, fired::countDown);
+		}
+
+		assertTrue(fired.await(5, TimeUnit.SECONDS));
+		assertEquals(0, turnTimer.size());
+	}
+}
@@ -0,0 +1,188 @@
+package ssafy.E207.domain.match.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ssafy.E207.domain.match.dto.LobbyRoom;
+import ssafy.E207.domain.match.dto.response.LobbyEventResponse;
+import ssafy.E207.domain.match.dto.response.LobbyFeedResponse;
+import ssafy.E207.domain.match.repository.RoomRepository;
+import ssafy.E207.global.common.enums.LobbyEventType;
+import ssafy.E207.global.common.enums.RoomStatus;
+import ssafy.E207.global.common.enums.RoomType;
+
+/**
+ * 로비 피드 배치 테스트
+ *
+ * 여러 서버 테스트는 로컬 Redis(localhost:6379, DB 15)가 떠 있을 때만 실행 (없으면 건너뜀)
+ */
+class LobbyFeedTest {
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+	private static final Comparator<LobbyRoom> NEWEST_FIRST = Comparator.comparing(LobbyRoom::createdAt).reversed();
+
+	// DB 대신 쓰는 현재 방 목록
+	private final Map<Long, LobbyRoom> db = new ConcurrentHashMap<>();
+	private RoomRepository roomRepository;
+	private SimpMessageSendingOperations messageTemplate;
+	private LobbyFeed lobbyFeed;
+
+	@BeforeEach
+	void setUp() {
+		roomRepository = mock(RoomRepository.class);
+		when(roomRepository.findLobbyByIds(eq(RoomType.CASUAL), any())).thenAnswer(invocation -> {
+			Collection<Long> ids = invocation.getArgument(1);
+			return ids.stream().map(db::get).filter(room -> room != null).toList();
+		});
+		when(roomRepository.findLobby(eq(RoomType.CASUAL), any())).thenAnswer(invocation -> {
+			Pageable pageable = invocation.getArgument(1);
+			return db.values().stream().sorted(NEWEST_FIRST).limit(pageable.getPageSize()).toList();
+		});
+		messageTemplate = mock(SimpMessageSendingOperations.class);
+		lobbyFeed = create(messageTemplate, mock(StringRedisTemplate.class), "local", 200);
+	}
+
+	@Test
+	void 배치_사이_변경은_방마다_하나로_합쳐진다() {
+		// 생성 → 입장 → 게임 시작이 한 배치 안에서 일어남
+		for (int i = 0; i < 3; i++) {
+			db.put(1L, room(1L, 1 + Math.min(i, 1), i == 2 ? RoomStatus.PLAYING : RoomStatus.WAITING));
+			lobbyFeed.markChanged(1L);
+		}
+		lobbyFeed.flush();
+
+		LobbyFeedResponse batch = lastBatch();
+		assertEquals(1, batch.getSeq());
+		assertEquals(List.of(LobbyEventType.ROOM_CREATED),
+			batch.getEvents().stream().map(LobbyEventResponse::getType).toList());
+		assertEquals(RoomStatus.PLAYING, batch.getEvents().get(0).getRoom().getStatus());
+	}
+
+	@Test
+	void 인원_상태_변경과_삭제를_이벤트로_보낸다() {
+		db.put(1L, room(1L, 1, RoomStatus.WAITING));
+		// 비교 기준 목록을 읽음
+		lobbyFeed.flush();
+
+		db.put(1L, room(1L, 2, RoomStatus.PLAYING));
+		lobbyFeed.markChanged(1L);
+		lobbyFeed.flush();
+		assertEquals(List.of(LobbyEventType.PARTICIPANT_COUNT_CHANGED, LobbyEventType.STATUS_CHANGED),
+			lastBatch().getEvents().stream().map(LobbyEventResponse::getType).toList());
+
+		db.remove(1L);
+		lobbyFeed.markChanged(1L);
+		lobbyFeed.flush();
+		LobbyFeedResponse batch = lastBatch();
+		assertEquals(2, batch.getSeq());
+		assertEquals(LobbyEventType.ROOM_REMOVED, batch.getEvents().get(0).getType());
+	}
+
+	@Test
+	void 최신_방_목록_밖의_오래된_방은_보내지_않는다() {
+		lobbyFeed = create(messageTemplate, mock(StringRedisTemplate.class), "local", 2);
+		for (long id = 1; id <= 3; id++) {
+			db.put(id, room(id, 1, RoomStatus.WAITING));
+		}
+		lobbyFeed.flush();
+
+		db.put(1L, room(1L, 2, RoomStatus.WAITING));
+		lobbyFeed.markChanged(1L);
+		lobbyFeed.flush();
+		verify(messageTemplate, never()).convertAndSend(eq(LobbyFeed.TOPIC), any(Object.class));
+
+		// 새 방이 들어오면 가장 오래된 2번 방이 빠짐
+		db.put(4L, room(4L, 1, RoomStatus.WAITING));
+		db.put(2L, room(2L, 2, RoomStatus.WAITING));
+		lobbyFeed.markChanged(4L);
+		lobbyFeed.flush();
+		lobbyFeed.markChanged(2L);
+		lobbyFeed.flush();
+
+		LobbyFeedResponse batch = lastBatch();
+		assertEquals(1, batch.getSeq());
+		assertEquals(List.of(4L), batch.getEvents().stream().map(LobbyEventResponse::getRoomId).toList());
+	}
+
+	@Test
+	void 서버가_여러_대면_한_대만_Redis_seq로_발행한다() {
+		RedisStandaloneConfiguration config = new RedisStandaloneConfiguration("localhost", 6379);
+		config.setDatabase(15);
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(config);
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		try {
+			connectionFactory.getConnection().ping();
+		} catch (Exception e) {
+			connectionFactory.destroy();
+			Assumptions.abort("로컬 Redis 없음: " + e.getMessage());
+		}
+		StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+		List<String> keys = List.of(LobbyFeed.DIRTY_KEY, LobbyFeed.SEQ_KEY, LobbyFeed.PUBLISHER_KEY);
+		redisTemplate.delete(keys);
+		try {
+			SimpMessageSendingOperations otherTemplate = mock(SimpMessageSendingOperations.class);
+			LobbyFeed first = create(messageTemplate, redisTemplate, "redis", 200);
+			LobbyFeed second = create(otherTemplate, redisTemplate, "redis", 200);
+			first.flush();
+
+			// 두 번째 서버에서 바뀐 방도 발행 서버가 보냄
+			db.put(1L, room(1L, 1, RoomStatus.WAITING));
+			second.markChanged(1L);
+			db.put(2L, room(2L, 1, RoomStatus.WAITING));
+			first.markChanged(2L);
+			second.flush();
+			first.flush();
+
+			verify(otherTemplate, never()).convertAndSend(eq(LobbyFeed.TOPIC), any(Object.class));
+			LobbyFeedResponse batch = lastBatch();
+			assertEquals(1, batch.getSeq());
+			assertEquals(2, batch.getEvents().size());
+			assertEquals(1, second.seq());
+		} finally {
+			redisTemplate.delete(keys);
+			connectionFactory.destroy();
+		}
+	}
+
+	@Test
+	void 바뀐_게_없으면_보내지_않는다() {
+		lobbyFeed.flush();
+
+		verify(messageTemplate, never()).convertAndSend(eq(LobbyFeed.TOPIC), any(Object.class));
+	}
+
+	private LobbyFeedResponse lastBatch() {
+		ArgumentCaptor<LobbyFeedResponse> batches = ArgumentCaptor.forClass(LobbyFeedResponse.class);
+		verify(messageTemplate, atLeastOnce()).convertAndSend(eq(LobbyFeed.TOPIC), batches.capture());
+		return batches.getValue();
+	}
+
+	private LobbyFeed create(SimpMessageSendingOperations template, StringRedisTemplate redisTemplate,
+		String relayMode, int windowSize) {
+		return new LobbyFeed(roomRepository, template, redisTemplate, new SimpleMeterRegistry(), relayMode,
+			windowSize);
+	}
+
+	private static LobbyRoom room(long id, long participants, RoomStatus status) {
+		return new LobbyRoom(id, "room" + id, "host", status, false, participants, CREATED_AT.plusSeconds(id));
+	}
+}
@@ -0,0 +1,105 @@
+package ssafy.E207.domain.match.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ssafy.E207.domain.match.dto.LobbyRoom;
+import ssafy.E207.domain.match.dto.response.LobbyPageResponse;
+import ssafy.E207.domain.match.dto.response.RoomListResponse;
+import ssafy.E207.domain.match.repository.RoomRepository;
+import ssafy.E207.global.common.enums.RoomStatus;
+import ssafy.E207.global.common.enums.RoomType;
+
+/**
+ * 로비 스냅샷 / 커서 페이지 테스트 (방 25개, 스냅샷 10개)
+ */
+class LobbyServiceTest {
+	private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+	private final List<LobbyRoom> rooms = new ArrayList<>();
+	private RoomRepository roomRepository;
+	private LobbyFeed lobbyFeed;
+	private LobbyService lobbyService;
+
+	@BeforeEach
+	void setUp() {
+		// 최신순, 같은 시각이 섞여 있어도 id로 구분
+		for (long id = 25; id >= 1; id--) {
+			rooms.add(new LobbyRoom(id, "room" + id, "host" + id, RoomStatus.WAITING, false, 1,
+				BASE.plusSeconds(id / 2)));
+		}
+		roomRepository = mock(RoomRepository.class);
+		when(roomRepository.findLobby(eq(RoomType.CASUAL), any())).thenAnswer(invocation -> {
+			Pageable pageable = invocation.getArgument(1);
+			return rooms.subList(0, Math.min(pageable.getPageSize(), rooms.size()));
+		});
+		when(roomRepository.findLobbyAfter(eq(RoomType.CASUAL), any(), any(), any())).thenAnswer(invocation -> {
+			LocalDateTime createdAt = invocation.getArgument(1);
+			Long id = invocation.getArgument(2);
+			Pageable pageable = invocation.getArgument(3);
+			return rooms.stream()
+				.filter(r -> r.createdAt().isBefore(createdAt) || (r.createdAt().equals(createdAt) && r.id() < id))
+				.limit(pageable.getPageSize())
+				.toList();
+		});
+		lobbyFeed = mock(LobbyFeed.class);
+		lobbyService = new LobbyService(roomRepository, lobbyFeed, new SimpleMeterRegistry(), 60_000, 10);
+	}
+
+	@Test
+	void 피드_구독에는_스냅샷_범위만_읽기_전_seq와_함께_보낸다() {
+		when(lobbyFeed.seq()).thenReturn(3L);
+		UUID userId = UUID.randomUUID();
+
+		lobbyService.sendFeedSnapshot(userId);
+		lobbyService.getLobby(null, 9);
+
+		verify(lobbyFeed).sendSnapshot(userId, 3L, rooms.subList(0, 10));
+		verify(roomRepository, times(1)).findLobby(eq(RoomType.CASUAL), any());
+	}
+
+	@Test
+	void 여러_번_조회해도_스냅샷은_한_번만_읽는다() {
+		for (int i = 0; i < 100; i++) {
+			lobbyService.getLobby(null, 9);
+		}
+
+		verify(roomRepository, times(1)).findLobby(eq(RoomType.CASUAL), any());
+	}
+
+	@Test
+	void invalidate하면_다시_읽는다() {
+		lobbyService.getLobby(null, 9);
+		lobbyService.invalidate();
+		lobbyService.getLobby(null, 9);
+
+		verify(roomRepository, times(2)).findLobby(eq(RoomType.CASUAL), any());
+	}
+
+	@Test
+	void 커서로_끝까지_넘기면_모든_방이_순서대로_한_번씩_나온다() {
+		List<Long> ids = new ArrayList<>();
+		String cursor = null;
+		do {
+			LobbyPageResponse page = lobbyService.getLobby(cursor, 4);
+			page.getRooms().stream().map(RoomListResponse::getId).forEach(ids::add);
+			cursor = page.getNextCursor();
+			assertEquals(page.isHasNext(), cursor != null);
+		} while (cursor != null);
+
+		assertEquals(rooms.stream().map(LobbyRoom::id).toList(), ids);
+		// 스냅샷(10개) 뒤쪽은 DB 키셋 조회
+		verify(roomRepository, atLeastOnce()).findLobbyAfter(eq(RoomType.CASUAL), any(), any(), any());
+	}
+}
@@ -0,0 +1,136 @@
+package ssafy.E207.domain.match.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ssafy.E207.domain.match.dto.PendingUser;
+
+/**
+ * 단일 서버 매칭 엔진 테스트 (매처 스레드를 실제로 돌림)
+ */
+class MatchmakingEngineTest {
+	private final Queue<PendingUser[]> matched = new ConcurrentLinkedQueue<>();
+	private MatchmakingEngine engine;
+
+	@BeforeEach
+	void setUp() {
+		engine = new MatchmakingEngine((first, second) -> matched.add(new PendingUser[] {first, second}),
+			new SimpleMeterRegistry());
+		engine.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		engine.stop();
+	}
+
+	@Test
+	void 대기_중인_유저는_다시_들어올_수_없고_취소하면_다시_들어올_수_있다() throws Exception {
+		UUID userId = UUID.randomUUID();
+
+		assertTrue(engine.enqueue(pending(userId, 1000)));
+		assertFalse(engine.enqueue(pending(userId, 1000)));
+		assertEquals(1, engine.size());
+
+		assertTrue(engine.cancel(userId));
+		assertFalse(engine.cancel(userId));
+		assertTrue(engine.enqueue(pending(userId, 1000)));
+
+		// 취소 전 항목은 버려지고 다시 들어온 항목만 매칭됨
+		UUID partnerId = UUID.randomUUID();
+		engine.enqueue(pending(partnerId, 1000));
+		await(() -> matched.size() == 1);
+		assertEquals(Set.of(userId, partnerId), Set.of(matched.peek()[0].userId(), matched.peek()[1].userId()));
+		assertEquals(0, engine.size());
+	}
+
+	@Test
+	void 허용_범위_안에서_가장_가까운_상대와_매칭된다() throws Exception {
+		PendingUser low = pending(UUID.randomUUID(), 1000);
+		PendingUser far = pending(UUID.randomUUID(), 1500);
+		PendingUser near = pending(UUID.randomUUID(), 1050);
+
+		engine.enqueue(low);
+		engine.enqueue(far);
+		engine.enqueue(near);
+
+		await(() -> matched.size() == 1);
+		assertEquals(Set.of(low.userId(), near.userId()),
+			Set.of(matched.peek()[0].userId(), matched.peek()[1].userId()));
+		assertEquals(1, engine.size());
+	}
+
+	@Test
+	void 매칭과_취소가_겹치면_둘_중_하나만_성공한다() throws Exception {
+		int rounds = 300;
+		UUID[] cancelledIds = new UUID[rounds];
+		boolean[] cancelled = new boolean[rounds];
+		for (int i = 0; i < rounds; i++) {
+			// 라운드끼리 섞이지 않게 레이팅을 멀리 떨어뜨림
+			int rating = i * 10_000;
+			UUID waitingId = UUID.randomUUID();
+			engine.enqueue(pending(waitingId, rating));
+			cancelledIds[i] = waitingId;
+
+			CountDownLatch start = new CountDownLatch(1);
+			int round = i;
+			Thread canceller = Thread.ofPlatform().start(() -> {
+				awaitQuietly(start);
+				cancelled[round] = engine.cancel(waitingId);
+			});
+			start.countDown();
+			engine.enqueue(pending(UUID.randomUUID(), rating));
+			canceller.join();
+		}
+
+		int cancelledCount = 0;
+		for (boolean c : cancelled) {
+			cancelledCount += c ? 1 : 0;
+		}
+		int expectedMatches = rounds - cancelledCount;
+		// 취소된 라운드는 상대만 대기열에 남음
+		await(() -> matched.size() == expectedMatches && engine.size() == rounds - expectedMatches);
+
+		Set<UUID> matchedIds = new HashSet<>();
+		for (PendingUser[] pair : matched) {
+			assertTrue(matchedIds.add(pair[0].userId()));
+			assertTrue(matchedIds.add(pair[1].userId()));
+		}
+		for (int i = 0; i < rounds; i++) {
+			assertNotEquals(cancelled[i], matchedIds.contains(cancelledIds[i]));
+		}
+	}
+
+	private static PendingUser pending(UUID userId, int rating) {
+		return new PendingUser(userId, false, rating, System.nanoTime(), LocalMatchmakingQueue.NODE_ID);
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertTrue(System.nanoTime() < deadline, "조건을 만족하지 못함");
+			Thread.sleep(10);
+		}
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
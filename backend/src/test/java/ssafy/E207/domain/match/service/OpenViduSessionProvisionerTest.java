@@ -0,0 +1,171 @@
+package ssafy.E207.domain.match.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.openvidu.java.client.OpenVidu;
+import ssafy.E207.domain.user.dto.UserSummary;
+
+/**
+ * 세션 풀 테스트 (OpenVidu REST API를 흉내 내는 로컬 HTTP 서버 사용)
+ */
+class OpenViduSessionProvisionerTest {
+	private HttpServer server;
+	private OpenVidu openVidu;
+	private SimpleMeterRegistry meterRegistry;
+	private OpenViduSessionProvisioner provisioner;
+
+	private final AtomicInteger createdSessions = new AtomicInteger();
+	private final AtomicInteger createdConnections = new AtomicInteger();
+	// OpenVidu 쪽에서 이미 정리된 세션
+	private final Set<String> destroyedSessions = ConcurrentHashMap.newKeySet();
+
+	private final List<UserSummary> users = List.of(
+		summary("player1"),
+		summary("player2"));
+
+	@BeforeEach
+	void startStubServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/openvidu/api/sessions", this::handle);
+		server.start();
+		openVidu = new OpenVidu("http://localhost:" + server.getAddress().getPort(), "secret");
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void stopStubServer() {
+		if (provisioner != null) {
+			provisioner.shutdown();
+		}
+		server.stop(0);
+	}
+
+	@Test
+	void 풀에_세션이_있으면_세션_생성_없이_토큰만_발급한다() throws Exception {
+		provisioner = new OpenViduSessionProvisioner(openVidu, meterRegistry, 2, 600);
+		provisioner.init();
+		awaitPoolSize(2);
+		int sessionsBefore = createdSessions.get();
+
+		OpenViduSessionProvisioner.Provisioned provisioned = provisioner.provision(users);
+
+		assertEquals(2, provisioned.tokens().size());
+		assertNotEquals(provisioned.tokens().get(0), provisioned.tokens().get(1));
+		assertEquals(1.0, meterRegistry.get("openvidu.session_pool.acquire").tag("result", "hit").counter().count());
+		// 꺼낸 만큼 백그라운드에서 다시 채움
+		awaitPoolSize(2);
+		assertEquals(sessionsBefore + 1, createdSessions.get());
+	}
+
+	@Test
+	void 풀이_비어_있으면_바로_세션을_만든다() throws Exception {
+		provisioner = new OpenViduSessionProvisioner(openVidu, meterRegistry, 0, 600);
+		provisioner.init();
+
+		OpenViduSessionProvisioner.Provisioned provisioned = provisioner.provision(users);
+
+		assertNotNull(provisioned.session().getSessionId());
+		assertEquals(2, createdConnections.get());
+		assertEquals(1.0, meterRegistry.get("openvidu.session_pool.acquire").tag("result", "miss").counter().count());
+		assertEquals(1, meterRegistry.get("openvidu.provisioning").timer().count());
+	}
+
+	@Test
+	void 풀의_세션이_OpenVidu에서_정리됐으면_새로_만들어_재시도한다() throws Exception {
+		provisioner = new OpenViduSessionProvisioner(openVidu, meterRegistry, 1, 600);
+		provisioner.init();
+		awaitPoolSize(1);
+		destroyedSessions.add("ses_1");
+
+		OpenViduSessionProvisioner.Provisioned provisioned = provisioner.provision(users);
+
+		assertNotEquals("ses_1", provisioned.session().getSessionId());
+		assertEquals(2, provisioned.tokens().size());
+	}
+
+	private void awaitPoolSize(int expected) throws InterruptedException {
+		for (int i = 0; i < 100 && provisioner.poolSize() < expected; i++) {
+			Thread.sleep(20);
+		}
+		assertEquals(expected, provisioner.poolSize());
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		String path = exchange.getRequestURI().getPath();
+		String method = exchange.getRequestMethod();
+		exchange.getRequestBody().readAllBytes();
+
+		if ("POST".equals(method) && path.equals("/openvidu/api/sessions")) {
+			String sessionId = "ses_" + createdSessions.incrementAndGet();
+			respond(exchange, 200, sessionJson(sessionId));
+			return;
+		}
+		if ("POST".equals(method) && path.endsWith("/connection")) {
+			String sessionId = path.split("/")[4];
+			if (destroyedSessions.contains(sessionId)) {
+				respond(exchange, 404, "");
+				return;
+			}
+			respond(exchange, 200, connectionJson(sessionId, "con_" + createdConnections.incrementAndGet()));
+			return;
+		}
+		if ("DELETE".equals(method)) {
+			respond(exchange, 204, "");
+			return;
+		}
+		respond(exchange, 404, "");
+	}
+
+	private void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+		if (bytes.length > 0) {
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(bytes);
+			}
+		}
+		exchange.close();
+	}
+
+	private String sessionJson(String sessionId) {
+		return """
+			{"id":"%s","object":"session","createdAt":%d,"mediaMode":"ROUTED","recordingMode":"MANUAL",
+			"defaultRecordingProperties":{"name":"","hasAudio":true,"hasVideo":true,"outputMode":"COMPOSED",
+			"recordingLayout":"BEST_FIT","resolution":"1280x720","frameRate":25,"shmSize":536870912},
+			"customSessionId":"","connections":{"numberOfElements":0,"content":[]},"recording":false,
+			"broadcasting":false,"forcedVideoCodec":"VP8","forcedVideoCodecResolved":"VP8","allowTranscoding":false}
+			""".formatted(sessionId, System.currentTimeMillis());
+	}
+
+	private String connectionJson(String sessionId, String connectionId) {
+		return """
+			{"id":"%s","connectionId":"%s","object":"connection","type":"WEBRTC","status":"pending",
+			"sessionId":"%s","createdAt":%d,"token":"wss://localhost?sessionId=%s&token=tok_%s",
+			"activeAt":null,"location":null,"ip":null,"platform":null,"clientData":null,
+			"serverData":"","record":true,"role":"PUBLISHER","publishers":[],"subscribers":[]}
+			""".formatted(connectionId, connectionId, sessionId, System.currentTimeMillis(), sessionId, connectionId);
+	}
+
+	private static UserSummary summary(String nickname) {
+		return new UserSummary(UUID.randomUUID(), nickname, null, null, false, 1000, 0, 0, 0, 0, 0, 0);
+	}
+}
@@ -0,0 +1,192 @@
+package ssafy.E207.domain.match.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ssafy.E207.domain.match.entity.Room;
+import ssafy.E207.domain.match.game.RoomMailboxDispatcher;
+import ssafy.E207.domain.match.repository.RoomRepository;
+
+/**
+ * 웹훅 파이프라인 테스트 (처리 스레드 없이 processPending 직접 호출)
+ */
+class OpenViduWebhookPipelineTest {
+	private RoomService roomService;
+	private RoomReconnectService roomReconnectService;
+	private RoomRepository roomRepository;
+	private OpenViduSessionProvisioner sessionProvisioner;
+	private SimpleMeterRegistry meterRegistry;
+	private RoomMailboxDispatcher dispatcher;
+	private OpenViduWebhookPipeline pipeline;
+
+	@BeforeEach
+	void setUp() {
+		roomService = mock(RoomService.class);
+		roomReconnectService = mock(RoomReconnectService.class);
+		roomRepository = mock(RoomRepository.class);
+		sessionProvisioner = mock(OpenViduSessionProvisioner.class);
+		meterRegistry = new SimpleMeterRegistry();
+		dispatcher = new RoomMailboxDispatcher(meterRegistry);
+		pipeline = new OpenViduWebhookPipeline(roomService, roomReconnectService, dispatcher, roomRepository,
+			sessionProvisioner, new ObjectMapper(), meterRegistry, 3, 100);
+	}
+
+	@AfterEach
+	void tearDown() {
+		dispatcher.shutdown();
+	}
+
+	@Test
+	void 같은_세션_종료가_여러_번_와도_한_번만_처리한다() throws Exception {
+		rooms(Map.of("s1", 1L));
+		pipeline.accept(destroyed("s1"));
+		pipeline.accept(destroyed("s1"));
+		pipeline.accept(destroyed("s1"));
+
+		assertEquals(1, pipeline.processPending(0, TimeUnit.SECONDS));
+		assertEquals(2, count("duplicate"));
+		verify(roomService, times(1)).destroyRoom(1L);
+	}
+
+	@Test
+	void 세션_종료는_방을_한_번에_조회해서_방마다_삭제한다() throws Exception {
+		rooms(Map.of("s1", 1L, "s2", 2L));
+		pipeline.accept(destroyed("s1"));
+		pipeline.accept(destroyed("s2"));
+		pipeline.accept(left("s2", UUID.randomUUID()));
+
+		pipeline.processPending(0, TimeUnit.SECONDS);
+
+		verify(roomRepository, times(1)).findAllBySessionIdIn(any());
+		verify(roomService).destroyRoom(1L);
+		verify(roomService).destroyRoom(2L);
+		// 지워질 방의 퇴장 이벤트는 건너뜀
+		verify(roomReconnectService, never()).handleDisconnect(any(), any());
+	}
+
+	@Test
+	void 방_삭제는_방_메일박스에서_앞선_이벤트가_끝난_뒤에_실행한다() throws Exception {
+		rooms(Map.of("s1", 1L));
+		CountDownLatch release = new CountDownLatch(1);
+		dispatcher.submit(1L, () -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		pipeline.accept(destroyed("s1"));
+
+		Thread worker = Thread.ofVirtual().start(() -> {
+			try {
+				pipeline.processPending(0, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		Thread.sleep(100);
+		verify(roomService, never()).destroyRoom(any());
+
+		release.countDown();
+		worker.join(TimeUnit.SECONDS.toMillis(2));
+		verify(roomService).destroyRoom(1L);
+	}
+
+	@Test
+	void 참가자_퇴장은_방을_한_번에_조회해서_연결_끊김으로_넘긴다() throws Exception {
+		UUID alice = UUID.randomUUID();
+		UUID bob = UUID.randomUUID();
+		when(roomRepository.findAllBySessionIdIn(any()))
+			.thenReturn(List.of(Room.builder().id(7L).sessionId("s1").build()));
+
+		pipeline.accept(left("s1", alice));
+		pipeline.accept(left("s1", bob));
+		pipeline.processPending(0, TimeUnit.SECONDS);
+
+		verify(roomRepository, times(1)).findAllBySessionIdIn(any());
+		verify(roomReconnectService).handleDisconnect(7L, alice);
+		verify(roomReconnectService).handleDisconnect(7L, bob);
+		verify(roomService, never()).handleUserExit(any(), any());
+	}
+
+	@Test
+	void 풀_세션의_종료는_방을_지우지_않는다() throws Exception {
+		when(sessionProvisioner.evict("pooled")).thenReturn(true);
+
+		pipeline.accept(destroyed("pooled"));
+		pipeline.processPending(0, TimeUnit.SECONDS);
+
+		verify(roomService, never()).destroyRoom(any());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void 버퍼가_가득_차면_버리고_관계없는_이벤트는_무시한다() {
+		JSONObject joined = new JSONObject();
+		joined.put("event", "participantJoined");
+		joined.put("sessionId", "s0");
+		pipeline.accept(joined);
+		for (int i = 0; i < 5; i++) {
+			pipeline.accept(destroyed("s" + i));
+		}
+
+		assertEquals(1, count("ignored"));
+		assertEquals(3, count("accepted"));
+		assertEquals(2, count("dropped"));
+	}
+
+	@Test
+	void 방_삭제가_실패해도_다음_방은_삭제하고_실패를_센다() throws Exception {
+		rooms(Map.of("s1", 1L, "s2", 2L));
+		when(roomService.destroyRoom(1L)).thenThrow(new IllegalStateException("boom"));
+
+		pipeline.accept(destroyed("s1"));
+		pipeline.accept(destroyed("s2"));
+		pipeline.processPending(0, TimeUnit.SECONDS);
+
+		verify(roomService).destroyRoom(2L);
+		assertEquals(1, meterRegistry.get("openvidu.webhook.failures").counter().count());
+	}
+
+	private void rooms(Map<String, Long> roomIds) {
+		when(roomRepository.findAllBySessionIdIn(any())).thenReturn(roomIds.entrySet().stream()
+			.map(entry -> Room.builder().id(entry.getValue()).sessionId(entry.getKey()).build())
+			.toList());
+	}
+
+	private double count(String result) {
+		return meterRegistry.get("openvidu.webhook.events").tag("result", result).counter().count();
+	}
+
+	@SuppressWarnings("unchecked")
+	private JSONObject destroyed(String sessionId) {
+		JSONObject json = new JSONObject();
+		json.put("event", OpenViduWebhookPipeline.SESSION_DESTROYED);
+		json.put("sessionId", sessionId);
+		return json;
+	}
+
+	@SuppressWarnings("unchecked")
+	private JSONObject left(String sessionId, UUID userId) {
+		JSONObject json = new JSONObject();
+		json.put("event", OpenViduWebhookPipeline.PARTICIPANT_LEFT);
+		json.put("sessionId", sessionId);
+		json.put("serverData", "{\"userId\":\"" + userId + "\",\"nickname\":\"player\"}");
+		return json;
+	}
+}
@@ -0,0 +1,126 @@
+package ssafy.E207.domain.match.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import ssafy.E207.domain.match.dto.PendingUser;
+
+/**
+ * 레이팅 대기 풀 테스트 (시각은 now 로 직접 넘김)
+ */
+class RatingMatchPoolTest {
+	// 진입 시각 기준 (System.nanoTime 값과 무관한 임의의 시각)
+	private static final long START = 1_000_000_000L;
+
+	private final RatingMatchPool pool = new RatingMatchPool();
+
+	@Test
+	void 허용_범위는_100에서_5초마다_50씩_넓어지고_1000에서_멈춘다() {
+		PendingUser user = pending(1000, START);
+
+		assertEquals(100, RatingMatchPool.window(user, START));
+		assertEquals(100, RatingMatchPool.window(user, after(4_999)));
+		assertEquals(150, RatingMatchPool.window(user, after(5_000)));
+		assertEquals(400, RatingMatchPool.window(user, after(30_000)));
+		// 100 + 18 * 50 = 1000
+		assertEquals(1000, RatingMatchPool.window(user, after(90_000)));
+		assertEquals(1000, RatingMatchPool.window(user, after(600_000)));
+	}
+
+	@Test
+	void 도착한_유저는_기본_범위_안의_상대와만_매칭된다() {
+		PendingUser waiting = pending(1000, START);
+		pool.add(waiting);
+
+		assertNull(pool.pollPartner(pending(1101, START), START, u -> true));
+		assertSame(waiting, pool.pollPartner(pending(1100, START), START, u -> true));
+		assertEquals(0, pool.size());
+	}
+
+	@Test
+	void 오래_기다린_쪽의_넓어진_범위로도_매칭된다() {
+		PendingUser waiting = pending(1000, START);
+		PendingUser newcomer = pending(1400, after(30_000));
+
+		assertFalse(RatingMatchPool.acceptable(waiting, newcomer, after(29_000)));
+		// 기다린 쪽 범위 29초 ±350 → 30초 ±400
+		assertTrue(RatingMatchPool.acceptable(waiting, newcomer, after(30_000)));
+	}
+
+	@Test
+	void 가장_가까운_레이팅의_상대를_먼저_꺼낸다() {
+		PendingUser far = pending(960, START);
+		PendingUser near = pending(1030, START);
+		PendingUser nearest = pending(990, START);
+		pool.add(far);
+		pool.add(near);
+		pool.add(nearest);
+
+		PendingUser newcomer = pending(1000, START);
+		assertSame(nearest, pool.pollPartner(newcomer, START, u -> true));
+		assertSame(near, pool.pollPartner(newcomer, START, u -> true));
+		assertSame(far, pool.pollPartner(newcomer, START, u -> true));
+		assertNull(pool.pollPartner(newcomer, START, u -> true));
+	}
+
+	@Test
+	void 취소된_유저는_건너뛰고_다음으로_가까운_상대를_꺼낸다() {
+		PendingUser cancelled = pending(1000, START);
+		PendingUser live = pending(1050, START);
+		pool.add(cancelled);
+		pool.add(live);
+
+		assertSame(live, pool.pollPartner(pending(1000, START), START, u -> u != cancelled));
+		assertEquals(0, pool.size());
+	}
+
+	@Test
+	void 스윕은_넓어진_범위로_레이팅이_인접한_유저끼리_짝을_맞춘다() {
+		PendingUser a = pending(1000, START);
+		PendingUser b = pending(1300, START);
+		PendingUser c = pending(2500, START);
+		PendingUser d = pending(3000, START);
+		pool.add(a);
+		pool.add(b);
+		pool.add(c);
+		pool.add(d);
+
+		// 기본 범위로는 아무도 짝이 안 됨
+		assertTrue(pool.sweep(START, u -> true).isEmpty());
+
+		// 30초 뒤 ±400 → 1000/1300 만 짝, 2500/3000 은 500 차이라 남음
+		List<PendingUser[]> pairs = pool.sweep(after(30_000), u -> true);
+		assertEquals(1, pairs.size());
+		assertEquals(Set.of(a, b), Set.of(pairs.get(0)));
+		assertEquals(2, pool.size());
+
+		// 최대 범위에 닿으면 남은 둘도 짝
+		pairs = pool.sweep(after(600_000), u -> true);
+		assertEquals(Set.of(c, d), Set.of(pairs.get(0)));
+		assertEquals(0, pool.size());
+	}
+
+	@Test
+	void 스윕은_취소된_유저를_풀에서_정리한다() {
+		PendingUser cancelled = pending(1000, START);
+		pool.add(cancelled);
+		pool.add(pending(5000, START));
+
+		assertTrue(pool.sweep(START, u -> u != cancelled).isEmpty());
+		assertEquals(1, pool.size());
+	}
+
+	private static long after(long millis) {
+		return START + TimeUnit.MILLISECONDS.toNanos(millis);
+	}
+
+	private static PendingUser pending(int rating, long enqueuedAt) {
+		return new PendingUser(UUID.randomUUID(), false, rating, enqueuedAt, LocalMatchmakingQueue.NODE_ID);
+	}
+}
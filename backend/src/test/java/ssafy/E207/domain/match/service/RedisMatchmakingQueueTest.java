@@ -0,0 +1,212 @@
+package ssafy.E207.domain.match.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ssafy.E207.domain.match.dto.PendingUser;
+
+/**
+ * Redis 매칭 대기열 테스트
+ *
+ * 로컬 Redis(localhost:6379, DB 15)가 떠 있을 때만 실행 (없으면 건너뜀)
+ * 예: docker run -p 6379:6379 redis:7
+ */
+class RedisMatchmakingQueueTest {
+	private static final List<String> KEYS = List.of(RedisMatchmakingQueue.POOL_KEY, RedisMatchmakingQueue.USERS_KEY,
+		RedisMatchmakingQueue.SWEEP_CURSOR_KEY, RedisMatchmakingQueue.SWEEPER_KEY);
+
+	private LettuceConnectionFactory connectionFactory;
+	private RedisMessageListenerContainer listenerContainer;
+	private StringRedisTemplate redisTemplate;
+
+	private final Queue<PendingUser[]> matched = new ConcurrentLinkedQueue<>();
+	private SimpMessageSendingOperations messagingA;
+	private SimpMessageSendingOperations messagingB;
+	private RedisMatchmakingQueue nodeA;
+	private RedisMatchmakingQueue nodeB;
+
+	@BeforeEach
+	void setUp() {
+		RedisStandaloneConfiguration config = new RedisStandaloneConfiguration("localhost", 6379);
+		config.setDatabase(15);
+		connectionFactory = new LettuceConnectionFactory(config);
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+		try {
+			connectionFactory.getConnection().ping();
+		} catch (Exception e) {
+			connectionFactory.destroy();
+			Assumptions.abort("로컬 Redis 없음: " + e.getMessage());
+		}
+
+		redisTemplate = new StringRedisTemplate(connectionFactory);
+		redisTemplate.delete(KEYS);
+
+		listenerContainer = new RedisMessageListenerContainer();
+		listenerContainer.setConnectionFactory(connectionFactory);
+		listenerContainer.afterPropertiesSet();
+		listenerContainer.start();
+		// 백그라운드 스윕이 끼어들지 않도록 임대를 테스트가 잡아 둠 (스윕은 테스트에서 직접 호출)
+		redisTemplate.opsForValue().set(RedisMatchmakingQueue.SWEEPER_KEY, "test");
+
+		messagingA = mock(SimpMessageSendingOperations.class);
+		messagingB = mock(SimpMessageSendingOperations.class);
+		nodeA = createNode("node-a", messagingA, 4);
+		nodeB = createNode("node-b", messagingB, 1000);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		// 로컬 Redis가 없어 건너뛴 경우
+		if (redisTemplate == null) {
+			return;
+		}
+		nodeA.stop();
+		nodeB.stop();
+		redisTemplate.delete(KEYS);
+		listenerContainer.destroy();
+		connectionFactory.destroy();
+	}
+
+	private RedisMatchmakingQueue createNode(String nodeId, SimpMessageSendingOperations messaging, int scanSize) {
+		RedisMatchmakingQueue queue = new RedisMatchmakingQueue(redisTemplate, listenerContainer, messaging,
+			mock(SimpUserRegistry.class), new ObjectMapper(), new SimpleMeterRegistry(), nodeId, scanSize);
+		queue.start((first, second) -> matched.add(new PendingUser[] {first, second}));
+		return queue;
+	}
+
+	@Test
+	void 두_서버에서_동시에_진입해도_한_유저는_한_번만_매칭된다() throws InterruptedException {
+		int userCount = 200;
+		CountDownLatch latch = new CountDownLatch(userCount);
+		for (int i = 0; i < userCount; i++) {
+			RedisMatchmakingQueue node = i % 2 == 0 ? nodeA : nodeB;
+			Thread.ofVirtual().start(() -> {
+				node.enqueue(UUID.randomUUID(), false, 1000);
+				latch.countDown();
+			});
+		}
+		latch.await(10, TimeUnit.SECONDS);
+
+		Set<UUID> seen = new HashSet<>();
+		for (PendingUser[] pair : matched) {
+			assertTrue(seen.add(pair[0].userId()));
+			assertTrue(seen.add(pair[1].userId()));
+		}
+		assertEquals(userCount / 2, matched.size());
+		assertEquals(0, nodeA.size());
+	}
+
+	@Test
+	void 오래_기다린_유저는_넓어진_범위로_매칭되고_알림은_원래_서버로_간다() throws InterruptedException {
+		UUID userA = UUID.randomUUID();
+		UUID userB = UUID.randomUUID();
+		assertTrue(nodeA.enqueue(userA, false, 1000));
+		assertTrue(nodeB.enqueue(userB, true, 1250));
+		assertFalse(nodeB.enqueue(userB, true, 1250));
+		assertEquals(2, nodeA.size());
+
+		// userB가 30초 기다린 것으로 조작 → 범위 ±100 + 6 * 50 = ±400
+		waitedFor(userB, 30);
+		nodeA.sweep();
+
+		assertEquals(1, matched.size());
+		PendingUser[] pair = matched.peek();
+		PendingUser fromB = pair[0].userId().equals(userB) ? pair[0] : pair[1];
+		assertEquals("node-b", fromB.nodeId());
+		assertTrue(fromB.isElectron());
+
+		// node-a가 만든 결과를 node-b에 붙은 userB에게 전달
+		nodeA.deliver(fromB, Map.of("message", "매칭이 완료되었습니다."));
+		verify(messagingB, timeout(3000)).convertAndSendToUser(eq(userB.toString()), eq("/queue/match"), any());
+		verify(messagingA, never()).convertAndSendToUser(eq(userB.toString()), anyString(), any());
+	}
+
+	@Test
+	void 스윕은_정해진_수만큼만_읽고_다음_스윕에서_이어간다() {
+		List<UUID> users = new ArrayList<>();
+		for (int rating : new int[] {0, 1000, 2000, 3000, 3300}) {
+			UUID userId = UUID.randomUUID();
+			users.add(userId);
+			assertTrue(nodeB.enqueue(userId, false, rating));
+		}
+		waitedFor(users.get(4), 30);
+
+		// node-a 는 4명씩 읽음 → 0~3위만 비교, 짝이 없던 3000 부터 다음 구간
+		nodeA.sweep();
+		assertTrue(matched.isEmpty());
+		assertEquals("3", redisTemplate.opsForValue().get(RedisMatchmakingQueue.SWEEP_CURSOR_KEY));
+
+		nodeA.sweep();
+		assertEquals(1, matched.size());
+		Set<UUID> pair = Set.of(matched.peek()[0].userId(), matched.peek()[1].userId());
+		assertEquals(Set.of(users.get(3), users.get(4)), pair);
+		// 끝까지 읽었으면 처음부터
+		assertEquals("0", redisTemplate.opsForValue().get(RedisMatchmakingQueue.SWEEP_CURSOR_KEY));
+		assertEquals(3, nodeA.size());
+	}
+
+	@Test
+	void 스윕은_임대를_가진_서버_한_대만_실행한다() {
+		redisTemplate.delete(RedisMatchmakingQueue.SWEEPER_KEY);
+
+		boolean first = nodeA.sweepIfLeader();
+		boolean second = nodeB.sweepIfLeader();
+
+		assertNotEquals(first, second);
+		assertEquals(first, nodeA.sweepIfLeader());
+		// 임대를 가진 서버가 내려가면 다른 서버가 이어받음
+		(first ? nodeA : nodeB).stop();
+		assertTrue((first ? nodeB : nodeA).sweepIfLeader());
+	}
+
+	@Test
+	void 취소한_유저는_매칭되지_않는다() {
+		UUID userA = UUID.randomUUID();
+		nodeA.enqueue(userA, false, 1000);
+		assertTrue(nodeB.cancel(userA));
+		assertFalse(nodeB.cancel(userA));
+
+		nodeB.enqueue(UUID.randomUUID(), false, 1000);
+		assertTrue(matched.isEmpty());
+		assertEquals(1, nodeA.size());
+	}
+
+	// 대기열 멤버의 진입 시각을 seconds 초 전으로 바꿈
+	private void waitedFor(UUID userId, int seconds) {
+		String member = (String)redisTemplate.opsForHash().get(RedisMatchmakingQueue.USERS_KEY, userId.toString());
+		String[] fields = member.split("\\|");
+		fields[2] = String.valueOf(System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(seconds));
+		String waited = String.join("|", fields);
+		Double rating = redisTemplate.opsForZSet().score(RedisMatchmakingQueue.POOL_KEY, member);
+		redisTemplate.opsForZSet().remove(RedisMatchmakingQueue.POOL_KEY, member);
+		redisTemplate.opsForZSet().add(RedisMatchmakingQueue.POOL_KEY, waited, rating);
+		redisTemplate.opsForHash().put(RedisMatchmakingQueue.USERS_KEY, userId.toString(), waited);
+	}
+}
@@ -0,0 +1,149 @@
+package ssafy.E207.domain.match.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 방 코드 발급 테스트 (H2 MySQL 모드, room_code_block 만 직접 생성)
+ */
+class RoomCodeAllocatorTest {
+	private DriverManagerDataSource dataSource;
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:room-code-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE room_code_block (id BIGINT PRIMARY KEY, next_block BIGINT NOT NULL)");
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute("SHUTDOWN");
+	}
+
+	@Test
+	void 순열은_전체_코드_공간에서_겹치지_않는다() {
+		BitSet seen = new BitSet((int)RoomCodeAllocator.CODE_SPACE);
+		for (long counter = 0; counter < RoomCodeAllocator.CODE_SPACE; counter++) {
+			int value = RoomCodeAllocator.permute(counter, 42L);
+			assertFalse(seen.get(value));
+			seen.set(value);
+		}
+		assertEquals(RoomCodeAllocator.CODE_SPACE, seen.cardinality());
+	}
+
+	@Test
+	void 코드는_6자리_대문자_16진수다() {
+		for (long counter = 0; counter < 1000; counter++) {
+			String code = RoomCodeAllocator.encode(counter, 42L);
+			assertTrue(code.matches("[0-9A-F]{6}"), code);
+			assertEquals(RoomCodeAllocator.permute(counter, 42L), Integer.parseInt(code, 16));
+		}
+	}
+
+	@Test
+	void 여러_서버의_여러_스레드가_동시에_발급해도_겹치지_않는다() throws Exception {
+		int nodes = 4;
+		int threadsPerNode = 4;
+		int perThread = 2_000;
+		List<RoomCodeAllocator> allocators = new ArrayList<>();
+		for (int i = 0; i < nodes; i++) {
+			allocators.add(allocator(50, 0));
+		}
+
+		Set<String> codes = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(nodes * threadsPerNode);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < nodes * threadsPerNode; i++) {
+			RoomCodeAllocator allocator = allocators.get(i % nodes);
+			futures.add(executor.submit(() -> {
+				start.await();
+				for (int j = 0; j < perThread; j++) {
+					assertTrue(codes.add(allocator.allocate()));
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		assertEquals(nodes * threadsPerNode * perThread, codes.size());
+		// 블록 단위로만 DB를 거침
+		long reserved = jdbcTemplate.queryForObject("SELECT next_block FROM room_code_block", Long.class);
+		assertTrue(reserved <= nodes * threadsPerNode * perThread / 50 + nodes);
+	}
+
+	@Test
+	void 반납된_코드는_대기_시간이_지나면_먼저_재사용된다() {
+		RoomCodeAllocator allocator = allocator(100, 0);
+		String first = allocator.allocate();
+		allocator.allocate();
+
+		allocator.release(first);
+
+		assertEquals(first, allocator.allocate());
+		assertNotEquals(first, allocator.allocate());
+	}
+
+	@Test
+	void 대기_시간이_지나지_않은_코드는_재사용하지_않는다() {
+		RoomCodeAllocator allocator = allocator(100, 600);
+		String first = allocator.allocate();
+
+		allocator.release(first);
+
+		assertNotEquals(first, allocator.allocate());
+	}
+
+	@Test
+	void 카운터가_한_바퀴_돌면_반납_목록을_비운다() {
+		// 16776 번 블록 [16,776,000, 16,777,000) 다음 블록이 코드 공간(16,777,216)을 넘어감
+		jdbcTemplate.update("INSERT INTO room_code_block (id, next_block) VALUES (1, 16776)");
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		RoomCodeAllocator allocator = allocator(1000, 600, meterRegistry);
+		allocator.release(allocator.allocate());
+		assertEquals(1, meterRegistry.get("room.code.recycled").gauge().value());
+
+		for (int i = 0; i < 999; i++) {
+			allocator.allocate();
+		}
+		assertEquals(1, meterRegistry.get("room.code.recycled").gauge().value());
+
+		allocator.allocate();
+		assertEquals(0, meterRegistry.get("room.code.recycled").gauge().value());
+	}
+
+	private RoomCodeAllocator allocator(int blockSize, long recycleDelaySeconds) {
+		return allocator(blockSize, recycleDelaySeconds, new SimpleMeterRegistry());
+	}
+
+	private RoomCodeAllocator allocator(int blockSize, long recycleDelaySeconds, SimpleMeterRegistry meterRegistry) {
+		return new RoomCodeAllocator(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+			meterRegistry, "test", blockSize, recycleDelaySeconds, 10_000);
+	}
+}
@@ -0,0 +1,119 @@
+package ssafy.E207.domain.match.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.openvidu.java.client.OpenVidu;
+import io.openvidu.java.client.Session;
+import ssafy.E207.domain.match.dto.ReapCandidate;
+import ssafy.E207.domain.match.dto.StaleParticipant;
+import ssafy.E207.domain.match.game.RoomMailboxDispatcher;
+import ssafy.E207.domain.match.repository.RoomParticipantRepository;
+import ssafy.E207.domain.match.repository.RoomRepository;
+import ssafy.E207.global.common.enums.RoomStatus;
+
+/**
+ * 방 정리 테스트 (리포지토리 / OpenVidu mock, 청크 2개씩)
+ */
+class RoomReaperTest {
+	private static final LocalDateTime OLD = LocalDateTime.now().minusDays(1);
+
+	private final List<ReapCandidate> rooms = new ArrayList<>();
+	private RoomRepository roomRepository;
+	private RoomParticipantRepository roomParticipantRepository;
+	private RoomService roomService;
+	private OpenVidu openVidu;
+	private SimpleMeterRegistry meterRegistry;
+	private RoomMailboxDispatcher dispatcher;
+	private RoomReaper reaper;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		roomRepository = mock(RoomRepository.class);
+		roomParticipantRepository = mock(RoomParticipantRepository.class);
+		roomService = mock(RoomService.class);
+		openVidu = mock(OpenVidu.class);
+		meterRegistry = new SimpleMeterRegistry();
+
+		when(roomRepository.findReapCandidates(any(), any(), any())).thenAnswer(invocation -> {
+			Long afterId = invocation.getArgument(0);
+			Pageable pageable = invocation.getArgument(2);
+			return rooms.stream().filter(r -> r.id() > afterId).limit(pageable.getPageSize()).toList();
+		});
+		when(roomParticipantRepository.findStale(any(), any(), any())).thenReturn(List.of());
+		when(roomService.destroyRoom(any())).thenReturn(true);
+		Session live = mock(Session.class);
+		when(live.getSessionId()).thenReturn("live");
+		when(openVidu.getActiveSessions()).thenReturn(List.of(live));
+
+		dispatcher = new RoomMailboxDispatcher(meterRegistry);
+		reaper = new RoomReaper(roomRepository, roomParticipantRepository, roomService, dispatcher, openVidu,
+			meterRegistry, true, 2, 1_000_000, 600, 300, 600);
+	}
+
+	@AfterEach
+	void tearDown() {
+		dispatcher.shutdown();
+	}
+
+	@Test
+	void 종료된_방과_세션이_사라진_방만_청크마다_삭제한다() throws Exception {
+		rooms.add(new ReapCandidate(1L, "live", RoomStatus.PLAYING, OLD));
+		rooms.add(new ReapCandidate(2L, "gone", RoomStatus.WAITING, OLD));
+		rooms.add(new ReapCandidate(3L, "live", RoomStatus.TERMINATED, OLD));
+		rooms.add(new ReapCandidate(4L, "live", RoomStatus.TERMINATED, LocalDateTime.now()));
+		rooms.add(new ReapCandidate(5L, "live", RoomStatus.WAITING, OLD));
+
+		reaper.reap();
+
+		verify(roomService).destroyRoom(2L);
+		verify(roomService).destroyRoom(3L);
+		verify(roomService, times(2)).destroyRoom(any());
+		assertEquals(2, meterRegistry.get("room.reaper.reclaimed").tag("type", "room").counter().count());
+		assertEquals(5, meterRegistry.get("room.reaper.scanned").counter().count());
+		assertEquals(5, meterRegistry.get("room.reaper.progress").gauge().value());
+	}
+
+	@Test
+	void 세션_목록을_못_받으면_종료된_방만_삭제한다() throws Exception {
+		when(openVidu.fetch()).thenThrow(new IllegalStateException("openvidu down"));
+		rooms.add(new ReapCandidate(1L, "gone", RoomStatus.WAITING, OLD));
+		rooms.add(new ReapCandidate(2L, "gone", RoomStatus.TERMINATED, OLD));
+
+		reaper.reap();
+
+		verify(roomService, times(1)).destroyRoom(any());
+		verify(roomService).destroyRoom(2L);
+	}
+
+	@Test
+	void 끊긴_지_오래된_참가자를_방별로_삭제한다() throws Exception {
+		List<StaleParticipant> first = List.of(new StaleParticipant(10L, 1L), new StaleParticipant(11L, 2L));
+		List<StaleParticipant> second = List.of(new StaleParticipant(12L, 2L));
+		when(roomParticipantRepository.findStale(eq(0L), any(), any())).thenReturn(first);
+		when(roomParticipantRepository.findStale(eq(11L), any(), any())).thenReturn(second);
+		when(roomService.removeStaleParticipants(eq(1L), any())).thenReturn(true);
+		when(roomService.removeStaleParticipants(eq(2L), any())).thenThrow(new IllegalStateException("boom"))
+			.thenReturn(false);
+
+		reaper.reap();
+
+		verify(roomService).removeStaleParticipants(1L, List.of(10L));
+		verify(roomService).removeStaleParticipants(2L, List.of(11L));
+		verify(roomService).removeStaleParticipants(2L, List.of(12L));
+		// 실패한 방(첫 번째 청크의 2번 방)은 세지 않음
+		assertEquals(2, meterRegistry.get("room.reaper.reclaimed").tag("type", "participant").counter().count());
+		assertEquals(1, meterRegistry.get("room.reaper.reclaimed").tag("type", "room").counter().count());
+	}
+}
@@ -0,0 +1,198 @@
+package ssafy.E207.domain.match.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ssafy.E207.domain.auth.entity.User;
+import ssafy.E207.domain.match.dto.request.StompRequest;
+import ssafy.E207.domain.match.entity.Room;
+import ssafy.E207.domain.match.entity.RoomParticipant;
+import ssafy.E207.domain.match.game.GameState;
+import ssafy.E207.domain.match.game.GameStateStore;
+import ssafy.E207.domain.match.game.RoomMailboxDispatcher;
+import ssafy.E207.domain.match.game.TurnTimer;
+import ssafy.E207.domain.match.repository.RoomRepository;
+import ssafy.E207.global.common.enums.ParticipantRole;
+import ssafy.E207.global.common.enums.RoomStatus;
+import ssafy.E207.global.common.enums.RoomType;
+import ssafy.E207.global.common.enums.StompMessageType;
+
+/**
+ * 연결 끊김 유예 / 복귀 테스트
+ */
+class RoomReconnectServiceTest {
+	private final User first = User.builder().id(UUID.randomUUID()).nickname("player1").build();
+	private final User second = User.builder().id(UUID.randomUUID()).nickname("player2").build();
+
+	private RoomMailboxDispatcher dispatcher;
+	private TurnTimer turnTimer;
+	private GameStateStore gameStateStore;
+	private RoomService roomService;
+	private StompMessageService stompMessageService;
+	private GameState state;
+
+	@BeforeEach
+	void setUp() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		dispatcher = new RoomMailboxDispatcher(meterRegistry);
+		turnTimer = new TurnTimer(meterRegistry, 30, 10, 64);
+		turnTimer.start();
+		Room room = Room.builder()
+			.id(1L)
+			.roomType(RoomType.RANKED)
+			.status(RoomStatus.PLAYING)
+			.currentAttacker(first)
+			.build();
+		room.getRoomParticipants().add(RoomParticipant.builder().room(room).user(first).role(ParticipantRole.HOST).build());
+		room.getRoomParticipants().add(
+			RoomParticipant.builder().room(room).user(second).role(ParticipantRole.PARTICIPANT).build());
+		state = GameState.from(room);
+
+		gameStateStore = mock(GameStateStore.class);
+		when(gameStateStore.get(1L)).thenReturn(state);
+		roomService = mock(RoomService.class);
+		stompMessageService = new StompMessageService(mock(SimpMessageSendingOperations.class), gameStateStore,
+			dispatcher, turnTimer);
+	}
+
+	@AfterEach
+	void tearDown() {
+		turnTimer.stop();
+		dispatcher.shutdown();
+	}
+
+	@Test
+	void 유예_시간_안에_돌아오면_게임이_재개된다() throws Exception {
+		RoomReconnectService service = create(20);
+
+		service.handleDisconnect(1L, second.getId());
+		awaitDrained();
+		assertTrue(state.isStatus(RoomStatus.PAUSED));
+		assertFalse(state.find(second.getId()).isConnected());
+		assertEquals(1, turnTimer.size());
+
+		service.handleResubscribe(1L, second.getId());
+		awaitDrained();
+		assertTrue(state.isStatus(RoomStatus.PLAYING));
+		assertTrue(state.find(second.getId()).isConnected());
+		verify(gameStateStore, times(2)).persistConnection(eq(state), any(), eq(true));
+		verify(roomService, never()).handleUserExit(any(), any());
+	}
+
+	@Test
+	void 유예_시간이_지나야_퇴장_처리된다() throws Exception {
+		RoomReconnectService service = create(0);
+
+		service.handleDisconnect(1L, second.getId());
+
+		verify(roomService, timeout(TimeUnit.SECONDS.toMillis(2)).times(1)).handleUserExit(1L, second.getId());
+		awaitDrained();
+		// 퇴장 처리가 mock 이라 끊긴 참가자가 상태에 남아도 지난 만료 시각으로 다시 등록하지 않음
+		verify(gameStateStore).invalidate(1L);
+		assertEquals(0, turnTimer.size());
+		Thread.sleep(100);
+		verify(roomService, times(1)).handleUserExit(1L, second.getId());
+	}
+
+	@Test
+	void 턴_타이머를_다시_걸거나_취소해도_유예_타이머는_남는다() throws Exception {
+		RoomReconnectService service = create(20);
+
+		service.handleDisconnect(1L, second.getId());
+		awaitDrained();
+		// 웃음 / 퇴장 / 게임 시작처럼 턴 타이머만 건드리는 경로
+		stompMessageService.scheduleTurnTimeout(state);
+		assertEquals(2, turnTimer.size());
+		turnTimer.cancel(1L);
+
+		assertEquals(1, turnTimer.size());
+	}
+
+	@Test
+	void 유예_중인_참가자가_있으면_게임을_시작하지_않는다() throws Exception {
+		Room room = Room.builder().id(2L).roomType(RoomType.RANKED).status(RoomStatus.WAITING).build();
+		room.getRoomParticipants().add(
+			RoomParticipant.builder().room(room).user(first).role(ParticipantRole.HOST).isReady(true).build());
+		room.getRoomParticipants().add(
+			RoomParticipant.builder().room(room).user(second).role(ParticipantRole.PARTICIPANT).build());
+		GameState waiting = GameState.from(room);
+		when(gameStateStore.get(2L)).thenReturn(waiting);
+		RoomReconnectService service = create(20);
+
+		service.handleDisconnect(2L, first.getId());
+		stompMessageService.handleMessage(2L, second.getId(), StompRequest.builder()
+			.type(StompMessageType.REQUEST_READY_CHANGE)
+			.data(Map.of("isReady", true))
+			.build());
+		awaitDrained();
+
+		assertTrue(waiting.isStatus(RoomStatus.WAITING));
+		verify(gameStateStore, never()).persistBattleStart(any());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void 유예_중에_participantLeft_웹훅이_와도_방은_PAUSED로_남는다() throws Exception {
+		RoomReconnectService service = create(20);
+		RoomRepository roomRepository = mock(RoomRepository.class);
+		when(roomRepository.findAllBySessionIdIn(any()))
+			.thenReturn(List.of(Room.builder().id(1L).sessionId("ses_1").build()));
+		OpenViduWebhookPipeline pipeline = new OpenViduWebhookPipeline(roomService, service, dispatcher, roomRepository,
+			mock(OpenViduSessionProvisioner.class), new ObjectMapper(), new SimpleMeterRegistry(), 10, 10);
+
+		service.handleDisconnect(1L, second.getId());
+		awaitDrained();
+		// 같은 네트워크 끊김으로 WebRTC 연결도 끊겨 OpenVidu가 보낸 웹훅
+		JSONObject left = new JSONObject();
+		left.put("event", OpenViduWebhookPipeline.PARTICIPANT_LEFT);
+		left.put("sessionId", "ses_1");
+		left.put("serverData", "{\"userId\":\"" + second.getId() + "\",\"nickname\":\"player2\"}");
+		pipeline.accept(left);
+		assertEquals(1, pipeline.processPending(0, TimeUnit.SECONDS));
+		awaitDrained();
+
+		assertTrue(state.isStatus(RoomStatus.PAUSED));
+		assertFalse(state.find(second.getId()).isConnected());
+		verify(roomService, never()).handleUserExit(any(), any());
+		verify(gameStateStore, times(1)).persistConnection(eq(state), any(), eq(true));
+	}
+
+	@Test
+	void 끊기지_않은_참가자의_구독은_무시한다() throws Exception {
+		RoomReconnectService service = create(20);
+
+		service.handleResubscribe(1L, first.getId());
+		awaitDrained();
+
+		assertTrue(state.isStatus(RoomStatus.PLAYING));
+		verify(gameStateStore, never()).persistConnection(any(), any(), anyBoolean());
+	}
+
+	private RoomReconnectService create(int graceSeconds) {
+		return new RoomReconnectService(gameStateStore, dispatcher, turnTimer, roomService, stompMessageService,
+			graceSeconds);
+	}
+
+	private void awaitDrained() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (dispatcher.depth() > 0 || dispatcher.active() > 0) {
+			assertTrue(System.nanoTime() < deadline, "메일박스가 비지 않음");
+			Thread.sleep(10);
+		}
+	}
+}
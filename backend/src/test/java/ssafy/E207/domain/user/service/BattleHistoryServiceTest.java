@@ -0,0 +1,124 @@
+package ssafy.E207.domain.user.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ssafy.E207.domain.user.dto.BattleHistoryRow;
+import ssafy.E207.domain.user.dto.UserNickname;
+import ssafy.E207.domain.user.dto.response.BattleHistoryResponse;
+import ssafy.E207.domain.user.exception.InvalidHistoryCursorException;
+import ssafy.E207.domain.user.repository.BattleRecordRepository;
+import ssafy.E207.domain.user.repository.UserRepository;
+import ssafy.E207.global.common.enums.BattleResult;
+import ssafy.E207.global.common.enums.ExportFormat;
+
+/**
+ * 전적 목록 커서 페이지네이션 / 내보내기 테스트 (리포지토리 mock)
+ */
+class BattleHistoryServiceTest {
+	private BattleRecordRepository battleRecordRepository;
+	private UserRepository userRepository;
+	private PlatformTransactionManager transactionManager;
+	private BattleHistoryService service;
+
+	private final UUID me = UUID.randomUUID();
+	private final UUID opponent = UUID.randomUUID();
+	private final LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+	@BeforeEach
+	void setUp() {
+		battleRecordRepository = mock(BattleRecordRepository.class);
+		userRepository = mock(UserRepository.class);
+		transactionManager = mock(PlatformTransactionManager.class);
+		service = new BattleHistoryService(battleRecordRepository, userRepository, new ObjectMapper(),
+			transactionManager);
+		when(userRepository.findNicknamesByIdIn(any())).thenReturn(List.of(new UserNickname(opponent, "rival")));
+	}
+
+	@Test
+	void 한_행을_더_읽어_다음_페이지_여부와_커서를_만든다() {
+		when(battleRecordRepository.findHistory(eq(me), any()))
+			.thenReturn(List.of(row(3L), row(2L), row(1L)));
+
+		BattleHistoryResponse page = service.getHistory(me, null, 2);
+
+		assertEquals(2, page.items().size());
+		assertTrue(page.hasNext());
+		assertEquals("rival", page.items().get(0).opponentNickname());
+		assertEquals(new BattleHistoryService.Cursor(now.minusMinutes(2), 2L),
+			BattleHistoryService.Cursor.decode(page.nextCursor()));
+		// 닉네임은 페이지당 한 번만 조회
+		verify(userRepository, times(1)).findNicknamesByIdIn(any());
+	}
+
+	@Test
+	void 커서가_있으면_그_위치_이후부터_조회한다() {
+		String cursor = new BattleHistoryService.Cursor(now, 10L).encode();
+		when(battleRecordRepository.findHistoryBefore(eq(me), eq(now), eq(10L), any()))
+			.thenReturn(List.of(row(9L)));
+
+		BattleHistoryResponse page = service.getHistory(me, cursor, 20);
+
+		assertEquals(1, page.items().size());
+		assertFalse(page.hasNext());
+		assertNull(page.nextCursor());
+	}
+
+	@Test
+	void 손상된_커서는_400으로_거절한다() {
+		assertThrows(InvalidHistoryCursorException.class, () -> service.getHistory(me, "not-a-cursor", 20));
+	}
+
+	@Test
+	void 내보내기는_청크마다_트랜잭션을_끝낸_뒤에_쓴다() {
+		int chunkSize = BattleHistoryService.EXPORT_CHUNK_SIZE;
+		List<BattleHistoryRow> first = LongStream.rangeClosed(2, chunkSize + 1).map(id -> chunkSize + 3 - id)
+			.mapToObj(this::row).toList();
+		BattleHistoryRow last = first.get(chunkSize - 1);
+		when(battleRecordRepository.findHistory(eq(me), any())).thenReturn(first);
+		when(battleRecordRepository.findHistoryBefore(eq(me), eq(last.createdAt()), eq(last.id()), any()))
+			.thenReturn(List.of(row(1L)));
+		AtomicInteger open = new AtomicInteger();
+		when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+			open.incrementAndGet();
+			return null;
+		});
+		doAnswer(invocation -> open.decrementAndGet()).when(transactionManager).commit(any());
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream() {
+			@Override
+			public synchronized void write(byte[] bytes, int offset, int length) {
+				// 클라이언트에게 쓰는 동안 커넥션을 잡고 있지 않음
+				assertEquals(0, open.get());
+				super.write(bytes, offset, length);
+			}
+		};
+		service.export(me, ExportFormat.CSV, output);
+
+		List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+		assertEquals(chunkSize + 2, lines.size());
+		assertTrue(lines.get(lines.size() - 1).endsWith(",rival"));
+		verify(transactionManager, times(2)).getTransaction(any());
+		// 닉네임은 청크당 한 번
+		verify(userRepository, times(2)).findNicknamesByIdIn(any());
+	}
+
+	private BattleHistoryRow row(Long id) {
+		return new BattleHistoryRow(id, 100L + id, BattleResult.W, opponent.toString(), now.minusMinutes(4 - id));
+	}
+}
@@ -0,0 +1,139 @@
+package ssafy.E207.domain.user.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ssafy.E207.domain.leaderboard.dto.LeaderboardStanding;
+import ssafy.E207.domain.leaderboard.service.Leaderboard;
+import ssafy.E207.domain.user.entity.BattleResultOutbox;
+import ssafy.E207.domain.user.repository.BattleResultOutboxRepository;
+import ssafy.E207.global.common.util.UuidBytes;
+
+/**
+ * 전적 배치 반영 테스트 (H2 MySQL 모드, users / battle_records 만 직접 생성)
+ */
+class BattleResultWriterTest {
+	private JdbcTemplate jdbcTemplate;
+	private UserSummaryCache userSummaryCache;
+	private Leaderboard leaderboard;
+	private BattleResultWriter writer;
+
+	private final UUID alice = UUID.randomUUID();
+	private final UUID bob = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+			"jdbc:h2:mem:battle-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("""
+			CREATE TABLE users (
+				id BINARY(16) PRIMARY KEY, rating INT NOT NULL, total_games INT NOT NULL, total_wins INT NOT NULL,
+				total_draws INT NOT NULL, total_losses INT NOT NULL, current_win_streak INT NOT NULL,
+				max_win_streak INT NOT NULL, updated_at TIMESTAMP)""");
+		jdbcTemplate.execute("""
+			CREATE TABLE battle_records (
+				id BIGINT AUTO_INCREMENT PRIMARY KEY, room_id BIGINT NOT NULL, user_id BINARY(16) NOT NULL,
+				result VARCHAR(1) NOT NULL, opponent_user_id VARCHAR(36) NOT NULL,
+				created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL,
+				CONSTRAINT uk_battle_records_room_user UNIQUE (room_id, user_id))""");
+		insertUser(alice, 2);
+		insertUser(bob, 0);
+
+		userSummaryCache = mock(UserSummaryCache.class);
+		leaderboard = mock(Leaderboard.class);
+		writer = new BattleResultWriter(mock(BattleResultOutboxRepository.class), jdbcTemplate,
+			mock(PlatformTransactionManager.class), userSummaryCache, leaderboard, new SimpleMeterRegistry(), 100, 5);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute("SHUTDOWN");
+	}
+
+	@Test
+	void 승패를_반영하고_레이팅은_같은_폭으로_움직인다() {
+		writer.apply(List.of(win(1L, alice, bob)));
+
+		Map<String, Object> winner = user(alice);
+		Map<String, Object> loser = user(bob);
+		assertEquals(1016, winner.get("RATING"));
+		assertEquals(984, loser.get("RATING"));
+		assertEquals(1, winner.get("TOTAL_WINS"));
+		assertEquals(3, winner.get("CURRENT_WIN_STREAK"));
+		assertEquals(3, winner.get("MAX_WIN_STREAK"));
+		assertEquals(1, loser.get("TOTAL_LOSSES"));
+		assertEquals(0, loser.get("CURRENT_WIN_STREAK"));
+		assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM battle_records", Integer.class));
+		verify(userSummaryCache).invalidate(alice);
+		verify(userSummaryCache).invalidate(bob);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void 반영한_유저의_갱신_후_전적으로_리더보드를_갱신한다() {
+		writer.apply(List.of(win(1L, alice, bob), win(2L, alice, bob)));
+
+		ArgumentCaptor<Collection<LeaderboardStanding>> captor = ArgumentCaptor.forClass(Collection.class);
+		verify(leaderboard).update(captor.capture());
+		assertTrue(captor.getValue().contains(new LeaderboardStanding(alice, 2, 2, 4)));
+		assertTrue(captor.getValue().contains(new LeaderboardStanding(bob, 2, 0, 0)));
+	}
+
+	@Test
+	void 같은_방_이벤트가_다시_와도_한_번만_반영된다() {
+		writer.apply(List.of(win(1L, alice, bob), win(1L, alice, bob)));
+		writer.apply(List.of(win(1L, alice, bob)));
+
+		assertEquals(1, user(alice).get("TOTAL_GAMES"));
+		assertEquals(1, user(bob).get("TOTAL_GAMES"));
+		assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM battle_records", Integer.class));
+	}
+
+	@Test
+	void 한_배치에_같은_유저의_여러_판이_있으면_순서대로_반영한다() {
+		writer.apply(List.of(win(1L, alice, bob), draw(2L, alice, bob), win(3L, bob, alice)));
+
+		Map<String, Object> a = user(alice);
+		Map<String, Object> b = user(bob);
+		assertEquals(3, a.get("TOTAL_GAMES"));
+		assertEquals(1, a.get("TOTAL_DRAWS"));
+		assertEquals(1, a.get("TOTAL_LOSSES"));
+		assertEquals(0, a.get("CURRENT_WIN_STREAK"));
+		assertEquals(3, a.get("MAX_WIN_STREAK"));
+		assertEquals(1, b.get("CURRENT_WIN_STREAK"));
+		// 레이팅 합은 보존
+		assertEquals(2000, (int)a.get("RATING") + (int)b.get("RATING"));
+	}
+
+	private void insertUser(UUID id, int winStreak) {
+		jdbcTemplate.update("INSERT INTO users VALUES (?, 1000, 0, 0, 0, 0, ?, ?, NULL)",
+			UuidBytes.toBytes(id), winStreak, winStreak);
+	}
+
+	private Map<String, Object> user(UUID id) {
+		return jdbcTemplate.queryForMap("SELECT * FROM users WHERE id = ?", UuidBytes.toBytes(id));
+	}
+
+	private BattleResultOutbox win(Long roomId, UUID winner, UUID loser) {
+		return BattleResultOutbox.builder().roomId(roomId).firstUserId(winner).secondUserId(loser).draw(false).build();
+	}
+
+	private BattleResultOutbox draw(Long roomId, UUID first, UUID second) {
+		return BattleResultOutbox.builder().roomId(roomId).firstUserId(first).secondUserId(second).draw(true).build();
+	}
+}
@@ -0,0 +1,176 @@
+package ssafy.E207.domain.user.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import ssafy.E207.domain.auth.entity.User;
+import ssafy.E207.domain.user.repository.UserRepository;
+import ssafy.E207.global.common.enums.ProfileImageSize;
+import ssafy.E207.global.config.MinioConfig;
+
+/**
+ * 프로필 이미지 후처리 테스트 (MinIO / 리포지토리 mock, 작업 큐 없이 process 직접 호출)
+ */
+class ProfileImageProcessorTest {
+	private static final String RAW = "profile/user/2026/10/raw.png";
+
+	private MinioClient minioClient;
+	private UserRepository userRepository;
+	private PendingUploadLedger pendingUploadLedger;
+	private SimpleMeterRegistry meterRegistry;
+	private ProfileImageProcessor processor;
+	private User user;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		minioClient = mock(MinioClient.class);
+		userRepository = mock(UserRepository.class);
+		pendingUploadLedger = mock(PendingUploadLedger.class);
+		meterRegistry = new SimpleMeterRegistry();
+		MinioConfig minioConfig = mock(MinioConfig.class);
+		when(minioConfig.getBucket()).thenReturn("bucket");
+
+		GetObjectResponse response = mock(GetObjectResponse.class);
+		when(response.readNBytes(anyInt())).thenReturn(png(900, 300));
+		when(minioClient.getObject(any())).thenReturn(response);
+
+		user = User.builder().id(UUID.randomUUID()).profileImage(RAW).build();
+		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+		processor = new ProfileImageProcessor(minioClient, minioConfig, userRepository, pendingUploadLedger,
+			mock(PlatformTransactionManager.class), meterRegistry, 1, 10, 0.8f);
+	}
+
+	@Test
+	void 썸네일을_올리고_프로필을_해시_키로_바꾼다() throws Exception {
+		// 올리기 전에는 없고, 올린 뒤에는 있음
+		when(minioClient.statObject(any())).thenThrow(new IllegalStateException("NoSuchKey")).thenReturn(null);
+
+		processor.process(user.getId(), RAW);
+
+		verify(minioClient, times(ProfileImageSize.values().length)).putObject(any());
+		assertTrue(user.getProfileImage().startsWith(ProfileImageProcessor.PROCESSED_PREFIX));
+		verify(pendingUploadLedger).confirm(user.getProfileImage(), RAW);
+		assertEquals(1, count("processed"));
+	}
+
+	@Test
+	void 같은_원본이_이미_처리돼_있으면_다시_올리지_않는다() throws Exception {
+		processor.process(user.getId(), RAW);
+
+		verify(minioClient, never()).putObject(any());
+		assertTrue(user.getProfileImage().startsWith(ProfileImageProcessor.PROCESSED_PREFIX));
+		assertEquals(1, count("deduplicated"));
+	}
+
+	@Test
+	void 재사용하려던_썸네일을_정리_작업이_지웠으면_커밋_후_다시_올린다() throws Exception {
+		// 처리돼 있는 것을 확인한 뒤 커밋 전에 정리 작업이 지움
+		when(minioClient.statObject(any())).thenReturn(null).thenThrow(new IllegalStateException("NoSuchKey"));
+
+		processor.process(user.getId(), RAW);
+
+		assertTrue(user.getProfileImage().startsWith(ProfileImageProcessor.PROCESSED_PREFIX));
+		verify(minioClient, times(ProfileImageSize.values().length)).putObject(any());
+		assertEquals(1, count("deduplicated"));
+		assertEquals(1, count("restored"));
+	}
+
+	@Test
+	void 처리하는_동안_프로필이_바뀌면_만든_썸네일을_정리_대상으로_넘긴다() throws Exception {
+		user.updateProfileImage("profile/user/2026/10/other.png");
+
+		processor.process(user.getId(), RAW);
+
+		assertEquals("profile/user/2026/10/other.png", user.getProfileImage());
+		verify(pendingUploadLedger).discard(startsWith(ProfileImageProcessor.PROCESSED_PREFIX));
+		verify(pendingUploadLedger, never()).confirm(any(), any());
+	}
+
+	@Test
+	void 가운데를_정사각형으로_잘라_줄이고_투명_부분은_흰색으로_채운다() throws Exception {
+		BufferedImage decoded = ProfileImageProcessor.decode(png(900, 300));
+		byte[] jpeg = ProfileImageProcessor.encodeJpeg(ProfileImageProcessor.thumbnail(decoded, 1, 128), 0.8f);
+
+		BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(jpeg));
+		assertEquals(128, thumbnail.getWidth());
+		assertEquals(128, thumbnail.getHeight());
+		// 빨간 사각형은 가운데 정사각형의 왼쪽 위 1/4
+		assertTrue(red(thumbnail.getRGB(10, 10)));
+		assertTrue(white(thumbnail.getRGB(117, 117)));
+		assertEquals(1, ProfileImageProcessor.exifOrientation(jpeg));
+	}
+
+	@Test
+	void EXIF_방향대로_회전한다() {
+		byte[] exif = {(byte)0xFF, (byte)0xD8, (byte)0xFF, (byte)0xE1, 0, 34, 'E', 'x', 'i', 'f', 0, 0,
+			'M', 'M', 0, 42, 0, 0, 0, 8, 0, 1, 1, 0x12, 0, 3, 0, 0, 0, 1, 0, 6, 0, 0, 0, 0, 0, 0, 0, 0,
+			(byte)0xFF, (byte)0xD9};
+		assertEquals(6, ProfileImageProcessor.exifOrientation(exif));
+
+		BufferedImage source = new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = source.createGraphics();
+		g.setColor(Color.WHITE);
+		g.fillRect(0, 0, 64, 64);
+		g.setColor(Color.RED);
+		g.fillRect(0, 0, 32, 32);
+		g.dispose();
+		// 시계 방향 90도 → 왼쪽 위가 오른쪽 위로
+		BufferedImage rotated = ProfileImageProcessor.thumbnail(source, 6, 64);
+		assertTrue(red(rotated.getRGB(60, 3)));
+		assertFalse(red(rotated.getRGB(3, 3)));
+	}
+
+	@Test
+	void 해시_키만_크기별_키로_펼친다() {
+		assertEquals(RAW, ProfileImageProcessor.variantKey(RAW, ProfileImageSize.SMALL));
+		assertEquals("profile/h/abc/128.jpg", ProfileImageProcessor.variantKey("profile/h/abc", ProfileImageSize.SMALL));
+		assertEquals(List.of("profile/h/abc/128.jpg", "profile/h/abc/512.jpg"),
+			ProfileImageProcessor.objectKeys("profile/h/abc"));
+		assertEquals(List.of(RAW), ProfileImageProcessor.objectKeys(RAW));
+	}
+
+	private double count(String result) {
+		return meterRegistry.get("profile.image.jobs").tag("result", result).counter().count();
+	}
+
+	private static boolean red(int rgb) {
+		return (rgb >> 16 & 0xFF) > 200 && (rgb >> 8 & 0xFF) < 60 && (rgb & 0xFF) < 60;
+	}
+
+	private static boolean white(int rgb) {
+		return (rgb >> 16 & 0xFF) > 240 && (rgb >> 8 & 0xFF) > 240 && (rgb & 0xFF) > 240;
+	}
+
+	// 투명 배경에 가운데 정사각형 기준 왼쪽 위 1/4 만 빨간 PNG
+	private static byte[] png(int width, int height) throws Exception {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+		int side = Math.min(width, height);
+		g.setColor(Color.RED);
+		g.fillRect((width - side) / 2, (height - side) / 2, side / 2, side / 2);
+		g.dispose();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", out);
+		return out.toByteArray();
+	}
+}
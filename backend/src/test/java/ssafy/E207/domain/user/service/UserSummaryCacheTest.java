@@ -0,0 +1,69 @@
+package ssafy.E207.domain.user.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import ssafy.E207.domain.auth.entity.User;
+import ssafy.E207.domain.user.dto.UserSummary;
+import ssafy.E207.domain.user.repository.UserRepository;
+
+/**
+ * 유저 요약 캐시 테스트 (Redis 미사용, 로컬 캐시만)
+ */
+class UserSummaryCacheTest {
+	private UserRepository userRepository;
+	private UserSummaryCache cache;
+
+	@BeforeEach
+	void setUp() {
+		userRepository = mock(UserRepository.class);
+		cache = new UserSummaryCache(userRepository, mock(StringRedisTemplate.class),
+			mock(RedisMessageListenerContainer.class), new ObjectMapper(), new SimpleMeterRegistry(), 100, 300, false);
+	}
+
+	@Test
+	void 두_번째_조회부터는_DB를_거치지_않는다() {
+		UUID userId = UUID.randomUUID();
+		when(userRepository.findById(userId)).thenReturn(Optional.of(User.builder().nickname("player1").build()));
+
+		assertEquals("player1", cache.get(userId).map(UserSummary::nickname).orElseThrow());
+		assertEquals("player1", cache.get(userId).map(UserSummary::nickname).orElseThrow());
+
+		verify(userRepository, times(1)).findById(userId);
+	}
+
+	@Test
+	void 무효화하면_바뀐_정보를_다시_읽는다() {
+		UUID userId = UUID.randomUUID();
+		when(userRepository.findById(userId))
+			.thenReturn(Optional.of(User.builder().nickname("before").build()))
+			.thenReturn(Optional.of(User.builder().nickname("after").build()));
+
+		assertEquals("before", cache.get(userId).map(UserSummary::nickname).orElseThrow());
+		cache.invalidate(userId);
+
+		assertEquals("after", cache.get(userId).map(UserSummary::nickname).orElseThrow());
+	}
+
+	@Test
+	void 없는_유저는_empty를_반환하고_캐시하지_않는다() {
+		UUID userId = UUID.randomUUID();
+		when(userRepository.findById(userId)).thenReturn(Optional.empty());
+
+		assertTrue(cache.get(userId).isEmpty());
+		assertTrue(cache.get(userId).isEmpty());
+
+		verify(userRepository, times(2)).findById(userId);
+	}
+}
@@ -0,0 +1,128 @@
+package ssafy.E207.global.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.MinioClient;
+import io.minio.Result;
+import io.minio.messages.DeleteError;
+import ssafy.E207.domain.user.entity.PendingUpload;
+import ssafy.E207.domain.user.repository.PendingUploadRepository;
+import ssafy.E207.domain.user.repository.UserRepository;
+
+/**
+ * MinIO 정리 테스트 (리포지토리 / MinioClient mock)
+ */
+class MinioCleanupSchedulerTest {
+	private final List<PendingUpload> rows = new ArrayList<>();
+	private MinioClient minioClient;
+	private UserRepository userRepository;
+	private PendingUploadRepository pendingUploadRepository;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		minioClient = mock(MinioClient.class);
+		userRepository = mock(UserRepository.class);
+		pendingUploadRepository = mock(PendingUploadRepository.class);
+		meterRegistry = new SimpleMeterRegistry();
+
+		when(pendingUploadRepository.findExpired(any(), any(), any())).thenAnswer(invocation -> {
+			Long afterId = invocation.getArgument(0);
+			Pageable pageable = invocation.getArgument(2);
+			return rows.stream().filter(r -> r.getId() > afterId).limit(pageable.getPageSize()).toList();
+		});
+		when(userRepository.findProfileImagesIn(any())).thenReturn(List.of());
+		when(minioClient.removeObjects(any())).thenReturn(List.of());
+		when(pendingUploadRepository.lockAllByIdIn(any())).thenAnswer(invocation -> {
+			Collection<Long> ids = invocation.getArgument(0);
+			return rows.stream().filter(r -> ids.contains(r.getId())).toList();
+		});
+	}
+
+	private MinioCleanupScheduler scheduler(int chunkSize, int maxKeysPerRun) {
+		MinioConfig minioConfig = mock(MinioConfig.class);
+		when(minioConfig.getBucket()).thenReturn("bucket");
+		return new MinioCleanupScheduler(minioClient, minioConfig, userRepository, pendingUploadRepository,
+			mock(PlatformTransactionManager.class), meterRegistry, 60, chunkSize, maxKeysPerRun);
+	}
+
+	@Test
+	void 쓰이는_키는_남기고_삭제에_실패한_키는_다음에_재시도한다() throws Exception {
+		rows.add(row(1L, "profile/a.png"));
+		rows.add(row(2L, "profile/b.png"));
+		rows.add(row(3L, "profile/c.png"));
+		when(userRepository.findProfileImagesIn(any())).thenReturn(List.of("profile/a.png"));
+		DeleteError error = mock(DeleteError.class);
+		when(error.objectName()).thenReturn("profile/c.png");
+		when(minioClient.removeObjects(any())).thenReturn(List.of(new Result<>(error)));
+
+		assertEquals(1, scheduler(10, 100).cleanup());
+
+		verify(userRepository, times(1)).findProfileImagesIn(List.of("profile/a.png", "profile/b.png", "profile/c.png"));
+		verify(minioClient, times(1)).removeObjects(any());
+		verify(pendingUploadRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+		assertEquals(1, count("kept"));
+		assertEquals(1, count("deleted"));
+		assertEquals(1, count("failed"));
+	}
+
+	@Test
+	void 실행당_상한까지만_처리하고_다음_실행은_이어서_읽는다() {
+		for (long id = 1; id <= 5; id++) {
+			rows.add(row(id, "profile/" + id + ".png"));
+		}
+		MinioCleanupScheduler scheduler = scheduler(2, 3);
+
+		assertEquals(3, scheduler.cleanup());
+		assertEquals(3, meterRegistry.get("minio.cleanup.checkpoint").gauge().value());
+
+		assertEquals(2, scheduler.cleanup());
+		verify(pendingUploadRepository).deleteAllByIdInBatch(List.of(4L, 5L));
+		// 끝까지 읽었으므로 다음 실행은 처음부터
+		assertEquals(0, meterRegistry.get("minio.cleanup.checkpoint").gauge().value());
+	}
+
+	@Test
+	void 일괄_삭제_요청이_실패하면_행을_남긴다() throws Exception {
+		rows.add(row(1L, "profile/a.png"));
+		when(minioClient.removeObjects(any())).thenThrow(new IllegalStateException("minio down"));
+
+		assertEquals(0, scheduler(10, 100).cleanup());
+
+		verify(pendingUploadRepository, never()).deleteAllByIdInBatch(any());
+		assertEquals(1, count("failed"));
+	}
+
+	@Test
+	void 잠그기_전에_확정돼서_지워진_행은_건너뛴다() throws Exception {
+		rows.add(row(1L, "profile/a.png"));
+		rows.add(row(2L, "profile/h/abc"));
+		// 2번 행은 읽은 뒤 ProfileImageProcessor 가 확정하면서 지움
+		doReturn(List.of(rows.get(0))).when(pendingUploadRepository).lockAllByIdIn(any());
+
+		assertEquals(1, scheduler(10, 100).cleanup());
+
+		verify(userRepository).findProfileImagesIn(List.of("profile/a.png"));
+		verify(pendingUploadRepository).deleteAllByIdInBatch(List.of(1L));
+	}
+
+	private double count(String result) {
+		return meterRegistry.get("minio.cleanup.keys").tag("result", result).counter().count();
+	}
+
+	private static PendingUpload row(Long id, String objectKey) {
+		return PendingUpload.builder().id(id).objectKey(objectKey).build();
+	}
+}